@@ -0,0 +1,76 @@
+package esjc.bench;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import esjc.ast.ExtendedASTUtil;
+import esjc.codegen.ExtendedByteCodeGenerator;
+import esjc.codegen.ExtendedClassByteCodes;
+import esjc.driver.EsjClassLoader;
+import esjc.driver.EsjCompiler;
+import esjc.symboltable.ExtendedSymbolTable;
+import esjc.symboltable.ExtendedSymbolTableBuilder;
+import esjc.type.TypeFactory;
+import esjc.type.checker.ExtendedTypeChecker;
+import esjc.type.checker.ExtendedTypeTable;
+import optim.PassManager;
+
+/**
+ * Helpers shared by the benchmarks: locating the ESJ programs, compiling them
+ * through the front end and code generator, and loading the result.
+ * <p>
+ * The programs are read from the directory given by the
+ * {@code esjc.resources} system property, {@code resources} by default.
+ */
+public class BenchmarkPrograms {
+  public static File resourcesDir() {
+    return new File(System.getProperty("esjc.resources", "resources"));
+  }
+
+  public static String path(final String program) {
+    return new File(BenchmarkPrograms.resourcesDir(), program + ".java")
+        .getPath();
+  }
+
+  public static ExtendedClassByteCodes compile(final String path)
+      throws Exception {
+    final CompilationUnit cu = ExtendedASTUtil.ast(path);
+    final ExtendedSymbolTable est = ExtendedSymbolTableBuilder.build(cu);
+    final ExtendedTypeTable ett = ExtendedTypeChecker.check(new TypeFactory(),
+        cu, est);
+    return ExtendedByteCodeGenerator.generate(cu, est, ett);
+  }
+
+  /**
+   * Returns all classes of the given program, the main class first, run
+   * through the given optimizer pipeline (see {@link PassManager#pipeline}).
+   */
+  public static Map<String, byte[]> classes(final ExtendedClassByteCodes ecbc,
+      final String pipeline) {
+    final Map<String, byte[]> result = new LinkedHashMap<>();
+    result.put(ecbc.mainClassName, ecbc.mainClassBytes);
+    result.putAll(ecbc.otherClasses);
+    if (!PassManager.pipeline(pipeline).isEmpty()) {
+      for (final Map.Entry<String, byte[]> e : result.entrySet()) {
+        e.setValue(PassManager.pipeline(pipeline).optimize(e.getValue()));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Loads the given classes in a fresh loader and returns a handle on
+   * {@code main(String[])} of the given class.
+   */
+  public static MethodHandle main(final Map<String, byte[]> classes,
+      final String mainClassName) throws Exception {
+    final Class<?> c = new EsjClassLoader(
+        BenchmarkPrograms.class.getClassLoader(), classes)
+            .loadClass(mainClassName);
+    return EsjCompiler.mainHandle(c);
+  }
+}
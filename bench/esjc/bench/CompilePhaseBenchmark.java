@@ -0,0 +1,36 @@
+package esjc.bench;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * The phase benchmarks of {@link PhaseBenchmark} over the programs in the
+ * resources directory: "all" compiles every program that makes it through
+ * all phases as one batch; any other value is the name of a single program.
+ */
+public class CompilePhaseBenchmark extends PhaseBenchmark {
+  @Param({ "all", "SyntaxTorture", "Queue", "ZBinarySearch" })
+  public String programs;
+
+  @Setup
+  public void setup() {
+    final List<String> files = new ArrayList<>();
+    if ("all".equals(this.programs)) {
+      final File[] fs = BenchmarkPrograms.resourcesDir().listFiles();
+      Arrays.sort(fs);
+      for (final File f : fs) {
+        if (f.isFile() && f.getName().endsWith(".java")) {
+          files.add(f.getPath());
+        }
+      }
+    } else {
+      files.add(BenchmarkPrograms.path(this.programs));
+    }
+    prepare(files);
+  }
+}
@@ -0,0 +1,131 @@
+package esjc.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import esjc.ast.ExtendedStaticJavaASTBuilder;
+import esjc.codegen.ExtendedByteCodeGenerator;
+import esjc.parser.ExtendedParserUtil;
+import esjc.parser.ExtendedStaticJavaParser.CompilationUnitContext;
+import esjc.symboltable.ExtendedSymbolTable;
+import esjc.symboltable.ExtendedSymbolTableBuilder;
+import esjc.type.TypeFactory;
+import esjc.type.checker.ExtendedTypeChecker;
+import esjc.type.checker.ExtendedTypeTable;
+
+/**
+ * Measures each compiler phase on its own over a set of source files: every
+ * phase benchmark starts from the output of the previous phases, computed
+ * once by {@link #prepare(List)}. {@link #compile(Blackhole)} runs all phases
+ * from the source file. Subclasses pick the source files; one operation
+ * processes all of them.
+ * <p>
+ * Run with {@code -prof gc} for allocation rates (see
+ * {@link ZProgramBenchmark} for how to run the benchmarks).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class PhaseBenchmark {
+  protected List<String> paths;
+
+  protected List<CompilationUnitContext> parseTrees;
+
+  protected List<CompilationUnit> cus;
+
+  protected List<ExtendedSymbolTable> symbolTables;
+
+  protected List<ExtendedTypeTable> typeTables;
+
+  /**
+   * Runs the phases once over the given files, keeping the files that make
+   * it through all phases along with the output of each phase.
+   */
+  protected void prepare(final List<String> files) {
+    this.paths = new ArrayList<>();
+    this.parseTrees = new ArrayList<>();
+    this.cus = new ArrayList<>();
+    this.symbolTables = new ArrayList<>();
+    this.typeTables = new ArrayList<>();
+    for (final String path : files) {
+      try {
+        final CompilationUnitContext ctx = ExtendedParserUtil.parse(path);
+        final CompilationUnit cu = ExtendedStaticJavaASTBuilder.ast(ctx);
+        final ExtendedSymbolTable est = ExtendedSymbolTableBuilder.build(cu);
+        final ExtendedTypeTable ett = ExtendedTypeChecker
+            .check(new TypeFactory(), cu, est);
+        ExtendedByteCodeGenerator.generate(cu, est, ett);
+        this.paths.add(path);
+        this.parseTrees.add(ctx);
+        this.cus.add(cu);
+        this.symbolTables.add(est);
+        this.typeTables.add(ett);
+      } catch (final Exception e) {
+        // not a valid program (negative parser or type checker test)
+      }
+    }
+    if (this.paths.isEmpty()) {
+      throw new IllegalStateException("No compilable program in " + files);
+    }
+  }
+
+  @Benchmark
+  public void parse(final Blackhole bh) throws Exception {
+    for (final String path : this.paths) {
+      bh.consume(ExtendedParserUtil.parse(path));
+    }
+  }
+
+  @Benchmark
+  public void ast(final Blackhole bh) {
+    for (final CompilationUnitContext ctx : this.parseTrees) {
+      bh.consume(ExtendedStaticJavaASTBuilder.ast(ctx));
+    }
+  }
+
+  @Benchmark
+  public void symbolTable(final Blackhole bh) {
+    for (final CompilationUnit cu : this.cus) {
+      bh.consume(ExtendedSymbolTableBuilder.build(cu));
+    }
+  }
+
+  @Benchmark
+  public void typeCheck(final Blackhole bh) {
+    for (int i = 0; i < this.cus.size(); i++) {
+      bh.consume(ExtendedTypeChecker.check(new TypeFactory(), this.cus.get(i),
+          this.symbolTables.get(i)));
+    }
+  }
+
+  @Benchmark
+  public void codegen(final Blackhole bh) {
+    for (int i = 0; i < this.cus.size(); i++) {
+      bh.consume(ExtendedByteCodeGenerator.generate(this.cus.get(i),
+          this.symbolTables.get(i), this.typeTables.get(i)));
+    }
+  }
+
+  @Benchmark
+  public void compile(final Blackhole bh) throws Exception {
+    for (final String path : this.paths) {
+      bh.consume(BenchmarkPrograms.compile(path));
+    }
+  }
+}
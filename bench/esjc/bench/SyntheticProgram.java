@@ -0,0 +1,72 @@
+package esjc.bench;
+
+/**
+ * Generates ESJ programs of a given number of lines for the scaling
+ * benchmarks. The program is a main class with as many similar static
+ * methods as needed (locals, loops, conditionals, array and field accesses,
+ * calls), plus one simple class.
+ */
+public class SyntheticProgram {
+  public static final String MAIN_CLASS_NAME = "Synthetic";
+
+  /**
+   * Returns the source of a program of at least the given number of lines.
+   */
+  public static String generate(final int lines) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("public class ").append(SyntheticProgram.MAIN_CLASS_NAME)
+        .append(" {\n");
+    sb.append("  public static void main(String[] args) {\n");
+    sb.append("    int r;\n");
+    sb.append("    r = m0(1, 2);\n");
+    sb.append("  }\n");
+    int n = 5;
+    int method = 0;
+    while (n < lines - 4) {
+      n += SyntheticProgram.method(sb, method++);
+    }
+    sb.append("}\n\n");
+    sb.append("class Cell {\n");
+    sb.append("  public int f;\n");
+    sb.append("  public Cell next;\n");
+    sb.append("}\n");
+    return sb.toString();
+  }
+
+  /**
+   * Appends method number i; returns the number of lines appended.
+   */
+  static int method(final StringBuilder sb, final int i) {
+    final String[] body = new String[] {
+        "  static int m" + i + "(int a, int b) {",
+        "    int i;",
+        "    int s;",
+        "    boolean f;",
+        "    int[] arr;",
+        "    Cell c;",
+        "    s = a + " + i + ";",
+        "    f = false;",
+        "    arr = new int[16];",
+        "    c = new Cell();",
+        "    for (i = 0; i < 16; i++) {",
+        "      s = s + i * b - (a % 7);",
+        "      arr[i] = s;",
+        "      if (s > 1000 && !f) {",
+        "        f = true;",
+        "      } else {",
+        "        s = s - 3;",
+        "      }",
+        "    }",
+        "    while (s > 100) {",
+        "      s = s / 2;",
+        "    }",
+        "    c.f = s + (arr[3]);",
+        (i == 0 ? "    return c.f;"
+            : "    return c.f + m" + (i - 1) + "(b, a);"),
+        "  }" };
+    for (final String line : body) {
+      sb.append(line).append('\n');
+    }
+    return body.length;
+  }
+}
@@ -0,0 +1,40 @@
+package esjc.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The phase benchmarks of {@link PhaseBenchmark} on one generated program
+ * ({@link SyntheticProgram}) of the given number of lines, to see how each
+ * phase scales with the size of a compilation unit.
+ */
+public class SyntheticScalingBenchmark extends PhaseBenchmark {
+  @Param({ "1000", "10000" })
+  public int lines;
+
+  protected Path dir;
+
+  @Setup
+  public void setup() throws IOException {
+    this.dir = Files.createTempDirectory("esjc-bench");
+    final Path file = this.dir
+        .resolve(SyntheticProgram.MAIN_CLASS_NAME + ".java");
+    Files.write(file,
+        SyntheticProgram.generate(this.lines).getBytes(StandardCharsets.UTF_8));
+    prepare(Collections.singletonList(file.toString()));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(
+        this.dir.resolve(SyntheticProgram.MAIN_CLASS_NAME + ".java"));
+    Files.deleteIfExists(this.dir);
+  }
+}
@@ -0,0 +1,73 @@
+package esjc.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import esjc.codegen.ExtendedClassByteCodes;
+
+/**
+ * Measures {@code main} of the Z* workload programs, compiled by
+ * {@link BenchmarkPrograms#compile(String)} and run through each optimizer
+ * pipeline of {@link optim.PassManager#pipeline(String)} ("none" is the
+ * unoptimized code generator output).
+ * <p>
+ * The benchmarks live in the {@code bench} source root. Compile it together
+ * with {@code src}, the jars in {@code lib}, and jmh-core and
+ * jmh-generator-annprocess (which generates the harness), then run from the
+ * project directory, e.g.:
+ *
+ * <pre>
+ * java -cp &lt;classpath&gt; org.openjdk.jmh.Main ZProgramBenchmark -prof gc
+ * </pre>
+ *
+ * {@code -prof gc} adds the allocation rate; {@code -jvmArgsAppend -Xint}
+ * measures interpreted execution; {@code -p program=ZSum1MInts} and
+ * {@code -p pipeline=none,default} narrow the parameter space.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ZProgramBenchmark {
+  @Param({ "Z1MList", "Z1MObjects", "ZArrayReverse", "ZBinarySearch",
+      "ZCList", "ZComplementArray", "ZCopy1MObjects", "ZCopy1MObjectsInit",
+      "ZDivisibleByFive", "ZDoubleList", "ZFibonacci", "ZFieldAccessArray",
+      "ZObjectEquality", "ZSearch1MInts", "ZSum1MInts" })
+  public String program;
+
+  @Param({ "none", "peephole", "tree", "default" })
+  public String pipeline;
+
+  private final String[] args = new String[] {};
+
+  private MethodHandle main;
+
+  @Setup
+  public void setup() throws Exception {
+    final ExtendedClassByteCodes ecbc = BenchmarkPrograms
+        .compile(BenchmarkPrograms.path(this.program));
+    final Map<String, byte[]> classes = BenchmarkPrograms.classes(ecbc,
+        this.pipeline);
+    this.main = BenchmarkPrograms.main(classes, ecbc.mainClassName);
+  }
+
+  @Benchmark
+  public void main() throws Throwable {
+    this.main.invokeExact(this.args);
+  }
+}
@@ -0,0 +1,86 @@
+public class BranchConditions {
+    public static void main(String[] args) {
+        int i;
+        int n;
+        boolean b;
+        Node p;
+
+        n = 0;
+        for (i = 0; (i < 10) && !(i == 5); i++) {
+            n++;
+        }
+        StaticJavaLib.assertTrue(n == 5);
+
+        n = 0;
+        i = 0;
+        while ((i < 3) || (i == 7)) {
+            n++;
+            i++;
+        }
+        StaticJavaLib.assertTrue(n == 3);
+
+        i = 10;
+        do {
+            i--;
+        } while (i > 0);
+        StaticJavaLib.assertTrue(i == 0);
+
+        b = false;
+        if (!b && (i >= 0)) {
+            b = true;
+        } else {
+            StaticJavaLib.assertTrue(false);
+        }
+        StaticJavaLib.assertTrue(b);
+
+        if (b || (i != 0)) {
+            n = 1;
+        } else {
+            n = 2;
+        }
+        StaticJavaLib.assertTrue(n == 1);
+
+        if (!(b && (i <= 0))) {
+            StaticJavaLib.assertTrue(false);
+        }
+
+        p = null;
+        if (p == null) {
+            p = new Node();
+        }
+        if (p != null) {
+            n = 3;
+        }
+        StaticJavaLib.assertTrue(n == 3);
+
+        if (true) {
+            n = 4;
+        }
+        if (false) {
+            n = 5;
+        }
+        StaticJavaLib.assertTrue(n == 4);
+        StaticJavaLib.assertTrue(positive(1) && !positive(-1));
+
+        i = 2;
+        b = (i < 3) && (n > 0);
+        StaticJavaLib.assertTrue(b);
+        b = !(b || (i == 2));
+        StaticJavaLib.assertTrue(!b);
+        b = !b;
+        StaticJavaLib.assertTrue(b && !(i > 2));
+        StaticJavaLib.assertTrue((i == 3) || b);
+        StaticJavaLib.assertTrue(!((i == 3) || !b));
+    }
+
+    static boolean positive(int x) {
+        if (x > 0) {
+            return true;
+        }
+        return false;
+    }
+}
+
+class Node {
+    public Node next;
+}
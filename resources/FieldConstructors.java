@@ -0,0 +1,56 @@
+public class FieldConstructors {
+    public static void main(String[] args) {
+        Point p;
+        Node n;
+        Node[] nodes;
+        Empty e;
+        int i;
+        int sum;
+
+        p = new Point(3, 4);
+        StaticJavaLib.assertTrue((p.x) == 3);
+        StaticJavaLib.assertTrue((p.y) == 4);
+
+        n = new Node(1, true, new Point((p.x) + 1, 7), null, new int[] { 5, 6 });
+        StaticJavaLib.assertTrue((n.id) == 1);
+        StaticJavaLib.assertTrue(n.flag);
+        StaticJavaLib.assertTrue((n.pos.x) == 4);
+        StaticJavaLib.assertTrue((n.next) == null);
+        StaticJavaLib.assertTrue((n.data[1]) == 6);
+
+        nodes = new Node[10];
+        for (i = 0; i < 10; i++) {
+            n = new Node(i, (i % 2) == 0, null, n, null);
+            nodes[i] = n;
+        }
+        sum = 0;
+        while (n != null) {
+            sum = sum + (n.id);
+            n = n.next;
+        }
+        StaticJavaLib.assertTrue(sum == 46);
+        StaticJavaLib.assertTrue(nodes[4].flag);
+        StaticJavaLib.assertTrue((nodes[3].next.id) == 2);
+
+        p = new Point();
+        StaticJavaLib.assertTrue((p.x) == 0);
+        e = new Empty();
+        StaticJavaLib.assertTrue(e != null);
+    }
+}
+
+class Point {
+    public int x;
+    public int y;
+}
+
+class Node {
+    public int id;
+    public boolean flag;
+    public Point pos;
+    public Node next;
+    public int[] data;
+}
+
+class Empty {
+}
@@ -0,0 +1,126 @@
+public class InstanceMethods {
+    public static void main(String[] args) {
+        ListNode head;
+        ListNode n;
+        Res r;
+        int i;
+
+        head = null;
+        for (i = 1; i <= 4; i++) {
+            n = new ListNode();
+            n.init(i, head);
+            head = n;
+        }
+        StaticJavaLib.assertTrue((head.length()) == 4);
+        StaticJavaLib.assertTrue((head.sum()) == 10);
+        StaticJavaLib.assertTrue((head.next.next.value) == 2);
+        StaticJavaLib.assertTrue((head.last().value) == 1);
+        StaticJavaLib.assertTrue((head.next.sum()) == 6);
+
+        r = new Res();
+        r.init(3);
+        r.add(5);
+        r.add(7);
+        r.count = (r.count) + 1;
+        head.fill(r);
+        StaticJavaLib.assertTrue((r.count) == 7);
+        StaticJavaLib.assertTrue((r.total()) == 22);
+        StaticJavaLib.assertTrue(r.has(7));
+        StaticJavaLib.assertTrue(!(r.has(9)));
+        StaticJavaLib.assertTrue((r.self().count) == 7);
+    }
+}
+
+class ListNode {
+    public int value;
+    public ListNode next;
+
+    public void init(int v, ListNode n) {
+        value = v;
+        this.next = n;
+    }
+
+    public int length() {
+        if (next == null) {
+            return 1;
+        }
+        return (next.length()) + 1;
+    }
+
+    public int sum() {
+        int s;
+        ListNode n;
+        s = 0;
+        n = this;
+        while (n != null) {
+            s = s + (n.value);
+            n = n.next;
+        }
+        return s;
+    }
+
+    public ListNode last() {
+        if (next == null) {
+            return this;
+        }
+        return next.last();
+    }
+
+    public void fill(Res r) {
+        r.add(value);
+        if (next != null) {
+            next.fill(r);
+        }
+    }
+}
+
+class Res {
+    public int[] items;
+    public int capacity;
+    public int count;
+
+    public void init(int c) {
+        items = new int[c];
+        capacity = c;
+        count = 0;
+    }
+
+    public void add(int v) {
+        int[] bigger;
+        int i;
+        if (count == capacity) {
+            capacity = count * 2;
+            bigger = new int[capacity];
+            for (i = 0; i < count; i++) {
+                bigger[i] = items[i];
+            }
+            items = bigger;
+        }
+        items[count] = v;
+        count++;
+    }
+
+    public int total() {
+        int t;
+        int i;
+        t = 0;
+        for (i = 0; i < count; i++) {
+            t = t + (this.items[i]);
+        }
+        return t;
+    }
+
+    public boolean has(int v) {
+        int i;
+        for (i = 0; i < count; i++) {
+            if ((items[i]) == v) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Res self() {
+        return this;
+    }
+}
@@ -0,0 +1,49 @@
+public class LocalSlots {
+    public static void main(String[] args) {
+        int sum;
+        int a;
+        int b;
+        int c;
+        boolean done;
+        int[] first;
+        int[] second;
+        Pair p;
+        Pair q;
+
+        a = 3;
+        b = a * 2;
+        sum = b + 1;
+        StaticJavaLib.assertTrue(sum == 7);
+
+        c = sum * 2;
+        sum = c - 4;
+        StaticJavaLib.assertTrue(sum == 10);
+
+        done = sum > 5;
+        StaticJavaLib.assertTrue(done);
+
+        first = new int[2];
+        first[1] = sum;
+        sum = (first[1]) + (first[0]);
+        second = new int[3];
+        second[2] = sum;
+        StaticJavaLib.assertTrue((second[2]) == 10);
+
+        for (a = 0; a < 4; a++) {
+            b = a + 1;
+            sum = sum + b;
+        }
+        StaticJavaLib.assertTrue(sum == 20);
+
+        p = new Pair();
+        p.x = sum;
+        sum = (p.x) + 1;
+        q = new Pair();
+        q.x = sum;
+        StaticJavaLib.assertTrue((q.x) == 21);
+    }
+}
+
+class Pair {
+    public int x;
+}
@@ -14,4 +14,6 @@ public class ParseFailClassConstructor
 class PFCC
 {
     public int i;
+
+    PFCC(int x) { i = x; }
 } 
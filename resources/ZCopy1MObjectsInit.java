@@ -0,0 +1,26 @@
+class A1{
+    public int valueA;
+}
+public class ZCopy1MObjectsInit {
+    public static void main(String[] args){
+        A1[] a;
+        B1[] b;
+        int i;
+
+        a = new A1[1000000];
+        b = new B1[1000000];
+
+        for(i=0;i<1000000;i++){
+            a[i] = new A1(i);
+        }
+
+        for(i=0;i<1000000;i++)
+        {
+            b[i] = new B1(a[i].valueA);
+        }
+    }
+}
+
+class B1{
+    public int valueB;
+}
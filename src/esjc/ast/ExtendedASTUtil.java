@@ -1,11 +1,112 @@
 package esjc.ast;
 
+import java.util.Arrays;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
 import esjc.parser.ExtendedParserUtil;
 
 public class ExtendedASTUtil {
+  /**
+   * The {@link CompilationUnit} property that holds the start positions of the
+   * source lines, as an {@code int[]}.
+   */
+  public static final String LINE_STARTS = "esjc.lineStarts";
+
+  /**
+   * The {@link CompilationUnit} property that holds the name of the source
+   * the unit was parsed from, if known.
+   */
+  public static final String SOURCE_NAME = "esjc.sourceName";
+
+  /**
+   * The {@link ASTNode} property that holds the id of the node, as an
+   * {@link Integer}. The ids of the nodes of a {@link CompilationUnit} are
+   * dense, from 0 for the unit to {@link #nodeCount(CompilationUnit)} - 1, in
+   * preorder (see {@link NodeTable}).
+   */
+  public static final String NODE_ID = "esjc.nodeId";
+
+  /**
+   * The {@link CompilationUnit} property that holds the number of nodes
+   * numbered in the unit, as an {@link Integer}.
+   */
+  public static final String NODE_COUNT = "esjc.nodeCount";
+
   public static CompilationUnit ast(final String filename) throws Exception {
     return ExtendedStaticJavaASTBuilder.ast(ExtendedParserUtil.parse(filename));
   }
+
+  /**
+   * Numbers the nodes of the given unit in preorder; the nodes that already
+   * have an id keep it.
+   *
+   * @return The number of nodes of the unit.
+   */
+  public static int numberNodes(final CompilationUnit cu) {
+    final int[] count = { nodeCount(cu) };
+    cu.accept(new ASTVisitor(true) {
+      @Override
+      public boolean preVisit2(final ASTNode node) {
+        if (nodeId(node) < 0) {
+          node.setProperty(ExtendedASTUtil.NODE_ID, count[0]++);
+        }
+        return true;
+      }
+    });
+    cu.setProperty(ExtendedASTUtil.NODE_COUNT, count[0]);
+    return count[0];
+  }
+
+  /**
+   * Returns the id of the given node, or -1 if it has not been numbered.
+   */
+  public static int nodeId(final ASTNode node) {
+    final Object id = node.getProperty(ExtendedASTUtil.NODE_ID);
+    return id == null ? -1 : (Integer) id;
+  }
+
+  /**
+   * Returns the number of nodes numbered in the given unit.
+   */
+  public static int nodeCount(final CompilationUnit cu) {
+    final Object count = cu.getProperty(ExtendedASTUtil.NODE_COUNT);
+    return count == null ? 0 : (Integer) count;
+  }
+
+  /**
+   * Returns the (1-based) source line of the given node, that is, of its
+   * closest enclosing node with a source range, or -1 if it is not known.
+   */
+  public static int lineNumber(final ASTNode node) {
+    ASTNode n = node;
+    while ((n != null) && (n.getStartPosition() < 0)) {
+      n = n.getParent();
+    }
+    if (n == null) {
+      return -1;
+    }
+    final int[] lineStarts = (int[]) n.getRoot().getProperty(
+        ExtendedASTUtil.LINE_STARTS);
+    if (lineStarts == null) {
+      return -1;
+    }
+    final int i = Arrays.binarySearch(lineStarts, n.getStartPosition());
+    return i >= 0 ? i + 1 : -i - 1;
+  }
+
+  /**
+   * Returns the file name (without directories) of the source the given unit
+   * was parsed from, or null if it is not known.
+   */
+  public static String sourceFileName(final CompilationUnit cu) {
+    final String name = (String) cu.getProperty(ExtendedASTUtil.SOURCE_NAME);
+    if (name == null) {
+      return null;
+    }
+    return name.substring(Math.max(name.lastIndexOf('/'),
+        name.lastIndexOf('\\')) + 1);
+  }
 }
@@ -1,10 +1,15 @@
 package esjc.ast;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
 import esjc.parser.ExtendedStaticJavaVisitor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
 import org.eclipse.jdt.core.dom.*;
 
 import esjc.parser.ExtendedStaticJavaBaseVisitor;
@@ -13,14 +18,18 @@ import esjc.parser.ExtendedStaticJavaParser.CompilationUnitContext;
 
 /**
  * This class builds JDT AST from ANTLR Parse Tree produced by
- * ExtendedStaticJava parser.
+ * ExtendedStaticJava parser. The nodes built from parse trees get the source
+ * ranges of their tokens, and the compilation unit holds the line table and
+ * the source name (see {@link ExtendedASTUtil#lineNumber(ASTNode)}). The
+ * nodes are numbered once the unit is built, for the {@link NodeTable}s of the
+ * later phases.
  *
  * @author <a href="mailto:robby@cis.ksu.edu">Robby</a>
  */
 public class ExtendedStaticJavaASTBuilder extends
         ExtendedStaticJavaBaseVisitor<ASTNode> {
 
-    static CompilationUnit ast(final CompilationUnitContext ctx) {
+    public static CompilationUnit ast(final CompilationUnitContext ctx) {
         final ExtendedStaticJavaASTBuilder builder = new ExtendedStaticJavaASTBuilder();
         return builder.build(ctx);
     }
@@ -81,7 +90,50 @@ public class ExtendedStaticJavaASTBuilder extends
 
     @SuppressWarnings("unchecked")
     private <T extends ASTNode> T build(final ParserRuleContext tree) {
-        return (T) visit(tree);
+        final T result = (T) visit(tree);
+        if (result != null && result.getStartPosition() < 0) {
+            setSourceRange(result, tree);
+        }
+        return result;
+    }
+
+    /**
+     * Sets the source range of the given node to the characters spanned by the
+     * tokens of the given parse tree.
+     */
+    private static void setSourceRange(final ASTNode node, final ParserRuleContext tree) {
+        final Token start = tree.getStart();
+        final Token stop = tree.getStop();
+        if (start == null || start.getStartIndex() < 0) {
+            return;
+        }
+        final int end = stop == null ? -1 : stop.getStopIndex();
+        node.setSourceRange(start.getStartIndex(),
+                Math.max(end - start.getStartIndex() + 1, 0));
+    }
+
+    /**
+     * Returns the start indices of the lines of the given input, as kept in the
+     * {@link ExtendedASTUtil#LINE_STARTS} property.
+     */
+    private static int[] lineStarts(final CharStream input) {
+        final int size = input.size();
+        int[] result = new int[64];
+        int n = 0;
+        result[n++] = 0;
+        if (size > 0) {
+            final int[] text = input.getText(Interval.of(0, size - 1)).codePoints().toArray();
+            for (int i = 0; i < text.length; i++) {
+                if (text[i] == '\n' || (text[i] == '\r'
+                        && (i + 1 == text.length || text[i + 1] != '\n'))) {
+                    if (n == result.length) {
+                        result = Arrays.copyOf(result, n * 2);
+                    }
+                    result[n++] = i + 1;
+                }
+            }
+        }
+        return Arrays.copyOf(result, n);
     }
 
     private <E extends ParserRuleContext> void builds(
@@ -156,6 +208,31 @@ public class ExtendedStaticJavaASTBuilder extends
         if (ctx.publicFieldDeclaration() != null) {
             builds(result.bodyDeclarations(), ctx.publicFieldDeclaration());
         }
+        if (ctx.instanceMethodDeclaration() != null) {
+            builds(result.bodyDeclarations(), ctx.instanceMethodDeclaration());
+        }
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration visitInstanceMethodDeclaration(
+            final ExtendedStaticJavaParser.InstanceMethodDeclarationContext ctx) {
+        final MethodDeclaration result = this.ast.newMethodDeclaration();
+        add(
+                result.modifiers(),
+                this.ast.newModifier(Modifier.ModifierKeyword.PUBLIC_KEYWORD));
+
+        result.setReturnType2(this.build(ctx.returnType()));
+
+        result.setName(this.ast.newSimpleName(ctx.ID().getText()));
+
+        final ExtendedStaticJavaParser.ParamsContext params = ctx.params();
+        if (params != null) {
+            builds(result.parameters(), params.param());
+        }
+
+        result.setBody(this.build(ctx.methodBody()));
+
         return result;
     }
 
@@ -167,6 +244,15 @@ public class ExtendedStaticJavaASTBuilder extends
         add(result.types(), this.<TypeDeclaration>build(ctx.program().classDefinition()));
         this.builds(result.types(), ctx.program().d2);
 
+        setSourceRange(result, ctx);
+        final CharStream input = ctx.getStart().getInputStream();
+        result.setProperty(ExtendedASTUtil.LINE_STARTS, lineStarts(input));
+        final String sourceName = input.getSourceName();
+        if (sourceName != null && !IntStream.UNKNOWN_SOURCE_NAME.equals(sourceName)) {
+            result.setProperty(ExtendedASTUtil.SOURCE_NAME, sourceName);
+        }
+        ExtendedASTUtil.numberNodes(result);
+
         return result;
     }
 
@@ -286,8 +372,35 @@ public class ExtendedStaticJavaASTBuilder extends
     @Override
     public ExpressionStatement visitInvokeExpStatement(
             final ExtendedStaticJavaParser.InvokeExpStatementContext ctx) {
-        return this.ast.newExpressionStatement(this.<MethodInvocation>build(ctx
-                .invoke()));
+        if (ctx.invoke() != null) {
+            return this.ast.newExpressionStatement(this.<MethodInvocation>build(ctx
+                    .invoke()));
+        }
+        return this.ast.newExpressionStatement(
+                methodInvocation(ctx.target, ctx.id.getText(), ctx.args()));
+    }
+
+    @Override
+    public MethodInvocation visitMethodInvokeExp(
+            final ExtendedStaticJavaParser.MethodInvokeExpContext ctx) {
+        return methodInvocation(ctx.target, ctx.id.getText(), ctx.args());
+    }
+
+    private MethodInvocation methodInvocation(
+            final ExtendedStaticJavaParser.ExpContext target, final String name,
+            final ExtendedStaticJavaParser.ArgsContext args) {
+        final MethodInvocation result = this.ast.newMethodInvocation();
+        result.setExpression(this.build(target));
+        result.setName(this.ast.newSimpleName(name));
+        if (args != null) {
+            builds(result.arguments(), args.exp());
+        }
+        return result;
+    }
+
+    @Override
+    public ThisExpression visitThisExp(final ExtendedStaticJavaParser.ThisExpContext ctx) {
+        return this.ast.newThisExpression();
     }
 
     @Override
@@ -572,6 +685,9 @@ public class ExtendedStaticJavaASTBuilder extends
     public ClassInstanceCreation visitNewExp(final ExtendedStaticJavaParser.NewExpContext ctx) {
         final ClassInstanceCreation result = this.ast.newClassInstanceCreation();
         result.setType(this.ast.newSimpleType(this.ast.newSimpleName(ctx.name.getText())));
+        if (ctx.args() != null) {
+            builds(result.arguments(), ctx.args().exp());
+        }
         return result;
     }
 
@@ -0,0 +1,292 @@
+package esjc.ast;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+
+/**
+ * This class is a map of {@link ASTNode}s to values, backed by arrays indexed
+ * by the ids the {@link ExtendedStaticJavaASTBuilder} gives to the nodes (see
+ * {@link ExtendedASTUtil#nodeId(ASTNode)}). Nodes are compared by identity;
+ * nodes without an id, or whose id is taken by a node of another unit, are
+ * kept in an {@link IdentityHashMap}. The entries are iterated by node id.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <V>
+ *          The type of the values.
+ */
+public class NodeTable<V> extends AbstractMap<ASTNode, V> {
+  /**
+   * Holds the key of each id, or null.
+   */
+  protected ASTNode[] keys;
+
+  /**
+   * Holds the value of each id.
+   */
+  protected Object[] values;
+
+  /**
+   * Holds the number of entries in {@link #keys}.
+   */
+  protected int size;
+
+  /**
+   * Holds the entries of the nodes without an id of their own, or null.
+   */
+  protected Map<ASTNode, V> others;
+
+  /**
+   * Constructs an empty table.
+   */
+  public NodeTable() {
+    this(16);
+  }
+
+  /**
+   * Constructs an empty table for nodes whose ids are less than the given
+   * capacity, e.g., {@link ExtendedASTUtil#nodeCount}; it grows as needed.
+   *
+   * @param capacity
+   *          The initial capacity.
+   */
+  public NodeTable(final int capacity) {
+    this.keys = new ASTNode[Math.max(capacity, 1)];
+    this.values = new Object[this.keys.length];
+  }
+
+  /**
+   * Returns the id of the given key, or -1 if it has none.
+   */
+  protected static int id(final Object key) {
+    return key instanceof ASTNode ? ExtendedASTUtil.nodeId((ASTNode) key) : -1;
+  }
+
+  /**
+   * Returns whether the given key is stored in the arrays, under the given
+   * id.
+   */
+  protected boolean isStored(final int id, final Object key) {
+    return (id >= 0) && (id < this.keys.length) && (this.keys[id] == key);
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return isStored(id(key), key)
+        || ((this.others != null) && this.others.containsKey(key));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(final Object key) {
+    final int id = id(key);
+    if (isStored(id, key)) {
+      return (V) this.values[id];
+    }
+    return this.others == null ? null : this.others.get(key);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(final ASTNode key, final V value) {
+    final int id = id(key);
+    if (isStored(id, key)) {
+      final V result = (V) this.values[id];
+      this.values[id] = value;
+      return result;
+    }
+    if ((id < 0) || ((id < this.keys.length) && (this.keys[id] != null))
+        || ((this.others != null) && this.others.containsKey(key))) {
+      if (this.others == null) {
+        this.others = new IdentityHashMap<>();
+      }
+      return this.others.put(key, value);
+    }
+    if (id >= this.keys.length) {
+      final int capacity = Math.max(id + 1, this.keys.length * 2);
+      this.keys = Arrays.copyOf(this.keys, capacity);
+      this.values = Arrays.copyOf(this.values, capacity);
+    }
+    this.keys[id] = key;
+    this.values[id] = value;
+    this.size++;
+    return null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(final Object key) {
+    final int id = id(key);
+    if (isStored(id, key)) {
+      final V result = (V) this.values[id];
+      removeId(id);
+      return result;
+    }
+    return this.others == null ? null : this.others.remove(key);
+  }
+
+  protected void removeId(final int id) {
+    this.keys[id] = null;
+    this.values[id] = null;
+    this.size--;
+  }
+
+  @Override
+  public int size() {
+    return this.size + (this.others == null ? 0 : this.others.size());
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(this.keys, null);
+    Arrays.fill(this.values, null);
+    this.size = 0;
+    this.others = null;
+  }
+
+  @Override
+  public Set<Map.Entry<ASTNode, V>> entrySet() {
+    return new AbstractSet<Map.Entry<ASTNode, V>>() {
+      @Override
+      public Iterator<Map.Entry<ASTNode, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return NodeTable.this.size();
+      }
+    };
+  }
+
+  /**
+   * The iterator of the entries of a {@link NodeTable}: the ones in the arrays
+   * by id, then the others.
+   */
+  protected class EntryIterator implements Iterator<Map.Entry<ASTNode, V>> {
+    /**
+     * Holds the id of the next entry in the arrays.
+     */
+    protected int next = -1;
+
+    /**
+     * Holds the id of the last entry returned from the arrays, -2 if it was
+     * one of the others, or -1.
+     */
+    protected int last = -1;
+
+    /**
+     * Holds the iterator of the other entries, once the arrays are done.
+     */
+    protected Iterator<Map.Entry<ASTNode, V>> othersIterator;
+
+    protected EntryIterator() {
+      advance();
+    }
+
+    protected void advance() {
+      do {
+        this.next++;
+      } while ((this.next < NodeTable.this.keys.length)
+          && (NodeTable.this.keys[this.next] == null));
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (this.next < NodeTable.this.keys.length) {
+        return true;
+      }
+      if ((this.othersIterator == null) && (NodeTable.this.others != null)) {
+        this.othersIterator = NodeTable.this.others.entrySet().iterator();
+      }
+      return (this.othersIterator != null) && this.othersIterator.hasNext();
+    }
+
+    @Override
+    public Map.Entry<ASTNode, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (this.othersIterator != null) {
+        this.last = -2;
+        return this.othersIterator.next();
+      }
+      final int id = this.next;
+      this.last = id;
+      advance();
+      return new Entry(id);
+    }
+
+    @Override
+    public void remove() {
+      if (this.last == -2) {
+        this.othersIterator.remove();
+      } else if (this.last >= 0) {
+        removeId(this.last);
+        this.last = -1;
+      } else {
+        throw new IllegalStateException();
+      }
+    }
+  }
+
+  /**
+   * An entry of the arrays of a {@link NodeTable}.
+   */
+  protected class Entry implements Map.Entry<ASTNode, V> {
+    /**
+     * Holds the id of this entry.
+     */
+    protected final int id;
+
+    protected Entry(final int id) {
+      this.id = id;
+    }
+
+    @Override
+    public ASTNode getKey() {
+      return NodeTable.this.keys[this.id];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue() {
+      return (V) NodeTable.this.values[this.id];
+    }
+
+    @Override
+    public V setValue(final V value) {
+      final V result = getValue();
+      NodeTable.this.values[this.id] = value;
+      return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      return (getKey() == e.getKey()) && Objects.equals(getValue(), e.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+}
@@ -1,8 +1,8 @@
 package esjc.codegen;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,7 +21,9 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.MethodInvocation;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NullLiteral;
 import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.ParenthesizedExpression;
 import org.eclipse.jdt.core.dom.PrefixExpression;
 import org.eclipse.jdt.core.dom.ReturnStatement;
 import org.eclipse.jdt.core.dom.SimpleName;
@@ -37,19 +39,19 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
+import esjc.ast.ExtendedASTUtil;
 import esjc.symboltable.SymbolTable;
-import esjc.type.ArrayType;
 import esjc.type.BooleanType;
-import esjc.type.ClassType;
 import esjc.type.IntType;
 import esjc.type.Type;
 import esjc.type.VoidType;
+import esjc.type.checker.LibraryMethodIndex.LibraryMethod;
 import esjc.type.checker.TypeTable;
 import esjc.util.Pair;
 
 /**
  * This class is used to translate a StaticJava {@link CompilationUnit} to
- * {@link ClassByteCodes} that represent a Java 1.5 class files.
+ * {@link ClassByteCodes} that represent Java class files.
  *
  * @author <a href="mailto:robby@ksu.edu">Robby</a>
  */
@@ -83,12 +85,82 @@ public class ByteCodeGenerator {
     }
   }
 
+  /**
+   * The debugging information generated in the class files.
+   */
+  public enum DebugLevel {
+    /**
+     * No debugging information (smallest class files).
+     */
+    NONE,
+
+    /**
+     * The source file and line numbers, for stack traces.
+     */
+    LINES,
+
+    /**
+     * The source file, line numbers, and local variable names.
+     */
+    VARS_AND_LINES;
+
+    public boolean hasLines() {
+      return this != NONE;
+    }
+
+    public boolean hasVars() {
+      return this == VARS_AND_LINES;
+    }
+  }
+
+  /**
+   * The options of the bytecode generation.
+   */
+  public static class Options {
+    /**
+     * Holds whether ASM computes the stack map frames and maximum stack sizes
+     * of the methods ({@code COMPUTE_FRAMES}), and Java 1.5 class files are
+     * generated, as in earlier versions of the generator. By default, a
+     * {@link FrameTracker} computes them while the code is generated.
+     */
+    public boolean computeFrames;
+
+    /**
+     * Holds the class file version generated when frames are not computed by
+     * ASM.
+     */
+    public int classVersion = Opcodes.V1_8;
+
+    /**
+     * Holds the debugging information generated.
+     */
+    public DebugLevel debug = DebugLevel.VARS_AND_LINES;
+
+    /**
+     * Holds whether locals that are never live at the same time share slots
+     * (see {@link LocalAllocator}).
+     */
+    public boolean allocateLocals = true;
+
+    /**
+     * Returns a string that identifies the options that affect the generated
+     * class files.
+     */
+    public String key() {
+      return (this.computeFrames ? "frames=computed"
+          : "frames=tracked,version=" + this.classVersion) + ",debug="
+          + this.debug + ",allocateLocals=" + this.allocateLocals;
+    }
+  }
+
   /**
    * The visitor for {@link ASTNode} to generate bytecodes.
    *
    * @author <a href="mailto:robby@ksu.edu">Robby</a>
    */
   protected static class Visitor extends ASTVisitor {
+    protected  Options options;
+
     protected  ClassWriter cw;
 
     protected  FieldVisitor fv;
@@ -105,12 +177,35 @@ public class ByteCodeGenerator {
 
     protected  Map<Object, Pair<Type, List<Type>>> methodTypeMap;
 
+    /**
+     * Holds the descriptors of the method types of {@link #methodTypeMap}.
+     */
+    protected Map<Pair<Type, List<Type>>, String> methodDescriptorMap = new IdentityHashMap<>();
+
     protected  List<Pair<String, Type>> localNamesTypes = new ArrayList<>();
 
     protected  Map<String, Integer> localIndexMap = new HashMap<>();
 
+    /**
+     * Holds the source line of the code generated last in the current
+     * method, or -1 if none.
+     */
+    protected int line = -1;
+
+    /**
+     * Holds the statistics the {@link LocalAllocator}s count the slots of the
+     * methods in, or null.
+     */
+    protected LocalAllocator.Statistics slotStatistics;
+
     protected Visitor( final SymbolTable st,  final TypeTable tt) {
-      assert (st != null) && (tt != null);
+      this(st, tt, new Options());
+    }
+
+    protected Visitor(final SymbolTable st, final TypeTable tt,
+        final Options options) {
+      assert (st != null) && (tt != null) && (options != null);
+      this.options = options;
       this.symbolMap = st.symbolMap;
       this.typeMap = tt.typeMap;
       this.methodTypeMap = tt.methodTypeMap;
@@ -118,6 +213,12 @@ public class ByteCodeGenerator {
 
     protected void buildLocalIndexTable(final MethodDeclaration md) {
       int i = 0;
+      if (!Modifier.isStatic(md.getModifiers())) {
+        this.localNamesTypes.add(new Pair<>("this", this.typeMap.get(md
+            .getParent())));
+        this.localIndexMap.put("this", i);
+        i++;
+      }
       for (final Object o : md.parameters()) {
         final SingleVariableDeclaration svd = (SingleVariableDeclaration) o;
         final String paramName = svd.getName().getIdentifier();
@@ -161,16 +262,110 @@ public class ByteCodeGenerator {
     }
 
     protected String convertType(final Type t) {
-      if (t instanceof VoidType) {
-        return "V";
-      } else if (t instanceof BooleanType) {
-        return "Z";
-      } else if (t instanceof IntType) {
-        return "I";
-      } else if (t instanceof ClassType) {
-        return "L" + ((ClassType) t).name.replace('.', '/') + ";";
+      return t.descriptor;
+    }
+
+    /**
+     * Returns the number of local slots that hold the parameters of the given
+     * method, including the receiver of an instance method.
+     */
+    protected int getNumParamSlots(final MethodDeclaration md) {
+      return md.parameters().size()
+          + (Modifier.isStatic(md.getModifiers()) ? 0 : 1);
+    }
+
+    /**
+     * Returns the frame types of the local variables of the current method,
+     * in the order of their indices.
+     */
+    protected Object[] getFrameLocals() {
+      final Object[] result = new Object[this.localNamesTypes.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = FrameTracker.frameType(convertType(this.localNamesTypes
+            .get(i).second));
+      }
+      return result;
+    }
+
+    /**
+     * Returns a new {@link ClassWriter} for the frame mode of the
+     * {@link #options}.
+     */
+    protected ClassWriter newClassWriter() {
+      return new ClassWriter(this.options.computeFrames
+          ? ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS
+          : 0);
+    }
+
+    protected int getClassVersion() {
+      return this.options.computeFrames ? Opcodes.V1_5
+          : this.options.classVersion;
+    }
+
+    /**
+     * Initializes the local variables (not the parameters) of the current
+     * method, so that their declared types hold from the method entry on, as
+     * the frames of the {@link FrameTracker} assume.
+     */
+    protected void generateLocalInitializers(final MethodDeclaration md) {
+      for (int i = getNumParamSlots(md); i < this.localNamesTypes
+          .size(); i++) {
+        final Type t = this.localNamesTypes.get(i).second;
+        if ((t instanceof IntType) || (t instanceof BooleanType)) {
+          this.mv.visitInsn(Opcodes.ICONST_0);
+          this.mv.visitVarInsn(Opcodes.ISTORE, i);
+        } else {
+          this.mv.visitInsn(Opcodes.ACONST_NULL);
+          this.mv.visitVarInsn(Opcodes.ASTORE, i);
+        }
+      }
+    }
+
+    /**
+     * Visits a label that is only used by debugging information.
+     */
+    protected void generateDebugLabel(final Label label) {
+      if (this.mv instanceof FrameTracker) {
+        ((FrameTracker) this.mv).visitDebugLabel(label);
       } else {
-        return "[" + convertType(((ArrayType) t).baseType);
+        this.mv.visitLabel(label);
+      }
+    }
+
+    /**
+     * Marks the code generated next as coming from the source line of the
+     * given node, if line numbers are generated and the line changes.
+     */
+    protected void generateLineNumber(final ASTNode node) {
+      if (!this.options.debug.hasLines()) {
+        return;
+      }
+      final int l = ExtendedASTUtil.lineNumber(node);
+      if ((l < 0) || (l == this.line)) {
+        return;
+      }
+      this.line = l;
+      final Label label = new Label();
+      generateDebugLabel(label);
+      this.mv.visitLineNumber(l, label);
+    }
+
+    /**
+     * Returns the name of the source file recorded in the class file of the
+     * given type, or null if none.
+     */
+    protected String getSourceFile(final TypeDeclaration node) {
+      if (!this.options.debug.hasLines()
+          || !(node.getRoot() instanceof CompilationUnit)) {
+        return null;
+      }
+      return ExtendedASTUtil.sourceFileName((CompilationUnit) node.getRoot());
+    }
+
+    @Override
+    public void preVisit(final ASTNode node) {
+      if ((node instanceof Statement) && !(node instanceof Block)) {
+        generateLineNumber(node);
       }
     }
 
@@ -178,6 +373,7 @@ public class ByteCodeGenerator {
       this.cw = null;
       this.symbolMap = null;
       this.typeMap = null;
+      this.methodDescriptorMap = null;
       this.methodTypeMap = null;
       this.localNamesTypes = null;
       this.localIndexMap = null;
@@ -205,8 +401,10 @@ public class ByteCodeGenerator {
       this.mv.visitInsn(Opcodes.RETURN);
       final Label l1 = new Label();
       this.mv.visitLabel(l1);
-      this.mv
-      .visitLocalVariable("this", "L" + className + ";", null, l0, l1, 0);
+      if (this.options.debug.hasVars()) {
+        this.mv.visitLocalVariable("this", "L" + className + ";", null, l0, l1,
+            0);
+      }
       this.mv.visitMaxs(1, 1);
       this.mv.visitEnd();
     }
@@ -245,6 +443,200 @@ public class ByteCodeGenerator {
       }
     }
 
+    /**
+     * Generates code that jumps to the given label if the given boolean
+     * expression evaluates to the given value and falls through otherwise.
+     * Unlike visiting the expression and testing the result, comparisons
+     * compile to a single conditional jump, and the operands of
+     * {@code &&}, {@code ||} and {@code !} are themselves compiled as
+     * branches, so no boolean is pushed on the stack.
+     *
+     * @param e
+     *          The boolean expression.
+     * @param jumpIf
+     *          The value of the expression for which to jump.
+     * @param target
+     *          The label to jump to.
+     */
+    protected void generateBranch(final Expression e, final boolean jumpIf,
+        final Label target) {
+      if (e instanceof ParenthesizedExpression) {
+        generateBranch(((ParenthesizedExpression) e).getExpression(), jumpIf,
+            target);
+      } else if (e instanceof BooleanLiteral) {
+        if (((BooleanLiteral) e).booleanValue() == jumpIf) {
+          this.mv.visitJumpInsn(Opcodes.GOTO, target);
+        }
+      } else if ((e instanceof PrefixExpression)
+          && (((PrefixExpression) e)
+              .getOperator() == PrefixExpression.Operator.NOT)) {
+        generateBranch(((PrefixExpression) e).getOperand(), !jumpIf, target);
+      } else if ((e instanceof InfixExpression)
+          && (((InfixExpression) e)
+              .getOperator() == InfixExpression.Operator.CONDITIONAL_AND)) {
+        final InfixExpression ie = (InfixExpression) e;
+        if (jumpIf) {
+          final Label falseLabel = new Label();
+          generateBranch(ie.getLeftOperand(), false, falseLabel);
+          generateBranch(ie.getRightOperand(), true, target);
+          this.mv.visitLabel(falseLabel);
+        } else {
+          generateBranch(ie.getLeftOperand(), false, target);
+          generateBranch(ie.getRightOperand(), false, target);
+        }
+      } else if ((e instanceof InfixExpression)
+          && (((InfixExpression) e)
+              .getOperator() == InfixExpression.Operator.CONDITIONAL_OR)) {
+        final InfixExpression ie = (InfixExpression) e;
+        if (jumpIf) {
+          generateBranch(ie.getLeftOperand(), true, target);
+          generateBranch(ie.getRightOperand(), true, target);
+        } else {
+          final Label trueLabel = new Label();
+          generateBranch(ie.getLeftOperand(), true, trueLabel);
+          generateBranch(ie.getRightOperand(), false, target);
+          this.mv.visitLabel(trueLabel);
+        }
+      } else if ((e instanceof InfixExpression)
+          && (getRelationalOpcode((InfixExpression) e) >= 0)) {
+        final InfixExpression ie = (InfixExpression) e;
+        int opcode = getRelationalOpcode(ie);
+        final Expression rhs = ie.getRightOperand();
+        ie.getLeftOperand().accept(this);
+        if ((rhs instanceof NullLiteral) && (opcode == Opcodes.IF_ACMPEQ)) {
+          opcode = Opcodes.IFNULL;
+        } else if ((rhs instanceof NullLiteral)
+            && (opcode == Opcodes.IF_ACMPNE)) {
+          opcode = Opcodes.IFNONNULL;
+        } else if ((rhs instanceof NumberLiteral)
+            && "0".equals(((NumberLiteral) rhs).getToken())
+            && (opcode <= Opcodes.IF_ICMPLE)) {
+          // IF_ICMPxx against 0 is IFxx
+          opcode -= Opcodes.IF_ICMPEQ - Opcodes.IFEQ;
+        } else {
+          rhs.accept(this);
+        }
+        this.mv.visitJumpInsn(jumpIf ? opcode : negateJump(opcode), target);
+      } else {
+        e.accept(this);
+        this.mv.visitJumpInsn(jumpIf ? Opcodes.IFNE : Opcodes.IFEQ, target);
+      }
+    }
+
+    /**
+     * Generates code that pushes the value of the given boolean expression
+     * using {@link #generateBranch(Expression, boolean, Label)}, so that the
+     * operands of {@code &&} and {@code ||} jump straight to the code pushing
+     * the result instead of duplicating and popping intermediate values.
+     *
+     * @param e
+     *          The boolean expression.
+     */
+    protected void generateBooleanValue(final Expression e) {
+      final Label falseLabel = new Label();
+      final Label endLabel = new Label();
+      if ((e instanceof InfixExpression) && isLogical((InfixExpression) e)
+          && !isCondition(((InfixExpression) e).getRightOperand())) {
+        // a && b (a || b) with a plain value b: b itself is the result when
+        // a does not short-circuit
+        final InfixExpression ie = (InfixExpression) e;
+        final boolean isAnd = ie
+            .getOperator() == InfixExpression.Operator.CONDITIONAL_AND;
+        final Label shortLabel = new Label();
+        generateBranch(ie.getLeftOperand(), !isAnd, shortLabel);
+        ie.getRightOperand().accept(this);
+        this.mv.visitJumpInsn(Opcodes.GOTO, endLabel);
+        this.mv.visitLabel(shortLabel);
+        this.mv.visitInsn(isAnd ? Opcodes.ICONST_0 : Opcodes.ICONST_1);
+        this.mv.visitLabel(endLabel);
+        return;
+      }
+      generateBranch(e, false, falseLabel);
+      this.mv.visitInsn(Opcodes.ICONST_1);
+      this.mv.visitJumpInsn(Opcodes.GOTO, endLabel);
+      this.mv.visitLabel(falseLabel);
+      this.mv.visitInsn(Opcodes.ICONST_0);
+      this.mv.visitLabel(endLabel);
+    }
+
+    /**
+     * Generates code for {@code !e}: a condition is compiled with its jumps
+     * inverted, any other boolean value is flipped with {@code IXOR}.
+     */
+    protected void generateNot(final PrefixExpression node) {
+      if (isCondition(node.getOperand())) {
+        generateBooleanValue(node);
+      } else {
+        node.getOperand().accept(this);
+        this.mv.visitInsn(Opcodes.ICONST_1);
+        this.mv.visitInsn(Opcodes.IXOR);
+      }
+    }
+
+    /**
+     * Returns whether the given expression is a comparison or a logical
+     * operation, i.e., one that {@link #generateBranch} compiles to jumps.
+     */
+    protected boolean isCondition(final Expression e) {
+      if (e instanceof ParenthesizedExpression) {
+        return isCondition(((ParenthesizedExpression) e).getExpression());
+      } else if (e instanceof PrefixExpression) {
+        return ((PrefixExpression) e)
+            .getOperator() == PrefixExpression.Operator.NOT;
+      } else if (e instanceof InfixExpression) {
+        return isLogical((InfixExpression) e)
+            || (getRelationalOpcode((InfixExpression) e) >= 0);
+      }
+      return false;
+    }
+
+    /**
+     * Returns whether the given expression is a {@code &&} or {@code ||}.
+     */
+    protected boolean isLogical(final InfixExpression e) {
+      return (e.getOperator() == InfixExpression.Operator.CONDITIONAL_AND)
+          || (e.getOperator() == InfixExpression.Operator.CONDITIONAL_OR);
+    }
+
+    /**
+     * Returns the conditional jump opcode that jumps if the given comparison
+     * holds, or -1 if the given expression is not a comparison.
+     */
+    protected int getRelationalOpcode(final InfixExpression node) {
+      final InfixExpression.Operator op = node.getOperator();
+      if (op == InfixExpression.Operator.GREATER) {
+        return Opcodes.IF_ICMPGT;
+      } else if (op == InfixExpression.Operator.GREATER_EQUALS) {
+        return Opcodes.IF_ICMPGE;
+      } else if (op == InfixExpression.Operator.EQUALS) {
+        return Opcodes.IF_ICMPEQ;
+      } else if (op == InfixExpression.Operator.NOT_EQUALS) {
+        return Opcodes.IF_ICMPNE;
+      } else if (op == InfixExpression.Operator.LESS) {
+        return Opcodes.IF_ICMPLT;
+      } else if (op == InfixExpression.Operator.LESS_EQUALS) {
+        return Opcodes.IF_ICMPLE;
+      }
+      return -1;
+    }
+
+    /**
+     * Returns the conditional jump opcode that jumps exactly when the given
+     * one does not.
+     */
+    protected static int negateJump(final int opcode) {
+      switch (opcode) {
+        case Opcodes.IFNULL:
+          return Opcodes.IFNONNULL;
+        case Opcodes.IFNONNULL:
+          return Opcodes.IFNULL;
+        default:
+          // IFEQ .. IF_ACMPNE come in pairs of opposite conditions
+          assert (opcode >= Opcodes.IFEQ) && (opcode <= Opcodes.IF_ACMPNE);
+          return ((opcode - Opcodes.IFEQ) ^ 1) + Opcodes.IFEQ;
+      }
+    }
+
     protected void generateRelationalCode(final int opcode) {
       final Label thenLabel = new Label();
       final Label endLabel = new Label();
@@ -268,6 +660,20 @@ public class ByteCodeGenerator {
       return sb.toString();
     }
 
+    /**
+     * Returns the descriptor of a method type from {@link #methodTypeMap},
+     * built once per method.
+     */
+    protected String getMethodDescriptor(
+        final Pair<Type, List<Type>> methodType) {
+      String result = this.methodDescriptorMap.get(methodType);
+      if (result == null) {
+        result = getMethodDescriptor(methodType.first, methodType.second);
+        this.methodDescriptorMap.put(methodType, result);
+      }
+      return result;
+    }
+
     @Override
     public boolean visit(final Assignment node) {
       node.getRightHandSide().accept(this);
@@ -330,8 +736,7 @@ public class ByteCodeGenerator {
     @Override
     public boolean visit(final IfStatement node) {
       final Label elseOrEndLabel = new Label();
-      node.getExpression().accept(this);
-      this.mv.visitJumpInsn(Opcodes.IFEQ, elseOrEndLabel);
+      generateBranch(node.getExpression(), false, elseOrEndLabel);
       node.getThenStatement().accept(this);
       final Block elseBlock = (Block) node.getElseStatement();
       if (elseBlock == null) {
@@ -349,22 +754,11 @@ public class ByteCodeGenerator {
     @Override
     public boolean visit(final InfixExpression node) {
       final InfixExpression.Operator op = node.getOperator();
-      node.getLeftOperand().accept(this);
-      if (op == InfixExpression.Operator.CONDITIONAL_AND) {
-        this.mv.visitInsn(Opcodes.DUP);
-        final Label falseLabel = new Label();
-        this.mv.visitJumpInsn(Opcodes.IFEQ, falseLabel);
-        this.mv.visitInsn(Opcodes.POP);
-        node.getRightOperand().accept(this);
-        this.mv.visitLabel(falseLabel);
-      } else if (op == InfixExpression.Operator.CONDITIONAL_OR) {
-        this.mv.visitInsn(Opcodes.DUP);
-        final Label trueLabel = new Label();
-        this.mv.visitJumpInsn(Opcodes.IFNE, trueLabel);
-        this.mv.visitInsn(Opcodes.POP);
-        node.getRightOperand().accept(this);
-        this.mv.visitLabel(trueLabel);
+      if ((op == InfixExpression.Operator.CONDITIONAL_AND)
+          || (op == InfixExpression.Operator.CONDITIONAL_OR)) {
+        generateBooleanValue(node);
       } else {
+        node.getLeftOperand().accept(this);
         node.getRightOperand().accept(this);
         if (op == InfixExpression.Operator.PLUS) {
           this.mv.visitInsn(Opcodes.IADD);
@@ -398,20 +792,31 @@ public class ByteCodeGenerator {
       final String methodName = node.getName().getIdentifier();
       final int modifiers = convertModifiers(node, node.modifiers());
       final Pair<Type, List<Type>> methodType = this.methodTypeMap.get(node);
-      final String methodDesc = getMethodDescriptor(
-          methodType.first,
-          methodType.second);
+      final String methodDesc = getMethodDescriptor(methodType);
       this.mv = this.cw.visitMethod(
           modifiers,
           methodName,
           methodDesc,
           null,
           null);
+      buildLocalIndexTable(node);
+      if (this.options.allocateLocals) {
+        this.mv = new LocalAllocator(this.mv, modifiers, methodName,
+            methodDesc, getFrameLocals(), getNumParamSlots(node),
+            this.slotStatistics);
+      }
       this.mv.visitCode();
       final Label initLabel = new Label();
       this.mv.visitLabel(initLabel);
 
-      buildLocalIndexTable(node);
+      this.line = -1;
+      if (!this.options.computeFrames) {
+        this.mv = new FrameTracker(this.mv, getFrameLocals());
+        generateLocalInitializers(node);
+      }
+      // the locals (not the parameters) are in scope once initialized
+      final Label localsLabel = new Label();
+      generateDebugLabel(localsLabel);
 
       Statement lastStatement = null;
       for (final Object o : node.getBody().statements()) {
@@ -430,18 +835,21 @@ public class ByteCodeGenerator {
       }
 
       final Label endLabel = new Label();
-      this.mv.visitLabel(endLabel);
+      generateDebugLabel(endLabel);
 
-      int i = 0;
-      for (final Pair<String, Type> p : this.localNamesTypes) {
-        this.mv.visitLocalVariable(
-            p.first,
-            convertType(p.second),
-            null,
-            initLabel,
-            endLabel,
-            i);
-        i++;
+      if (this.options.debug.hasVars()) {
+        final int numParams = getNumParamSlots(node);
+        int i = 0;
+        for (final Pair<String, Type> p : this.localNamesTypes) {
+          this.mv.visitLocalVariable(
+              p.first,
+              convertType(p.second),
+              null,
+              i < numParams ? initLabel : localsLabel,
+              endLabel,
+              i);
+          i++;
+        }
       }
 
       this.mv.visitMaxs(0, 0);
@@ -468,19 +876,15 @@ public class ByteCodeGenerator {
             Opcodes.INVOKESTATIC,
             className,
             methodName,
-            getMethodDescriptor(p.first, p.second),
+            getMethodDescriptor(p),
             false);
-      } else if (o instanceof Method) {
-        final Method m = (Method) o;
-        final String className = m.getDeclaringClass().getName()
-            .replace('.', '/');
-        final String methodName = m.getName();
-        final Pair<Type, List<Type>> p = this.methodTypeMap.get(m);
+      } else if (o instanceof LibraryMethod) {
+        final LibraryMethod m = (LibraryMethod) o;
         this.mv.visitMethodInsn(
             Opcodes.INVOKESTATIC,
-            className,
-            methodName,
-            getMethodDescriptor(p.first, p.second),
+            m.owner,
+            m.name,
+            m.desc,
             false);
       }
       return false;
@@ -494,21 +898,16 @@ public class ByteCodeGenerator {
 
     @Override
     public boolean visit(final PrefixExpression node) {
-      node.getOperand().accept(this);
       final PrefixExpression.Operator op = node.getOperator();
+      if (op == PrefixExpression.Operator.NOT) {
+        generateNot(node);
+        return false;
+      }
+      node.getOperand().accept(this);
       if (op == PrefixExpression.Operator.PLUS) {
         // do nothing
       } else if (op == PrefixExpression.Operator.MINUS) {
         this.mv.visitInsn(Opcodes.INEG);
-      } else if (op == PrefixExpression.Operator.NOT) {
-        final Label falseLabel = new Label();
-        final Label endLabel = new Label();
-        this.mv.visitJumpInsn(Opcodes.IFEQ, falseLabel);
-        this.mv.visitInsn(Opcodes.ICONST_0);
-        this.mv.visitJumpInsn(Opcodes.GOTO, endLabel);
-        this.mv.visitLabel(falseLabel);
-        this.mv.visitInsn(Opcodes.ICONST_1);
-        this.mv.visitLabel(endLabel);
       }
       return false;
     }
@@ -555,16 +954,15 @@ public class ByteCodeGenerator {
     @Override
     public boolean visit(final TypeDeclaration node) {
       this.mainClassName = node.getName().getIdentifier();
-      this.cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES
-          | ClassWriter.COMPUTE_MAXS);
+      this.cw = newClassWriter();
       this.cw.visit(
-          Opcodes.V1_5,
-          Opcodes.ACC_PUBLIC + Opcodes.ACC_SUPER,
+          getClassVersion(),
+          Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER,
           this.mainClassName,
           null,
           "java/lang/Object",
           null);
-      this.cw.visitSource(null, null);
+      this.cw.visitSource(getSourceFile(node), null);
       generateConstructor(this.mainClassName);
       for (final Object o : node.bodyDeclarations()) {
         ((ASTNode) o).accept(this);
@@ -578,17 +976,16 @@ public class ByteCodeGenerator {
     @Override
     public boolean visit(final WhileStatement node) {
       final Label loopLabel = new Label();
-      final Label endLabel = new Label();
-
-//      System.out.println("loopLabel: "+loopLabel);
-//      System.out.println("endLabel: "+endLabel);
+      final Label condLabel = new Label();
 
+      // the condition is tested at the bottom, so that an iteration costs a
+      // single branch
+      this.mv.visitJumpInsn(Opcodes.GOTO, condLabel);
       this.mv.visitLabel(loopLabel);
-      node.getExpression().accept(this);
-      this.mv.visitJumpInsn(Opcodes.IFEQ, endLabel);
       node.getBody().accept(this);
-      this.mv.visitJumpInsn(Opcodes.GOTO, loopLabel);
-      this.mv.visitLabel(endLabel);
+      this.mv.visitLabel(condLabel);
+      generateLineNumber(node.getExpression());
+      generateBranch(node.getExpression(), true, loopLabel);
       return false;
     }
   }
@@ -1,6 +1,7 @@
 package esjc.codegen;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import esjc.type.BooleanType;
@@ -12,7 +13,6 @@ import org.eclipse.jdt.core.dom.*;
 import esjc.symboltable.ExtendedSymbolTable;
 import esjc.type.checker.ExtendedTypeTable;
 import esjc.util.Pair;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
 
@@ -20,7 +20,7 @@ import static org.objectweb.asm.Opcodes.DUP;
 
 /**
  * This class is used to translate an ExtendedStaticJava {@link CompilationUnit}
- * to {@link ExtendedClassByteCodes} that represent a Java 1.5 class files.
+ * to {@link ExtendedClassByteCodes} that represent Java class files.
  * 
  * @author <a href="mailto:robby@cis.ksu.edu">Robby</a>
  */
@@ -40,7 +40,12 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
 
     protected Visitor(final ExtendedSymbolTable st,
          final ExtendedTypeTable tt) {
-      super(st, tt);
+      this(st, tt, new Options());
+    }
+
+    protected Visitor(final ExtendedSymbolTable st,
+        final ExtendedTypeTable tt, final Options options) {
+      super(st, tt, options);
       this.classMap = st.classMap;
       this.fieldMap = st.fieldMap;
     }
@@ -50,14 +55,33 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
     @Override
     public boolean visit(PostfixExpression node){
       Expression e = node.getOperand();
-      if (e instanceof SimpleName){
+      int incVal = 1;
+      if(node.getOperator() == PostfixExpression.Operator.DECREMENT){
+        incVal = -1;
+      }
+      if (e instanceof SimpleName
+              && symbolMap.get(e) instanceof FieldDeclaration) {
+        SimpleName sn = (SimpleName) e;
+        FieldDeclaration fd = (FieldDeclaration) symbolMap.get(e);
+        String owner = ((TypeDeclaration) fd.getParent()).getName().getIdentifier();
+        if (Modifier.isStatic(fd.getModifiers())) {
+          mv.visitFieldInsn(Opcodes.GETSTATIC, owner, sn.getIdentifier(), "I");
+          generateIntConst(incVal);
+          mv.visitInsn(Opcodes.IADD);
+          mv.visitFieldInsn(Opcodes.PUTSTATIC, owner, sn.getIdentifier(), "I");
+        } else {
+          mv.visitVarInsn(Opcodes.ALOAD, 0);
+          mv.visitInsn(DUP);
+          mv.visitFieldInsn(Opcodes.GETFIELD, owner, sn.getIdentifier(), "I");
+          generateIntConst(incVal);
+          mv.visitInsn(Opcodes.IADD);
+          mv.visitFieldInsn(Opcodes.PUTFIELD, owner, sn.getIdentifier(), "I");
+        }
+      }
+      else if (e instanceof SimpleName){
         SimpleName sn = (SimpleName) e;
         String name = sn.getIdentifier();
         int indexVar = localIndexMap.get(name);
-        int incVal = 1;
-        if(node.getOperator() == PostfixExpression.Operator.DECREMENT){
-          incVal = -1;
-        }
         mv.visitIincInsn(indexVar, incVal);
       }
       else {
@@ -73,8 +97,8 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
       Label enterLoop = new Label();
       mv.visitLabel(enterLoop);
       node.getBody().accept(this);
-      node.getExpression().accept(this);
-      mv.visitJumpInsn(Opcodes.IFNE, enterLoop);
+      generateLineNumber(node.getExpression());
+      generateBranch(node.getExpression(), true, enterLoop);
       return false;
     }
 
@@ -89,29 +113,133 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
       return false;
     }
 
+    //This
+    @Override
+    public boolean visit(final ThisExpression node) {
+      this.mv.visitVarInsn(Opcodes.ALOAD, 0);
+      return false;
+    }
+
+    //Instance field reference in an instance method
+    @Override
+    public boolean visit(final SimpleName node) {
+      final Object decl = this.symbolMap.get(node);
+      if ((decl instanceof FieldDeclaration)
+              && !Modifier.isStatic(((FieldDeclaration) decl).getModifiers())) {
+        final FieldDeclaration fd = (FieldDeclaration) decl;
+        final String owner = ((TypeDeclaration) fd.getParent()).getName()
+                .getIdentifier();
+        this.mv.visitVarInsn(Opcodes.ALOAD, 0);
+        this.mv.visitFieldInsn(Opcodes.GETFIELD, owner, node.getIdentifier(),
+                convertType(this.typeMap.get(fd)));
+        return false;
+      }
+      return super.visit(node);
+    }
+
+    //Method Invocation
+    @Override
+    public boolean visit(final MethodInvocation node) {
+      final Object o = this.symbolMap.get(node);
+      if (!(o instanceof MethodDeclaration)
+              || Modifier.isStatic(((MethodDeclaration) o).getModifiers())) {
+        return super.visit(node);
+      }
+      // the classes are final, so the JIT binds this call statically
+      final MethodDeclaration md = (MethodDeclaration) o;
+      final String owner = ((TypeDeclaration) md.getParent()).getName()
+              .getIdentifier();
+      if (node.getExpression() != null) {
+        node.getExpression().accept(this);
+      } else {
+        this.mv.visitVarInsn(Opcodes.ALOAD, 0);
+      }
+      for (final Object arg : node.arguments()) {
+        ((ASTNode) arg).accept(this);
+      }
+      final Pair<Type, List<Type>> p = this.methodTypeMap.get(md);
+      this.mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner,
+              node.getName().getIdentifier(),
+              getMethodDescriptor(p), false);
+      return false;
+    }
+
     //New
     @Override
     public boolean visit(ClassInstanceCreation node){
       Type t = this.typeMap.get(node);
       this.mv.visitTypeInsn(Opcodes.NEW, t.name);
       this.mv.visitInsn(DUP);
+      String desc = "()V";
+      if (!node.arguments().isEmpty()) {
+        for (final Object o : node.arguments()) {
+          ((ASTNode) o).accept(this);
+        }
+        desc = getFieldConstructorDescriptor(
+                (TypeDeclaration) this.symbolMap.get(node));
+      }
       this.mv.visitMethodInsn(Opcodes.INVOKESPECIAL, t.name, "<init>",
-              "()V", false);
+              desc, false);
       return false;
     }
 
+    protected String getFieldConstructorDescriptor(final TypeDeclaration node) {
+      final StringBuilder sb = new StringBuilder("(");
+      for (final FieldDeclaration fd : node.getFields()) {
+        sb.append(convertType(this.typeMap.get(fd)));
+      }
+      return sb.append(")V").toString();
+    }
+
+    /**
+     * Generates the constructor that takes the initial values of all the
+     * fields of the given class, in declaration order, so that an object is
+     * created and initialized in one sequence.
+     */
+    protected void generateFieldConstructor(final TypeDeclaration node) {
+      final String className = node.getName().getIdentifier();
+      final FieldDeclaration[] fds = node.getFields();
+      this.mv = this.cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>",
+              getFieldConstructorDescriptor(node), null, null);
+      this.mv.visitCode();
+      final Label l0 = new Label();
+      this.mv.visitLabel(l0);
+      this.mv.visitVarInsn(Opcodes.ALOAD, 0);
+      this.mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object",
+              "<init>", "()V", false);
+      for (int i = 0; i < fds.length; i++) {
+        final Type t = this.typeMap.get(fds[i]);
+        this.mv.visitVarInsn(Opcodes.ALOAD, 0);
+        this.mv.visitVarInsn((t instanceof IntType) || (t instanceof BooleanType)
+                ? Opcodes.ILOAD : Opcodes.ALOAD, i + 1);
+        this.mv.visitFieldInsn(Opcodes.PUTFIELD, className, getFieldName(fds[i]),
+                convertType(t));
+      }
+      this.mv.visitInsn(Opcodes.RETURN);
+      final Label l1 = new Label();
+      this.mv.visitLabel(l1);
+      if (this.options.debug.hasVars()) {
+        this.mv.visitLocalVariable("this", "L" + className + ";", null, l0, l1,
+                0);
+        for (int i = 0; i < fds.length; i++) {
+          this.mv.visitLocalVariable(getFieldName(fds[i]),
+                  convertType(this.typeMap.get(fds[i])), null, l0, l1, i + 1);
+        }
+      }
+      this.mv.visitMaxs(2, fds.length + 1);
+      this.mv.visitEnd();
+    }
+
+    protected static String getFieldName(final FieldDeclaration fd) {
+      return ((VariableDeclarationFragment) fd.fragments().get(0)).getName()
+              .getIdentifier();
+    }
+
     //Array Access
     @Override
     public boolean visit(final ArrayAccess node) {
       Type t = this.typeMap.get(node);
-      Expression exp = node.getArray();
-
-      if (node.getArray() instanceof MethodInvocation) {
-        node.getArray().accept(this);
-      } else {
-        this.mv.visitVarInsn(Opcodes.ALOAD,
-                this.localIndexMap.get(exp.toString()));
-      }
+      node.getArray().accept(this);
       node.getIndex().accept(this);
       if (t instanceof IntType) {
         this.mv.visitInsn(Opcodes.IALOAD);
@@ -130,8 +258,7 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
       if (lhsNode instanceof ArrayAccess) {
         final ArrayAccess lhsAA = (ArrayAccess) lhsNode;
         Type t = this.typeMap.get(lhsAA);
-        this.mv.visitVarInsn(Opcodes.ALOAD,
-                this.localIndexMap.get(lhsAA.getArray().toString()));
+        lhsAA.getArray().accept(this);
         lhsAA.getIndex().accept(this);
         node.getRightHandSide().accept(this);
         if (t instanceof IntType) {
@@ -151,9 +278,19 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
                 .getName().getIdentifier(), convertType(this.typeMap
                 .get(lhsFA)));
       } else {
-        node.getRightHandSide().accept(this);
         final String varName = ((SimpleName) lhsNode).getIdentifier();
         final Object lhsDecl = this.symbolMap.get(lhsNode);
+        if ((lhsDecl instanceof FieldDeclaration)
+                && !Modifier.isStatic(((FieldDeclaration) lhsDecl).getModifiers())) {
+          final FieldDeclaration fd = (FieldDeclaration) lhsDecl;
+          this.mv.visitVarInsn(Opcodes.ALOAD, 0);
+          node.getRightHandSide().accept(this);
+          this.mv.visitFieldInsn(Opcodes.PUTFIELD,
+                  ((TypeDeclaration) fd.getParent()).getName().getIdentifier(),
+                  varName, convertType(this.typeMap.get(fd)));
+          return false;
+        }
+        node.getRightHandSide().accept(this);
         if (lhsDecl instanceof FieldDeclaration) {
           final FieldDeclaration fd = (FieldDeclaration) lhsDecl;
           final String className = ((TypeDeclaration) fd.getParent())
@@ -225,7 +362,8 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
 
     private boolean hasMainMethod(MethodDeclaration[] methods) {
         for (MethodDeclaration method : methods) {
-            if (method.toString().contains("main"))
+            if ("main".equals(method.getName().getIdentifier())
+                    && Modifier.isStatic(method.getModifiers()))
                 return true;
         }
       return false;
@@ -236,12 +374,11 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
     public boolean visit(final TypeDeclaration node) {
       if (hasMainMethod(node.getMethods()) == true) {
         this.mainClassName = node.getName().getIdentifier();
-        this.cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES
-                | ClassWriter.COMPUTE_MAXS);
-        this.cw.visit(Opcodes.V1_5, Opcodes.ACC_PUBLIC
-                        + Opcodes.ACC_SUPER, this.mainClassName, null,
+        this.cw = newClassWriter();
+        this.cw.visit(getClassVersion(), Opcodes.ACC_PUBLIC
+                        + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER, this.mainClassName, null,
                 "java/lang/Object", null);
-        this.cw.visitSource(null, null);
+        this.cw.visitSource(getSourceFile(node), null);
         generateConstructor(this.mainClassName);
         for (final Object o : node.bodyDeclarations()) {
           ((ASTNode) o).accept(this);
@@ -251,12 +388,16 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
         this.cw = null;
       }
       else {
-        this.cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES
-                | ClassWriter.COMPUTE_MAXS);
-        this.cw.visit(Opcodes.V1_5, 0, node.getName().getIdentifier(),
+        this.cw = newClassWriter();
+        // ESJ has no inheritance, so every class is final
+        this.cw.visit(getClassVersion(), Opcodes.ACC_FINAL + Opcodes.ACC_SUPER,
+                node.getName().getIdentifier(),
                 null, "java/lang/Object", null);
-        this.cw.visitSource(null, null);
+        this.cw.visitSource(getSourceFile(node), null);
         generateConstructor(node.getName().getIdentifier());
+        if (node.getFields().length > 0) {
+          generateFieldConstructor(node);
+        }
         for (final Object o : node.bodyDeclarations()) {
           ((ASTNode) o).accept(this);
         }
@@ -300,23 +441,12 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
     @Override
     public boolean visit(final InfixExpression node) {
       final InfixExpression.Operator op = node.getOperator();
-      node.getLeftOperand().accept(this);
       final Type t = this.typeMap.get(node.getLeftOperand());
-      if (op == InfixExpression.Operator.CONDITIONAL_AND) {
-        this.mv.visitInsn(Opcodes.DUP);
-        final Label falseLabel = new Label();
-        this.mv.visitJumpInsn(Opcodes.IFEQ, falseLabel);
-        this.mv.visitInsn(Opcodes.POP);
-        node.getRightOperand().accept(this);
-        this.mv.visitLabel(falseLabel);
-      } else if (op == InfixExpression.Operator.CONDITIONAL_OR) {
-        this.mv.visitInsn(Opcodes.DUP);
-        final Label trueLabel = new Label();
-        this.mv.visitJumpInsn(Opcodes.IFNE, trueLabel);
-        this.mv.visitInsn(Opcodes.POP);
-        node.getRightOperand().accept(this);
-        this.mv.visitLabel(trueLabel);
+      if ((op == InfixExpression.Operator.CONDITIONAL_AND)
+          || (op == InfixExpression.Operator.CONDITIONAL_OR)) {
+        generateBooleanValue(node);
       } else {
+        node.getLeftOperand().accept(this);
         node.getRightOperand().accept(this);
         if (op == InfixExpression.Operator.PLUS) {
           this.mv.visitInsn(Opcodes.IADD);
@@ -359,24 +489,33 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
       return false;
     }
 
+    @Override
+    protected int getRelationalOpcode(final InfixExpression node) {
+      final int opcode = super.getRelationalOpcode(node);
+      final Type t = this.typeMap.get(node.getLeftOperand());
+      if (t instanceof IntType || t instanceof BooleanType) {
+        return opcode;
+      } else if (opcode == Opcodes.IF_ICMPEQ) {
+        return Opcodes.IF_ACMPEQ;
+      } else if (opcode == Opcodes.IF_ICMPNE) {
+        return Opcodes.IF_ACMPNE;
+      }
+      return opcode;
+    }
+
     //Prefix Expression
     @Override
     public boolean visit(final PrefixExpression node) {
-      node.getOperand().accept(this);
       final PrefixExpression.Operator op = node.getOperator();
+      if (op == PrefixExpression.Operator.NOT) {
+        generateNot(node);
+        return false;
+      }
+      node.getOperand().accept(this);
       if (op == PrefixExpression.Operator.PLUS) {
         // do nothing
       } else if (op == PrefixExpression.Operator.MINUS) {
         this.mv.visitInsn(Opcodes.INEG);
-      } else if (op == PrefixExpression.Operator.NOT) {
-        final Label falseLabel = new Label();
-        final Label endLabel = new Label();
-        this.mv.visitJumpInsn(Opcodes.IFEQ, falseLabel);
-        this.mv.visitInsn(Opcodes.ICONST_0);
-        this.mv.visitJumpInsn(Opcodes.GOTO, endLabel);
-        this.mv.visitLabel(falseLabel);
-        this.mv.visitInsn(Opcodes.ICONST_1);
-        this.mv.visitLabel(endLabel);
       }
       // Added complement
       else if (op == PrefixExpression.Operator.COMPLEMENT) {
@@ -401,13 +540,15 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
 
         node.getBody().accept(this);
         if (node.updaters() != null) {
-          for (int i = 0; i < node.updaters().size(); i++)
+          for (int i = 0; i < node.updaters().size(); i++) {
+            generateLineNumber((ASTNode) node.updaters().get(i));
             ((ASTNode) node.updaters().get(i)).accept(this);
+          }
         }
         this.mv.visitLabel(end);
         if (node.getExpression() != null) {
-          node.getExpression().accept(this);
-          this.mv.visitJumpInsn(Opcodes.IFNE, loop);
+          generateLineNumber(node.getExpression());
+          generateBranch(node.getExpression(), true, loop);
         }
         else {
           this.mv.visitJumpInsn(Opcodes.GOTO, loop);
@@ -416,12 +557,14 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
         this.mv.visitLabel(loop);
         node.getBody().accept(this);
         if (node.updaters() != null) {
-          for (int i = 0; i < node.updaters().size(); i++)
+          for (int i = 0; i < node.updaters().size(); i++) {
+            generateLineNumber((ASTNode) node.updaters().get(i));
             ((ASTNode) node.updaters().get(i)).accept(this);
+          }
         }
         if (node.getExpression() != null) {
-          node.getExpression().accept(this);
-          this.mv.visitJumpInsn(Opcodes.IFNE, loop);
+          generateLineNumber(node.getExpression());
+          generateBranch(node.getExpression(), true, loop);
         }
         else {
           this.mv.visitJumpInsn(Opcodes.GOTO, loop);
@@ -460,9 +603,34 @@ public class ExtendedByteCodeGenerator extends ByteCodeGenerator {
   public static ExtendedClassByteCodes generate( final CompilationUnit cu,
       final ExtendedSymbolTable est,
       final ExtendedTypeTable ett) throws ByteCodeGenerator.Error {
+    return generate(cu, est, ett, new Options());
+  }
+
+  /**
+   * Generates a {@link ExtendedClassByteCodes} as
+   * {@link #generate(CompilationUnit, ExtendedSymbolTable, ExtendedTypeTable)}
+   * does, with the given {@link ByteCodeGenerator.Options}.
+   */
+  public static ExtendedClassByteCodes generate(final CompilationUnit cu,
+      final ExtendedSymbolTable est, final ExtendedTypeTable ett,
+      final Options options) throws ByteCodeGenerator.Error {
+    return generate(cu, est, ett, options, null);
+  }
+
+  /**
+   * Generates a {@link ExtendedClassByteCodes} as
+   * {@link #generate(CompilationUnit, ExtendedSymbolTable, ExtendedTypeTable, Options)}
+   * does, counting the local slots of the methods in the given
+   * {@link LocalAllocator.Statistics}, unless they are null.
+   */
+  public static ExtendedClassByteCodes generate(final CompilationUnit cu,
+      final ExtendedSymbolTable est, final ExtendedTypeTable ett,
+      final Options options, final LocalAllocator.Statistics slots)
+      throws ByteCodeGenerator.Error {
     assert (cu != null) && (est != null) && (ett != null);
 
-    final Visitor v = new Visitor(est, ett);
+    final Visitor v = new Visitor(est, ett, options);
+    v.slotStatistics = slots;
     cu.accept(v);
     final ExtendedClassByteCodes result = new ExtendedClassByteCodes(
         v.mainClassName, v.mainClassBytes, v.otherClasses);
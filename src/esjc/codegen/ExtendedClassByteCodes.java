@@ -7,7 +7,7 @@ import esjc.util.Util;
 public class ExtendedClassByteCodes extends ClassByteCodes {
   public final Map<String, byte[]> otherClasses;
 
-  protected ExtendedClassByteCodes(final String mainClassName,
+  public ExtendedClassByteCodes(final String mainClassName,
        final byte[] mainClassBytes,
       final Map<String, byte[]> otherClasses) {
     super(mainClassName, mainClassBytes);
@@ -0,0 +1,511 @@
+package esjc.codegen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * This class is a {@link MethodVisitor} that computes the stack map frames and
+ * the maximum stack size of the code it forwards, so that the
+ * {@link org.objectweb.asm.ClassWriter} does not have to run its own
+ * dataflow analysis ({@code COMPUTE_FRAMES}).
+ * <p>
+ * It relies on how the code generator lays out methods: every local variable
+ * has one declared type and is initialized on entry, so the locals of every
+ * frame are the same, and only the operand stack is simulated. A label
+ * reached by a jump gets the stack of that jump; a label that follows an
+ * unconditional transfer and is not the target of a forward jump is assumed
+ * to start a statement, i.e., to have an empty stack (loop heads). Code that
+ * cannot be reached otherwise is dropped. A frame is emitted at every label
+ * that is followed by an instruction, as it may be the target of a backward
+ * jump visited later.
+ */
+public class FrameTracker extends MethodVisitor {
+  /**
+   * Holds the frame types of the local variables.
+   */
+  protected final Object[] locals;
+
+  /**
+   * Holds the frame types of the operand stack at the current instruction.
+   */
+  protected List<Object> stack = new ArrayList<>();
+
+  /**
+   * Holds the stack at each label visited or jumped to so far.
+   */
+  protected final Map<Label, List<Object>> labelStacks = new HashMap<>();
+
+  /**
+   * Holds whether the current instruction can be reached.
+   */
+  protected boolean reachable = true;
+
+  /**
+   * Holds whether a frame has to be emitted before the next instruction.
+   */
+  protected boolean framePending;
+
+  /**
+   * Holds the maximum stack size seen so far.
+   */
+  protected int maxStack;
+
+  /**
+   * Constructs a frame tracker.
+   *
+   * @param mv
+   *          The {@link MethodVisitor} the code is forwarded to.
+   * @param locals
+   *          The frame types of the local variables, see
+   *          {@link #frameType(String)}.
+   */
+  public FrameTracker(final MethodVisitor mv, final Object[] locals) {
+    super(Opcodes.ASM9, mv);
+    this.locals = locals;
+  }
+
+  /**
+   * Returns the frame type of a value of the given descriptor: INTEGER for
+   * int and boolean, the internal name for classes, and the descriptor for
+   * arrays.
+   */
+  public static Object frameType(final String desc) {
+    switch (desc.charAt(0)) {
+      case 'Z':
+      case 'B':
+      case 'C':
+      case 'S':
+      case 'I':
+        return Opcodes.INTEGER;
+      case 'L':
+        return desc.substring(1, desc.length() - 1);
+      case '[':
+        return desc;
+      default:
+        throw new IllegalArgumentException("Unsupported type: " + desc);
+    }
+  }
+
+  /**
+   * Emits the pending frame, if any; returns whether the current instruction
+   * can be reached (otherwise it is dropped).
+   */
+  protected boolean emit() {
+    if (!this.reachable) {
+      return false;
+    }
+    if (this.framePending) {
+      this.framePending = false;
+      this.mv.visitFrame(Opcodes.F_NEW, this.locals.length,
+          this.locals.clone(), this.stack.size(), this.stack.toArray());
+    }
+    return true;
+  }
+
+  protected void push(final Object type) {
+    this.stack.add(type);
+    this.maxStack = Math.max(this.maxStack, this.stack.size());
+  }
+
+  protected Object pop() {
+    return this.stack.remove(this.stack.size() - 1);
+  }
+
+  protected void pop(final int n) {
+    for (int i = 0; i < n; i++) {
+      pop();
+    }
+  }
+
+  protected void unreachable() {
+    this.reachable = false;
+    this.stack = new ArrayList<>();
+  }
+
+  /**
+   * Records the current stack as the one at the given label.
+   */
+  protected void jumpTo(final Label label) {
+    final List<Object> s = this.labelStacks.get(label);
+    if (s == null) {
+      this.labelStacks.put(label, new ArrayList<>(this.stack));
+    } else if (!s.equals(this.stack)) {
+      throw new IllegalStateException("Inconsistent stack at jump target: "
+          + s + " vs. " + this.stack);
+    }
+  }
+
+  @Override
+  public void visitLabel(final Label label) {
+    this.mv.visitLabel(label);
+    final List<Object> s = this.labelStacks.get(label);
+    if (s != null) {
+      if (this.reachable && !s.equals(this.stack)) {
+        throw new IllegalStateException("Inconsistent stack at label: " + s
+            + " vs. " + this.stack);
+      }
+      this.stack = new ArrayList<>(s);
+      this.reachable = true;
+    } else {
+      if (!this.reachable) {
+        this.stack = new ArrayList<>();
+        this.reachable = true;
+      }
+      this.labelStacks.put(label, new ArrayList<>(this.stack));
+    }
+    this.framePending = true;
+  }
+
+  /**
+   * Visits a label that is never jumped to, such as the start of a line
+   * number or of a local variable range; unlike
+   * {@link #visitLabel(Label)}, no frame is emitted for it.
+   */
+  public void visitDebugLabel(final Label label) {
+    this.mv.visitLabel(label);
+  }
+
+  @Override
+  public void visitFrame(final int type, final int numLocal,
+      final Object[] local, final int numStack, final Object[] stack) {
+    // frames are computed here
+  }
+
+  @Override
+  public void visitInsn(final int opcode) {
+    if (!emit()) {
+      return;
+    }
+    switch (opcode) {
+      case Opcodes.NOP:
+        break;
+      case Opcodes.ACONST_NULL:
+        push(Opcodes.NULL);
+        break;
+      case Opcodes.ICONST_M1:
+      case Opcodes.ICONST_0:
+      case Opcodes.ICONST_1:
+      case Opcodes.ICONST_2:
+      case Opcodes.ICONST_3:
+      case Opcodes.ICONST_4:
+      case Opcodes.ICONST_5:
+        push(Opcodes.INTEGER);
+        break;
+      case Opcodes.IALOAD:
+      case Opcodes.BALOAD:
+      case Opcodes.CALOAD:
+      case Opcodes.SALOAD:
+        pop(2);
+        push(Opcodes.INTEGER);
+        break;
+      case Opcodes.AALOAD: {
+        pop();
+        final Object array = pop();
+        push(array instanceof String
+            ? FrameTracker.frameType(((String) array).substring(1))
+            : Opcodes.NULL);
+        break;
+      }
+      case Opcodes.IASTORE:
+      case Opcodes.BASTORE:
+      case Opcodes.CASTORE:
+      case Opcodes.SASTORE:
+      case Opcodes.AASTORE:
+        pop(3);
+        break;
+      case Opcodes.POP:
+        pop();
+        break;
+      case Opcodes.DUP:
+        push(this.stack.get(this.stack.size() - 1));
+        break;
+      case Opcodes.SWAP: {
+        final Object v1 = pop();
+        final Object v2 = pop();
+        push(v1);
+        push(v2);
+        break;
+      }
+      case Opcodes.IADD:
+      case Opcodes.ISUB:
+      case Opcodes.IMUL:
+      case Opcodes.IDIV:
+      case Opcodes.IREM:
+      case Opcodes.ISHL:
+      case Opcodes.ISHR:
+      case Opcodes.IUSHR:
+      case Opcodes.IAND:
+      case Opcodes.IOR:
+      case Opcodes.IXOR:
+        pop(2);
+        push(Opcodes.INTEGER);
+        break;
+      case Opcodes.INEG:
+      case Opcodes.I2B:
+      case Opcodes.I2C:
+      case Opcodes.I2S:
+      case Opcodes.ARRAYLENGTH:
+        pop();
+        push(Opcodes.INTEGER);
+        break;
+      case Opcodes.IRETURN:
+      case Opcodes.ARETURN:
+      case Opcodes.RETURN:
+      case Opcodes.ATHROW:
+        this.mv.visitInsn(opcode);
+        unreachable();
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported opcode: " + opcode);
+    }
+    this.mv.visitInsn(opcode);
+  }
+
+  @Override
+  public void visitIntInsn(final int opcode, final int operand) {
+    if (!emit()) {
+      return;
+    }
+    if (opcode == Opcodes.NEWARRAY) {
+      pop();
+      switch (operand) {
+        case Opcodes.T_BOOLEAN:
+          push("[Z");
+          break;
+        case Opcodes.T_CHAR:
+          push("[C");
+          break;
+        case Opcodes.T_BYTE:
+          push("[B");
+          break;
+        case Opcodes.T_SHORT:
+          push("[S");
+          break;
+        case Opcodes.T_INT:
+          push("[I");
+          break;
+        default:
+          throw new IllegalArgumentException("Unsupported array type: "
+              + operand);
+      }
+    } else {
+      push(Opcodes.INTEGER);
+    }
+    this.mv.visitIntInsn(opcode, operand);
+  }
+
+  @Override
+  public void visitVarInsn(final int opcode, final int var) {
+    if (!emit()) {
+      return;
+    }
+    switch (opcode) {
+      case Opcodes.ILOAD:
+        push(Opcodes.INTEGER);
+        break;
+      case Opcodes.ALOAD:
+        push(this.locals[var]);
+        break;
+      case Opcodes.ISTORE:
+      case Opcodes.ASTORE:
+        pop();
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported opcode: " + opcode);
+    }
+    this.mv.visitVarInsn(opcode, var);
+  }
+
+  @Override
+  public void visitTypeInsn(final int opcode, final String type) {
+    if (!emit()) {
+      return;
+    }
+    switch (opcode) {
+      case Opcodes.NEW: {
+        // an uninitialized value is identified by the label of its NEW
+        final Label label = new Label();
+        this.mv.visitLabel(label);
+        push(label);
+        break;
+      }
+      case Opcodes.ANEWARRAY:
+        pop();
+        push(type.charAt(0) == '[' ? "[" + type : "[L" + type + ";");
+        break;
+      case Opcodes.CHECKCAST:
+        pop();
+        push(type);
+        break;
+      case Opcodes.INSTANCEOF:
+        pop();
+        push(Opcodes.INTEGER);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported opcode: " + opcode);
+    }
+    this.mv.visitTypeInsn(opcode, type);
+  }
+
+  @Override
+  public void visitFieldInsn(final int opcode, final String owner,
+      final String name, final String desc) {
+    if (!emit()) {
+      return;
+    }
+    switch (opcode) {
+      case Opcodes.GETSTATIC:
+        push(FrameTracker.frameType(desc));
+        break;
+      case Opcodes.PUTSTATIC:
+        pop();
+        break;
+      case Opcodes.GETFIELD:
+        pop();
+        push(FrameTracker.frameType(desc));
+        break;
+      case Opcodes.PUTFIELD:
+        pop(2);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported opcode: " + opcode);
+    }
+    this.mv.visitFieldInsn(opcode, owner, name, desc);
+  }
+
+  @Override
+  public void visitMethodInsn(final int opcode, final String owner,
+      final String name, final String desc, final boolean isInterface) {
+    if (!emit()) {
+      return;
+    }
+    pop(Type.getArgumentTypes(desc).length);
+    if (opcode != Opcodes.INVOKESTATIC) {
+      final Object receiver = pop();
+      if ("<init>".equals(name) && (receiver instanceof Label)) {
+        for (int i = 0; i < this.stack.size(); i++) {
+          if (this.stack.get(i) == receiver) {
+            this.stack.set(i, owner);
+          }
+        }
+      }
+    }
+    final Type returnType = Type.getReturnType(desc);
+    if (returnType != Type.VOID_TYPE) {
+      push(FrameTracker.frameType(returnType.getDescriptor()));
+    }
+    this.mv.visitMethodInsn(opcode, owner, name, desc, isInterface);
+  }
+
+  @Override
+  public void visitInvokeDynamicInsn(final String name, final String desc,
+      final Handle bsm, final Object... bsmArgs) {
+    throw new IllegalArgumentException("Unsupported instruction: invokedynamic");
+  }
+
+  @Override
+  public void visitJumpInsn(final int opcode, final Label label) {
+    if (!emit()) {
+      return;
+    }
+    switch (opcode) {
+      case Opcodes.GOTO:
+        break;
+      case Opcodes.IF_ICMPEQ:
+      case Opcodes.IF_ICMPNE:
+      case Opcodes.IF_ICMPLT:
+      case Opcodes.IF_ICMPGE:
+      case Opcodes.IF_ICMPGT:
+      case Opcodes.IF_ICMPLE:
+      case Opcodes.IF_ACMPEQ:
+      case Opcodes.IF_ACMPNE:
+        pop(2);
+        break;
+      case Opcodes.IFEQ:
+      case Opcodes.IFNE:
+      case Opcodes.IFLT:
+      case Opcodes.IFGE:
+      case Opcodes.IFGT:
+      case Opcodes.IFLE:
+      case Opcodes.IFNULL:
+      case Opcodes.IFNONNULL:
+        pop();
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported opcode: " + opcode);
+    }
+    jumpTo(label);
+    this.mv.visitJumpInsn(opcode, label);
+    if (opcode == Opcodes.GOTO) {
+      unreachable();
+    }
+  }
+
+  @Override
+  public void visitLdcInsn(final Object value) {
+    if (!emit()) {
+      return;
+    }
+    if (value instanceof Integer) {
+      push(Opcodes.INTEGER);
+    } else if (value instanceof String) {
+      push("java/lang/String");
+    } else {
+      throw new IllegalArgumentException("Unsupported constant: " + value);
+    }
+    this.mv.visitLdcInsn(value);
+  }
+
+  @Override
+  public void visitIincInsn(final int var, final int increment) {
+    if (emit()) {
+      this.mv.visitIincInsn(var, increment);
+    }
+  }
+
+  @Override
+  public void visitTableSwitchInsn(final int min, final int max,
+      final Label dflt, final Label... labels) {
+    throw new IllegalArgumentException("Unsupported instruction: tableswitch");
+  }
+
+  @Override
+  public void visitLookupSwitchInsn(final Label dflt, final int[] keys,
+      final Label[] labels) {
+    throw new IllegalArgumentException("Unsupported instruction: lookupswitch");
+  }
+
+  @Override
+  public void visitMultiANewArrayInsn(final String desc, final int dims) {
+    if (!emit()) {
+      return;
+    }
+    pop(dims);
+    push(desc);
+    this.mv.visitMultiANewArrayInsn(desc, dims);
+  }
+
+  /**
+   * Forwards the computed maximum stack size and number of locals instead of
+   * the given ones.
+   */
+  @Override
+  public void visitMaxs(final int maxStack, final int maxLocals) {
+    this.mv.visitMaxs(this.maxStack, this.locals.length);
+  }
+
+  @Override
+  public String toString() {
+    return "locals: " + Arrays.toString(this.locals) + ", stack: "
+        + this.stack;
+  }
+}
@@ -0,0 +1,300 @@
+package esjc.codegen;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import optim.ControlFlowGraph;
+import optim.Insn;
+import optim.LocalLiveness;
+import optim.MethodBuffer;
+
+/**
+ * This class is a {@link MethodVisitor} that packs the local variables of a
+ * method into fewer slots. The code generator gives each declared local its
+ * own slot; this visitor holds back the method, computes the liveness of the
+ * locals on its bytecode, and gives locals of the same frame type that are
+ * never live at the same time a shared slot. The parameters keep their
+ * slots.
+ * <p>
+ * As every local keeps its type in its slot, the frames of a
+ * {@link FrameTracker} ahead of this visitor stay valid once their locals are
+ * renumbered. The local variable table entry of a local that shares a slot
+ * is split into the ranges where the slot holds its value.
+ */
+public class LocalAllocator extends MethodBuffer {
+  /**
+   * The number of local slots of the methods of one compilation, before and
+   * after allocation.
+   */
+  public static class Statistics {
+    long slotsBefore;
+
+    long slotsAfter;
+
+    public long getSlotsBefore() {
+      return this.slotsBefore;
+    }
+
+    public long getSlotsAfter() {
+      return this.slotsAfter;
+    }
+  }
+
+  /**
+   * Holds the frame types of the locals, by their original slots.
+   */
+  protected final Object[] kinds;
+
+  /**
+   * Holds the number of parameter slots.
+   */
+  protected final int numParams;
+
+  /**
+   * Holds the statistics the slots of the method are counted in, or null.
+   */
+  protected final Statistics statistics;
+
+  /**
+   * Constructs a local allocator.
+   *
+   * @param mv
+   *          The {@link MethodVisitor} the renumbered code is forwarded to.
+   * @param kinds
+   *          The frame types of the locals (see
+   *          {@link FrameTracker#frameType(String)}), by their original
+   *          slots.
+   * @param numParams
+   *          The number of parameter slots.
+   * @param statistics
+   *          The statistics the slots of the method are counted in, or null.
+   */
+  public LocalAllocator(final MethodVisitor mv, final int access,
+      final String name, final String desc, final Object[] kinds,
+      final int numParams, final Statistics statistics) {
+    super(mv, access, name, desc);
+    this.kinds = kinds;
+    this.numParams = numParams;
+    this.statistics = statistics;
+  }
+
+  @Override
+  protected void end() {
+    final int n = this.kinds.length;
+    final ControlFlowGraph cfg = new ControlFlowGraph(this.code);
+    final LocalLiveness liveness = new LocalLiveness(cfg);
+    final BitSet[] interference = interference(cfg, liveness);
+
+    final int[] slots = new int[n];
+    final List<Object> slotKinds = new ArrayList<>();
+    final List<BitSet> slotLocals = new ArrayList<>();
+    for (int v = 0; v < n; v++) {
+      int s = v < this.numParams ? v : this.numParams;
+      while ((s < slotKinds.size()) && (v >= this.numParams)
+          && (!Objects.equals(slotKinds.get(s), this.kinds[v])
+              || slotLocals.get(s).intersects(interference[v]))) {
+        s++;
+      }
+      if (s == slotKinds.size()) {
+        slotKinds.add(this.kinds[v]);
+        slotLocals.add(new BitSet());
+      }
+      slots[v] = s;
+      slotLocals.get(s).set(v);
+    }
+    if (this.statistics != null) {
+      this.statistics.slotsBefore += n;
+      this.statistics.slotsAfter += slotKinds.size();
+    }
+
+    final Map<Integer, List<Label>> rangeLabels = new HashMap<>();
+    final List<LocalVariable> lvs = new ArrayList<>();
+    for (final LocalVariable lv : this.localVariables) {
+      if (lv.index < this.numParams) {
+        lvs.add(lv);
+      } else if (lv.index < n) {
+        final BitSet others = (BitSet) slotLocals.get(slots[lv.index])
+            .clone();
+        others.clear(lv.index);
+        addRanges(lv, slots[lv.index], others, liveness, rangeLabels, lvs);
+      }
+    }
+    this.localVariables.clear();
+    this.localVariables.addAll(lvs);
+
+    final List<Insn> result = new ArrayList<>(this.code.size());
+    final BitSet initialized = new BitSet();
+    boolean entry = true;
+    for (int i = 0; i < this.code.size(); i++) {
+      addLabels(rangeLabels.get(i), result);
+      final Insn insn = renumber(this.code.get(i), slots, slotKinds.size());
+      entry = entry && (!insn.isInstruction() || isInitializer(insn));
+      if (entry && isStore(insn) && initialized.get(insn.operand)) {
+        // the slot already holds the zero or null stored here
+        int j = result.size() - 1;
+        while (!result.get(j).isInstruction()) {
+          j--;
+        }
+        result.remove(j);
+        continue;
+      }
+      if (entry && isStore(insn)) {
+        initialized.set(insn.operand);
+      }
+      result.add(insn);
+    }
+    addLabels(rangeLabels.get(this.code.size()), result);
+    this.code = result;
+    this.maxLocals = slotKinds.size();
+    accept(this.mv);
+  }
+
+  /**
+   * Returns, for each local, the locals it cannot share a slot with: the ones
+   * live where it is written, and the ones live on entry if it is.
+   */
+  protected BitSet[] interference(final ControlFlowGraph cfg,
+      final LocalLiveness liveness) {
+    final int n = this.kinds.length;
+    final BitSet[] result = new BitSet[n];
+    for (int v = 0; v < n; v++) {
+      result[v] = new BitSet();
+    }
+    final BitSet entry = new BitSet();
+    entry.set(0, this.numParams);
+    if (!cfg.blocks.isEmpty()) {
+      entry.or(liveness.liveIn(cfg.blocks.get(0)));
+    }
+    for (int v = entry.nextSetBit(0); v >= 0; v = entry.nextSetBit(v + 1)) {
+      result[v].or(entry);
+    }
+    for (int i = 0; i < this.code.size(); i++) {
+      final Insn insn = this.code.get(i);
+      if (isStore(insn)) {
+        final BitSet live = liveness.liveAfter(i);
+        result[insn.operand].or(live);
+        for (int u = live.nextSetBit(0); u >= 0; u = live.nextSetBit(u + 1)) {
+          result[u].set(insn.operand);
+        }
+      }
+    }
+    for (int v = 0; v < n; v++) {
+      result[v].clear(v);
+    }
+    return result;
+  }
+
+  /**
+   * Returns whether the given instruction may be part of the local
+   * initializers that start a method.
+   */
+  protected static boolean isInitializer(final Insn insn) {
+    return (insn.opcode == Opcodes.ICONST_0)
+        || (insn.opcode == Opcodes.ACONST_NULL)
+        || (insn.opcode == Opcodes.ISTORE) || (insn.opcode == Opcodes.ASTORE);
+  }
+
+  protected static boolean isStore(final Insn insn) {
+    return ((insn.kind == Insn.VAR_INSN) && (insn.opcode >= Opcodes.ISTORE)
+        && (insn.opcode <= Opcodes.ASTORE)) || (insn.kind == Insn.IINC_INSN);
+  }
+
+  /**
+   * Returns whether the value of the given local is in its slot when the
+   * instruction at the given code index is executed.
+   */
+  protected boolean isLiveBefore(final int codeIndex, final int v,
+      final LocalLiveness liveness) {
+    final Insn insn = this.code.get(codeIndex);
+    if (((insn.kind == Insn.VAR_INSN) || (insn.kind == Insn.IINC_INSN))
+        && (insn.operand == v)) {
+      return (insn.kind == Insn.IINC_INSN) || !isStore(insn);
+    }
+    return liveness.isLiveAfter(codeIndex, v);
+  }
+
+  /**
+   * Adds the local variable table entries of the given local to the given
+   * list: one for each run of instructions from a point where it is live up
+   * to its last use before one of the other locals of its slot is live.
+   */
+  protected void addRanges(final LocalVariable lv, final int slot,
+      final BitSet others, final LocalLiveness liveness,
+      final Map<Integer, List<Label>> rangeLabels,
+      final List<LocalVariable> lvs) {
+    int start = -1;
+    int last = -1;
+    for (int i = 0; i <= this.code.size(); i++) {
+      if ((i < this.code.size()) && !this.code.get(i).isInstruction()) {
+        continue;
+      }
+      boolean blocked = i == this.code.size();
+      for (int u = others.nextSetBit(0); !blocked && (u >= 0); u = others
+          .nextSetBit(u + 1)) {
+        blocked = isLiveBefore(i, u, liveness);
+      }
+      if (blocked) {
+        if (start >= 0) {
+          final Label startLabel = new Label();
+          final Label endLabel = new Label();
+          rangeLabels.computeIfAbsent(start, k -> new ArrayList<>())
+              .add(startLabel);
+          rangeLabels.computeIfAbsent(last + 1, k -> new ArrayList<>())
+              .add(endLabel);
+          lvs.add(new LocalVariable(lv.name, lv.desc, lv.signature,
+              startLabel, endLabel, slot));
+          start = -1;
+        }
+      } else if (isLiveBefore(i, lv.index, liveness)) {
+        if (start < 0) {
+          start = i;
+        }
+        last = i;
+      }
+    }
+  }
+
+  protected static void addLabels(final List<Label> labels,
+      final List<Insn> code) {
+    if (labels != null) {
+      for (final Label l : labels) {
+        code.add(Insn.label(l));
+      }
+    }
+  }
+
+  /**
+   * Returns the given instruction with its locals renumbered to the given
+   * slots.
+   */
+  protected static Insn renumber(final Insn insn, final int[] slots,
+      final int numSlots) {
+    switch (insn.kind) {
+      case Insn.VAR_INSN:
+        return Insn.varInsn(insn.opcode, slots[insn.operand]);
+      case Insn.IINC_INSN:
+        return Insn.iincInsn(slots[insn.operand], insn.operand2);
+      case Insn.FRAME:
+        if (insn.operand != Opcodes.F_NEW) {
+          return insn;
+        }
+        final Object[] local = (Object[]) insn.value;
+        final Object[] newLocal = new Object[numSlots];
+        for (int i = 0; i < insn.operand2; i++) {
+          newLocal[slots[i]] = local[i];
+        }
+        return Insn.frame(Opcodes.F_NEW, numSlots, newLocal, insn.operand3,
+            insn.values);
+      default:
+        return insn;
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package esjc.driver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import esjc.codegen.ExtendedClassByteCodes;
+
+/**
+ * This class is an on-disk cache of compilation results. An entry is keyed by
+ * the SHA-256 hash of the class files of the compiler, the options that affect
+ * the output, and the source text, so a file is only recompiled when one of
+ * them changes. Failed compilations are cached too (their diagnostics), so that
+ * files with errors are not recompiled either.
+ * <p>
+ * Each entry is written to a temporary file and then moved in place, so
+ * concurrent compilers sharing a cache directory never see a partial entry.
+ */
+public class CompilationCache {
+  /**
+   * The version of the entry format.
+   */
+  static final int FORMAT = 1;
+
+  /**
+   * Holds the SHA-256 hash of the class files of the compiler (see
+   * {@link #compilerHash()}), computed once.
+   */
+  public static final String COMPILER_HASH = CompilationCache.compilerHash();
+
+  /**
+   * Holds the directory the entries are stored in.
+   */
+  protected final File dir;
+
+  /**
+   * Holds the number of lookups that found an entry.
+   */
+  protected final AtomicInteger hits = new AtomicInteger();
+
+  /**
+   * Holds the number of lookups that did not find an entry.
+   */
+  protected final AtomicInteger misses = new AtomicInteger();
+
+  public CompilationCache(final File dir) {
+    this.dir = dir;
+  }
+
+  /**
+   * Returns the cache key of the given source compiled with the given
+   * options key (see {@link EsjCompiler.Options#key()}).
+   */
+  public static String key(final String optionsKey, final byte[] source) {
+    try {
+      final MessageDigest md = MessageDigest.getInstance("SHA-256");
+      md.update(
+          (CompilationCache.COMPILER_HASH + '\0' + CompilationCache.FORMAT
+              + '\0' + optionsKey + '\0').getBytes(StandardCharsets.UTF_8));
+      md.update(source);
+      return CompilationCache.hex(md.digest());
+    } catch (final NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Returns the SHA-256 hash of the names and contents of the class files of
+   * the compiler (the {@code esjc} and {@code optim} packages, but not the
+   * tests), read from the directory or jar file {@link EsjCompiler} was
+   * loaded from. Any change to the compiler thus changes every cache key. If
+   * the class files cannot be read, a random string is returned, so that
+   * entries are only shared within this run.
+   */
+  static String compilerHash() {
+    try {
+      final MessageDigest md = MessageDigest.getInstance("SHA-256");
+      final Path root = Paths.get(EsjCompiler.class.getProtectionDomain()
+          .getCodeSource().getLocation().toURI());
+      if (Files.isDirectory(root)) {
+        final List<Path> files;
+        try (Stream<Path> s = Files.walk(root)) {
+          files = s.filter(Files::isRegularFile).sorted()
+              .collect(Collectors.toList());
+        }
+        for (final Path f : files) {
+          final String name = root.relativize(f).toString()
+              .replace(File.separatorChar, '/');
+          if (CompilationCache.isCompilerClass(name)) {
+            md.update(name.getBytes(StandardCharsets.UTF_8));
+            md.update(Files.readAllBytes(f));
+          }
+        }
+      } else {
+        try (JarFile jar = new JarFile(root.toFile())) {
+          final List<JarEntry> entries = Collections.list(jar.entries());
+          entries.sort((e1, e2) -> e1.getName().compareTo(e2.getName()));
+          for (final JarEntry e : entries) {
+            if (CompilationCache.isCompilerClass(e.getName())) {
+              md.update(e.getName().getBytes(StandardCharsets.UTF_8));
+              try (InputStream in = jar.getInputStream(e)) {
+                md.update(in.readAllBytes());
+              }
+            }
+          }
+        }
+      }
+      return CompilationCache.hex(md.digest());
+    } catch (final Exception e) {
+      return UUID.randomUUID().toString();
+    }
+  }
+
+  static boolean isCompilerClass(final String name) {
+    return name.endsWith(".class")
+        && (name.startsWith("esjc/") || name.startsWith("optim/"))
+        && !name.startsWith("esjc/test/");
+  }
+
+  static String hex(final byte[] bytes) {
+    final StringBuilder sb = new StringBuilder();
+    for (final byte b : bytes) {
+      sb.append(String.format("%02x", b));
+    }
+    return sb.toString();
+  }
+
+  protected Path file(final String key) {
+    return new File(this.dir, key + ".esjc").toPath();
+  }
+
+  /**
+   * Returns the cached result for the given key, with its diagnostics
+   * reported against the given path, or null if there is none (or it cannot
+   * be read).
+   */
+  public EsjCompiler.Result get(final String key, final String path) {
+    final byte[] data;
+    try {
+      data = Files.readAllBytes(file(key));
+    } catch (final IOException e) {
+      this.misses.incrementAndGet();
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(
+        new ByteArrayInputStream(data))) {
+      if (in.readInt() != CompilationCache.FORMAT) {
+        this.misses.incrementAndGet();
+        return null;
+      }
+      ExtendedClassByteCodes ecbc = null;
+      final List<EsjCompiler.Diagnostic> diagnostics = new ArrayList<>();
+      if (in.readBoolean()) {
+        final String mainClassName = in.readUTF();
+        final byte[] mainClassBytes = CompilationCache.readBytes(in);
+        final int n = in.readInt();
+        final Map<String, byte[]> others = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+          final String name = in.readUTF();
+          others.put(name, CompilationCache.readBytes(in));
+        }
+        ecbc = new ExtendedClassByteCodes(mainClassName, mainClassBytes,
+            others);
+      }
+      final int n = in.readInt();
+      for (int i = 0; i < n; i++) {
+        final String phase = in.readUTF();
+        diagnostics.add(new EsjCompiler.Diagnostic(path, phase, in.readUTF()));
+      }
+      this.hits.incrementAndGet();
+      return new EsjCompiler.Result(path, ecbc, diagnostics, 0, true);
+    } catch (final IOException e) {
+      this.misses.incrementAndGet();
+      return null;
+    }
+  }
+
+  static byte[] readBytes(final DataInputStream in) throws IOException {
+    final byte[] b = new byte[in.readInt()];
+    in.readFully(b);
+    return b;
+  }
+
+  /**
+   * Stores the given result under the given key; failures to write the
+   * cache are ignored (the next run simply recompiles).
+   */
+  public void put(final String key, final EsjCompiler.Result result) {
+    try {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        out.writeInt(CompilationCache.FORMAT);
+        out.writeBoolean(result.isSuccess());
+        if (result.isSuccess()) {
+          out.writeUTF(result.bytecodes.mainClassName);
+          out.writeInt(result.bytecodes.mainClassBytes.length);
+          out.write(result.bytecodes.mainClassBytes);
+          out.writeInt(result.bytecodes.otherClasses.size());
+          for (final Map.Entry<String, byte[]> e : result.bytecodes.otherClasses
+              .entrySet()) {
+            out.writeUTF(e.getKey());
+            out.writeInt(e.getValue().length);
+            out.write(e.getValue());
+          }
+        }
+        out.writeInt(result.diagnostics.size());
+        for (final EsjCompiler.Diagnostic d : result.diagnostics) {
+          out.writeUTF(d.phase);
+          out.writeUTF(d.message);
+        }
+      }
+      Files.createDirectories(this.dir.toPath());
+      final Path tmp = Files.createTempFile(this.dir.toPath(), key, ".tmp");
+      Files.write(tmp, bytes.toByteArray());
+      Files.move(tmp, file(key), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      // the cache is an optimization only
+    }
+  }
+
+  public int getHits() {
+    return this.hits.get();
+  }
+
+  public int getMisses() {
+    return this.misses.get();
+  }
+}
@@ -0,0 +1,45 @@
+package esjc.driver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import esjc.codegen.ExtendedClassByteCodes;
+
+/**
+ * This class loader defines the classes of one compiled program straight from
+ * their bytecodes. Each program gets its own loader, so programs defining the
+ * same class names do not clash, and a program's classes can be unloaded as
+ * soon as nothing refers to them; the bytecodes of a class are dropped once
+ * it is defined.
+ */
+public class EsjClassLoader extends ClassLoader {
+  static {
+    ClassLoader.registerAsParallelCapable();
+  }
+
+  /**
+   * Holds the bytecodes of the classes not defined yet, by class name.
+   */
+  protected final Map<String, byte[]> classes;
+
+  public EsjClassLoader(final ClassLoader parent,
+      final Map<String, byte[]> classes) {
+    super(parent);
+    this.classes = new ConcurrentHashMap<>(classes);
+  }
+
+  public EsjClassLoader(final ExtendedClassByteCodes ecbc) {
+    this(EsjClassLoader.class.getClassLoader(), ecbc.otherClasses);
+    this.classes.put(ecbc.mainClassName, ecbc.mainClassBytes);
+  }
+
+  @Override
+  protected Class<?> findClass(final String name)
+      throws ClassNotFoundException {
+    final byte[] b = this.classes.remove(name);
+    if (b == null) {
+      throw new ClassNotFoundException(name);
+    }
+    return defineClass(name, b, 0, b.length);
+  }
+}
@@ -0,0 +1,634 @@
+package esjc.driver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import esjc.ast.ExtendedStaticJavaASTBuilder;
+import esjc.codegen.ByteCodeGenerator;
+import esjc.codegen.ExtendedByteCodeGenerator;
+import esjc.codegen.LocalAllocator;
+import esjc.codegen.ExtendedClassByteCodes;
+import esjc.parser.ExtendedParserUtil;
+import esjc.parser.ExtendedParserUtil.ParseMode;
+import esjc.parser.ExtendedStaticJavaParser.CompilationUnitContext;
+import esjc.symboltable.ExtendedSymbolTable;
+import esjc.symboltable.ExtendedSymbolTableBuilder;
+import esjc.type.TypeFactory;
+import esjc.type.checker.ExtendedTypeChecker;
+import esjc.type.checker.ExtendedTypeTable;
+import optim.Inliner;
+import optim.LoopOptimizer;
+import optim.PassManager;
+import optim.PassStatistics;
+
+/**
+ * This class drives the compiler over many ExtendedStaticJava source files.
+ * Each file goes through parsing, AST building, symbol table building, type
+ * checking, code generation and (optionally) the {@link PassManager}
+ * optimizer on its own; files are compiled concurrently on a
+ * {@link ForkJoinPool}, and the problems of all files are collected as
+ * {@link Diagnostic}s instead of stopping at the first one.
+ * <p>
+ * Command line usage:
+ *
+ * <pre>
+ * esjc [-d dir] [-O pipeline] [-inline size] [-j threads] [-parallelcheck]
+ *      [-separate] [-cache dir] [-computeframes] [-g | -g:lines | -g:none]
+ *      [-stats] (file | dir)...
+ * </pre>
+ *
+ * Directories are scanned for {@code .java} files. Class files are written to
+ * {@code dir} (the current directory by default); with {@code -separate},
+ * the classes of each source file go to a subdirectory named after its main
+ * class, so that sources defining the same helper classes do not clash.
+ * {@code -O} takes one of {@link PassManager#PIPELINES} ("none" by default);
+ * {@code -inline} sets the maximum size in bytes of the static methods the
+ * "default" pipeline inlines (0 disables inlining).
+ * With {@code -parallelcheck}, the method bodies of each file are also type
+ * checked concurrently, which pays off for files with many methods.
+ * With {@code -cache}, results are kept in a {@link CompilationCache} in the
+ * given directory, so unchanged files are not compiled again.
+ * {@code -computeframes} selects the old code generation mode (see
+ * {@link ByteCodeGenerator.Options#computeFrames}). {@code -g} (the default)
+ * generates line numbers and local variable names, {@code -g:lines} only line
+ * numbers, and {@code -g:none} no debugging information at all.
+ * {@code -stats} reports how many local variable slots the
+ * {@link LocalAllocator} saved and how many instructions the
+ * {@link LoopOptimizer} moved out of the loops of each method.
+ */
+public class EsjCompiler {
+  /**
+   * A problem found while compiling a source file.
+   */
+  public static class Diagnostic {
+    /**
+     * Holds the path of the source file.
+     */
+    public final String path;
+
+    /**
+     * Holds the phase that reported the problem.
+     */
+    public final String phase;
+
+    /**
+     * Holds the message that describes the problem.
+     */
+    public final String message;
+
+    public Diagnostic(final String path, final String phase,
+        final String message) {
+      this.path = path;
+      this.phase = phase;
+      this.message = message;
+    }
+
+    @Override
+    public String toString() {
+      return this.path + ": " + this.phase + " error: " + this.message;
+    }
+  }
+
+  /**
+   * This class is used to signal that a source compiled by
+   * {@link EsjCompiler#compileAndLoad(String)} has errors.
+   */
+  public static class Error extends RuntimeException {
+    private static final long serialVersionUID = -2817338401164535370L;
+
+    /**
+     * Holds the problems found in the source.
+     */
+    public final List<Diagnostic> diagnostics;
+
+    public Error(final List<Diagnostic> diagnostics) {
+      super(diagnostics.get(0).toString());
+      this.diagnostics = diagnostics;
+    }
+  }
+
+  /**
+   * The outcome of compiling one source file.
+   */
+  public static class Result {
+    /**
+     * Holds the path of the source file.
+     */
+    public final String path;
+
+    /**
+     * Holds the generated bytecodes, or null if the file has errors.
+     */
+    public final ExtendedClassByteCodes bytecodes;
+
+    /**
+     * Holds the problems found in the file.
+     */
+    public final List<Diagnostic> diagnostics;
+
+    /**
+     * Holds the time spent compiling the file.
+     */
+    public final long nanos;
+
+    /**
+     * Holds whether the result was taken from the {@link CompilationCache}.
+     */
+    public final boolean cached;
+
+    /**
+     * Holds the number of instructions the {@link LoopOptimizer} moved out of
+     * loops, by method ("Class.name(desc)"); empty if the pipeline has no
+     * {@link LoopOptimizer} or the result was cached.
+     */
+    public final Map<String, Integer> hoisted;
+
+    /**
+     * Holds the number of local slots of the methods before and after the
+     * {@link LocalAllocator} packed them; zero if the result was cached or
+     * the file has errors.
+     */
+    public final LocalAllocator.Statistics slots;
+
+    public Result(final String path, final ExtendedClassByteCodes bytecodes,
+        final List<Diagnostic> diagnostics, final long nanos) {
+      this(path, bytecodes, diagnostics, nanos, false);
+    }
+
+    public Result(final String path, final ExtendedClassByteCodes bytecodes,
+        final List<Diagnostic> diagnostics, final long nanos,
+        final boolean cached) {
+      this(path, bytecodes, diagnostics, nanos, cached,
+          Collections.emptyMap(), new LocalAllocator.Statistics());
+    }
+
+    public Result(final String path, final ExtendedClassByteCodes bytecodes,
+        final List<Diagnostic> diagnostics, final long nanos,
+        final boolean cached, final Map<String, Integer> hoisted,
+        final LocalAllocator.Statistics slots) {
+      this.path = path;
+      this.bytecodes = bytecodes;
+      this.diagnostics = diagnostics;
+      this.nanos = nanos;
+      this.cached = cached;
+      this.hoisted = hoisted;
+      this.slots = slots;
+    }
+
+    public boolean isSuccess() {
+      return this.bytecodes != null;
+    }
+
+    /**
+     * Returns all classes of the file, the main class first.
+     */
+    public Map<String, byte[]> classes() {
+      final Map<String, byte[]> result = new LinkedHashMap<>();
+      result.put(this.bytecodes.mainClassName, this.bytecodes.mainClassBytes);
+      result.putAll(this.bytecodes.otherClasses);
+      return result;
+    }
+  }
+
+  /**
+   * The options of a compiler run.
+   */
+  public static class Options {
+    /**
+     * Holds the directory class files are written to, or null to not write
+     * them.
+     */
+    public File outputDir;
+
+    /**
+     * Holds whether each source file gets its own output subdirectory.
+     */
+    public boolean separateOutputDirs;
+
+    /**
+     * Holds the name of the optimizer pipeline (see
+     * {@link PassManager#pipeline(String)}).
+     */
+    public String pipeline = "none";
+
+    /**
+     * Holds the maximum size in bytes of the static methods the
+     * {@link Inliner} of the "default" pipeline inlines; 0 disables
+     * inlining.
+     */
+    public int maxInlineSize = Inliner.DEFAULT_MAX_SIZE;
+
+    /**
+     * Holds the number of files compiled at the same time.
+     */
+    public int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Holds whether the method bodies of a file are type checked
+     * concurrently (see
+     * {@link ExtendedTypeChecker#check(TypeFactory, CompilationUnit, ExtendedSymbolTable, ForkJoinPool)}).
+     */
+    public boolean parallelTypeCheck;
+
+    /**
+     * Holds the directory of the {@link CompilationCache}, or null to not
+     * cache results.
+     */
+    public File cacheDir;
+
+    /**
+     * Holds the options of the code generator.
+     */
+    public ByteCodeGenerator.Options codegen = new ByteCodeGenerator.Options();
+
+    /**
+     * Returns the part of a {@link CompilationCache} key that comes from the
+     * options; it covers every option that affects the generated classes.
+     */
+    public String key() {
+      return "pipeline=" + this.pipeline + ",inline=" + this.maxInlineSize
+          + "," + this.codegen.key();
+    }
+  }
+
+  /**
+   * Parses the command line and compiles the given files; exits with 1 if
+   * any file has errors.
+   */
+  public static void main(final String[] args) throws Exception {
+    final Options options = new Options();
+    options.outputDir = new File(".");
+    final List<File> inputs = new ArrayList<>();
+    boolean stats = false;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "-d":
+          options.outputDir = new File(EsjCompiler.argument(args, ++i));
+          break;
+        case "-O":
+          options.pipeline = EsjCompiler.argument(args, ++i);
+          break;
+        case "-inline":
+          options.maxInlineSize = Integer.parseInt(EsjCompiler.argument(args, ++i));
+          break;
+        case "-j":
+          options.parallelism = Integer.parseInt(EsjCompiler.argument(args, ++i));
+          break;
+        case "-parallelcheck":
+          options.parallelTypeCheck = true;
+          break;
+        case "-separate":
+          options.separateOutputDirs = true;
+          break;
+        case "-computeframes":
+          options.codegen.computeFrames = true;
+          break;
+        case "-g":
+          options.codegen.debug = ByteCodeGenerator.DebugLevel.VARS_AND_LINES;
+          break;
+        case "-g:lines":
+          options.codegen.debug = ByteCodeGenerator.DebugLevel.LINES;
+          break;
+        case "-g:none":
+          options.codegen.debug = ByteCodeGenerator.DebugLevel.NONE;
+          break;
+        case "-stats":
+          stats = true;
+          break;
+        case "-cache":
+          options.cacheDir = new File(EsjCompiler.argument(args, ++i));
+          break;
+        default:
+          inputs.add(new File(args[i]));
+      }
+    }
+    if (inputs.isEmpty()) {
+      System.err.println(
+          "usage: esjc [-d dir] [-O pipeline] [-inline size] [-j threads] [-parallelcheck] [-separate] [-cache dir] [-computeframes] [-g | -g:lines | -g:none] [-stats] (file | dir)...");
+      System.exit(2);
+    }
+    final EsjCompiler compiler = new EsjCompiler(options);
+    final List<Result> results = compiler
+        .compileAll(EsjCompiler.sources(inputs));
+    final int errors = EsjCompiler.report(results, System.err);
+    if (stats) {
+      long slotsBefore = 0;
+      long slotsAfter = 0;
+      for (final Result r : results) {
+        slotsBefore += r.slots.getSlotsBefore();
+        slotsAfter += r.slots.getSlotsAfter();
+      }
+      System.err.println("local slots: " + slotsBefore + " declared, "
+          + slotsAfter + " allocated");
+      for (final Result r : results) {
+        for (final Map.Entry<String, Integer> e : r.hoisted.entrySet()) {
+          System.err.println("hoisted from loops: " + e.getKey() + " "
+              + e.getValue() + " instruction(s)");
+        }
+      }
+    }
+    System.exit(errors == 0 ? 0 : 1);
+  }
+
+  static String argument(final String[] args, final int i) {
+    if (i >= args.length) {
+      throw new IllegalArgumentException(
+          "Missing argument for " + args[i - 1]);
+    }
+    return args[i];
+  }
+
+  /**
+   * Returns the source files given as files or directories; directories are
+   * scanned recursively for {@code .java} files, in name order.
+   */
+  public static List<String> sources(final List<File> inputs) {
+    final List<String> result = new ArrayList<>();
+    for (final File f : inputs) {
+      if (f.isDirectory()) {
+        final File[] children = f.listFiles();
+        Arrays.sort(children);
+        final List<File> files = new ArrayList<>();
+        for (final File c : children) {
+          if (c.isDirectory() || c.getName().endsWith(".java")) {
+            files.add(c);
+          }
+        }
+        result.addAll(EsjCompiler.sources(files));
+      } else {
+        result.add(f.getPath());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Prints the diagnostics of the given results and a summary; returns the
+   * number of files with errors.
+   */
+  public static int report(final List<Result> results, final PrintStream out) {
+    int failed = 0;
+    int cached = 0;
+    for (final Result r : results) {
+      for (final Diagnostic d : r.diagnostics) {
+        out.println(d);
+      }
+      if (!r.isSuccess() || !r.diagnostics.isEmpty()) {
+        failed++;
+      }
+      if (r.cached) {
+        cached++;
+      }
+    }
+    out.println(results.size() + " file(s), " + failed + " with errors"
+        + (cached > 0 ? ", " + cached + " cached" : ""));
+    return failed;
+  }
+
+  protected final Options options;
+
+  /**
+   * Holds the cache of compilation results, or null if there is none.
+   */
+  protected final CompilationCache cache;
+
+  public EsjCompiler(final Options options) {
+    this.options = options;
+    this.cache = options.cacheDir != null
+        ? new CompilationCache(options.cacheDir)
+        : null;
+  }
+
+  public CompilationCache getCache() {
+    return this.cache;
+  }
+
+  /**
+   * Compiles the given source files concurrently and writes the class files
+   * of the ones without errors; returns the results in the order of the
+   * given paths.
+   */
+  public List<Result> compileAll(final List<String> paths)
+      throws InterruptedException {
+    final List<Callable<Result>> tasks = new ArrayList<>();
+    for (final String path : paths) {
+      tasks.add(() -> compile(path));
+    }
+    final List<Result> results = new ArrayList<>();
+    final ForkJoinPool pool = new ForkJoinPool(
+        Math.max(1, this.options.parallelism));
+    try {
+      for (final Future<Result> f : pool.invokeAll(tasks)) {
+        results.add(f.get());
+      }
+    } catch (final ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+    if (this.options.outputDir != null) {
+      write(results);
+    }
+    return results;
+  }
+
+  /**
+   * Compiles one source file, or takes its result from the cache; never
+   * throws for problems in the file, they are reported as {@link Diagnostic}s
+   * of the result.
+   */
+  public Result compile(final String path) {
+    final byte[] source;
+    try {
+      source = Files.readAllBytes(new File(path).toPath());
+    } catch (final IOException e) {
+      return new Result(path, null,
+          Collections.singletonList(new Diagnostic(path, "parse", e.toString())),
+          0);
+    }
+    if (this.cache == null) {
+      return compile(path, source);
+    }
+    final String key = CompilationCache.key(this.options.key(), source);
+    Result result = this.cache.get(key, path);
+    if (result == null) {
+      result = compile(path, source);
+      this.cache.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * Compiles the given UTF-8 encoded source; the path is only used to
+   * report problems.
+   */
+  public Result compile(final String path, final byte[] source) {
+    return compile(path,
+        () -> ExtendedParserUtil.parse(source, path, ParseMode.SLL_THEN_LL));
+  }
+
+  /**
+   * Compiles the given source text; the path is only used to report
+   * problems.
+   */
+  public Result compile(final String path, final CharSequence source) {
+    return compile(path,
+        () -> ExtendedParserUtil.parse(source, path, ParseMode.SLL_THEN_LL));
+  }
+
+  protected Result compile(final String path,
+      final Callable<CompilationUnitContext> parser) {
+    final long start = System.nanoTime();
+    String phase = "parse";
+    try {
+      final CompilationUnitContext ctx = parser.call();
+      phase = "ast";
+      final CompilationUnit cu = ExtendedStaticJavaASTBuilder.ast(ctx);
+      phase = "symbol table";
+      final ExtendedSymbolTable est = ExtendedSymbolTableBuilder.build(cu);
+      phase = "type check";
+      final ExtendedTypeTable ett = this.options.parallelTypeCheck
+          ? ExtendedTypeChecker.check(new TypeFactory(), cu, est,
+              ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool()
+                  : ForkJoinPool.commonPool())
+          : ExtendedTypeChecker.check(new TypeFactory(), cu, est);
+      phase = "codegen";
+      final LocalAllocator.Statistics slots = new LocalAllocator.Statistics();
+      ExtendedClassByteCodes ecbc = ExtendedByteCodeGenerator.generate(cu, est,
+          ett, this.options.codegen, slots);
+      phase = "optimize";
+      final PassManager pm = pipeline();
+      ecbc = optimize(ecbc, pm);
+      final PassStatistics loops = pm.getStatistics("LoopOptimizer");
+      return new Result(path, ecbc, Collections.emptyList(),
+          System.nanoTime() - start, false,
+          loops != null ? new TreeMap<>(loops.getMethodCounts())
+              : Collections.emptyMap(), slots);
+    } catch (final Throwable e) {
+      // a failed assertion or a deep recursion is a problem of this file; a
+      // virtual machine running out of resources is not
+      if ((e instanceof VirtualMachineError)
+          && !(e instanceof StackOverflowError)) {
+        throw (VirtualMachineError) e;
+      }
+      final String msg = e.getMessage() != null ? e.getMessage()
+          : e.toString();
+      return new Result(path, null,
+          Collections.singletonList(new Diagnostic(path, phase, msg)),
+          System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Compiles the given source text in memory, loads its classes in a fresh
+   * {@link EsjClassLoader} and returns a handle on {@code main(String[])} of
+   * its main class; throws an {@link Error} if the source has errors.
+   */
+  public MethodHandle compileAndLoad(final String source) {
+    final Result r = compile("<source>", source);
+    if (!r.isSuccess()) {
+      throw new Error(r.diagnostics);
+    }
+    try {
+      return EsjCompiler.mainHandle(EsjCompiler.load(r.bytecodes));
+    } catch (final ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Loads the given classes in a fresh {@link EsjClassLoader} and returns the
+   * main class.
+   */
+  public static Class<?> load(final ExtendedClassByteCodes ecbc)
+      throws ClassNotFoundException {
+    return new EsjClassLoader(ecbc).loadClass(ecbc.mainClassName);
+  }
+
+  /**
+   * Returns a handle on {@code main(String[])} of the given class.
+   */
+  public static MethodHandle mainHandle(final Class<?> c)
+      throws ReflectiveOperationException {
+    return MethodHandles.publicLookup().findStatic(c, "main",
+        MethodType.methodType(void.class, String[].class));
+  }
+
+  protected ExtendedClassByteCodes optimize(final ExtendedClassByteCodes ecbc,
+      final PassManager pm) {
+    if (pm.isEmpty()) {
+      return ecbc;
+    }
+    final Map<String, byte[]> others = new HashMap<>();
+    for (final Map.Entry<String, byte[]> e : ecbc.otherClasses.entrySet()) {
+      others.put(e.getKey(), pm.optimize(e.getValue()));
+    }
+    return new ExtendedClassByteCodes(ecbc.mainClassName,
+        pm.optimize(ecbc.mainClassBytes), others);
+  }
+
+  protected PassManager pipeline() {
+    return PassManager.pipeline(this.options.pipeline,
+        this.options.maxInlineSize);
+  }
+
+  /**
+   * Writes the classes of the successful results, in order. In a shared
+   * output directory, a class already written for an earlier file is not
+   * overwritten; the later file gets a diagnostic instead.
+   */
+  protected void write(final List<Result> results) {
+    final Map<String, String> written = new HashMap<>();
+    for (int i = 0; i < results.size(); i++) {
+      final Result r = results.get(i);
+      if (!r.isSuccess()) {
+        continue;
+      }
+      final File dir = this.options.separateOutputDirs
+          ? new File(this.options.outputDir, r.bytecodes.mainClassName)
+          : this.options.outputDir;
+      final List<Diagnostic> diagnostics = new ArrayList<>();
+      for (final Map.Entry<String, byte[]> e : r.classes().entrySet()) {
+        if (!this.options.separateOutputDirs) {
+          final String other = written.putIfAbsent(e.getKey(), r.path);
+          if (other != null) {
+            diagnostics.add(new Diagnostic(r.path, "write", "class "
+                + e.getKey() + " is also defined in " + other));
+            continue;
+          }
+        }
+        try {
+          Files.createDirectories(dir.toPath());
+          Files.write(new File(dir, e.getKey() + ".class").toPath(),
+              e.getValue());
+        } catch (final IOException ex) {
+          diagnostics.add(new Diagnostic(r.path, "write", ex.toString()));
+        }
+      }
+      if (!diagnostics.isEmpty()) {
+        results.set(i,
+            new Result(r.path, r.bytecodes, diagnostics, r.nanos, r.cached));
+      }
+    }
+  }
+}
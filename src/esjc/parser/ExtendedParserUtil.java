@@ -3,27 +3,73 @@ package esjc.parser;
 import esjc.parser.ExtendedStaticJavaParser.CompilationUnitContext;
 import org.antlr.v4.runtime.*;
 
-import java.io.FileReader;
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 
 public class ExtendedParserUtil {
+  /**
+   * How the parser predicts alternatives.
+   */
+  public enum ParseMode {
+    /**
+     * Full-context LL prediction only (ANTLR's default); always exact.
+     */
+    LL,
+
+    /**
+     * SLL prediction only; faster, but may report a syntax error for input
+     * that LL would accept.
+     */
+    SLL,
+
+    /**
+     * SLL prediction with a bail-out error strategy first; the input is
+     * re-parsed with LL only if that fails. Exact, and as fast as SLL for
+     * valid input.
+     */
+    SLL_THEN_LL
+  }
 
   public static CompilationUnitContext parse(final String path)
       throws Exception {
-    final CodePointCharStream input = CharStreams.fromReader(new FileReader(path));
-    final ExtendedStaticJavaLexer lexer = new ExtendedStaticJavaLexer(input);
-    final CommonTokenStream tokens = new CommonTokenStream(lexer);
-    final ExtendedStaticJavaParser parser = new ExtendedStaticJavaParser(tokens);
-    parser.removeErrorListeners();
-    parser.addErrorListener(new BaseErrorListener() {
-      @Override
-      public void syntaxError(final Recognizer<?, ?> recognizer,
-          final Object offendingSymbol, final int line,
-          final int charPositionInLine, final String msg,
-          final RecognitionException e) {
-        throw new RuntimeException("Parse Error in " + path + ": [" + line
-            + ", " + charPositionInLine + "] " + msg);
-      }
-    });
-    return parser.compilationUnit();
+    return parse(path, ParseMode.SLL_THEN_LL);
+  }
+
+  /**
+   * Parses the given file, read in bulk through a channel and decoded as
+   * UTF-8, with the {@link ParserSession} of the calling thread.
+   */
+  public static CompilationUnitContext parse(final String path,
+      final ParseMode mode) throws Exception {
+    final CharStream input = CharStreams.fromPath(Paths.get(path),
+        StandardCharsets.UTF_8);
+    return ParserSession.current().parse(input, path, mode);
+  }
+
+  /**
+   * Parses the given source text; the source name is only used in error
+   * messages.
+   */
+  public static CompilationUnitContext parse(final CharSequence source,
+      final String sourceName, final ParseMode mode) {
+    return ParserSession.current().parse(
+        CharStreams.fromString(source.toString(), sourceName), sourceName,
+        mode);
+  }
+
+  /**
+   * Parses the given UTF-8 encoded source; the source name is only used in
+   * error messages.
+   */
+  public static CompilationUnitContext parse(final byte[] source,
+      final String sourceName, final ParseMode mode) throws Exception {
+    final CharStream input = CharStreams.fromChannel(
+        Channels.newChannel(new ByteArrayInputStream(source)),
+        StandardCharsets.UTF_8, 4096, CodingErrorAction.REPLACE, sourceName,
+        source.length);
+    return ParserSession.current().parse(input, sourceName, mode);
   }
 }
@@ -11,6 +11,7 @@ program
 simpleClassDefintion
   : 'class' ID '{'
     publicFieldDeclaration*
+    instanceMethodDeclaration*
     '}'
   ;
 
@@ -19,6 +20,10 @@ publicFieldDeclaration
   : 'public' type ID ';'
   ;
 
+instanceMethodDeclaration
+  : 'public' returnType ID '(' params? ')' '{' methodBody '}'
+  ;
+
 //RQ4
 type
   : basicType | intType | booleanType | arrayType
@@ -159,6 +164,7 @@ whileStatement
 
 invokeExpStatement
   : invoke ';'
+  | target=exp '.' id=ID '(' args? ')' ';'
   ;
 
 returnStatement
@@ -171,15 +177,17 @@ exp
                                             #IntLiteral
   | booleanLiteral                          #LiteralExp
   | 'null'                                  #NullLiteral
+  | 'this'                                  #ThisExp
   | '(' exp ')'                             #ParenExp
   | invoke                                  #InvokeExp
   | ID                                      #IdExp
   | op=( '-' | '+' | '!' | '~' ) exp        #UnaryExp
   | e1=exp op=binaryOp e2=exp                                  #BinaryExp
   | condition=exp '?' p1=exp ':' p2=exp     #CondExp
+  | target=exp '.' id=ID '(' args? ')'     #MethodInvokeExp
   | e1=exp '.' id=ID                        #FieldAccessExp
   | id=exp '[' inner=exp ']'                #ArrayAccessExp
-  | 'new' name=ID '(' ')'                        #NewExp
+  | 'new' name=ID '(' args? ')'                  #NewExp
   | 'new' typeid=arrayType          #ArrayCreationExp
   | 'new' typeid=arrayType initexpr=arrayInit #ArrayCreationExp
   ;
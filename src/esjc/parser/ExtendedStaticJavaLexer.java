@@ -23,7 +23,7 @@ public class ExtendedStaticJavaLexer extends Lexer {
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
 		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
 		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
-		T__45=46, T__46=47, T__47=48, ID=49, INT=50, WS=51, ERROR=52;
+		T__45=46, T__46=47, T__47=48, T__48=49, ID=50, INT=51, WS=52, ERROR=53;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -39,20 +39,20 @@ public class ExtendedStaticJavaLexer extends Lexer {
 			"T__17", "T__18", "T__19", "T__20", "T__21", "T__22", "T__23", "T__24", 
 			"T__25", "T__26", "T__27", "T__28", "T__29", "T__30", "T__31", "T__32", 
 			"T__33", "T__34", "T__35", "T__36", "T__37", "T__38", "T__39", "T__40", 
-			"T__41", "T__42", "T__43", "T__44", "T__45", "T__46", "T__47", "ID", 
-			"INT", "WS", "ERROR"
+			"T__41", "T__42", "T__43", "T__44", "T__45", "T__46", "T__47", "T__48", 
+			"ID", "INT", "WS", "ERROR"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
 
 	private static String[] makeLiteralNames() {
 		return new String[] {
-			null, "'class'", "'{'", "'}'", "'public'", "';'", "'int'", "'boolean'", 
-			"'['", "']'", "'void'", "'static'", "'('", "')'", "','", "'='", "'.'", 
+			null, "'class'", "'{'", "'}'", "'public'", "';'", "'('", "')'", "'int'", 
+			"'boolean'", "'['", "']'", "'void'", "'static'", "','", "'='", "'.'", 
 			"'for'", "'++'", "'--'", "'do'", "'while'", "'if'", "'else'", "'return'", 
-			"'null'", "'-'", "'+'", "'!'", "'~'", "'?'", "':'", "'new'", "'*'", "'/'", 
-			"'%'", "'>'", "'>='", "'=='", "'<'", "'<='", "'!='", "'&&'", "'||'", 
-			"'<<'", "'>>'", "'>>>'", "'true'", "'false'"
+			"'null'", "'this'", "'-'", "'+'", "'!'", "'~'", "'?'", "':'", "'new'", 
+			"'*'", "'/'", "'%'", "'>'", "'>='", "'=='", "'<'", "'<='", "'!='", "'&&'", 
+			"'||'", "'<<'", "'>>'", "'>>>'", "'true'", "'false'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -62,7 +62,7 @@ public class ExtendedStaticJavaLexer extends Lexer {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
 			null, null, null, null, null, null, null, null, null, null, null, null, 
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, "ID", "INT", "WS", "ERROR"
+			null, null, "ID", "INT", "WS", "ERROR"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -124,7 +124,7 @@ public class ExtendedStaticJavaLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\u0004\u00004\u0124\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0004\u00005\u012b\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
 		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
 		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
 		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
@@ -138,167 +138,171 @@ public class ExtendedStaticJavaLexer extends Lexer {
 		"!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007"+
 		"&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007"+
 		"+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u0007"+
-		"0\u00021\u00071\u00022\u00072\u00023\u00073\u0001\u0000\u0001\u0000\u0001"+
-		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001"+
-		"\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
-		"\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001"+
-		"\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
-		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001"+
-		"\u0007\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\n"+
-		"\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
-		"\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001"+
-		"\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001"+
-		"\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001"+
-		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001"+
-		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001"+
-		"\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001"+
-		"\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001 \u0001 \u0001!\u0001!\u0001\"\u0001\"\u0001#"+
-		"\u0001#\u0001$\u0001$\u0001$\u0001%\u0001%\u0001%\u0001&\u0001&\u0001"+
-		"\'\u0001\'\u0001\'\u0001(\u0001(\u0001(\u0001)\u0001)\u0001)\u0001*\u0001"+
-		"*\u0001*\u0001+\u0001+\u0001+\u0001,\u0001,\u0001,\u0001-\u0001-\u0001"+
-		"-\u0001-\u0001.\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001/\u0001"+
-		"/\u0001/\u0001/\u00010\u00010\u00050\u010d\b0\n0\f0\u0110\t0\u00011\u0001"+
-		"1\u00011\u00051\u0115\b1\n1\f1\u0118\t1\u00031\u011a\b1\u00012\u00042"+
-		"\u011d\b2\u000b2\f2\u011e\u00012\u00012\u00013\u00013\u0000\u00004\u0001"+
-		"\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007"+
-		"\u000f\b\u0011\t\u0013\n\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d"+
-		"\u000f\u001f\u0010!\u0011#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/"+
-		"\u00181\u00193\u001a5\u001b7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%K"+
-		"&M\'O(Q)S*U+W,Y-[.]/_0a1c2e3g4\u0001\u0000\u0003\u0004\u0000$$AZ__az\u0005"+
-		"\u0000$$09AZ__az\u0003\u0000\t\n\f\r  \u0127\u0000\u0001\u0001\u0000\u0000"+
-		"\u0000\u0000\u0003\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000"+
-		"\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000"+
-		"\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000"+
-		"\u000f\u0001\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000"+
-		"\u0013\u0001\u0000\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000"+
-		"\u0017\u0001\u0000\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000"+
-		"\u001b\u0001\u0000\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000"+
-		"\u001f\u0001\u0000\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001"+
-		"\u0000\u0000\u0000\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000"+
-		"\u0000\u0000\u0000)\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000"+
-		"\u0000-\u0001\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001"+
-		"\u0001\u0000\u0000\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000"+
-		"\u0000\u0000\u00007\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000"+
-		"\u0000;\u0001\u0000\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?"+
-		"\u0001\u0000\u0000\u0000\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000"+
-		"\u0000\u0000\u0000E\u0001\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000"+
-		"\u0000I\u0001\u0000\u0000\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M"+
-		"\u0001\u0000\u0000\u0000\u0000O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000"+
-		"\u0000\u0000\u0000S\u0001\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000"+
-		"\u0000W\u0001\u0000\u0000\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000["+
-		"\u0001\u0000\u0000\u0000\u0000]\u0001\u0000\u0000\u0000\u0000_\u0001\u0000"+
-		"\u0000\u0000\u0000a\u0001\u0000\u0000\u0000\u0000c\u0001\u0000\u0000\u0000"+
-		"\u0000e\u0001\u0000\u0000\u0000\u0000g\u0001\u0000\u0000\u0000\u0001i"+
-		"\u0001\u0000\u0000\u0000\u0003o\u0001\u0000\u0000\u0000\u0005q\u0001\u0000"+
-		"\u0000\u0000\u0007s\u0001\u0000\u0000\u0000\tz\u0001\u0000\u0000\u0000"+
-		"\u000b|\u0001\u0000\u0000\u0000\r\u0080\u0001\u0000\u0000\u0000\u000f"+
-		"\u0088\u0001\u0000\u0000\u0000\u0011\u008a\u0001\u0000\u0000\u0000\u0013"+
-		"\u008c\u0001\u0000\u0000\u0000\u0015\u0091\u0001\u0000\u0000\u0000\u0017"+
-		"\u0098\u0001\u0000\u0000\u0000\u0019\u009a\u0001\u0000\u0000\u0000\u001b"+
-		"\u009c\u0001\u0000\u0000\u0000\u001d\u009e\u0001\u0000\u0000\u0000\u001f"+
-		"\u00a0\u0001\u0000\u0000\u0000!\u00a2\u0001\u0000\u0000\u0000#\u00a6\u0001"+
-		"\u0000\u0000\u0000%\u00a9\u0001\u0000\u0000\u0000\'\u00ac\u0001\u0000"+
-		"\u0000\u0000)\u00af\u0001\u0000\u0000\u0000+\u00b5\u0001\u0000\u0000\u0000"+
-		"-\u00b8\u0001\u0000\u0000\u0000/\u00bd\u0001\u0000\u0000\u00001\u00c4"+
-		"\u0001\u0000\u0000\u00003\u00c9\u0001\u0000\u0000\u00005\u00cb\u0001\u0000"+
-		"\u0000\u00007\u00cd\u0001\u0000\u0000\u00009\u00cf\u0001\u0000\u0000\u0000"+
-		";\u00d1\u0001\u0000\u0000\u0000=\u00d3\u0001\u0000\u0000\u0000?\u00d5"+
-		"\u0001\u0000\u0000\u0000A\u00d9\u0001\u0000\u0000\u0000C\u00db\u0001\u0000"+
-		"\u0000\u0000E\u00dd\u0001\u0000\u0000\u0000G\u00df\u0001\u0000\u0000\u0000"+
-		"I\u00e1\u0001\u0000\u0000\u0000K\u00e4\u0001\u0000\u0000\u0000M\u00e7"+
-		"\u0001\u0000\u0000\u0000O\u00e9\u0001\u0000\u0000\u0000Q\u00ec\u0001\u0000"+
-		"\u0000\u0000S\u00ef\u0001\u0000\u0000\u0000U\u00f2\u0001\u0000\u0000\u0000"+
-		"W\u00f5\u0001\u0000\u0000\u0000Y\u00f8\u0001\u0000\u0000\u0000[\u00fb"+
-		"\u0001\u0000\u0000\u0000]\u00ff\u0001\u0000\u0000\u0000_\u0104\u0001\u0000"+
-		"\u0000\u0000a\u010a\u0001\u0000\u0000\u0000c\u0119\u0001\u0000\u0000\u0000"+
-		"e\u011c\u0001\u0000\u0000\u0000g\u0122\u0001\u0000\u0000\u0000ij\u0005"+
-		"c\u0000\u0000jk\u0005l\u0000\u0000kl\u0005a\u0000\u0000lm\u0005s\u0000"+
-		"\u0000mn\u0005s\u0000\u0000n\u0002\u0001\u0000\u0000\u0000op\u0005{\u0000"+
-		"\u0000p\u0004\u0001\u0000\u0000\u0000qr\u0005}\u0000\u0000r\u0006\u0001"+
-		"\u0000\u0000\u0000st\u0005p\u0000\u0000tu\u0005u\u0000\u0000uv\u0005b"+
-		"\u0000\u0000vw\u0005l\u0000\u0000wx\u0005i\u0000\u0000xy\u0005c\u0000"+
-		"\u0000y\b\u0001\u0000\u0000\u0000z{\u0005;\u0000\u0000{\n\u0001\u0000"+
-		"\u0000\u0000|}\u0005i\u0000\u0000}~\u0005n\u0000\u0000~\u007f\u0005t\u0000"+
-		"\u0000\u007f\f\u0001\u0000\u0000\u0000\u0080\u0081\u0005b\u0000\u0000"+
-		"\u0081\u0082\u0005o\u0000\u0000\u0082\u0083\u0005o\u0000\u0000\u0083\u0084"+
-		"\u0005l\u0000\u0000\u0084\u0085\u0005e\u0000\u0000\u0085\u0086\u0005a"+
-		"\u0000\u0000\u0086\u0087\u0005n\u0000\u0000\u0087\u000e\u0001\u0000\u0000"+
-		"\u0000\u0088\u0089\u0005[\u0000\u0000\u0089\u0010\u0001\u0000\u0000\u0000"+
-		"\u008a\u008b\u0005]\u0000\u0000\u008b\u0012\u0001\u0000\u0000\u0000\u008c"+
-		"\u008d\u0005v\u0000\u0000\u008d\u008e\u0005o\u0000\u0000\u008e\u008f\u0005"+
-		"i\u0000\u0000\u008f\u0090\u0005d\u0000\u0000\u0090\u0014\u0001\u0000\u0000"+
-		"\u0000\u0091\u0092\u0005s\u0000\u0000\u0092\u0093\u0005t\u0000\u0000\u0093"+
-		"\u0094\u0005a\u0000\u0000\u0094\u0095\u0005t\u0000\u0000\u0095\u0096\u0005"+
-		"i\u0000\u0000\u0096\u0097\u0005c\u0000\u0000\u0097\u0016\u0001\u0000\u0000"+
-		"\u0000\u0098\u0099\u0005(\u0000\u0000\u0099\u0018\u0001\u0000\u0000\u0000"+
-		"\u009a\u009b\u0005)\u0000\u0000\u009b\u001a\u0001\u0000\u0000\u0000\u009c"+
-		"\u009d\u0005,\u0000\u0000\u009d\u001c\u0001\u0000\u0000\u0000\u009e\u009f"+
-		"\u0005=\u0000\u0000\u009f\u001e\u0001\u0000\u0000\u0000\u00a0\u00a1\u0005"+
-		".\u0000\u0000\u00a1 \u0001\u0000\u0000\u0000\u00a2\u00a3\u0005f\u0000"+
-		"\u0000\u00a3\u00a4\u0005o\u0000\u0000\u00a4\u00a5\u0005r\u0000\u0000\u00a5"+
-		"\"\u0001\u0000\u0000\u0000\u00a6\u00a7\u0005+\u0000\u0000\u00a7\u00a8"+
-		"\u0005+\u0000\u0000\u00a8$\u0001\u0000\u0000\u0000\u00a9\u00aa\u0005-"+
-		"\u0000\u0000\u00aa\u00ab\u0005-\u0000\u0000\u00ab&\u0001\u0000\u0000\u0000"+
-		"\u00ac\u00ad\u0005d\u0000\u0000\u00ad\u00ae\u0005o\u0000\u0000\u00ae("+
-		"\u0001\u0000\u0000\u0000\u00af\u00b0\u0005w\u0000\u0000\u00b0\u00b1\u0005"+
-		"h\u0000\u0000\u00b1\u00b2\u0005i\u0000\u0000\u00b2\u00b3\u0005l\u0000"+
-		"\u0000\u00b3\u00b4\u0005e\u0000\u0000\u00b4*\u0001\u0000\u0000\u0000\u00b5"+
-		"\u00b6\u0005i\u0000\u0000\u00b6\u00b7\u0005f\u0000\u0000\u00b7,\u0001"+
-		"\u0000\u0000\u0000\u00b8\u00b9\u0005e\u0000\u0000\u00b9\u00ba\u0005l\u0000"+
-		"\u0000\u00ba\u00bb\u0005s\u0000\u0000\u00bb\u00bc\u0005e\u0000\u0000\u00bc"+
-		".\u0001\u0000\u0000\u0000\u00bd\u00be\u0005r\u0000\u0000\u00be\u00bf\u0005"+
-		"e\u0000\u0000\u00bf\u00c0\u0005t\u0000\u0000\u00c0\u00c1\u0005u\u0000"+
-		"\u0000\u00c1\u00c2\u0005r\u0000\u0000\u00c2\u00c3\u0005n\u0000\u0000\u00c3"+
-		"0\u0001\u0000\u0000\u0000\u00c4\u00c5\u0005n\u0000\u0000\u00c5\u00c6\u0005"+
-		"u\u0000\u0000\u00c6\u00c7\u0005l\u0000\u0000\u00c7\u00c8\u0005l\u0000"+
-		"\u0000\u00c82\u0001\u0000\u0000\u0000\u00c9\u00ca\u0005-\u0000\u0000\u00ca"+
-		"4\u0001\u0000\u0000\u0000\u00cb\u00cc\u0005+\u0000\u0000\u00cc6\u0001"+
-		"\u0000\u0000\u0000\u00cd\u00ce\u0005!\u0000\u0000\u00ce8\u0001\u0000\u0000"+
-		"\u0000\u00cf\u00d0\u0005~\u0000\u0000\u00d0:\u0001\u0000\u0000\u0000\u00d1"+
-		"\u00d2\u0005?\u0000\u0000\u00d2<\u0001\u0000\u0000\u0000\u00d3\u00d4\u0005"+
-		":\u0000\u0000\u00d4>\u0001\u0000\u0000\u0000\u00d5\u00d6\u0005n\u0000"+
-		"\u0000\u00d6\u00d7\u0005e\u0000\u0000\u00d7\u00d8\u0005w\u0000\u0000\u00d8"+
-		"@\u0001\u0000\u0000\u0000\u00d9\u00da\u0005*\u0000\u0000\u00daB\u0001"+
-		"\u0000\u0000\u0000\u00db\u00dc\u0005/\u0000\u0000\u00dcD\u0001\u0000\u0000"+
-		"\u0000\u00dd\u00de\u0005%\u0000\u0000\u00deF\u0001\u0000\u0000\u0000\u00df"+
-		"\u00e0\u0005>\u0000\u0000\u00e0H\u0001\u0000\u0000\u0000\u00e1\u00e2\u0005"+
-		">\u0000\u0000\u00e2\u00e3\u0005=\u0000\u0000\u00e3J\u0001\u0000\u0000"+
-		"\u0000\u00e4\u00e5\u0005=\u0000\u0000\u00e5\u00e6\u0005=\u0000\u0000\u00e6"+
-		"L\u0001\u0000\u0000\u0000\u00e7\u00e8\u0005<\u0000\u0000\u00e8N\u0001"+
-		"\u0000\u0000\u0000\u00e9\u00ea\u0005<\u0000\u0000\u00ea\u00eb\u0005=\u0000"+
-		"\u0000\u00ebP\u0001\u0000\u0000\u0000\u00ec\u00ed\u0005!\u0000\u0000\u00ed"+
-		"\u00ee\u0005=\u0000\u0000\u00eeR\u0001\u0000\u0000\u0000\u00ef\u00f0\u0005"+
-		"&\u0000\u0000\u00f0\u00f1\u0005&\u0000\u0000\u00f1T\u0001\u0000\u0000"+
-		"\u0000\u00f2\u00f3\u0005|\u0000\u0000\u00f3\u00f4\u0005|\u0000\u0000\u00f4"+
-		"V\u0001\u0000\u0000\u0000\u00f5\u00f6\u0005<\u0000\u0000\u00f6\u00f7\u0005"+
-		"<\u0000\u0000\u00f7X\u0001\u0000\u0000\u0000\u00f8\u00f9\u0005>\u0000"+
-		"\u0000\u00f9\u00fa\u0005>\u0000\u0000\u00faZ\u0001\u0000\u0000\u0000\u00fb"+
-		"\u00fc\u0005>\u0000\u0000\u00fc\u00fd\u0005>\u0000\u0000\u00fd\u00fe\u0005"+
-		">\u0000\u0000\u00fe\\\u0001\u0000\u0000\u0000\u00ff\u0100\u0005t\u0000"+
-		"\u0000\u0100\u0101\u0005r\u0000\u0000\u0101\u0102\u0005u\u0000\u0000\u0102"+
-		"\u0103\u0005e\u0000\u0000\u0103^\u0001\u0000\u0000\u0000\u0104\u0105\u0005"+
-		"f\u0000\u0000\u0105\u0106\u0005a\u0000\u0000\u0106\u0107\u0005l\u0000"+
-		"\u0000\u0107\u0108\u0005s\u0000\u0000\u0108\u0109\u0005e\u0000\u0000\u0109"+
-		"`\u0001\u0000\u0000\u0000\u010a\u010e\u0007\u0000\u0000\u0000\u010b\u010d"+
-		"\u0007\u0001\u0000\u0000\u010c\u010b\u0001\u0000\u0000\u0000\u010d\u0110"+
-		"\u0001\u0000\u0000\u0000\u010e\u010c\u0001\u0000\u0000\u0000\u010e\u010f"+
-		"\u0001\u0000\u0000\u0000\u010fb\u0001\u0000\u0000\u0000\u0110\u010e\u0001"+
-		"\u0000\u0000\u0000\u0111\u011a\u00050\u0000\u0000\u0112\u0116\u000219"+
-		"\u0000\u0113\u0115\u000209\u0000\u0114\u0113\u0001\u0000\u0000\u0000\u0115"+
-		"\u0118\u0001\u0000\u0000\u0000\u0116\u0114\u0001\u0000\u0000\u0000\u0116"+
-		"\u0117\u0001\u0000\u0000\u0000\u0117\u011a\u0001\u0000\u0000\u0000\u0118"+
-		"\u0116\u0001\u0000\u0000\u0000\u0119\u0111\u0001\u0000\u0000\u0000\u0119"+
-		"\u0112\u0001\u0000\u0000\u0000\u011ad\u0001\u0000\u0000\u0000\u011b\u011d"+
-		"\u0007\u0002\u0000\u0000\u011c\u011b\u0001\u0000\u0000\u0000\u011d\u011e"+
-		"\u0001\u0000\u0000\u0000\u011e\u011c\u0001\u0000\u0000\u0000\u011e\u011f"+
-		"\u0001\u0000\u0000\u0000\u011f\u0120\u0001\u0000\u0000\u0000\u0120\u0121"+
-		"\u00062\u0000\u0000\u0121f\u0001\u0000\u0000\u0000\u0122\u0123\t\u0000"+
-		"\u0000\u0000\u0123h\u0001\u0000\u0000\u0000\u0005\u0000\u010e\u0116\u0119"+
-		"\u011e\u0001\u0006\u0000\u0000";
+		"0\u00021\u00071\u00022\u00072\u00023\u00073\u00024\u00074\u0001\u0000"+
+		"\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001"+
+		"\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003"+
+		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004"+
+		"\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
+		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f"+
+		"\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011"+
+		"\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014"+
+		"\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018"+
+		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019"+
+		"\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001b"+
+		"\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001e"+
+		"\u0001\u001e\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001"+
+		"!\u0001!\u0001\"\u0001\"\u0001#\u0001#\u0001$\u0001$\u0001%\u0001%\u0001"+
+		"%\u0001&\u0001&\u0001&\u0001\'\u0001\'\u0001(\u0001(\u0001(\u0001)\u0001"+
+		")\u0001)\u0001*\u0001*\u0001*\u0001+\u0001+\u0001+\u0001,\u0001,\u0001"+
+		",\u0001-\u0001-\u0001-\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001"+
+		"/\u0001/\u0001/\u00010\u00010\u00010\u00010\u00010\u00010\u00011\u0001"+
+		"1\u00051\u0114\b1\n1\f1\u0117\t1\u00012\u00012\u00012\u00052\u011c\b2"+
+		"\n2\f2\u011f\t2\u00032\u0121\b2\u00013\u00043\u0124\b3\u000b3\f3\u0125"+
+		"\u00013\u00013\u00014\u00014\u0000\u00005\u0001\u0001\u0003\u0002\u0005"+
+		"\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013\n"+
+		"\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011"+
+		"#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b"+
+		"7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%K&M\'O(Q)S*U+W,Y-[.]/_0a1c2e"+
+		"3g4i5\u0001\u0000\u0003\u0004\u0000$$AZ__az\u0005\u0000$$09AZ__az\u0003"+
+		"\u0000\t\n\f\r  \u012e\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003"+
+		"\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007"+
+		"\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001"+
+		"\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000"+
+		"\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000"+
+		"\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000"+
+		"\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000"+
+		"\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000"+
+		"\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000"+
+		"\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000"+
+		")\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001"+
+		"\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000"+
+		"\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u0000"+
+		"7\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001"+
+		"\u0000\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000"+
+		"\u0000\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000"+
+		"E\u0001\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001"+
+		"\u0000\u0000\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000"+
+		"\u0000\u0000O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000"+
+		"S\u0001\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001"+
+		"\u0000\u0000\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000"+
+		"\u0000\u0000]\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000"+
+		"a\u0001\u0000\u0000\u0000\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001"+
+		"\u0000\u0000\u0000\u0000g\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000"+
+		"\u0000\u0001k\u0001\u0000\u0000\u0000\u0003q\u0001\u0000\u0000\u0000\u0005"+
+		"s\u0001\u0000\u0000\u0000\u0007u\u0001\u0000\u0000\u0000\t|\u0001\u0000"+
+		"\u0000\u0000\u000b~\u0001\u0000\u0000\u0000\r\u0080\u0001\u0000\u0000"+
+		"\u0000\u000f\u0082\u0001\u0000\u0000\u0000\u0011\u0086\u0001\u0000\u0000"+
+		"\u0000\u0013\u008e\u0001\u0000\u0000\u0000\u0015\u0090\u0001\u0000\u0000"+
+		"\u0000\u0017\u0092\u0001\u0000\u0000\u0000\u0019\u0097\u0001\u0000\u0000"+
+		"\u0000\u001b\u009e\u0001\u0000\u0000\u0000\u001d\u00a0\u0001\u0000\u0000"+
+		"\u0000\u001f\u00a2\u0001\u0000\u0000\u0000!\u00a4\u0001\u0000\u0000\u0000"+
+		"#\u00a8\u0001\u0000\u0000\u0000%\u00ab\u0001\u0000\u0000\u0000\'\u00ae"+
+		"\u0001\u0000\u0000\u0000)\u00b1\u0001\u0000\u0000\u0000+\u00b7\u0001\u0000"+
+		"\u0000\u0000-\u00ba\u0001\u0000\u0000\u0000/\u00bf\u0001\u0000\u0000\u0000"+
+		"1\u00c6\u0001\u0000\u0000\u00003\u00cb\u0001\u0000\u0000\u00005\u00d0"+
+		"\u0001\u0000\u0000\u00007\u00d2\u0001\u0000\u0000\u00009\u00d4\u0001\u0000"+
+		"\u0000\u0000;\u00d6\u0001\u0000\u0000\u0000=\u00d8\u0001\u0000\u0000\u0000"+
+		"?\u00da\u0001\u0000\u0000\u0000A\u00dc\u0001\u0000\u0000\u0000C\u00e0"+
+		"\u0001\u0000\u0000\u0000E\u00e2\u0001\u0000\u0000\u0000G\u00e4\u0001\u0000"+
+		"\u0000\u0000I\u00e6\u0001\u0000\u0000\u0000K\u00e8\u0001\u0000\u0000\u0000"+
+		"M\u00eb\u0001\u0000\u0000\u0000O\u00ee\u0001\u0000\u0000\u0000Q\u00f0"+
+		"\u0001\u0000\u0000\u0000S\u00f3\u0001\u0000\u0000\u0000U\u00f6\u0001\u0000"+
+		"\u0000\u0000W\u00f9\u0001\u0000\u0000\u0000Y\u00fc\u0001\u0000\u0000\u0000"+
+		"[\u00ff\u0001\u0000\u0000\u0000]\u0102\u0001\u0000\u0000\u0000_\u0106"+
+		"\u0001\u0000\u0000\u0000a\u010b\u0001\u0000\u0000\u0000c\u0111\u0001\u0000"+
+		"\u0000\u0000e\u0120\u0001\u0000\u0000\u0000g\u0123\u0001\u0000\u0000\u0000"+
+		"i\u0129\u0001\u0000\u0000\u0000kl\u0005c\u0000\u0000lm\u0005l\u0000\u0000"+
+		"mn\u0005a\u0000\u0000no\u0005s\u0000\u0000op\u0005s\u0000\u0000p\u0002"+
+		"\u0001\u0000\u0000\u0000qr\u0005{\u0000\u0000r\u0004\u0001\u0000\u0000"+
+		"\u0000st\u0005}\u0000\u0000t\u0006\u0001\u0000\u0000\u0000uv\u0005p\u0000"+
+		"\u0000vw\u0005u\u0000\u0000wx\u0005b\u0000\u0000xy\u0005l\u0000\u0000"+
+		"yz\u0005i\u0000\u0000z{\u0005c\u0000\u0000{\b\u0001\u0000\u0000\u0000"+
+		"|}\u0005;\u0000\u0000}\n\u0001\u0000\u0000\u0000~\u007f\u0005(\u0000\u0000"+
+		"\u007f\f\u0001\u0000\u0000\u0000\u0080\u0081\u0005)\u0000\u0000\u0081"+
+		"\u000e\u0001\u0000\u0000\u0000\u0082\u0083\u0005i\u0000\u0000\u0083\u0084"+
+		"\u0005n\u0000\u0000\u0084\u0085\u0005t\u0000\u0000\u0085\u0010\u0001\u0000"+
+		"\u0000\u0000\u0086\u0087\u0005b\u0000\u0000\u0087\u0088\u0005o\u0000\u0000"+
+		"\u0088\u0089\u0005o\u0000\u0000\u0089\u008a\u0005l\u0000\u0000\u008a\u008b"+
+		"\u0005e\u0000\u0000\u008b\u008c\u0005a\u0000\u0000\u008c\u008d\u0005n"+
+		"\u0000\u0000\u008d\u0012\u0001\u0000\u0000\u0000\u008e\u008f\u0005[\u0000"+
+		"\u0000\u008f\u0014\u0001\u0000\u0000\u0000\u0090\u0091\u0005]\u0000\u0000"+
+		"\u0091\u0016\u0001\u0000\u0000\u0000\u0092\u0093\u0005v\u0000\u0000\u0093"+
+		"\u0094\u0005o\u0000\u0000\u0094\u0095\u0005i\u0000\u0000\u0095\u0096\u0005"+
+		"d\u0000\u0000\u0096\u0018\u0001\u0000\u0000\u0000\u0097\u0098\u0005s\u0000"+
+		"\u0000\u0098\u0099\u0005t\u0000\u0000\u0099\u009a\u0005a\u0000\u0000\u009a"+
+		"\u009b\u0005t\u0000\u0000\u009b\u009c\u0005i\u0000\u0000\u009c\u009d\u0005"+
+		"c\u0000\u0000\u009d\u001a\u0001\u0000\u0000\u0000\u009e\u009f\u0005,\u0000"+
+		"\u0000\u009f\u001c\u0001\u0000\u0000\u0000\u00a0\u00a1\u0005=\u0000\u0000"+
+		"\u00a1\u001e\u0001\u0000\u0000\u0000\u00a2\u00a3\u0005.\u0000\u0000\u00a3"+
+		" \u0001\u0000\u0000\u0000\u00a4\u00a5\u0005f\u0000\u0000\u00a5\u00a6\u0005"+
+		"o\u0000\u0000\u00a6\u00a7\u0005r\u0000\u0000\u00a7\"\u0001\u0000\u0000"+
+		"\u0000\u00a8\u00a9\u0005+\u0000\u0000\u00a9\u00aa\u0005+\u0000\u0000\u00aa"+
+		"$\u0001\u0000\u0000\u0000\u00ab\u00ac\u0005-\u0000\u0000\u00ac\u00ad\u0005"+
+		"-\u0000\u0000\u00ad&\u0001\u0000\u0000\u0000\u00ae\u00af\u0005d\u0000"+
+		"\u0000\u00af\u00b0\u0005o\u0000\u0000\u00b0(\u0001\u0000\u0000\u0000\u00b1"+
+		"\u00b2\u0005w\u0000\u0000\u00b2\u00b3\u0005h\u0000\u0000\u00b3\u00b4\u0005"+
+		"i\u0000\u0000\u00b4\u00b5\u0005l\u0000\u0000\u00b5\u00b6\u0005e\u0000"+
+		"\u0000\u00b6*\u0001\u0000\u0000\u0000\u00b7\u00b8\u0005i\u0000\u0000\u00b8"+
+		"\u00b9\u0005f\u0000\u0000\u00b9,\u0001\u0000\u0000\u0000\u00ba\u00bb\u0005"+
+		"e\u0000\u0000\u00bb\u00bc\u0005l\u0000\u0000\u00bc\u00bd\u0005s\u0000"+
+		"\u0000\u00bd\u00be\u0005e\u0000\u0000\u00be.\u0001\u0000\u0000\u0000\u00bf"+
+		"\u00c0\u0005r\u0000\u0000\u00c0\u00c1\u0005e\u0000\u0000\u00c1\u00c2\u0005"+
+		"t\u0000\u0000\u00c2\u00c3\u0005u\u0000\u0000\u00c3\u00c4\u0005r\u0000"+
+		"\u0000\u00c4\u00c5\u0005n\u0000\u0000\u00c50\u0001\u0000\u0000\u0000\u00c6"+
+		"\u00c7\u0005n\u0000\u0000\u00c7\u00c8\u0005u\u0000\u0000\u00c8\u00c9\u0005"+
+		"l\u0000\u0000\u00c9\u00ca\u0005l\u0000\u0000\u00ca2\u0001\u0000\u0000"+
+		"\u0000\u00cb\u00cc\u0005t\u0000\u0000\u00cc\u00cd\u0005h\u0000\u0000\u00cd"+
+		"\u00ce\u0005i\u0000\u0000\u00ce\u00cf\u0005s\u0000\u0000\u00cf4\u0001"+
+		"\u0000\u0000\u0000\u00d0\u00d1\u0005-\u0000\u0000\u00d16\u0001\u0000\u0000"+
+		"\u0000\u00d2\u00d3\u0005+\u0000\u0000\u00d38\u0001\u0000\u0000\u0000\u00d4"+
+		"\u00d5\u0005!\u0000\u0000\u00d5:\u0001\u0000\u0000\u0000\u00d6\u00d7\u0005"+
+		"~\u0000\u0000\u00d7<\u0001\u0000\u0000\u0000\u00d8\u00d9\u0005?\u0000"+
+		"\u0000\u00d9>\u0001\u0000\u0000\u0000\u00da\u00db\u0005:\u0000\u0000\u00db"+
+		"@\u0001\u0000\u0000\u0000\u00dc\u00dd\u0005n\u0000\u0000\u00dd\u00de\u0005"+
+		"e\u0000\u0000\u00de\u00df\u0005w\u0000\u0000\u00dfB\u0001\u0000\u0000"+
+		"\u0000\u00e0\u00e1\u0005*\u0000\u0000\u00e1D\u0001\u0000\u0000\u0000\u00e2"+
+		"\u00e3\u0005/\u0000\u0000\u00e3F\u0001\u0000\u0000\u0000\u00e4\u00e5\u0005"+
+		"%\u0000\u0000\u00e5H\u0001\u0000\u0000\u0000\u00e6\u00e7\u0005>\u0000"+
+		"\u0000\u00e7J\u0001\u0000\u0000\u0000\u00e8\u00e9\u0005>\u0000\u0000\u00e9"+
+		"\u00ea\u0005=\u0000\u0000\u00eaL\u0001\u0000\u0000\u0000\u00eb\u00ec\u0005"+
+		"=\u0000\u0000\u00ec\u00ed\u0005=\u0000\u0000\u00edN\u0001\u0000\u0000"+
+		"\u0000\u00ee\u00ef\u0005<\u0000\u0000\u00efP\u0001\u0000\u0000\u0000\u00f0"+
+		"\u00f1\u0005<\u0000\u0000\u00f1\u00f2\u0005=\u0000\u0000\u00f2R\u0001"+
+		"\u0000\u0000\u0000\u00f3\u00f4\u0005!\u0000\u0000\u00f4\u00f5\u0005=\u0000"+
+		"\u0000\u00f5T\u0001\u0000\u0000\u0000\u00f6\u00f7\u0005&\u0000\u0000\u00f7"+
+		"\u00f8\u0005&\u0000\u0000\u00f8V\u0001\u0000\u0000\u0000\u00f9\u00fa\u0005"+
+		"|\u0000\u0000\u00fa\u00fb\u0005|\u0000\u0000\u00fbX\u0001\u0000\u0000"+
+		"\u0000\u00fc\u00fd\u0005<\u0000\u0000\u00fd\u00fe\u0005<\u0000\u0000\u00fe"+
+		"Z\u0001\u0000\u0000\u0000\u00ff\u0100\u0005>\u0000\u0000\u0100\u0101\u0005"+
+		">\u0000\u0000\u0101\\\u0001\u0000\u0000\u0000\u0102\u0103\u0005>\u0000"+
+		"\u0000\u0103\u0104\u0005>\u0000\u0000\u0104\u0105\u0005>\u0000\u0000\u0105"+
+		"^\u0001\u0000\u0000\u0000\u0106\u0107\u0005t\u0000\u0000\u0107\u0108\u0005"+
+		"r\u0000\u0000\u0108\u0109\u0005u\u0000\u0000\u0109\u010a\u0005e\u0000"+
+		"\u0000\u010a`\u0001\u0000\u0000\u0000\u010b\u010c\u0005f\u0000\u0000\u010c"+
+		"\u010d\u0005a\u0000\u0000\u010d\u010e\u0005l\u0000\u0000\u010e\u010f\u0005"+
+		"s\u0000\u0000\u010f\u0110\u0005e\u0000\u0000\u0110b\u0001\u0000\u0000"+
+		"\u0000\u0111\u0115\u0007\u0000\u0000\u0000\u0112\u0114\u0007\u0001\u0000"+
+		"\u0000\u0113\u0112\u0001\u0000\u0000\u0000\u0114\u0117\u0001\u0000\u0000"+
+		"\u0000\u0115\u0113\u0001\u0000\u0000\u0000\u0115\u0116\u0001\u0000\u0000"+
+		"\u0000\u0116d\u0001\u0000\u0000\u0000\u0117\u0115\u0001\u0000\u0000\u0000"+
+		"\u0118\u0121\u00050\u0000\u0000\u0119\u011d\u000219\u0000\u011a\u011c"+
+		"\u000209\u0000\u011b\u011a\u0001\u0000\u0000\u0000\u011c\u011f\u0001\u0000"+
+		"\u0000\u0000\u011d\u011b\u0001\u0000\u0000\u0000\u011d\u011e\u0001\u0000"+
+		"\u0000\u0000\u011e\u0121\u0001\u0000\u0000\u0000\u011f\u011d\u0001\u0000"+
+		"\u0000\u0000\u0120\u0118\u0001\u0000\u0000\u0000\u0120\u0119\u0001\u0000"+
+		"\u0000\u0000\u0121f\u0001\u0000\u0000\u0000\u0122\u0124\u0007\u0002\u0000"+
+		"\u0000\u0123\u0122\u0001\u0000\u0000\u0000\u0124\u0125\u0001\u0000\u0000"+
+		"\u0000\u0125\u0123\u0001\u0000\u0000\u0000\u0125\u0126\u0001\u0000\u0000"+
+		"\u0000\u0126\u0127\u0001\u0000\u0000\u0000\u0127\u0128\u00063\u0000\u0000"+
+		"\u0128h\u0001\u0000\u0000\u0000\u0129\u012a\t\u0000\u0000\u0000\u012a"+
+		"j\u0001\u0000\u0000\u0000\u0005\u0000\u0115\u011d\u0120\u0125\u0001\u0006"+
+		"\u0000\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
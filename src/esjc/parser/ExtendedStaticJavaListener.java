@@ -37,6 +37,16 @@ public interface ExtendedStaticJavaListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitPublicFieldDeclaration(ExtendedStaticJavaParser.PublicFieldDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link ExtendedStaticJavaParser#instanceMethodDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterInstanceMethodDeclaration(ExtendedStaticJavaParser.InstanceMethodDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ExtendedStaticJavaParser#instanceMethodDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitInstanceMethodDeclaration(ExtendedStaticJavaParser.InstanceMethodDeclarationContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link ExtendedStaticJavaParser#type}.
 	 * @param ctx the parse tree
@@ -389,6 +399,18 @@ public interface ExtendedStaticJavaListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitLiteralExp(ExtendedStaticJavaParser.LiteralExpContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code MethodInvokeExp}
+	 * labeled alternative in {@link ExtendedStaticJavaParser#exp}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethodInvokeExp(ExtendedStaticJavaParser.MethodInvokeExpContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code MethodInvokeExp}
+	 * labeled alternative in {@link ExtendedStaticJavaParser#exp}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethodInvokeExp(ExtendedStaticJavaParser.MethodInvokeExpContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code ArrayAccessExp}
 	 * labeled alternative in {@link ExtendedStaticJavaParser#exp}.
@@ -533,6 +555,18 @@ public interface ExtendedStaticJavaListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitNewExp(ExtendedStaticJavaParser.NewExpContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ThisExp}
+	 * labeled alternative in {@link ExtendedStaticJavaParser#exp}.
+	 * @param ctx the parse tree
+	 */
+	void enterThisExp(ExtendedStaticJavaParser.ThisExpContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ThisExp}
+	 * labeled alternative in {@link ExtendedStaticJavaParser#exp}.
+	 * @param ctx the parse tree
+	 */
+	void exitThisExp(ExtendedStaticJavaParser.ThisExpContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link ExtendedStaticJavaParser#binaryOp}.
 	 * @param ctx the parse tree
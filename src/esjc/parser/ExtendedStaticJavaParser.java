@@ -23,41 +23,43 @@ public class ExtendedStaticJavaParser extends Parser {
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
 		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
 		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
-		T__45=46, T__46=47, T__47=48, ID=49, INT=50, WS=51, ERROR=52;
+		T__45=46, T__46=47, T__47=48, T__48=49, ID=50, INT=51, WS=52, ERROR=53;
 	public static final int
 		RULE_program = 0, RULE_simpleClassDefintion = 1, RULE_publicFieldDeclaration = 2, 
-		RULE_type = 3, RULE_basicType = 4, RULE_intType = 5, RULE_booleanType = 6, 
-		RULE_arrayType = 7, RULE_returnType = 8, RULE_compilationUnit = 9, RULE_classDefinition = 10, 
-		RULE_memberDeclaration = 11, RULE_mainMethodDeclaration = 12, RULE_fieldDeclaration = 13, 
-		RULE_methodDeclaration = 14, RULE_params = 15, RULE_param = 16, RULE_methodBody = 17, 
-		RULE_localDeclaration = 18, RULE_statement = 19, RULE_incDecStatement = 20, 
-		RULE_assignStatement = 21, RULE_assign = 22, RULE_lhs = 23, RULE_forStatement = 24, 
-		RULE_forInits = 25, RULE_forUpdates = 26, RULE_incDec = 27, RULE_doWhileStatement = 28, 
-		RULE_ifStatement = 29, RULE_whileStatement = 30, RULE_invokeExpStatement = 31, 
-		RULE_returnStatement = 32, RULE_exp = 33, RULE_binaryOp = 34, RULE_booleanLiteral = 35, 
-		RULE_arrayInit = 36, RULE_invoke = 37, RULE_args = 38;
+		RULE_instanceMethodDeclaration = 3, RULE_type = 4, RULE_basicType = 5, 
+		RULE_intType = 6, RULE_booleanType = 7, RULE_arrayType = 8, RULE_returnType = 9, 
+		RULE_compilationUnit = 10, RULE_classDefinition = 11, RULE_memberDeclaration = 12, 
+		RULE_mainMethodDeclaration = 13, RULE_fieldDeclaration = 14, RULE_methodDeclaration = 15, 
+		RULE_params = 16, RULE_param = 17, RULE_methodBody = 18, RULE_localDeclaration = 19, 
+		RULE_statement = 20, RULE_incDecStatement = 21, RULE_assignStatement = 22, 
+		RULE_assign = 23, RULE_lhs = 24, RULE_forStatement = 25, RULE_forInits = 26, 
+		RULE_forUpdates = 27, RULE_incDec = 28, RULE_doWhileStatement = 29, RULE_ifStatement = 30, 
+		RULE_whileStatement = 31, RULE_invokeExpStatement = 32, RULE_returnStatement = 33, 
+		RULE_exp = 34, RULE_binaryOp = 35, RULE_booleanLiteral = 36, RULE_arrayInit = 37, 
+		RULE_invoke = 38, RULE_args = 39;
 	private static String[] makeRuleNames() {
 		return new String[] {
-			"program", "simpleClassDefintion", "publicFieldDeclaration", "type", 
-			"basicType", "intType", "booleanType", "arrayType", "returnType", "compilationUnit", 
-			"classDefinition", "memberDeclaration", "mainMethodDeclaration", "fieldDeclaration", 
-			"methodDeclaration", "params", "param", "methodBody", "localDeclaration", 
-			"statement", "incDecStatement", "assignStatement", "assign", "lhs", "forStatement", 
-			"forInits", "forUpdates", "incDec", "doWhileStatement", "ifStatement", 
-			"whileStatement", "invokeExpStatement", "returnStatement", "exp", "binaryOp", 
-			"booleanLiteral", "arrayInit", "invoke", "args"
+			"program", "simpleClassDefintion", "publicFieldDeclaration", "instanceMethodDeclaration", 
+			"type", "basicType", "intType", "booleanType", "arrayType", "returnType", 
+			"compilationUnit", "classDefinition", "memberDeclaration", "mainMethodDeclaration", 
+			"fieldDeclaration", "methodDeclaration", "params", "param", "methodBody", 
+			"localDeclaration", "statement", "incDecStatement", "assignStatement", 
+			"assign", "lhs", "forStatement", "forInits", "forUpdates", "incDec", 
+			"doWhileStatement", "ifStatement", "whileStatement", "invokeExpStatement", 
+			"returnStatement", "exp", "binaryOp", "booleanLiteral", "arrayInit", 
+			"invoke", "args"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
 
 	private static String[] makeLiteralNames() {
 		return new String[] {
-			null, "'class'", "'{'", "'}'", "'public'", "';'", "'int'", "'boolean'", 
-			"'['", "']'", "'void'", "'static'", "'('", "')'", "','", "'='", "'.'", 
+			null, "'class'", "'{'", "'}'", "'public'", "';'", "'('", "')'", "'int'", 
+			"'boolean'", "'['", "']'", "'void'", "'static'", "','", "'='", "'.'", 
 			"'for'", "'++'", "'--'", "'do'", "'while'", "'if'", "'else'", "'return'", 
-			"'null'", "'-'", "'+'", "'!'", "'~'", "'?'", "':'", "'new'", "'*'", "'/'", 
-			"'%'", "'>'", "'>='", "'=='", "'<'", "'<='", "'!='", "'&&'", "'||'", 
-			"'<<'", "'>>'", "'>>>'", "'true'", "'false'"
+			"'null'", "'this'", "'-'", "'+'", "'!'", "'~'", "'?'", "':'", "'new'", 
+			"'*'", "'/'", "'%'", "'>'", "'>='", "'=='", "'<'", "'<='", "'!='", "'&&'", 
+			"'||'", "'<<'", "'>>'", "'>>>'", "'true'", "'false'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -67,7 +69,7 @@ public class ExtendedStaticJavaParser extends Parser {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
 			null, null, null, null, null, null, null, null, null, null, null, null, 
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, "ID", "INT", "WS", "ERROR"
+			null, null, "ID", "INT", "WS", "ERROR"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -161,35 +163,35 @@ public class ExtendedStaticJavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(81);
+			setState(83);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0) {
 				{
 				{
-				setState(78);
+				setState(80);
 				((ProgramContext)_localctx).simpleClassDefintion = simpleClassDefintion();
 				((ProgramContext)_localctx).d1.add(((ProgramContext)_localctx).simpleClassDefintion);
 				}
 				}
-				setState(83);
+				setState(85);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(84);
+			setState(86);
 			classDefinition();
-			setState(88);
+			setState(90);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0) {
 				{
 				{
-				setState(85);
+				setState(87);
 				((ProgramContext)_localctx).simpleClassDefintion = simpleClassDefintion();
 				((ProgramContext)_localctx).d2.add(((ProgramContext)_localctx).simpleClassDefintion);
 				}
 				}
-				setState(90);
+				setState(92);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -215,6 +217,12 @@ public class ExtendedStaticJavaParser extends Parser {
 		public PublicFieldDeclarationContext publicFieldDeclaration(int i) {
 			return getRuleContext(PublicFieldDeclarationContext.class,i);
 		}
+		public List<InstanceMethodDeclarationContext> instanceMethodDeclaration() {
+			return getRuleContexts(InstanceMethodDeclarationContext.class);
+		}
+		public InstanceMethodDeclarationContext instanceMethodDeclaration(int i) {
+			return getRuleContext(InstanceMethodDeclarationContext.class,i);
+		}
 		public SimpleClassDefintionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -239,29 +247,46 @@ public class ExtendedStaticJavaParser extends Parser {
 		enterRule(_localctx, 2, RULE_simpleClassDefintion);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(91);
+			setState(93);
 			match(T__0);
-			setState(92);
+			setState(94);
 			match(ID);
-			setState(93);
+			setState(95);
 			match(T__1);
-			setState(97);
+			setState(99);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(96);
+					publicFieldDeclaration();
+					}
+					} 
+				}
+				setState(101);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
+			}
+			setState(105);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__3) {
 				{
 				{
-				setState(94);
-				publicFieldDeclaration();
+				setState(102);
+				instanceMethodDeclaration();
 				}
 				}
-				setState(99);
+				setState(107);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(100);
+			setState(108);
 			match(T__2);
 			}
 		}
@@ -307,13 +332,13 @@ public class ExtendedStaticJavaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(102);
+			setState(110);
 			match(T__3);
-			setState(103);
+			setState(111);
 			type();
-			setState(104);
+			setState(112);
 			match(ID);
-			setState(105);
+			setState(113);
 			match(T__4);
 			}
 		}
@@ -328,6 +353,83 @@ public class ExtendedStaticJavaParser extends Parser {
 		return _localctx;
 	}
 
+	@SuppressWarnings("CheckReturnValue")
+	public static class InstanceMethodDeclarationContext extends ParserRuleContext {
+		public ReturnTypeContext returnType() {
+			return getRuleContext(ReturnTypeContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(ExtendedStaticJavaParser.ID, 0); }
+		public MethodBodyContext methodBody() {
+			return getRuleContext(MethodBodyContext.class,0);
+		}
+		public ParamsContext params() {
+			return getRuleContext(ParamsContext.class,0);
+		}
+		public InstanceMethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_instanceMethodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ExtendedStaticJavaListener ) ((ExtendedStaticJavaListener)listener).enterInstanceMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ExtendedStaticJavaListener ) ((ExtendedStaticJavaListener)listener).exitInstanceMethodDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ExtendedStaticJavaVisitor ) return ((ExtendedStaticJavaVisitor<? extends T>)visitor).visitInstanceMethodDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InstanceMethodDeclarationContext instanceMethodDeclaration() throws RecognitionException {
+		InstanceMethodDeclarationContext _localctx = new InstanceMethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_instanceMethodDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(115);
+			match(T__3);
+			setState(116);
+			returnType();
+			setState(117);
+			match(ID);
+			setState(118);
+			match(T__5);
+			setState(120);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1125899906843392L) != 0)) {
+				{
+				setState(119);
+				params();
+				}
+			}
+
+			setState(122);
+			match(T__6);
+			setState(123);
+			match(T__1);
+			setState(124);
+			methodBody();
+			setState(125);
+			match(T__2);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	@SuppressWarnings("CheckReturnValue")
 	public static class TypeContext extends ParserRuleContext {
 		public BasicTypeContext basicType() {
@@ -363,36 +465,36 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final TypeContext type() throws RecognitionException {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_type);
+		enterRule(_localctx, 8, RULE_type);
 		try {
-			setState(111);
+			setState(131);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(107);
+				setState(127);
 				basicType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(108);
+				setState(128);
 				intType();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(109);
+				setState(129);
 				booleanType();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(110);
+				setState(130);
 				arrayType();
 				}
 				break;
@@ -433,11 +535,11 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final BasicTypeContext basicType() throws RecognitionException {
 		BasicTypeContext _localctx = new BasicTypeContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_basicType);
+		enterRule(_localctx, 10, RULE_basicType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(113);
+			setState(133);
 			match(ID);
 			}
 		}
@@ -475,12 +577,12 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final IntTypeContext intType() throws RecognitionException {
 		IntTypeContext _localctx = new IntTypeContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_intType);
+		enterRule(_localctx, 12, RULE_intType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(115);
-			match(T__5);
+			setState(135);
+			match(T__7);
 			}
 		}
 		catch (RecognitionException re) {
@@ -517,12 +619,12 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final BooleanTypeContext booleanType() throws RecognitionException {
 		BooleanTypeContext _localctx = new BooleanTypeContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_booleanType);
+		enterRule(_localctx, 14, RULE_booleanType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(117);
-			match(T__6);
+			setState(137);
+			match(T__8);
 			}
 		}
 		catch (RecognitionException re) {
@@ -570,49 +672,49 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ArrayTypeContext arrayType() throws RecognitionException {
 		ArrayTypeContext _localctx = new ArrayTypeContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_arrayType);
+		enterRule(_localctx, 16, RULE_arrayType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(122);
+			setState(142);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__6:
+			case T__8:
 				{
-				setState(119);
+				setState(139);
 				booleanType();
 				}
 				break;
-			case T__5:
+			case T__7:
 				{
-				setState(120);
+				setState(140);
 				intType();
 				}
 				break;
 			case ID:
 				{
-				setState(121);
+				setState(141);
 				match(ID);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(124);
-			match(T__7);
-			setState(126);
+			setState(144);
+			match(T__9);
+			setState(146);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067660488704L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
 				{
-				setState(125);
+				setState(145);
 				((ArrayTypeContext)_localctx).size = exp(0);
 				}
 			}
 
-			setState(128);
-			match(T__8);
+			setState(148);
+			match(T__10);
 			}
 		}
 		catch (RecognitionException re) {
@@ -678,26 +780,26 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ReturnTypeContext returnType() throws RecognitionException {
 		ReturnTypeContext _localctx = new ReturnTypeContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_returnType);
+		enterRule(_localctx, 18, RULE_returnType);
 		try {
-			setState(132);
+			setState(152);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__9:
+			case T__11:
 				_localctx = new VoidTypeContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(130);
-				match(T__9);
+				setState(150);
+				match(T__11);
 				}
 				break;
-			case T__5:
-			case T__6:
+			case T__7:
+			case T__8:
 			case ID:
 				_localctx = new NonVoidReturnTypeContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(131);
+				setState(151);
 				type();
 				}
 				break;
@@ -743,13 +845,13 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final CompilationUnitContext compilationUnit() throws RecognitionException {
 		CompilationUnitContext _localctx = new CompilationUnitContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_compilationUnit);
+		enterRule(_localctx, 20, RULE_compilationUnit);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(134);
+			setState(154);
 			program();
-			setState(135);
+			setState(155);
 			match(EOF);
 			}
 		}
@@ -797,36 +899,36 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ClassDefinitionContext classDefinition() throws RecognitionException {
 		ClassDefinitionContext _localctx = new ClassDefinitionContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_classDefinition);
+		enterRule(_localctx, 22, RULE_classDefinition);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(137);
+			setState(157);
 			match(T__3);
-			setState(138);
+			setState(158);
 			match(T__0);
-			setState(139);
+			setState(159);
 			match(ID);
-			setState(140);
+			setState(160);
 			match(T__1);
-			setState(141);
+			setState(161);
 			mainMethodDeclaration();
-			setState(145);
+			setState(165);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__10) {
+			while (_la==T__12) {
 				{
 				{
-				setState(142);
+				setState(162);
 				memberDeclaration();
 				}
 				}
-				setState(147);
+				setState(167);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(148);
+			setState(168);
 			match(T__2);
 			}
 		}
@@ -870,22 +972,22 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final MemberDeclarationContext memberDeclaration() throws RecognitionException {
 		MemberDeclarationContext _localctx = new MemberDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_memberDeclaration);
+		enterRule(_localctx, 24, RULE_memberDeclaration);
 		try {
-			setState(152);
+			setState(172);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(150);
+				setState(170);
 				fieldDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(151);
+				setState(171);
 				methodDeclaration();
 				}
 				break;
@@ -935,39 +1037,39 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final MainMethodDeclarationContext mainMethodDeclaration() throws RecognitionException {
 		MainMethodDeclarationContext _localctx = new MainMethodDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_mainMethodDeclaration);
+		enterRule(_localctx, 26, RULE_mainMethodDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(154);
+			setState(174);
 			match(T__3);
-			setState(155);
-			match(T__10);
-			setState(156);
-			match(T__9);
-			setState(157);
+			setState(175);
+			match(T__12);
+			setState(176);
+			match(T__11);
+			setState(177);
 			((MainMethodDeclarationContext)_localctx).id1 = match(ID);
-			setState(158);
+			setState(178);
 			if (!( "main".equals((((MainMethodDeclarationContext)_localctx).id1!=null?((MainMethodDeclarationContext)_localctx).id1.getText():null)) )) throw new FailedPredicateException(this, " \"main\".equals($id1.text) ");
-			setState(159);
-			match(T__11);
-			setState(160);
+			setState(179);
+			match(T__5);
+			setState(180);
 			((MainMethodDeclarationContext)_localctx).id2 = match(ID);
-			setState(161);
+			setState(181);
 			if (!( "String".equals((((MainMethodDeclarationContext)_localctx).id2!=null?((MainMethodDeclarationContext)_localctx).id2.getText():null)) )) throw new FailedPredicateException(this, " \"String\".equals($id2.text) ");
-			setState(162);
-			match(T__7);
-			setState(163);
-			match(T__8);
-			setState(164);
+			setState(182);
+			match(T__9);
+			setState(183);
+			match(T__10);
+			setState(184);
 			((MainMethodDeclarationContext)_localctx).id3 = match(ID);
-			setState(165);
-			match(T__12);
-			setState(166);
+			setState(185);
+			match(T__6);
+			setState(186);
 			match(T__1);
-			setState(167);
+			setState(187);
 			methodBody();
-			setState(168);
+			setState(188);
 			match(T__2);
 			}
 		}
@@ -1009,17 +1111,17 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final FieldDeclarationContext fieldDeclaration() throws RecognitionException {
 		FieldDeclarationContext _localctx = new FieldDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_fieldDeclaration);
+		enterRule(_localctx, 28, RULE_fieldDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(170);
-			match(T__10);
-			setState(171);
+			setState(190);
+			match(T__12);
+			setState(191);
 			type();
-			setState(172);
+			setState(192);
 			match(ID);
-			setState(173);
+			setState(193);
 			match(T__4);
 			}
 		}
@@ -1067,36 +1169,36 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final MethodDeclarationContext methodDeclaration() throws RecognitionException {
 		MethodDeclarationContext _localctx = new MethodDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_methodDeclaration);
+		enterRule(_localctx, 30, RULE_methodDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(175);
-			match(T__10);
-			setState(176);
+			setState(195);
+			match(T__12);
+			setState(196);
 			returnType();
-			setState(177);
+			setState(197);
 			match(ID);
-			setState(178);
-			match(T__11);
-			setState(180);
+			setState(198);
+			match(T__5);
+			setState(200);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 562949953421504L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1125899906843392L) != 0)) {
 				{
-				setState(179);
+				setState(199);
 				params();
 				}
 			}
 
-			setState(182);
-			match(T__12);
-			setState(183);
+			setState(202);
+			match(T__6);
+			setState(203);
 			match(T__1);
-			setState(184);
+			setState(204);
 			methodBody();
-			setState(185);
+			setState(205);
 			match(T__2);
 			}
 		}
@@ -1140,26 +1242,26 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ParamsContext params() throws RecognitionException {
 		ParamsContext _localctx = new ParamsContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_params);
+		enterRule(_localctx, 32, RULE_params);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(187);
+			setState(207);
 			param();
-			setState(192);
+			setState(212);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__13) {
 				{
 				{
-				setState(188);
+				setState(208);
 				match(T__13);
-				setState(189);
+				setState(209);
 				param();
 				}
 				}
-				setState(194);
+				setState(214);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1203,13 +1305,13 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ParamContext param() throws RecognitionException {
 		ParamContext _localctx = new ParamContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_param);
+		enterRule(_localctx, 34, RULE_param);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(195);
+			setState(215);
 			type();
-			setState(196);
+			setState(216);
 			match(ID);
 			}
 		}
@@ -1259,39 +1361,39 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final MethodBodyContext methodBody() throws RecognitionException {
 		MethodBodyContext _localctx = new MethodBodyContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_methodBody);
+		enterRule(_localctx, 36, RULE_methodBody);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(201);
+			setState(221);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(198);
+					setState(218);
 					localDeclaration();
 					}
 					} 
 				}
-				setState(203);
+				setState(223);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			}
-			setState(207);
+			setState(227);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067684737024L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135378772032L) != 0)) {
 				{
 				{
-				setState(204);
+				setState(224);
 				statement();
 				}
 				}
-				setState(209);
+				setState(229);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1335,15 +1437,15 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final LocalDeclarationContext localDeclaration() throws RecognitionException {
 		LocalDeclarationContext _localctx = new LocalDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_localDeclaration);
+		enterRule(_localctx, 38, RULE_localDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(210);
+			setState(230);
 			type();
-			setState(211);
+			setState(231);
 			match(ID);
-			setState(212);
+			setState(232);
 			match(T__4);
 			}
 		}
@@ -1405,64 +1507,64 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final StatementContext statement() throws RecognitionException {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_statement);
+		enterRule(_localctx, 40, RULE_statement);
 		try {
-			setState(222);
+			setState(242);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(214);
+				setState(234);
 				assignStatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(215);
+				setState(235);
 				ifStatement();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(216);
+				setState(236);
 				whileStatement();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(217);
+				setState(237);
 				invokeExpStatement();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(218);
+				setState(238);
 				returnStatement();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(219);
+				setState(239);
 				forStatement();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(220);
+				setState(240);
 				doWhileStatement();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(221);
+				setState(241);
 				incDecStatement();
 				}
 				break;
@@ -1505,13 +1607,13 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final IncDecStatementContext incDecStatement() throws RecognitionException {
 		IncDecStatementContext _localctx = new IncDecStatementContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_incDecStatement);
+		enterRule(_localctx, 42, RULE_incDecStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(224);
+			setState(244);
 			incDec();
-			setState(225);
+			setState(245);
 			match(T__4);
 			}
 		}
@@ -1552,13 +1654,13 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final AssignStatementContext assignStatement() throws RecognitionException {
 		AssignStatementContext _localctx = new AssignStatementContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_assignStatement);
+		enterRule(_localctx, 44, RULE_assignStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(227);
+			setState(247);
 			assign();
-			setState(228);
+			setState(248);
 			match(T__4);
 			}
 		}
@@ -1602,15 +1704,15 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final AssignContext assign() throws RecognitionException {
 		AssignContext _localctx = new AssignContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_assign);
+		enterRule(_localctx, 46, RULE_assign);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(230);
+			setState(250);
 			lhs();
-			setState(231);
+			setState(251);
 			match(T__14);
-			setState(232);
+			setState(252);
 			exp(0);
 			}
 		}
@@ -1706,16 +1808,16 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final LhsContext lhs() throws RecognitionException {
 		LhsContext _localctx = new LhsContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_lhs);
+		enterRule(_localctx, 48, RULE_lhs);
 		try {
-			setState(244);
+			setState(264);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 			case 1:
 				_localctx = new SimpleLHSContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(234);
+				setState(254);
 				match(ID);
 				}
 				break;
@@ -1723,11 +1825,11 @@ public class ExtendedStaticJavaParser extends Parser {
 				_localctx = new FieldAccessLHSContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(235);
+				setState(255);
 				((FieldAccessLHSContext)_localctx).idField = exp(0);
-				setState(236);
+				setState(256);
 				match(T__15);
-				setState(237);
+				setState(257);
 				((FieldAccessLHSContext)_localctx).innerField = match(ID);
 				}
 				break;
@@ -1735,14 +1837,14 @@ public class ExtendedStaticJavaParser extends Parser {
 				_localctx = new ArrayAccessLHSContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(239);
+				setState(259);
 				((ArrayAccessLHSContext)_localctx).id = exp(0);
-				setState(240);
-				match(T__7);
-				setState(241);
+				setState(260);
+				match(T__9);
+				setState(261);
 				((ArrayAccessLHSContext)_localctx).inner = exp(0);
-				setState(242);
-				match(T__8);
+				setState(262);
+				match(T__10);
 				}
 				break;
 			}
@@ -1796,68 +1898,68 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ForStatementContext forStatement() throws RecognitionException {
 		ForStatementContext _localctx = new ForStatementContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_forStatement);
+		enterRule(_localctx, 50, RULE_forStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(246);
+			setState(266);
 			match(T__16);
-			setState(247);
-			match(T__11);
-			setState(249);
+			setState(267);
+			match(T__5);
+			setState(269);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067660488704L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
 				{
-				setState(248);
+				setState(268);
 				forInits();
 				}
 			}
 
-			setState(251);
+			setState(271);
 			match(T__4);
-			setState(253);
+			setState(273);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067660488704L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
 				{
-				setState(252);
+				setState(272);
 				exp(0);
 				}
 			}
 
-			setState(255);
+			setState(275);
 			match(T__4);
-			setState(257);
+			setState(277);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067660488704L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
 				{
-				setState(256);
+				setState(276);
 				forUpdates();
 				}
 			}
 
-			setState(259);
-			match(T__12);
-			setState(260);
+			setState(279);
+			match(T__6);
+			setState(280);
 			match(T__1);
-			setState(264);
+			setState(284);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067684737024L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135378772032L) != 0)) {
 				{
 				{
-				setState(261);
+				setState(281);
 				statement();
 				}
 				}
-				setState(266);
+				setState(286);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(267);
+			setState(287);
 			match(T__2);
 			}
 		}
@@ -1901,26 +2003,26 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ForInitsContext forInits() throws RecognitionException {
 		ForInitsContext _localctx = new ForInitsContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_forInits);
+		enterRule(_localctx, 52, RULE_forInits);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(269);
+			setState(289);
 			assign();
-			setState(274);
+			setState(294);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__13) {
 				{
 				{
-				setState(270);
+				setState(290);
 				match(T__13);
-				setState(271);
+				setState(291);
 				assign();
 				}
 				}
-				setState(276);
+				setState(296);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1966,26 +2068,26 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ForUpdatesContext forUpdates() throws RecognitionException {
 		ForUpdatesContext _localctx = new ForUpdatesContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_forUpdates);
+		enterRule(_localctx, 54, RULE_forUpdates);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(277);
+			setState(297);
 			incDec();
-			setState(282);
+			setState(302);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__13) {
 				{
 				{
-				setState(278);
+				setState(298);
 				match(T__13);
-				setState(279);
+				setState(299);
 				incDec();
 				}
 				}
-				setState(284);
+				setState(304);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2029,26 +2131,26 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final IncDecContext incDec() throws RecognitionException {
 		IncDecContext _localctx = new IncDecContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_incDec);
+		enterRule(_localctx, 56, RULE_incDec);
 		try {
-			setState(291);
+			setState(311);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,21,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(285);
+				setState(305);
 				lhs();
-				setState(286);
+				setState(306);
 				((IncDecContext)_localctx).op = match(T__17);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(288);
+				setState(308);
 				lhs();
-				setState(289);
+				setState(309);
 				((IncDecContext)_localctx).op = match(T__18);
 				}
 				break;
@@ -2097,55 +2199,55 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final DoWhileStatementContext doWhileStatement() throws RecognitionException {
 		DoWhileStatementContext _localctx = new DoWhileStatementContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_doWhileStatement);
+		enterRule(_localctx, 58, RULE_doWhileStatement);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(293);
+			setState(313);
 			match(T__19);
-			setState(294);
+			setState(314);
 			match(T__1);
-			setState(298);
+			setState(318);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(295);
+					setState(315);
 					statement();
 					}
 					} 
 				}
-				setState(300);
+				setState(320);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 			}
-			setState(304);
+			setState(324);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(301);
+				setState(321);
 				match(T__2);
 				}
 				}
-				setState(306);
+				setState(326);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(307);
+			setState(327);
 			match(T__20);
-			setState(308);
-			match(T__11);
-			setState(309);
+			setState(328);
+			match(T__5);
+			setState(329);
 			exp(0);
-			setState(310);
-			match(T__12);
-			setState(311);
+			setState(330);
+			match(T__6);
+			setState(331);
 			match(T__4);
 			}
 		}
@@ -2195,63 +2297,63 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final IfStatementContext ifStatement() throws RecognitionException {
 		IfStatementContext _localctx = new IfStatementContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_ifStatement);
+		enterRule(_localctx, 60, RULE_ifStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(313);
+			setState(333);
 			match(T__21);
-			setState(314);
-			match(T__11);
-			setState(315);
+			setState(334);
+			match(T__5);
+			setState(335);
 			exp(0);
-			setState(316);
-			match(T__12);
-			setState(317);
+			setState(336);
+			match(T__6);
+			setState(337);
 			match(T__1);
-			setState(321);
+			setState(341);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067684737024L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135378772032L) != 0)) {
 				{
 				{
-				setState(318);
+				setState(338);
 				((IfStatementContext)_localctx).statement = statement();
 				((IfStatementContext)_localctx).ts.add(((IfStatementContext)_localctx).statement);
 				}
 				}
-				setState(323);
+				setState(343);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(324);
+			setState(344);
 			match(T__2);
-			setState(334);
+			setState(354);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__22) {
 				{
-				setState(325);
+				setState(345);
 				match(T__22);
-				setState(326);
+				setState(346);
 				match(T__1);
-				setState(330);
+				setState(350);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067684737024L) != 0)) {
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135378772032L) != 0)) {
 					{
 					{
-					setState(327);
+					setState(347);
 					((IfStatementContext)_localctx).statement = statement();
 					((IfStatementContext)_localctx).fs.add(((IfStatementContext)_localctx).statement);
 					}
 					}
-					setState(332);
+					setState(352);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(333);
+				setState(353);
 				match(T__2);
 				}
 			}
@@ -2301,36 +2403,36 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final WhileStatementContext whileStatement() throws RecognitionException {
 		WhileStatementContext _localctx = new WhileStatementContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_whileStatement);
+		enterRule(_localctx, 62, RULE_whileStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(336);
+			setState(356);
 			match(T__20);
-			setState(337);
-			match(T__11);
-			setState(338);
+			setState(357);
+			match(T__5);
+			setState(358);
 			exp(0);
-			setState(339);
-			match(T__12);
-			setState(340);
+			setState(359);
+			match(T__6);
+			setState(360);
 			match(T__1);
-			setState(344);
+			setState(364);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067684737024L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135378772032L) != 0)) {
 				{
 				{
-				setState(341);
+				setState(361);
 				statement();
 				}
 				}
-				setState(346);
+				setState(366);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(347);
+			setState(367);
 			match(T__2);
 			}
 		}
@@ -2347,9 +2449,18 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class InvokeExpStatementContext extends ParserRuleContext {
+		public ExpContext target;
+		public Token id;
 		public InvokeContext invoke() {
 			return getRuleContext(InvokeContext.class,0);
 		}
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(ExtendedStaticJavaParser.ID, 0); }
+		public ArgsContext args() {
+			return getRuleContext(ArgsContext.class,0);
+		}
 		public InvokeExpStatementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2371,14 +2482,48 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final InvokeExpStatementContext invokeExpStatement() throws RecognitionException {
 		InvokeExpStatementContext _localctx = new InvokeExpStatementContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_invokeExpStatement);
+		enterRule(_localctx, 64, RULE_invokeExpStatement);
+		int _la;
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(349);
-			invoke();
-			setState(350);
-			match(T__4);
+			setState(382);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(369);
+				invoke();
+				setState(370);
+				match(T__4);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(372);
+				((InvokeExpStatementContext)_localctx).target = exp(0);
+				setState(373);
+				match(T__15);
+				setState(374);
+				((InvokeExpStatementContext)_localctx).id = match(ID);
+				setState(375);
+				match(T__5);
+				setState(377);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
+					{
+					setState(376);
+					args();
+					}
+				}
+
+				setState(379);
+				match(T__6);
+				setState(380);
+				match(T__4);
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -2418,24 +2563,24 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ReturnStatementContext returnStatement() throws RecognitionException {
 		ReturnStatementContext _localctx = new ReturnStatementContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_returnStatement);
+		enterRule(_localctx, 66, RULE_returnStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(352);
+			setState(384);
 			match(T__23);
-			setState(354);
+			setState(386);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067660488704L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
 				{
-				setState(353);
+				setState(385);
 				exp(0);
 				}
 			}
 
-			setState(356);
+			setState(388);
 			match(T__4);
 			}
 		}
@@ -2483,6 +2628,32 @@ public class ExtendedStaticJavaParser extends Parser {
 		}
 	}
 	@SuppressWarnings("CheckReturnValue")
+	public static class MethodInvokeExpContext extends ExpContext {
+		public ExpContext target;
+		public Token id;
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(ExtendedStaticJavaParser.ID, 0); }
+		public ArgsContext args() {
+			return getRuleContext(ArgsContext.class,0);
+		}
+		public MethodInvokeExpContext(ExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ExtendedStaticJavaListener ) ((ExtendedStaticJavaListener)listener).enterMethodInvokeExp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ExtendedStaticJavaListener ) ((ExtendedStaticJavaListener)listener).exitMethodInvokeExp(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ExtendedStaticJavaVisitor ) return ((ExtendedStaticJavaVisitor<? extends T>)visitor).visitMethodInvokeExp(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
 	public static class ArrayAccessExpContext extends ExpContext {
 		public ExpContext id;
 		public ExpContext inner;
@@ -2729,6 +2900,9 @@ public class ExtendedStaticJavaParser extends Parser {
 	public static class NewExpContext extends ExpContext {
 		public Token name;
 		public TerminalNode ID() { return getToken(ExtendedStaticJavaParser.ID, 0); }
+		public ArgsContext args() {
+			return getRuleContext(ArgsContext.class,0);
+		}
 		public NewExpContext(ExpContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
@@ -2744,6 +2918,23 @@ public class ExtendedStaticJavaParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ThisExpContext extends ExpContext {
+		public ThisExpContext(ExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ExtendedStaticJavaListener ) ((ExtendedStaticJavaListener)listener).enterThisExp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ExtendedStaticJavaListener ) ((ExtendedStaticJavaListener)listener).exitThisExp(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ExtendedStaticJavaVisitor ) return ((ExtendedStaticJavaVisitor<? extends T>)visitor).visitThisExp(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 
 	public final ExpContext exp() throws RecognitionException {
 		return exp(0);
@@ -2754,25 +2945,25 @@ public class ExtendedStaticJavaParser extends Parser {
 		int _parentState = getState();
 		ExpContext _localctx = new ExpContext(_ctx, _parentState);
 		ExpContext _prevctx = _localctx;
-		int _startState = 66;
-		enterRecursionRule(_localctx, 66, RULE_exp, _p);
+		int _startState = 68;
+		enterRecursionRule(_localctx, 68, RULE_exp, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(381);
+			setState(417);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
 			case 1:
 				{
 				_localctx = new IntLiteralContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(359);
+				setState(391);
 				((IntLiteralContext)_localctx).INT = match(INT);
-				setState(360);
+				setState(392);
 				if (!( new java.math.BigInteger((((IntLiteralContext)_localctx).INT!=null?((IntLiteralContext)_localctx).INT.getText():null)).bitLength() < 32 )) throw new FailedPredicateException(this, " new java.math.BigInteger($INT.text).bitLength() < 32 ");
 				}
 				break;
@@ -2781,7 +2972,7 @@ public class ExtendedStaticJavaParser extends Parser {
 				_localctx = new LiteralExpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(361);
+				setState(393);
 				booleanLiteral();
 				}
 				break;
@@ -2790,50 +2981,59 @@ public class ExtendedStaticJavaParser extends Parser {
 				_localctx = new NullLiteralContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(362);
+				setState(394);
 				match(T__24);
 				}
 				break;
 			case 4:
+				{
+				_localctx = new ThisExpContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(395);
+				match(T__25);
+				}
+				break;
+			case 5:
 				{
 				_localctx = new ParenExpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(363);
-				match(T__11);
-				setState(364);
+				setState(396);
+				match(T__5);
+				setState(397);
 				exp(0);
-				setState(365);
-				match(T__12);
+				setState(398);
+				match(T__6);
 				}
 				break;
-			case 5:
+			case 6:
 				{
 				_localctx = new InvokeExpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(367);
+				setState(400);
 				invoke();
 				}
 				break;
-			case 6:
+			case 7:
 				{
 				_localctx = new IdExpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(368);
+				setState(401);
 				match(ID);
 				}
 				break;
-			case 7:
+			case 8:
 				{
 				_localctx = new UnaryExpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(369);
+				setState(402);
 				((UnaryExpContext)_localctx).op = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 1006632960L) != 0)) ) {
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 2013265920L) != 0)) ) {
 					((UnaryExpContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 				}
 				else {
@@ -2841,73 +3041,83 @@ public class ExtendedStaticJavaParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(370);
-				exp(8);
+				setState(403);
+				exp(9);
 				}
 				break;
-			case 8:
+			case 9:
 				{
 				_localctx = new NewExpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(371);
-				match(T__31);
-				setState(372);
+				setState(404);
+				match(T__32);
+				setState(405);
 				((NewExpContext)_localctx).name = match(ID);
-				setState(373);
-				match(T__11);
-				setState(374);
-				match(T__12);
+				setState(406);
+				match(T__5);
+				setState(408);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
+					{
+					setState(407);
+					args();
+					}
+				}
+
+				setState(410);
+				match(T__6);
 				}
 				break;
-			case 9:
+			case 10:
 				{
 				_localctx = new ArrayCreationExpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(375);
-				match(T__31);
-				setState(376);
+				setState(411);
+				match(T__32);
+				setState(412);
 				((ArrayCreationExpContext)_localctx).typeid = arrayType();
 				}
 				break;
-			case 10:
+			case 11:
 				{
 				_localctx = new ArrayCreationExpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(377);
-				match(T__31);
-				setState(378);
+				setState(413);
+				match(T__32);
+				setState(414);
 				((ArrayCreationExpContext)_localctx).typeid = arrayType();
-				setState(379);
+				setState(415);
 				((ArrayCreationExpContext)_localctx).initexpr = arrayInit();
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(403);
+			setState(447);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(401);
+					setState(445);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
 					case 1:
 						{
 						_localctx = new BinaryExpContext(new ExpContext(_parentctx, _parentState));
 						((BinaryExpContext)_localctx).e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_exp);
-						setState(383);
-						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(384);
+						setState(419);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(420);
 						((BinaryExpContext)_localctx).op = binaryOp();
-						setState(385);
-						((BinaryExpContext)_localctx).e2 = exp(8);
+						setState(421);
+						((BinaryExpContext)_localctx).e2 = exp(9);
 						}
 						break;
 					case 2:
@@ -2915,52 +3125,79 @@ public class ExtendedStaticJavaParser extends Parser {
 						_localctx = new CondExpContext(new ExpContext(_parentctx, _parentState));
 						((CondExpContext)_localctx).condition = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_exp);
-						setState(387);
-						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(388);
-						match(T__29);
-						setState(389);
-						((CondExpContext)_localctx).p1 = exp(0);
-						setState(390);
+						setState(423);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(424);
 						match(T__30);
-						setState(391);
-						((CondExpContext)_localctx).p2 = exp(7);
+						setState(425);
+						((CondExpContext)_localctx).p1 = exp(0);
+						setState(426);
+						match(T__31);
+						setState(427);
+						((CondExpContext)_localctx).p2 = exp(8);
 						}
 						break;
 					case 3:
+						{
+						_localctx = new MethodInvokeExpContext(new ExpContext(_parentctx, _parentState));
+						((MethodInvokeExpContext)_localctx).target = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_exp);
+						setState(429);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(430);
+						match(T__15);
+						setState(431);
+						((MethodInvokeExpContext)_localctx).id = match(ID);
+						setState(432);
+						match(T__5);
+						setState(434);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
+							{
+							setState(433);
+							args();
+							}
+						}
+
+						setState(436);
+						match(T__6);
+						}
+						break;
+					case 4:
 						{
 						_localctx = new FieldAccessExpContext(new ExpContext(_parentctx, _parentState));
 						((FieldAccessExpContext)_localctx).e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_exp);
-						setState(393);
+						setState(437);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(394);
+						setState(438);
 						match(T__15);
-						setState(395);
+						setState(439);
 						((FieldAccessExpContext)_localctx).id = match(ID);
 						}
 						break;
-					case 4:
+					case 5:
 						{
 						_localctx = new ArrayAccessExpContext(new ExpContext(_parentctx, _parentState));
 						((ArrayAccessExpContext)_localctx).id = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_exp);
-						setState(396);
+						setState(440);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(397);
-						match(T__7);
-						setState(398);
+						setState(441);
+						match(T__9);
+						setState(442);
 						((ArrayAccessExpContext)_localctx).inner = exp(0);
-						setState(399);
-						match(T__8);
+						setState(443);
+						match(T__10);
 						}
 						break;
 					}
 					} 
 				}
-				setState(405);
+				setState(449);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			}
 			}
 		}
@@ -2998,14 +3235,14 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final BinaryOpContext binaryOp() throws RecognitionException {
 		BinaryOpContext _localctx = new BinaryOpContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_binaryOp);
+		enterRule(_localctx, 70, RULE_binaryOp);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(406);
+			setState(450);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 140729099747328L) != 0)) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 281458199494656L) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -3075,25 +3312,25 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final BooleanLiteralContext booleanLiteral() throws RecognitionException {
 		BooleanLiteralContext _localctx = new BooleanLiteralContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_booleanLiteral);
+		enterRule(_localctx, 72, RULE_booleanLiteral);
 		try {
-			setState(410);
+			setState(454);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__46:
+			case T__47:
 				_localctx = new TrueLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(408);
-				match(T__46);
+				setState(452);
+				match(T__47);
 				}
 				break;
-			case T__47:
+			case T__48:
 				_localctx = new FalseLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(409);
-				match(T__47);
+				setState(453);
+				match(T__48);
 				}
 				break;
 			default:
@@ -3140,32 +3377,32 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ArrayInitContext arrayInit() throws RecognitionException {
 		ArrayInitContext _localctx = new ArrayInitContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_arrayInit);
+		enterRule(_localctx, 74, RULE_arrayInit);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(412);
+			setState(456);
 			match(T__1);
-			setState(413);
+			setState(457);
 			exp(0);
-			setState(418);
+			setState(462);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__13) {
 				{
 				{
-				setState(414);
+				setState(458);
 				match(T__13);
-				setState(415);
+				setState(459);
 				exp(0);
 				}
 				}
-				setState(420);
+				setState(464);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(421);
+			setState(465);
 			match(T__2);
 			}
 		}
@@ -3212,39 +3449,39 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final InvokeContext invoke() throws RecognitionException {
 		InvokeContext _localctx = new InvokeContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_invoke);
+		enterRule(_localctx, 76, RULE_invoke);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(425);
+			setState(469);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
 			case 1:
 				{
-				setState(423);
+				setState(467);
 				((InvokeContext)_localctx).id1 = match(ID);
-				setState(424);
+				setState(468);
 				match(T__15);
 				}
 				break;
 			}
-			setState(427);
+			setState(471);
 			((InvokeContext)_localctx).id2 = match(ID);
-			setState(428);
-			match(T__11);
-			setState(430);
+			setState(472);
+			match(T__5);
+			setState(474);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2111067660488704L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4222135354523712L) != 0)) {
 				{
-				setState(429);
+				setState(473);
 				args();
 				}
 			}
 
-			setState(432);
-			match(T__12);
+			setState(476);
+			match(T__6);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3287,26 +3524,26 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public final ArgsContext args() throws RecognitionException {
 		ArgsContext _localctx = new ArgsContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_args);
+		enterRule(_localctx, 78, RULE_args);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(434);
+			setState(478);
 			exp(0);
-			setState(439);
+			setState(483);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__13) {
 				{
 				{
-				setState(435);
+				setState(479);
 				match(T__13);
-				setState(436);
+				setState(480);
 				exp(0);
 				}
 				}
-				setState(441);
+				setState(485);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3325,9 +3562,9 @@ public class ExtendedStaticJavaParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 12:
+		case 13:
 			return mainMethodDeclaration_sempred((MainMethodDeclarationContext)_localctx, predIndex);
-		case 33:
+		case 34:
 			return exp_sempred((ExpContext)_localctx, predIndex);
 		}
 		return true;
@@ -3346,19 +3583,21 @@ public class ExtendedStaticJavaParser extends Parser {
 		case 2:
 			return  new java.math.BigInteger((((IntLiteralContext)_localctx).INT!=null?((IntLiteralContext)_localctx).INT.getText():null)).bitLength() < 32 ;
 		case 3:
-			return precpred(_ctx, 7);
+			return precpred(_ctx, 8);
 		case 4:
-			return precpred(_ctx, 6);
+			return precpred(_ctx, 7);
 		case 5:
-			return precpred(_ctx, 5);
+			return precpred(_ctx, 6);
 		case 6:
+			return precpred(_ctx, 5);
+		case 7:
 			return precpred(_ctx, 4);
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u00014\u01bb\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u00015\u01e7\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -3369,272 +3608,306 @@ public class ExtendedStaticJavaParser extends Parser {
 		"\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002\u001b\u0007\u001b"+
 		"\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007\u001e"+
 		"\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002"+
-		"#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0001\u0000\u0005\u0000"+
-		"P\b\u0000\n\u0000\f\u0000S\t\u0000\u0001\u0000\u0001\u0000\u0005\u0000"+
-		"W\b\u0000\n\u0000\f\u0000Z\t\u0000\u0001\u0001\u0001\u0001\u0001\u0001"+
-		"\u0001\u0001\u0005\u0001`\b\u0001\n\u0001\f\u0001c\t\u0001\u0001\u0001"+
-		"\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002"+
-		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0003\u0003p\b\u0003"+
-		"\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006"+
-		"\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007{\b\u0007\u0001\u0007"+
-		"\u0001\u0007\u0003\u0007\u007f\b\u0007\u0001\u0007\u0001\u0007\u0001\b"+
-		"\u0001\b\u0003\b\u0085\b\b\u0001\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001"+
-		"\n\u0001\n\u0001\n\u0001\n\u0005\n\u0090\b\n\n\n\f\n\u0093\t\n\u0001\n"+
-		"\u0001\n\u0001\u000b\u0001\u000b\u0003\u000b\u0099\b\u000b\u0001\f\u0001"+
-		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
-		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
-		"\u0003\u000e\u00b5\b\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
-		"\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f\u00bf\b\u000f"+
-		"\n\u000f\f\u000f\u00c2\t\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
-		"\u0011\u0005\u0011\u00c8\b\u0011\n\u0011\f\u0011\u00cb\t\u0011\u0001\u0011"+
-		"\u0005\u0011\u00ce\b\u0011\n\u0011\f\u0011\u00d1\t\u0011\u0001\u0012\u0001"+
-		"\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0003\u0013\u00df"+
-		"\b\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001"+
-		"\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001"+
-		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
-		"\u0017\u0001\u0017\u0001\u0017\u0003\u0017\u00f5\b\u0017\u0001\u0018\u0001"+
-		"\u0018\u0001\u0018\u0003\u0018\u00fa\b\u0018\u0001\u0018\u0001\u0018\u0003"+
-		"\u0018\u00fe\b\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u0102\b\u0018"+
-		"\u0001\u0018\u0001\u0018\u0001\u0018\u0005\u0018\u0107\b\u0018\n\u0018"+
-		"\f\u0018\u010a\t\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019"+
-		"\u0001\u0019\u0005\u0019\u0111\b\u0019\n\u0019\f\u0019\u0114\t\u0019\u0001"+
-		"\u001a\u0001\u001a\u0001\u001a\u0005\u001a\u0119\b\u001a\n\u001a\f\u001a"+
-		"\u011c\t\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
-		"\u0001\u001b\u0003\u001b\u0124\b\u001b\u0001\u001c\u0001\u001c\u0001\u001c"+
-		"\u0005\u001c\u0129\b\u001c\n\u001c\f\u001c\u012c\t\u001c\u0001\u001c\u0005"+
-		"\u001c\u012f\b\u001c\n\u001c\f\u001c\u0132\t\u001c\u0001\u001c\u0001\u001c"+
-		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d"+
-		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0005\u001d\u0140\b\u001d"+
-		"\n\u001d\f\u001d\u0143\t\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
-		"\u001d\u0005\u001d\u0149\b\u001d\n\u001d\f\u001d\u014c\t\u001d\u0001\u001d"+
-		"\u0003\u001d\u014f\b\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
-		"\u0001\u001e\u0001\u001e\u0005\u001e\u0157\b\u001e\n\u001e\f\u001e\u015a"+
-		"\t\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
-		" \u0001 \u0003 \u0163\b \u0001 \u0001 \u0001!\u0001!\u0001!\u0001!\u0001"+
-		"!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
-		"!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0003!\u017e"+
-		"\b!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
-		"!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0005!\u0192"+
-		"\b!\n!\f!\u0195\t!\u0001\"\u0001\"\u0001#\u0001#\u0003#\u019b\b#\u0001"+
-		"$\u0001$\u0001$\u0001$\u0005$\u01a1\b$\n$\f$\u01a4\t$\u0001$\u0001$\u0001"+
-		"%\u0001%\u0003%\u01aa\b%\u0001%\u0001%\u0001%\u0003%\u01af\b%\u0001%\u0001"+
-		"%\u0001&\u0001&\u0001&\u0005&\u01b6\b&\n&\f&\u01b9\t&\u0001&\u0000\u0001"+
-		"B\'\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018"+
-		"\u001a\u001c\u001e \"$&(*,.02468:<>@BDFHJL\u0000\u0002\u0001\u0000\u001a"+
-		"\u001d\u0002\u0000\u001a\u001b!.\u01cc\u0000Q\u0001\u0000\u0000\u0000"+
-		"\u0002[\u0001\u0000\u0000\u0000\u0004f\u0001\u0000\u0000\u0000\u0006o"+
-		"\u0001\u0000\u0000\u0000\bq\u0001\u0000\u0000\u0000\ns\u0001\u0000\u0000"+
-		"\u0000\fu\u0001\u0000\u0000\u0000\u000ez\u0001\u0000\u0000\u0000\u0010"+
-		"\u0084\u0001\u0000\u0000\u0000\u0012\u0086\u0001\u0000\u0000\u0000\u0014"+
-		"\u0089\u0001\u0000\u0000\u0000\u0016\u0098\u0001\u0000\u0000\u0000\u0018"+
-		"\u009a\u0001\u0000\u0000\u0000\u001a\u00aa\u0001\u0000\u0000\u0000\u001c"+
-		"\u00af\u0001\u0000\u0000\u0000\u001e\u00bb\u0001\u0000\u0000\u0000 \u00c3"+
-		"\u0001\u0000\u0000\u0000\"\u00c9\u0001\u0000\u0000\u0000$\u00d2\u0001"+
-		"\u0000\u0000\u0000&\u00de\u0001\u0000\u0000\u0000(\u00e0\u0001\u0000\u0000"+
-		"\u0000*\u00e3\u0001\u0000\u0000\u0000,\u00e6\u0001\u0000\u0000\u0000."+
-		"\u00f4\u0001\u0000\u0000\u00000\u00f6\u0001\u0000\u0000\u00002\u010d\u0001"+
-		"\u0000\u0000\u00004\u0115\u0001\u0000\u0000\u00006\u0123\u0001\u0000\u0000"+
-		"\u00008\u0125\u0001\u0000\u0000\u0000:\u0139\u0001\u0000\u0000\u0000<"+
-		"\u0150\u0001\u0000\u0000\u0000>\u015d\u0001\u0000\u0000\u0000@\u0160\u0001"+
-		"\u0000\u0000\u0000B\u017d\u0001\u0000\u0000\u0000D\u0196\u0001\u0000\u0000"+
-		"\u0000F\u019a\u0001\u0000\u0000\u0000H\u019c\u0001\u0000\u0000\u0000J"+
-		"\u01a9\u0001\u0000\u0000\u0000L\u01b2\u0001\u0000\u0000\u0000NP\u0003"+
-		"\u0002\u0001\u0000ON\u0001\u0000\u0000\u0000PS\u0001\u0000\u0000\u0000"+
-		"QO\u0001\u0000\u0000\u0000QR\u0001\u0000\u0000\u0000RT\u0001\u0000\u0000"+
-		"\u0000SQ\u0001\u0000\u0000\u0000TX\u0003\u0014\n\u0000UW\u0003\u0002\u0001"+
-		"\u0000VU\u0001\u0000\u0000\u0000WZ\u0001\u0000\u0000\u0000XV\u0001\u0000"+
-		"\u0000\u0000XY\u0001\u0000\u0000\u0000Y\u0001\u0001\u0000\u0000\u0000"+
-		"ZX\u0001\u0000\u0000\u0000[\\\u0005\u0001\u0000\u0000\\]\u00051\u0000"+
-		"\u0000]a\u0005\u0002\u0000\u0000^`\u0003\u0004\u0002\u0000_^\u0001\u0000"+
-		"\u0000\u0000`c\u0001\u0000\u0000\u0000a_\u0001\u0000\u0000\u0000ab\u0001"+
-		"\u0000\u0000\u0000bd\u0001\u0000\u0000\u0000ca\u0001\u0000\u0000\u0000"+
-		"de\u0005\u0003\u0000\u0000e\u0003\u0001\u0000\u0000\u0000fg\u0005\u0004"+
-		"\u0000\u0000gh\u0003\u0006\u0003\u0000hi\u00051\u0000\u0000ij\u0005\u0005"+
-		"\u0000\u0000j\u0005\u0001\u0000\u0000\u0000kp\u0003\b\u0004\u0000lp\u0003"+
-		"\n\u0005\u0000mp\u0003\f\u0006\u0000np\u0003\u000e\u0007\u0000ok\u0001"+
-		"\u0000\u0000\u0000ol\u0001\u0000\u0000\u0000om\u0001\u0000\u0000\u0000"+
-		"on\u0001\u0000\u0000\u0000p\u0007\u0001\u0000\u0000\u0000qr\u00051\u0000"+
-		"\u0000r\t\u0001\u0000\u0000\u0000st\u0005\u0006\u0000\u0000t\u000b\u0001"+
-		"\u0000\u0000\u0000uv\u0005\u0007\u0000\u0000v\r\u0001\u0000\u0000\u0000"+
-		"w{\u0003\f\u0006\u0000x{\u0003\n\u0005\u0000y{\u00051\u0000\u0000zw\u0001"+
-		"\u0000\u0000\u0000zx\u0001\u0000\u0000\u0000zy\u0001\u0000\u0000\u0000"+
-		"{|\u0001\u0000\u0000\u0000|~\u0005\b\u0000\u0000}\u007f\u0003B!\u0000"+
-		"~}\u0001\u0000\u0000\u0000~\u007f\u0001\u0000\u0000\u0000\u007f\u0080"+
-		"\u0001\u0000\u0000\u0000\u0080\u0081\u0005\t\u0000\u0000\u0081\u000f\u0001"+
-		"\u0000\u0000\u0000\u0082\u0085\u0005\n\u0000\u0000\u0083\u0085\u0003\u0006"+
-		"\u0003\u0000\u0084\u0082\u0001\u0000\u0000\u0000\u0084\u0083\u0001\u0000"+
-		"\u0000\u0000\u0085\u0011\u0001\u0000\u0000\u0000\u0086\u0087\u0003\u0000"+
-		"\u0000\u0000\u0087\u0088\u0005\u0000\u0000\u0001\u0088\u0013\u0001\u0000"+
-		"\u0000\u0000\u0089\u008a\u0005\u0004\u0000\u0000\u008a\u008b\u0005\u0001"+
-		"\u0000\u0000\u008b\u008c\u00051\u0000\u0000\u008c\u008d\u0005\u0002\u0000"+
-		"\u0000\u008d\u0091\u0003\u0018\f\u0000\u008e\u0090\u0003\u0016\u000b\u0000"+
-		"\u008f\u008e\u0001\u0000\u0000\u0000\u0090\u0093\u0001\u0000\u0000\u0000"+
-		"\u0091\u008f\u0001\u0000\u0000\u0000\u0091\u0092\u0001\u0000\u0000\u0000"+
-		"\u0092\u0094\u0001\u0000\u0000\u0000\u0093\u0091\u0001\u0000\u0000\u0000"+
-		"\u0094\u0095\u0005\u0003\u0000\u0000\u0095\u0015\u0001\u0000\u0000\u0000"+
-		"\u0096\u0099\u0003\u001a\r\u0000\u0097\u0099\u0003\u001c\u000e\u0000\u0098"+
-		"\u0096\u0001\u0000\u0000\u0000\u0098\u0097\u0001\u0000\u0000\u0000\u0099"+
-		"\u0017\u0001\u0000\u0000\u0000\u009a\u009b\u0005\u0004\u0000\u0000\u009b"+
-		"\u009c\u0005\u000b\u0000\u0000\u009c\u009d\u0005\n\u0000\u0000\u009d\u009e"+
-		"\u00051\u0000\u0000\u009e\u009f\u0004\f\u0000\u0001\u009f\u00a0\u0005"+
-		"\f\u0000\u0000\u00a0\u00a1\u00051\u0000\u0000\u00a1\u00a2\u0004\f\u0001"+
-		"\u0001\u00a2\u00a3\u0005\b\u0000\u0000\u00a3\u00a4\u0005\t\u0000\u0000"+
-		"\u00a4\u00a5\u00051\u0000\u0000\u00a5\u00a6\u0005\r\u0000\u0000\u00a6"+
-		"\u00a7\u0005\u0002\u0000\u0000\u00a7\u00a8\u0003\"\u0011\u0000\u00a8\u00a9"+
-		"\u0005\u0003\u0000\u0000\u00a9\u0019\u0001\u0000\u0000\u0000\u00aa\u00ab"+
-		"\u0005\u000b\u0000\u0000\u00ab\u00ac\u0003\u0006\u0003\u0000\u00ac\u00ad"+
-		"\u00051\u0000\u0000\u00ad\u00ae\u0005\u0005\u0000\u0000\u00ae\u001b\u0001"+
-		"\u0000\u0000\u0000\u00af\u00b0\u0005\u000b\u0000\u0000\u00b0\u00b1\u0003"+
-		"\u0010\b\u0000\u00b1\u00b2\u00051\u0000\u0000\u00b2\u00b4\u0005\f\u0000"+
-		"\u0000\u00b3\u00b5\u0003\u001e\u000f\u0000\u00b4\u00b3\u0001\u0000\u0000"+
-		"\u0000\u00b4\u00b5\u0001\u0000\u0000\u0000\u00b5\u00b6\u0001\u0000\u0000"+
-		"\u0000\u00b6\u00b7\u0005\r\u0000\u0000\u00b7\u00b8\u0005\u0002\u0000\u0000"+
-		"\u00b8\u00b9\u0003\"\u0011\u0000\u00b9\u00ba\u0005\u0003\u0000\u0000\u00ba"+
-		"\u001d\u0001\u0000\u0000\u0000\u00bb\u00c0\u0003 \u0010\u0000\u00bc\u00bd"+
-		"\u0005\u000e\u0000\u0000\u00bd\u00bf\u0003 \u0010\u0000\u00be\u00bc\u0001"+
-		"\u0000\u0000\u0000\u00bf\u00c2\u0001\u0000\u0000\u0000\u00c0\u00be\u0001"+
-		"\u0000\u0000\u0000\u00c0\u00c1\u0001\u0000\u0000\u0000\u00c1\u001f\u0001"+
-		"\u0000\u0000\u0000\u00c2\u00c0\u0001\u0000\u0000\u0000\u00c3\u00c4\u0003"+
-		"\u0006\u0003\u0000\u00c4\u00c5\u00051\u0000\u0000\u00c5!\u0001\u0000\u0000"+
-		"\u0000\u00c6\u00c8\u0003$\u0012\u0000\u00c7\u00c6\u0001\u0000\u0000\u0000"+
-		"\u00c8\u00cb\u0001\u0000\u0000\u0000\u00c9\u00c7\u0001\u0000\u0000\u0000"+
-		"\u00c9\u00ca\u0001\u0000\u0000\u0000\u00ca\u00cf\u0001\u0000\u0000\u0000"+
-		"\u00cb\u00c9\u0001\u0000\u0000\u0000\u00cc\u00ce\u0003&\u0013\u0000\u00cd"+
-		"\u00cc\u0001\u0000\u0000\u0000\u00ce\u00d1\u0001\u0000\u0000\u0000\u00cf"+
-		"\u00cd\u0001\u0000\u0000\u0000\u00cf\u00d0\u0001\u0000\u0000\u0000\u00d0"+
-		"#\u0001\u0000\u0000\u0000\u00d1\u00cf\u0001\u0000\u0000\u0000\u00d2\u00d3"+
-		"\u0003\u0006\u0003\u0000\u00d3\u00d4\u00051\u0000\u0000\u00d4\u00d5\u0005"+
-		"\u0005\u0000\u0000\u00d5%\u0001\u0000\u0000\u0000\u00d6\u00df\u0003*\u0015"+
-		"\u0000\u00d7\u00df\u0003:\u001d\u0000\u00d8\u00df\u0003<\u001e\u0000\u00d9"+
-		"\u00df\u0003>\u001f\u0000\u00da\u00df\u0003@ \u0000\u00db\u00df\u0003"+
-		"0\u0018\u0000\u00dc\u00df\u00038\u001c\u0000\u00dd\u00df\u0003(\u0014"+
-		"\u0000\u00de\u00d6\u0001\u0000\u0000\u0000\u00de\u00d7\u0001\u0000\u0000"+
-		"\u0000\u00de\u00d8\u0001\u0000\u0000\u0000\u00de\u00d9\u0001\u0000\u0000"+
-		"\u0000\u00de\u00da\u0001\u0000\u0000\u0000\u00de\u00db\u0001\u0000\u0000"+
-		"\u0000\u00de\u00dc\u0001\u0000\u0000\u0000\u00de\u00dd\u0001\u0000\u0000"+
-		"\u0000\u00df\'\u0001\u0000\u0000\u0000\u00e0\u00e1\u00036\u001b\u0000"+
-		"\u00e1\u00e2\u0005\u0005\u0000\u0000\u00e2)\u0001\u0000\u0000\u0000\u00e3"+
-		"\u00e4\u0003,\u0016\u0000\u00e4\u00e5\u0005\u0005\u0000\u0000\u00e5+\u0001"+
-		"\u0000\u0000\u0000\u00e6\u00e7\u0003.\u0017\u0000\u00e7\u00e8\u0005\u000f"+
-		"\u0000\u0000\u00e8\u00e9\u0003B!\u0000\u00e9-\u0001\u0000\u0000\u0000"+
-		"\u00ea\u00f5\u00051\u0000\u0000\u00eb\u00ec\u0003B!\u0000\u00ec\u00ed"+
-		"\u0005\u0010\u0000\u0000\u00ed\u00ee\u00051\u0000\u0000\u00ee\u00f5\u0001"+
-		"\u0000\u0000\u0000\u00ef\u00f0\u0003B!\u0000\u00f0\u00f1\u0005\b\u0000"+
-		"\u0000\u00f1\u00f2\u0003B!\u0000\u00f2\u00f3\u0005\t\u0000\u0000\u00f3"+
-		"\u00f5\u0001\u0000\u0000\u0000\u00f4\u00ea\u0001\u0000\u0000\u0000\u00f4"+
-		"\u00eb\u0001\u0000\u0000\u0000\u00f4\u00ef\u0001\u0000\u0000\u0000\u00f5"+
-		"/\u0001\u0000\u0000\u0000\u00f6\u00f7\u0005\u0011\u0000\u0000\u00f7\u00f9"+
-		"\u0005\f\u0000\u0000\u00f8\u00fa\u00032\u0019\u0000\u00f9\u00f8\u0001"+
-		"\u0000\u0000\u0000\u00f9\u00fa\u0001\u0000\u0000\u0000\u00fa\u00fb\u0001"+
-		"\u0000\u0000\u0000\u00fb\u00fd\u0005\u0005\u0000\u0000\u00fc\u00fe\u0003"+
-		"B!\u0000\u00fd\u00fc\u0001\u0000\u0000\u0000\u00fd\u00fe\u0001\u0000\u0000"+
-		"\u0000\u00fe\u00ff\u0001\u0000\u0000\u0000\u00ff\u0101\u0005\u0005\u0000"+
-		"\u0000\u0100\u0102\u00034\u001a\u0000\u0101\u0100\u0001\u0000\u0000\u0000"+
-		"\u0101\u0102\u0001\u0000\u0000\u0000\u0102\u0103\u0001\u0000\u0000\u0000"+
-		"\u0103\u0104\u0005\r\u0000\u0000\u0104\u0108\u0005\u0002\u0000\u0000\u0105"+
-		"\u0107\u0003&\u0013\u0000\u0106\u0105\u0001\u0000\u0000\u0000\u0107\u010a"+
-		"\u0001\u0000\u0000\u0000\u0108\u0106\u0001\u0000\u0000\u0000\u0108\u0109"+
-		"\u0001\u0000\u0000\u0000\u0109\u010b\u0001\u0000\u0000\u0000\u010a\u0108"+
-		"\u0001\u0000\u0000\u0000\u010b\u010c\u0005\u0003\u0000\u0000\u010c1\u0001"+
-		"\u0000\u0000\u0000\u010d\u0112\u0003,\u0016\u0000\u010e\u010f\u0005\u000e"+
-		"\u0000\u0000\u010f\u0111\u0003,\u0016\u0000\u0110\u010e\u0001\u0000\u0000"+
-		"\u0000\u0111\u0114\u0001\u0000\u0000\u0000\u0112\u0110\u0001\u0000\u0000"+
-		"\u0000\u0112\u0113\u0001\u0000\u0000\u0000\u01133\u0001\u0000\u0000\u0000"+
-		"\u0114\u0112\u0001\u0000\u0000\u0000\u0115\u011a\u00036\u001b\u0000\u0116"+
-		"\u0117\u0005\u000e\u0000\u0000\u0117\u0119\u00036\u001b\u0000\u0118\u0116"+
-		"\u0001\u0000\u0000\u0000\u0119\u011c\u0001\u0000\u0000\u0000\u011a\u0118"+
-		"\u0001\u0000\u0000\u0000\u011a\u011b\u0001\u0000\u0000\u0000\u011b5\u0001"+
-		"\u0000\u0000\u0000\u011c\u011a\u0001\u0000\u0000\u0000\u011d\u011e\u0003"+
-		".\u0017\u0000\u011e\u011f\u0005\u0012\u0000\u0000\u011f\u0124\u0001\u0000"+
-		"\u0000\u0000\u0120\u0121\u0003.\u0017\u0000\u0121\u0122\u0005\u0013\u0000"+
-		"\u0000\u0122\u0124\u0001\u0000\u0000\u0000\u0123\u011d\u0001\u0000\u0000"+
-		"\u0000\u0123\u0120\u0001\u0000\u0000\u0000\u01247\u0001\u0000\u0000\u0000"+
-		"\u0125\u0126\u0005\u0014\u0000\u0000\u0126\u012a\u0005\u0002\u0000\u0000"+
-		"\u0127\u0129\u0003&\u0013\u0000\u0128\u0127\u0001\u0000\u0000\u0000\u0129"+
-		"\u012c\u0001\u0000\u0000\u0000\u012a\u0128\u0001\u0000\u0000\u0000\u012a"+
-		"\u012b\u0001\u0000\u0000\u0000\u012b\u0130\u0001\u0000\u0000\u0000\u012c"+
-		"\u012a\u0001\u0000\u0000\u0000\u012d\u012f\u0005\u0003\u0000\u0000\u012e"+
-		"\u012d\u0001\u0000\u0000\u0000\u012f\u0132\u0001\u0000\u0000\u0000\u0130"+
-		"\u012e\u0001\u0000\u0000\u0000\u0130\u0131\u0001\u0000\u0000\u0000\u0131"+
-		"\u0133\u0001\u0000\u0000\u0000\u0132\u0130\u0001\u0000\u0000\u0000\u0133"+
-		"\u0134\u0005\u0015\u0000\u0000\u0134\u0135\u0005\f\u0000\u0000\u0135\u0136"+
-		"\u0003B!\u0000\u0136\u0137\u0005\r\u0000\u0000\u0137\u0138\u0005\u0005"+
-		"\u0000\u0000\u01389\u0001\u0000\u0000\u0000\u0139\u013a\u0005\u0016\u0000"+
-		"\u0000\u013a\u013b\u0005\f\u0000\u0000\u013b\u013c\u0003B!\u0000\u013c"+
-		"\u013d\u0005\r\u0000\u0000\u013d\u0141\u0005\u0002\u0000\u0000\u013e\u0140"+
-		"\u0003&\u0013\u0000\u013f\u013e\u0001\u0000\u0000\u0000\u0140\u0143\u0001"+
-		"\u0000\u0000\u0000\u0141\u013f\u0001\u0000\u0000\u0000\u0141\u0142\u0001"+
-		"\u0000\u0000\u0000\u0142\u0144\u0001\u0000\u0000\u0000\u0143\u0141\u0001"+
-		"\u0000\u0000\u0000\u0144\u014e\u0005\u0003\u0000\u0000\u0145\u0146\u0005"+
-		"\u0017\u0000\u0000\u0146\u014a\u0005\u0002\u0000\u0000\u0147\u0149\u0003"+
-		"&\u0013\u0000\u0148\u0147\u0001\u0000\u0000\u0000\u0149\u014c\u0001\u0000"+
-		"\u0000\u0000\u014a\u0148\u0001\u0000\u0000\u0000\u014a\u014b\u0001\u0000"+
-		"\u0000\u0000\u014b\u014d\u0001\u0000\u0000\u0000\u014c\u014a\u0001\u0000"+
-		"\u0000\u0000\u014d\u014f\u0005\u0003\u0000\u0000\u014e\u0145\u0001\u0000"+
-		"\u0000\u0000\u014e\u014f\u0001\u0000\u0000\u0000\u014f;\u0001\u0000\u0000"+
-		"\u0000\u0150\u0151\u0005\u0015\u0000\u0000\u0151\u0152\u0005\f\u0000\u0000"+
-		"\u0152\u0153\u0003B!\u0000\u0153\u0154\u0005\r\u0000\u0000\u0154\u0158"+
-		"\u0005\u0002\u0000\u0000\u0155\u0157\u0003&\u0013\u0000\u0156\u0155\u0001"+
-		"\u0000\u0000\u0000\u0157\u015a\u0001\u0000\u0000\u0000\u0158\u0156\u0001"+
-		"\u0000\u0000\u0000\u0158\u0159\u0001\u0000\u0000\u0000\u0159\u015b\u0001"+
-		"\u0000\u0000\u0000\u015a\u0158\u0001\u0000\u0000\u0000\u015b\u015c\u0005"+
-		"\u0003\u0000\u0000\u015c=\u0001\u0000\u0000\u0000\u015d\u015e\u0003J%"+
-		"\u0000\u015e\u015f\u0005\u0005\u0000\u0000\u015f?\u0001\u0000\u0000\u0000"+
-		"\u0160\u0162\u0005\u0018\u0000\u0000\u0161\u0163\u0003B!\u0000\u0162\u0161"+
-		"\u0001\u0000\u0000\u0000\u0162\u0163\u0001\u0000\u0000\u0000\u0163\u0164"+
-		"\u0001\u0000\u0000\u0000\u0164\u0165\u0005\u0005\u0000\u0000\u0165A\u0001"+
-		"\u0000\u0000\u0000\u0166\u0167\u0006!\uffff\uffff\u0000\u0167\u0168\u0005"+
-		"2\u0000\u0000\u0168\u017e\u0004!\u0002\u0001\u0169\u017e\u0003F#\u0000"+
-		"\u016a\u017e\u0005\u0019\u0000\u0000\u016b\u016c\u0005\f\u0000\u0000\u016c"+
-		"\u016d\u0003B!\u0000\u016d\u016e\u0005\r\u0000\u0000\u016e\u017e\u0001"+
-		"\u0000\u0000\u0000\u016f\u017e\u0003J%\u0000\u0170\u017e\u00051\u0000"+
-		"\u0000\u0171\u0172\u0007\u0000\u0000\u0000\u0172\u017e\u0003B!\b\u0173"+
-		"\u0174\u0005 \u0000\u0000\u0174\u0175\u00051\u0000\u0000\u0175\u0176\u0005"+
-		"\f\u0000\u0000\u0176\u017e\u0005\r\u0000\u0000\u0177\u0178\u0005 \u0000"+
-		"\u0000\u0178\u017e\u0003\u000e\u0007\u0000\u0179\u017a\u0005 \u0000\u0000"+
-		"\u017a\u017b\u0003\u000e\u0007\u0000\u017b\u017c\u0003H$\u0000\u017c\u017e"+
-		"\u0001\u0000\u0000\u0000\u017d\u0166\u0001\u0000\u0000\u0000\u017d\u0169"+
-		"\u0001\u0000\u0000\u0000\u017d\u016a\u0001\u0000\u0000\u0000\u017d\u016b"+
-		"\u0001\u0000\u0000\u0000\u017d\u016f\u0001\u0000\u0000\u0000\u017d\u0170"+
-		"\u0001\u0000\u0000\u0000\u017d\u0171\u0001\u0000\u0000\u0000\u017d\u0173"+
-		"\u0001\u0000\u0000\u0000\u017d\u0177\u0001\u0000\u0000\u0000\u017d\u0179"+
-		"\u0001\u0000\u0000\u0000\u017e\u0193\u0001\u0000\u0000\u0000\u017f\u0180"+
-		"\n\u0007\u0000\u0000\u0180\u0181\u0003D\"\u0000\u0181\u0182\u0003B!\b"+
-		"\u0182\u0192\u0001\u0000\u0000\u0000\u0183\u0184\n\u0006\u0000\u0000\u0184"+
-		"\u0185\u0005\u001e\u0000\u0000\u0185\u0186\u0003B!\u0000\u0186\u0187\u0005"+
-		"\u001f\u0000\u0000\u0187\u0188\u0003B!\u0007\u0188\u0192\u0001\u0000\u0000"+
-		"\u0000\u0189\u018a\n\u0005\u0000\u0000\u018a\u018b\u0005\u0010\u0000\u0000"+
-		"\u018b\u0192\u00051\u0000\u0000\u018c\u018d\n\u0004\u0000\u0000\u018d"+
-		"\u018e\u0005\b\u0000\u0000\u018e\u018f\u0003B!\u0000\u018f\u0190\u0005"+
-		"\t\u0000\u0000\u0190\u0192\u0001\u0000\u0000\u0000\u0191\u017f\u0001\u0000"+
-		"\u0000\u0000\u0191\u0183\u0001\u0000\u0000\u0000\u0191\u0189\u0001\u0000"+
-		"\u0000\u0000\u0191\u018c\u0001\u0000\u0000\u0000\u0192\u0195\u0001\u0000"+
-		"\u0000\u0000\u0193\u0191\u0001\u0000\u0000\u0000\u0193\u0194\u0001\u0000"+
-		"\u0000\u0000\u0194C\u0001\u0000\u0000\u0000\u0195\u0193\u0001\u0000\u0000"+
-		"\u0000\u0196\u0197\u0007\u0001\u0000\u0000\u0197E\u0001\u0000\u0000\u0000"+
-		"\u0198\u019b\u0005/\u0000\u0000\u0199\u019b\u00050\u0000\u0000\u019a\u0198"+
-		"\u0001\u0000\u0000\u0000\u019a\u0199\u0001\u0000\u0000\u0000\u019bG\u0001"+
-		"\u0000\u0000\u0000\u019c\u019d\u0005\u0002\u0000\u0000\u019d\u01a2\u0003"+
-		"B!\u0000\u019e\u019f\u0005\u000e\u0000\u0000\u019f\u01a1\u0003B!\u0000"+
-		"\u01a0\u019e\u0001\u0000\u0000\u0000\u01a1\u01a4\u0001\u0000\u0000\u0000"+
-		"\u01a2\u01a0\u0001\u0000\u0000\u0000\u01a2\u01a3\u0001\u0000\u0000\u0000"+
-		"\u01a3\u01a5\u0001\u0000\u0000\u0000\u01a4\u01a2\u0001\u0000\u0000\u0000"+
-		"\u01a5\u01a6\u0005\u0003\u0000\u0000\u01a6I\u0001\u0000\u0000\u0000\u01a7"+
-		"\u01a8\u00051\u0000\u0000\u01a8\u01aa\u0005\u0010\u0000\u0000\u01a9\u01a7"+
-		"\u0001\u0000\u0000\u0000\u01a9\u01aa\u0001\u0000\u0000\u0000\u01aa\u01ab"+
-		"\u0001\u0000\u0000\u0000\u01ab\u01ac\u00051\u0000\u0000\u01ac\u01ae\u0005"+
-		"\f\u0000\u0000\u01ad\u01af\u0003L&\u0000\u01ae\u01ad\u0001\u0000\u0000"+
-		"\u0000\u01ae\u01af\u0001\u0000\u0000\u0000\u01af\u01b0\u0001\u0000\u0000"+
-		"\u0000\u01b0\u01b1\u0005\r\u0000\u0000\u01b1K\u0001\u0000\u0000\u0000"+
-		"\u01b2\u01b7\u0003B!\u0000\u01b3\u01b4\u0005\u000e\u0000\u0000\u01b4\u01b6"+
-		"\u0003B!\u0000\u01b5\u01b3\u0001\u0000\u0000\u0000\u01b6\u01b9\u0001\u0000"+
-		"\u0000\u0000\u01b7\u01b5\u0001\u0000\u0000\u0000\u01b7\u01b8\u0001\u0000"+
-		"\u0000\u0000\u01b8M\u0001\u0000\u0000\u0000\u01b9\u01b7\u0001\u0000\u0000"+
-		"\u0000%QXaoz~\u0084\u0091\u0098\u00b4\u00c0\u00c9\u00cf\u00de\u00f4\u00f9"+
-		"\u00fd\u0101\u0108\u0112\u011a\u0123\u012a\u0130\u0141\u014a\u014e\u0158"+
-		"\u0162\u017d\u0191\u0193\u019a\u01a2\u01a9\u01ae\u01b7";
+		"#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0001"+
+		"\u0000\u0005\u0000R\b\u0000\n\u0000\f\u0000U\t\u0000\u0001\u0000\u0001"+
+		"\u0000\u0005\u0000Y\b\u0000\n\u0000\f\u0000\\\t\u0000\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0005\u0001b\b\u0001\n\u0001\f\u0001e\t"+
+		"\u0001\u0001\u0001\u0005\u0001h\b\u0001\n\u0001\f\u0001k\t\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0003"+
+		"\u0003y\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0003\u0004\u0084"+
+		"\b\u0004\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0007\u0001"+
+		"\u0007\u0001\b\u0001\b\u0001\b\u0003\b\u008f\b\b\u0001\b\u0001\b\u0003"+
+		"\b\u0093\b\b\u0001\b\u0001\b\u0001\t\u0001\t\u0003\t\u0099\b\t\u0001\n"+
+		"\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001"+
+		"\u000b\u0001\u000b\u0005\u000b\u00a4\b\u000b\n\u000b\f\u000b\u00a7\t\u000b"+
+		"\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0003\f\u00ad\b\f\u0001\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001"+
+		"\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
+		"\u000f\u0001\u000f\u0003\u000f\u00c9\b\u000f\u0001\u000f\u0001\u000f\u0001"+
+		"\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0005"+
+		"\u0010\u00d3\b\u0010\n\u0010\f\u0010\u00d6\t\u0010\u0001\u0011\u0001\u0011"+
+		"\u0001\u0011\u0001\u0012\u0005\u0012\u00dc\b\u0012\n\u0012\f\u0012\u00df"+
+		"\t\u0012\u0001\u0012\u0005\u0012\u00e2\b\u0012\n\u0012\f\u0012\u00e5\t"+
+		"\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001"+
+		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
+		"\u0014\u0003\u0014\u00f3\b\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
+		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u0109"+
+		"\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019\u010e\b\u0019"+
+		"\u0001\u0019\u0001\u0019\u0003\u0019\u0112\b\u0019\u0001\u0019\u0001\u0019"+
+		"\u0003\u0019\u0116\b\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0005\u0019"+
+		"\u011b\b\u0019\n\u0019\f\u0019\u011e\t\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u001a\u0001\u001a\u0001\u001a\u0005\u001a\u0125\b\u001a\n\u001a\f\u001a"+
+		"\u0128\t\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0005\u001b\u012d\b"+
+		"\u001b\n\u001b\f\u001b\u0130\t\u001b\u0001\u001c\u0001\u001c\u0001\u001c"+
+		"\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u0138\b\u001c\u0001\u001d"+
+		"\u0001\u001d\u0001\u001d\u0005\u001d\u013d\b\u001d\n\u001d\f\u001d\u0140"+
+		"\t\u001d\u0001\u001d\u0005\u001d\u0143\b\u001d\n\u001d\f\u001d\u0146\t"+
+		"\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
+		"\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
+		"\u001e\u0005\u001e\u0154\b\u001e\n\u001e\f\u001e\u0157\t\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0005\u001e\u015d\b\u001e\n\u001e"+
+		"\f\u001e\u0160\t\u001e\u0001\u001e\u0003\u001e\u0163\b\u001e\u0001\u001f"+
+		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0005\u001f"+
+		"\u016b\b\u001f\n\u001f\f\u001f\u016e\t\u001f\u0001\u001f\u0001\u001f\u0001"+
+		" \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0003 \u017a\b \u0001"+
+		" \u0001 \u0001 \u0003 \u017f\b \u0001!\u0001!\u0003!\u0183\b!\u0001!\u0001"+
+		"!\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
+		"\"\u0003\"\u0199\b\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
+		"\"\u0003\"\u01a2\b\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003"+
+		"\"\u01b3\b\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
+		"\"\u0001\"\u0005\"\u01be\b\"\n\"\f\"\u01c1\t\"\u0001#\u0001#\u0001$\u0001"+
+		"$\u0003$\u01c7\b$\u0001%\u0001%\u0001%\u0001%\u0005%\u01cd\b%\n%\f%\u01d0"+
+		"\t%\u0001%\u0001%\u0001&\u0001&\u0003&\u01d6\b&\u0001&\u0001&\u0001&\u0003"+
+		"&\u01db\b&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0005\'\u01e2\b\'\n\'"+
+		"\f\'\u01e5\t\'\u0001\'\u0000\u0001D(\u0000\u0002\u0004\u0006\b\n\f\u000e"+
+		"\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,.02468:<>@BDF"+
+		"HJLN\u0000\u0002\u0001\u0000\u001b\u001e\u0002\u0000\u001b\u001c\"/\u01ff"+
+		"\u0000S\u0001\u0000\u0000\u0000\u0002]\u0001\u0000\u0000\u0000\u0004n"+
+		"\u0001\u0000\u0000\u0000\u0006s\u0001\u0000\u0000\u0000\b\u0083\u0001"+
+		"\u0000\u0000\u0000\n\u0085\u0001\u0000\u0000\u0000\f\u0087\u0001\u0000"+
+		"\u0000\u0000\u000e\u0089\u0001\u0000\u0000\u0000\u0010\u008e\u0001\u0000"+
+		"\u0000\u0000\u0012\u0098\u0001\u0000\u0000\u0000\u0014\u009a\u0001\u0000"+
+		"\u0000\u0000\u0016\u009d\u0001\u0000\u0000\u0000\u0018\u00ac\u0001\u0000"+
+		"\u0000\u0000\u001a\u00ae\u0001\u0000\u0000\u0000\u001c\u00be\u0001\u0000"+
+		"\u0000\u0000\u001e\u00c3\u0001\u0000\u0000\u0000 \u00cf\u0001\u0000\u0000"+
+		"\u0000\"\u00d7\u0001\u0000\u0000\u0000$\u00dd\u0001\u0000\u0000\u0000"+
+		"&\u00e6\u0001\u0000\u0000\u0000(\u00f2\u0001\u0000\u0000\u0000*\u00f4"+
+		"\u0001\u0000\u0000\u0000,\u00f7\u0001\u0000\u0000\u0000.\u00fa\u0001\u0000"+
+		"\u0000\u00000\u0108\u0001\u0000\u0000\u00002\u010a\u0001\u0000\u0000\u0000"+
+		"4\u0121\u0001\u0000\u0000\u00006\u0129\u0001\u0000\u0000\u00008\u0137"+
+		"\u0001\u0000\u0000\u0000:\u0139\u0001\u0000\u0000\u0000<\u014d\u0001\u0000"+
+		"\u0000\u0000>\u0164\u0001\u0000\u0000\u0000@\u017e\u0001\u0000\u0000\u0000"+
+		"B\u0180\u0001\u0000\u0000\u0000D\u01a1\u0001\u0000\u0000\u0000F\u01c2"+
+		"\u0001\u0000\u0000\u0000H\u01c6\u0001\u0000\u0000\u0000J\u01c8\u0001\u0000"+
+		"\u0000\u0000L\u01d5\u0001\u0000\u0000\u0000N\u01de\u0001\u0000\u0000\u0000"+
+		"PR\u0003\u0002\u0001\u0000QP\u0001\u0000\u0000\u0000RU\u0001\u0000\u0000"+
+		"\u0000SQ\u0001\u0000\u0000\u0000ST\u0001\u0000\u0000\u0000TV\u0001\u0000"+
+		"\u0000\u0000US\u0001\u0000\u0000\u0000VZ\u0003\u0016\u000b\u0000WY\u0003"+
+		"\u0002\u0001\u0000XW\u0001\u0000\u0000\u0000Y\\\u0001\u0000\u0000\u0000"+
+		"ZX\u0001\u0000\u0000\u0000Z[\u0001\u0000\u0000\u0000[\u0001\u0001\u0000"+
+		"\u0000\u0000\\Z\u0001\u0000\u0000\u0000]^\u0005\u0001\u0000\u0000^_\u0005"+
+		"2\u0000\u0000_c\u0005\u0002\u0000\u0000`b\u0003\u0004\u0002\u0000a`\u0001"+
+		"\u0000\u0000\u0000be\u0001\u0000\u0000\u0000ca\u0001\u0000\u0000\u0000"+
+		"cd\u0001\u0000\u0000\u0000di\u0001\u0000\u0000\u0000ec\u0001\u0000\u0000"+
+		"\u0000fh\u0003\u0006\u0003\u0000gf\u0001\u0000\u0000\u0000hk\u0001\u0000"+
+		"\u0000\u0000ig\u0001\u0000\u0000\u0000ij\u0001\u0000\u0000\u0000jl\u0001"+
+		"\u0000\u0000\u0000ki\u0001\u0000\u0000\u0000lm\u0005\u0003\u0000\u0000"+
+		"m\u0003\u0001\u0000\u0000\u0000no\u0005\u0004\u0000\u0000op\u0003\b\u0004"+
+		"\u0000pq\u00052\u0000\u0000qr\u0005\u0005\u0000\u0000r\u0005\u0001\u0000"+
+		"\u0000\u0000st\u0005\u0004\u0000\u0000tu\u0003\u0012\t\u0000uv\u00052"+
+		"\u0000\u0000vx\u0005\u0006\u0000\u0000wy\u0003 \u0010\u0000xw\u0001\u0000"+
+		"\u0000\u0000xy\u0001\u0000\u0000\u0000yz\u0001\u0000\u0000\u0000z{\u0005"+
+		"\u0007\u0000\u0000{|\u0005\u0002\u0000\u0000|}\u0003$\u0012\u0000}~\u0005"+
+		"\u0003\u0000\u0000~\u0007\u0001\u0000\u0000\u0000\u007f\u0084\u0003\n"+
+		"\u0005\u0000\u0080\u0084\u0003\f\u0006\u0000\u0081\u0084\u0003\u000e\u0007"+
+		"\u0000\u0082\u0084\u0003\u0010\b\u0000\u0083\u007f\u0001\u0000\u0000\u0000"+
+		"\u0083\u0080\u0001\u0000\u0000\u0000\u0083\u0081\u0001\u0000\u0000\u0000"+
+		"\u0083\u0082\u0001\u0000\u0000\u0000\u0084\t\u0001\u0000\u0000\u0000\u0085"+
+		"\u0086\u00052\u0000\u0000\u0086\u000b\u0001\u0000\u0000\u0000\u0087\u0088"+
+		"\u0005\b\u0000\u0000\u0088\r\u0001\u0000\u0000\u0000\u0089\u008a\u0005"+
+		"\t\u0000\u0000\u008a\u000f\u0001\u0000\u0000\u0000\u008b\u008f\u0003\u000e"+
+		"\u0007\u0000\u008c\u008f\u0003\f\u0006\u0000\u008d\u008f\u00052\u0000"+
+		"\u0000\u008e\u008b\u0001\u0000\u0000\u0000\u008e\u008c\u0001\u0000\u0000"+
+		"\u0000\u008e\u008d\u0001\u0000\u0000\u0000\u008f\u0090\u0001\u0000\u0000"+
+		"\u0000\u0090\u0092\u0005\n\u0000\u0000\u0091\u0093\u0003D\"\u0000\u0092"+
+		"\u0091\u0001\u0000\u0000\u0000\u0092\u0093\u0001\u0000\u0000\u0000\u0093"+
+		"\u0094\u0001\u0000\u0000\u0000\u0094\u0095\u0005\u000b\u0000\u0000\u0095"+
+		"\u0011\u0001\u0000\u0000\u0000\u0096\u0099\u0005\f\u0000\u0000\u0097\u0099"+
+		"\u0003\b\u0004\u0000\u0098\u0096\u0001\u0000\u0000\u0000\u0098\u0097\u0001"+
+		"\u0000\u0000\u0000\u0099\u0013\u0001\u0000\u0000\u0000\u009a\u009b\u0003"+
+		"\u0000\u0000\u0000\u009b\u009c\u0005\u0000\u0000\u0001\u009c\u0015\u0001"+
+		"\u0000\u0000\u0000\u009d\u009e\u0005\u0004\u0000\u0000\u009e\u009f\u0005"+
+		"\u0001\u0000\u0000\u009f\u00a0\u00052\u0000\u0000\u00a0\u00a1\u0005\u0002"+
+		"\u0000\u0000\u00a1\u00a5\u0003\u001a\r\u0000\u00a2\u00a4\u0003\u0018\f"+
+		"\u0000\u00a3\u00a2\u0001\u0000\u0000\u0000\u00a4\u00a7\u0001\u0000\u0000"+
+		"\u0000\u00a5\u00a3\u0001\u0000\u0000\u0000\u00a5\u00a6\u0001\u0000\u0000"+
+		"\u0000\u00a6\u00a8\u0001\u0000\u0000\u0000\u00a7\u00a5\u0001\u0000\u0000"+
+		"\u0000\u00a8\u00a9\u0005\u0003\u0000\u0000\u00a9\u0017\u0001\u0000\u0000"+
+		"\u0000\u00aa\u00ad\u0003\u001c\u000e\u0000\u00ab\u00ad\u0003\u001e\u000f"+
+		"\u0000\u00ac\u00aa\u0001\u0000\u0000\u0000\u00ac\u00ab\u0001\u0000\u0000"+
+		"\u0000\u00ad\u0019\u0001\u0000\u0000\u0000\u00ae\u00af\u0005\u0004\u0000"+
+		"\u0000\u00af\u00b0\u0005\r\u0000\u0000\u00b0\u00b1\u0005\f\u0000\u0000"+
+		"\u00b1\u00b2\u00052\u0000\u0000\u00b2\u00b3\u0004\r\u0000\u0001\u00b3"+
+		"\u00b4\u0005\u0006\u0000\u0000\u00b4\u00b5\u00052\u0000\u0000\u00b5\u00b6"+
+		"\u0004\r\u0001\u0001\u00b6\u00b7\u0005\n\u0000\u0000\u00b7\u00b8\u0005"+
+		"\u000b\u0000\u0000\u00b8\u00b9\u00052\u0000\u0000\u00b9\u00ba\u0005\u0007"+
+		"\u0000\u0000\u00ba\u00bb\u0005\u0002\u0000\u0000\u00bb\u00bc\u0003$\u0012"+
+		"\u0000\u00bc\u00bd\u0005\u0003\u0000\u0000\u00bd\u001b\u0001\u0000\u0000"+
+		"\u0000\u00be\u00bf\u0005\r\u0000\u0000\u00bf\u00c0\u0003\b\u0004\u0000"+
+		"\u00c0\u00c1\u00052\u0000\u0000\u00c1\u00c2\u0005\u0005\u0000\u0000\u00c2"+
+		"\u001d\u0001\u0000\u0000\u0000\u00c3\u00c4\u0005\r\u0000\u0000\u00c4\u00c5"+
+		"\u0003\u0012\t\u0000\u00c5\u00c6\u00052\u0000\u0000\u00c6\u00c8\u0005"+
+		"\u0006\u0000\u0000\u00c7\u00c9\u0003 \u0010\u0000\u00c8\u00c7\u0001\u0000"+
+		"\u0000\u0000\u00c8\u00c9\u0001\u0000\u0000\u0000\u00c9\u00ca\u0001\u0000"+
+		"\u0000\u0000\u00ca\u00cb\u0005\u0007\u0000\u0000\u00cb\u00cc\u0005\u0002"+
+		"\u0000\u0000\u00cc\u00cd\u0003$\u0012\u0000\u00cd\u00ce\u0005\u0003\u0000"+
+		"\u0000\u00ce\u001f\u0001\u0000\u0000\u0000\u00cf\u00d4\u0003\"\u0011\u0000"+
+		"\u00d0\u00d1\u0005\u000e\u0000\u0000\u00d1\u00d3\u0003\"\u0011\u0000\u00d2"+
+		"\u00d0\u0001\u0000\u0000\u0000\u00d3\u00d6\u0001\u0000\u0000\u0000\u00d4"+
+		"\u00d2\u0001\u0000\u0000\u0000\u00d4\u00d5\u0001\u0000\u0000\u0000\u00d5"+
+		"!\u0001\u0000\u0000\u0000\u00d6\u00d4\u0001\u0000\u0000\u0000\u00d7\u00d8"+
+		"\u0003\b\u0004\u0000\u00d8\u00d9\u00052\u0000\u0000\u00d9#\u0001\u0000"+
+		"\u0000\u0000\u00da\u00dc\u0003&\u0013\u0000\u00db\u00da\u0001\u0000\u0000"+
+		"\u0000\u00dc\u00df\u0001\u0000\u0000\u0000\u00dd\u00db\u0001\u0000\u0000"+
+		"\u0000\u00dd\u00de\u0001\u0000\u0000\u0000\u00de\u00e3\u0001\u0000\u0000"+
+		"\u0000\u00df\u00dd\u0001\u0000\u0000\u0000\u00e0\u00e2\u0003(\u0014\u0000"+
+		"\u00e1\u00e0\u0001\u0000\u0000\u0000\u00e2\u00e5\u0001\u0000\u0000\u0000"+
+		"\u00e3\u00e1\u0001\u0000\u0000\u0000\u00e3\u00e4\u0001\u0000\u0000\u0000"+
+		"\u00e4%\u0001\u0000\u0000\u0000\u00e5\u00e3\u0001\u0000\u0000\u0000\u00e6"+
+		"\u00e7\u0003\b\u0004\u0000\u00e7\u00e8\u00052\u0000\u0000\u00e8\u00e9"+
+		"\u0005\u0005\u0000\u0000\u00e9\'\u0001\u0000\u0000\u0000\u00ea\u00f3\u0003"+
+		",\u0016\u0000\u00eb\u00f3\u0003<\u001e\u0000\u00ec\u00f3\u0003>\u001f"+
+		"\u0000\u00ed\u00f3\u0003@ \u0000\u00ee\u00f3\u0003B!\u0000\u00ef\u00f3"+
+		"\u00032\u0019\u0000\u00f0\u00f3\u0003:\u001d\u0000\u00f1\u00f3\u0003*"+
+		"\u0015\u0000\u00f2\u00ea\u0001\u0000\u0000\u0000\u00f2\u00eb\u0001\u0000"+
+		"\u0000\u0000\u00f2\u00ec\u0001\u0000\u0000\u0000\u00f2\u00ed\u0001\u0000"+
+		"\u0000\u0000\u00f2\u00ee\u0001\u0000\u0000\u0000\u00f2\u00ef\u0001\u0000"+
+		"\u0000\u0000\u00f2\u00f0\u0001\u0000\u0000\u0000\u00f2\u00f1\u0001\u0000"+
+		"\u0000\u0000\u00f3)\u0001\u0000\u0000\u0000\u00f4\u00f5\u00038\u001c\u0000"+
+		"\u00f5\u00f6\u0005\u0005\u0000\u0000\u00f6+\u0001\u0000\u0000\u0000\u00f7"+
+		"\u00f8\u0003.\u0017\u0000\u00f8\u00f9\u0005\u0005\u0000\u0000\u00f9-\u0001"+
+		"\u0000\u0000\u0000\u00fa\u00fb\u00030\u0018\u0000\u00fb\u00fc\u0005\u000f"+
+		"\u0000\u0000\u00fc\u00fd\u0003D\"\u0000\u00fd/\u0001\u0000\u0000\u0000"+
+		"\u00fe\u0109\u00052\u0000\u0000\u00ff\u0100\u0003D\"\u0000\u0100\u0101"+
+		"\u0005\u0010\u0000\u0000\u0101\u0102\u00052\u0000\u0000\u0102\u0109\u0001"+
+		"\u0000\u0000\u0000\u0103\u0104\u0003D\"\u0000\u0104\u0105\u0005\n\u0000"+
+		"\u0000\u0105\u0106\u0003D\"\u0000\u0106\u0107\u0005\u000b\u0000\u0000"+
+		"\u0107\u0109\u0001\u0000\u0000\u0000\u0108\u00fe\u0001\u0000\u0000\u0000"+
+		"\u0108\u00ff\u0001\u0000\u0000\u0000\u0108\u0103\u0001\u0000\u0000\u0000"+
+		"\u01091\u0001\u0000\u0000\u0000\u010a\u010b\u0005\u0011\u0000\u0000\u010b"+
+		"\u010d\u0005\u0006\u0000\u0000\u010c\u010e\u00034\u001a\u0000\u010d\u010c"+
+		"\u0001\u0000\u0000\u0000\u010d\u010e\u0001\u0000\u0000\u0000\u010e\u010f"+
+		"\u0001\u0000\u0000\u0000\u010f\u0111\u0005\u0005\u0000\u0000\u0110\u0112"+
+		"\u0003D\"\u0000\u0111\u0110\u0001\u0000\u0000\u0000\u0111\u0112\u0001"+
+		"\u0000\u0000\u0000\u0112\u0113\u0001\u0000\u0000\u0000\u0113\u0115\u0005"+
+		"\u0005\u0000\u0000\u0114\u0116\u00036\u001b\u0000\u0115\u0114\u0001\u0000"+
+		"\u0000\u0000\u0115\u0116\u0001\u0000\u0000\u0000\u0116\u0117\u0001\u0000"+
+		"\u0000\u0000\u0117\u0118\u0005\u0007\u0000\u0000\u0118\u011c\u0005\u0002"+
+		"\u0000\u0000\u0119\u011b\u0003(\u0014\u0000\u011a\u0119\u0001\u0000\u0000"+
+		"\u0000\u011b\u011e\u0001\u0000\u0000\u0000\u011c\u011a\u0001\u0000\u0000"+
+		"\u0000\u011c\u011d\u0001\u0000\u0000\u0000\u011d\u011f\u0001\u0000\u0000"+
+		"\u0000\u011e\u011c\u0001\u0000\u0000\u0000\u011f\u0120\u0005\u0003\u0000"+
+		"\u0000\u01203\u0001\u0000\u0000\u0000\u0121\u0126\u0003.\u0017\u0000\u0122"+
+		"\u0123\u0005\u000e\u0000\u0000\u0123\u0125\u0003.\u0017\u0000\u0124\u0122"+
+		"\u0001\u0000\u0000\u0000\u0125\u0128\u0001\u0000\u0000\u0000\u0126\u0124"+
+		"\u0001\u0000\u0000\u0000\u0126\u0127\u0001\u0000\u0000\u0000\u01275\u0001"+
+		"\u0000\u0000\u0000\u0128\u0126\u0001\u0000\u0000\u0000\u0129\u012e\u0003"+
+		"8\u001c\u0000\u012a\u012b\u0005\u000e\u0000\u0000\u012b\u012d\u00038\u001c"+
+		"\u0000\u012c\u012a\u0001\u0000\u0000\u0000\u012d\u0130\u0001\u0000\u0000"+
+		"\u0000\u012e\u012c\u0001\u0000\u0000\u0000\u012e\u012f\u0001\u0000\u0000"+
+		"\u0000\u012f7\u0001\u0000\u0000\u0000\u0130\u012e\u0001\u0000\u0000\u0000"+
+		"\u0131\u0132\u00030\u0018\u0000\u0132\u0133\u0005\u0012\u0000\u0000\u0133"+
+		"\u0138\u0001\u0000\u0000\u0000\u0134\u0135\u00030\u0018\u0000\u0135\u0136"+
+		"\u0005\u0013\u0000\u0000\u0136\u0138\u0001\u0000\u0000\u0000\u0137\u0131"+
+		"\u0001\u0000\u0000\u0000\u0137\u0134\u0001\u0000\u0000\u0000\u01389\u0001"+
+		"\u0000\u0000\u0000\u0139\u013a\u0005\u0014\u0000\u0000\u013a\u013e\u0005"+
+		"\u0002\u0000\u0000\u013b\u013d\u0003(\u0014\u0000\u013c\u013b\u0001\u0000"+
+		"\u0000\u0000\u013d\u0140\u0001\u0000\u0000\u0000\u013e\u013c\u0001\u0000"+
+		"\u0000\u0000\u013e\u013f\u0001\u0000\u0000\u0000\u013f\u0144\u0001\u0000"+
+		"\u0000\u0000\u0140\u013e\u0001\u0000\u0000\u0000\u0141\u0143\u0005\u0003"+
+		"\u0000\u0000\u0142\u0141\u0001\u0000\u0000\u0000\u0143\u0146\u0001\u0000"+
+		"\u0000\u0000\u0144\u0142\u0001\u0000\u0000\u0000\u0144\u0145\u0001\u0000"+
+		"\u0000\u0000\u0145\u0147\u0001\u0000\u0000\u0000\u0146\u0144\u0001\u0000"+
+		"\u0000\u0000\u0147\u0148\u0005\u0015\u0000\u0000\u0148\u0149\u0005\u0006"+
+		"\u0000\u0000\u0149\u014a\u0003D\"\u0000\u014a\u014b\u0005\u0007\u0000"+
+		"\u0000\u014b\u014c\u0005\u0005\u0000\u0000\u014c;\u0001\u0000\u0000\u0000"+
+		"\u014d\u014e\u0005\u0016\u0000\u0000\u014e\u014f\u0005\u0006\u0000\u0000"+
+		"\u014f\u0150\u0003D\"\u0000\u0150\u0151\u0005\u0007\u0000\u0000\u0151"+
+		"\u0155\u0005\u0002\u0000\u0000\u0152\u0154\u0003(\u0014\u0000\u0153\u0152"+
+		"\u0001\u0000\u0000\u0000\u0154\u0157\u0001\u0000\u0000\u0000\u0155\u0153"+
+		"\u0001\u0000\u0000\u0000\u0155\u0156\u0001\u0000\u0000\u0000\u0156\u0158"+
+		"\u0001\u0000\u0000\u0000\u0157\u0155\u0001\u0000\u0000\u0000\u0158\u0162"+
+		"\u0005\u0003\u0000\u0000\u0159\u015a\u0005\u0017\u0000\u0000\u015a\u015e"+
+		"\u0005\u0002\u0000\u0000\u015b\u015d\u0003(\u0014\u0000\u015c\u015b\u0001"+
+		"\u0000\u0000\u0000\u015d\u0160\u0001\u0000\u0000\u0000\u015e\u015c\u0001"+
+		"\u0000\u0000\u0000\u015e\u015f\u0001\u0000\u0000\u0000\u015f\u0161\u0001"+
+		"\u0000\u0000\u0000\u0160\u015e\u0001\u0000\u0000\u0000\u0161\u0163\u0005"+
+		"\u0003\u0000\u0000\u0162\u0159\u0001\u0000\u0000\u0000\u0162\u0163\u0001"+
+		"\u0000\u0000\u0000\u0163=\u0001\u0000\u0000\u0000\u0164\u0165\u0005\u0015"+
+		"\u0000\u0000\u0165\u0166\u0005\u0006\u0000\u0000\u0166\u0167\u0003D\""+
+		"\u0000\u0167\u0168\u0005\u0007\u0000\u0000\u0168\u016c\u0005\u0002\u0000"+
+		"\u0000\u0169\u016b\u0003(\u0014\u0000\u016a\u0169\u0001\u0000\u0000\u0000"+
+		"\u016b\u016e\u0001\u0000\u0000\u0000\u016c\u016a\u0001\u0000\u0000\u0000"+
+		"\u016c\u016d\u0001\u0000\u0000\u0000\u016d\u016f\u0001\u0000\u0000\u0000"+
+		"\u016e\u016c\u0001\u0000\u0000\u0000\u016f\u0170\u0005\u0003\u0000\u0000"+
+		"\u0170?\u0001\u0000\u0000\u0000\u0171\u0172\u0003L&\u0000\u0172\u0173"+
+		"\u0005\u0005\u0000\u0000\u0173\u017f\u0001\u0000\u0000\u0000\u0174\u0175"+
+		"\u0003D\"\u0000\u0175\u0176\u0005\u0010\u0000\u0000\u0176\u0177\u0005"+
+		"2\u0000\u0000\u0177\u0179\u0005\u0006\u0000\u0000\u0178\u017a\u0003N\'"+
+		"\u0000\u0179\u0178\u0001\u0000\u0000\u0000\u0179\u017a\u0001\u0000\u0000"+
+		"\u0000\u017a\u017b\u0001\u0000\u0000\u0000\u017b\u017c\u0005\u0007\u0000"+
+		"\u0000\u017c\u017d\u0005\u0005\u0000\u0000\u017d\u017f\u0001\u0000\u0000"+
+		"\u0000\u017e\u0171\u0001\u0000\u0000\u0000\u017e\u0174\u0001\u0000\u0000"+
+		"\u0000\u017fA\u0001\u0000\u0000\u0000\u0180\u0182\u0005\u0018\u0000\u0000"+
+		"\u0181\u0183\u0003D\"\u0000\u0182\u0181\u0001\u0000\u0000\u0000\u0182"+
+		"\u0183\u0001\u0000\u0000\u0000\u0183\u0184\u0001\u0000\u0000\u0000\u0184"+
+		"\u0185\u0005\u0005\u0000\u0000\u0185C\u0001\u0000\u0000\u0000\u0186\u0187"+
+		"\u0006\"\uffff\uffff\u0000\u0187\u0188\u00053\u0000\u0000\u0188\u01a2"+
+		"\u0004\"\u0002\u0001\u0189\u01a2\u0003H$\u0000\u018a\u01a2\u0005\u0019"+
+		"\u0000\u0000\u018b\u01a2\u0005\u001a\u0000\u0000\u018c\u018d\u0005\u0006"+
+		"\u0000\u0000\u018d\u018e\u0003D\"\u0000\u018e\u018f\u0005\u0007\u0000"+
+		"\u0000\u018f\u01a2\u0001\u0000\u0000\u0000\u0190\u01a2\u0003L&\u0000\u0191"+
+		"\u01a2\u00052\u0000\u0000\u0192\u0193\u0007\u0000\u0000\u0000\u0193\u01a2"+
+		"\u0003D\"\t\u0194\u0195\u0005!\u0000\u0000\u0195\u0196\u00052\u0000\u0000"+
+		"\u0196\u0198\u0005\u0006\u0000\u0000\u0197\u0199\u0003N\'\u0000\u0198"+
+		"\u0197\u0001\u0000\u0000\u0000\u0198\u0199\u0001\u0000\u0000\u0000\u0199"+
+		"\u019a\u0001\u0000\u0000\u0000\u019a\u01a2\u0005\u0007\u0000\u0000\u019b"+
+		"\u019c\u0005!\u0000\u0000\u019c\u01a2\u0003\u0010\b\u0000\u019d\u019e"+
+		"\u0005!\u0000\u0000\u019e\u019f\u0003\u0010\b\u0000\u019f\u01a0\u0003"+
+		"J%\u0000\u01a0\u01a2\u0001\u0000\u0000\u0000\u01a1\u0186\u0001\u0000\u0000"+
+		"\u0000\u01a1\u0189\u0001\u0000\u0000\u0000\u01a1\u018a\u0001\u0000\u0000"+
+		"\u0000\u01a1\u018b\u0001\u0000\u0000\u0000\u01a1\u018c\u0001\u0000\u0000"+
+		"\u0000\u01a1\u0190\u0001\u0000\u0000\u0000\u01a1\u0191\u0001\u0000\u0000"+
+		"\u0000\u01a1\u0192\u0001\u0000\u0000\u0000\u01a1\u0194\u0001\u0000\u0000"+
+		"\u0000\u01a1\u019b\u0001\u0000\u0000\u0000\u01a1\u019d\u0001\u0000\u0000"+
+		"\u0000\u01a2\u01bf\u0001\u0000\u0000\u0000\u01a3\u01a4\n\b\u0000\u0000"+
+		"\u01a4\u01a5\u0003F#\u0000\u01a5\u01a6\u0003D\"\t\u01a6\u01be\u0001\u0000"+
+		"\u0000\u0000\u01a7\u01a8\n\u0007\u0000\u0000\u01a8\u01a9\u0005\u001f\u0000"+
+		"\u0000\u01a9\u01aa\u0003D\"\u0000\u01aa\u01ab\u0005 \u0000\u0000\u01ab"+
+		"\u01ac\u0003D\"\b\u01ac\u01be\u0001\u0000\u0000\u0000\u01ad\u01ae\n\u0006"+
+		"\u0000\u0000\u01ae\u01af\u0005\u0010\u0000\u0000\u01af\u01b0\u00052\u0000"+
+		"\u0000\u01b0\u01b2\u0005\u0006\u0000\u0000\u01b1\u01b3\u0003N\'\u0000"+
+		"\u01b2\u01b1\u0001\u0000\u0000\u0000\u01b2\u01b3\u0001\u0000\u0000\u0000"+
+		"\u01b3\u01b4\u0001\u0000\u0000\u0000\u01b4\u01be\u0005\u0007\u0000\u0000"+
+		"\u01b5\u01b6\n\u0005\u0000\u0000\u01b6\u01b7\u0005\u0010\u0000\u0000\u01b7"+
+		"\u01be\u00052\u0000\u0000\u01b8\u01b9\n\u0004\u0000\u0000\u01b9\u01ba"+
+		"\u0005\n\u0000\u0000\u01ba\u01bb\u0003D\"\u0000\u01bb\u01bc\u0005\u000b"+
+		"\u0000\u0000\u01bc\u01be\u0001\u0000\u0000\u0000\u01bd\u01a3\u0001\u0000"+
+		"\u0000\u0000\u01bd\u01a7\u0001\u0000\u0000\u0000\u01bd\u01ad\u0001\u0000"+
+		"\u0000\u0000\u01bd\u01b5\u0001\u0000\u0000\u0000\u01bd\u01b8\u0001\u0000"+
+		"\u0000\u0000\u01be\u01c1\u0001\u0000\u0000\u0000\u01bf\u01bd\u0001\u0000"+
+		"\u0000\u0000\u01bf\u01c0\u0001\u0000\u0000\u0000\u01c0E\u0001\u0000\u0000"+
+		"\u0000\u01c1\u01bf\u0001\u0000\u0000\u0000\u01c2\u01c3\u0007\u0001\u0000"+
+		"\u0000\u01c3G\u0001\u0000\u0000\u0000\u01c4\u01c7\u00050\u0000\u0000\u01c5"+
+		"\u01c7\u00051\u0000\u0000\u01c6\u01c4\u0001\u0000\u0000\u0000\u01c6\u01c5"+
+		"\u0001\u0000\u0000\u0000\u01c7I\u0001\u0000\u0000\u0000\u01c8\u01c9\u0005"+
+		"\u0002\u0000\u0000\u01c9\u01ce\u0003D\"\u0000\u01ca\u01cb\u0005\u000e"+
+		"\u0000\u0000\u01cb\u01cd\u0003D\"\u0000\u01cc\u01ca\u0001\u0000\u0000"+
+		"\u0000\u01cd\u01d0\u0001\u0000\u0000\u0000\u01ce\u01cc\u0001\u0000\u0000"+
+		"\u0000\u01ce\u01cf\u0001\u0000\u0000\u0000\u01cf\u01d1\u0001\u0000\u0000"+
+		"\u0000\u01d0\u01ce\u0001\u0000\u0000\u0000\u01d1\u01d2\u0005\u0003\u0000"+
+		"\u0000\u01d2K\u0001\u0000\u0000\u0000\u01d3\u01d4\u00052\u0000\u0000\u01d4"+
+		"\u01d6\u0005\u0010\u0000\u0000\u01d5\u01d3\u0001\u0000\u0000\u0000\u01d5"+
+		"\u01d6\u0001\u0000\u0000\u0000\u01d6\u01d7\u0001\u0000\u0000\u0000\u01d7"+
+		"\u01d8\u00052\u0000\u0000\u01d8\u01da\u0005\u0006\u0000\u0000\u01d9\u01db"+
+		"\u0003N\'\u0000\u01da\u01d9\u0001\u0000\u0000\u0000\u01da\u01db\u0001"+
+		"\u0000\u0000\u0000\u01db\u01dc\u0001\u0000\u0000\u0000\u01dc\u01dd\u0005"+
+		"\u0007\u0000\u0000\u01ddM\u0001\u0000\u0000\u0000\u01de\u01e3\u0003D\""+
+		"\u0000\u01df\u01e0\u0005\u000e\u0000\u0000\u01e0\u01e2\u0003D\"\u0000"+
+		"\u01e1\u01df\u0001\u0000\u0000\u0000\u01e2\u01e5\u0001\u0000\u0000\u0000"+
+		"\u01e3\u01e1\u0001\u0000\u0000\u0000\u01e3\u01e4\u0001\u0000\u0000\u0000"+
+		"\u01e4O\u0001\u0000\u0000\u0000\u01e5\u01e3\u0001\u0000\u0000\u0000+S"+
+		"Zcix\u0083\u008e\u0092\u0098\u00a5\u00ac\u00c8\u00d4\u00dd\u00e3\u00f2"+
+		"\u0108\u010d\u0111\u0115\u011c\u0126\u012e\u0137\u013e\u0144\u0155\u015e"+
+		"\u0162\u016c\u0179\u017e\u0182\u0198\u01a1\u01b2\u01bd\u01bf\u01c6\u01ce"+
+		"\u01d5\u01da\u01e3";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -28,6 +28,12 @@ public interface ExtendedStaticJavaVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitPublicFieldDeclaration(ExtendedStaticJavaParser.PublicFieldDeclarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ExtendedStaticJavaParser#instanceMethodDeclaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInstanceMethodDeclaration(ExtendedStaticJavaParser.InstanceMethodDeclarationContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link ExtendedStaticJavaParser#type}.
 	 * @param ctx the parse tree
@@ -238,6 +244,13 @@ public interface ExtendedStaticJavaVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitLiteralExp(ExtendedStaticJavaParser.LiteralExpContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code MethodInvokeExp}
+	 * labeled alternative in {@link ExtendedStaticJavaParser#exp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMethodInvokeExp(ExtendedStaticJavaParser.MethodInvokeExpContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code ArrayAccessExp}
 	 * labeled alternative in {@link ExtendedStaticJavaParser#exp}.
@@ -322,6 +335,13 @@ public interface ExtendedStaticJavaVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitNewExp(ExtendedStaticJavaParser.NewExpContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ThisExp}
+	 * labeled alternative in {@link ExtendedStaticJavaParser#exp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitThisExp(ExtendedStaticJavaParser.ThisExpContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link ExtendedStaticJavaParser#binaryOp}.
 	 * @param ctx the parse tree
@@ -0,0 +1,55 @@
+package esjc.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * This class creates the tokens of the {@link ExtendedStaticJavaLexer}, giving
+ * each identifier its text once, interned: all the occurrences of a name in
+ * a parse share one {@link String}, whose hash code is computed once. Other
+ * tokens read their text from the input when asked, as with
+ * {@link CommonTokenFactory#DEFAULT}.
+ * <p>
+ * A factory belongs to one {@link ParserSession}, hence to one thread.
+ */
+public class IdentifierTokenFactory extends CommonTokenFactory {
+  /**
+   * Holds the identifiers interned since the last {@link #clear()}.
+   */
+  protected final Map<String, String> identifiers = new HashMap<>();
+
+  @Override
+  public CommonToken create(final Pair<TokenSource, CharStream> source,
+      final int type, final String text, final int channel, final int start,
+      final int stop, final int line, final int charPositionInLine) {
+    final CommonToken t = super.create(source, type, text, channel, start,
+        stop, line, charPositionInLine);
+    if ((type == ExtendedStaticJavaLexer.ID) && (text == null)
+        && (source.b != null)) {
+      t.setText(intern(source.b.getText(Interval.of(start, stop))));
+    }
+    return t;
+  }
+
+  /**
+   * Returns the interned copy of the given identifier.
+   */
+  public String intern(final String identifier) {
+    final String result = this.identifiers.putIfAbsent(identifier, identifier);
+    return result == null ? identifier : result;
+  }
+
+  /**
+   * Forgets the identifiers interned so far.
+   */
+  public void clear() {
+    this.identifiers.clear();
+  }
+}
@@ -0,0 +1,182 @@
+package esjc.parser;
+
+import esjc.parser.ExtendedParserUtil.ParseMode;
+import esjc.parser.ExtendedStaticJavaParser.CompilationUnitContext;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * This class holds a lexer, a token stream and a parser that are reused for
+ * every parse of one thread; {@link #current()} returns the session of the
+ * calling thread, so sessions are never shared between threads.
+ * <p>
+ * The prediction DFAs of the generated lexer and parser are static, hence
+ * shared by all sessions; {@link #warmUp(File)} fills them ahead of time
+ * and {@link #clearDFACache()} drops them.
+ */
+public class ParserSession {
+  /**
+   * Holds the session of each thread.
+   */
+  private static final ThreadLocal<ParserSession> session = ThreadLocal
+      .withInitial(ParserSession::new);
+
+  public static ParserSession current() {
+    return ParserSession.session.get();
+  }
+
+  /**
+   * Parses the {@code .java} files in the given directory (the bundled
+   * {@code resources/} corpus, say) to populate the shared DFA cache; syntax
+   * errors are ignored. Returns the number of files parsed.
+   */
+  public static int warmUp(final File dir) {
+    final File[] files = dir
+        .listFiles((d, name) -> name.endsWith(".java"));
+    if (files == null) {
+      return 0;
+    }
+    Arrays.sort(files);
+    for (final File f : files) {
+      try {
+        ExtendedParserUtil.parse(f.getPath());
+      } catch (final Exception e) {
+        // only the prediction work matters
+      }
+    }
+    return files.length;
+  }
+
+  /**
+   * Parses the corpus in {@code resources/} of the working directory; see
+   * {@link #warmUp(File)}.
+   */
+  public static int warmUp() {
+    return ParserSession
+        .warmUp(new File(System.getProperty("user.dir"), "resources"));
+  }
+
+  /**
+   * Drops the DFAs cached by the generated lexer and parser, e.g., to free
+   * memory in a long-running process; they are rebuilt as parsing goes on.
+   * Must not be called while another thread is parsing.
+   */
+  public static void clearDFACache() {
+    final ParserSession s = ParserSession.current();
+    s.lexer.getInterpreter().clearDFA();
+    s.parser.getInterpreter().clearDFA();
+  }
+
+  /**
+   * Holds the lexer of this session.
+   */
+  private final ExtendedStaticJavaLexer lexer;
+
+  /**
+   * Holds the factory of the tokens of {@link #lexer}, which interns the
+   * identifiers of a parse.
+   */
+  private final IdentifierTokenFactory tokenFactory = new IdentifierTokenFactory();
+
+  /**
+   * Holds the token stream fed by {@link #lexer}.
+   */
+  private final CommonTokenStream tokens;
+
+  /**
+   * Holds the parser reading {@link #tokens}.
+   */
+  private final ExtendedStaticJavaParser parser;
+
+  /**
+   * Holds the number of parses of this session that completed in the SLL
+   * stage of {@link ParseMode#SLL_THEN_LL}.
+   */
+  private long sllParses;
+
+  /**
+   * Holds the number of parses of this session in
+   * {@link ParseMode#SLL_THEN_LL} that fell back to LL.
+   */
+  private long llFallbacks;
+
+  private ParserSession() {
+    this.lexer = new ExtendedStaticJavaLexer(CharStreams.fromString(""));
+    this.lexer.setTokenFactory(this.tokenFactory);
+    this.tokens = new CommonTokenStream(this.lexer);
+    this.parser = new ExtendedStaticJavaParser(this.tokens);
+  }
+
+  /**
+   * Returns the number of {@link ParseMode#SLL_THEN_LL} parses of this
+   * session that did not need the LL stage.
+   */
+  public long getSllParses() {
+    return this.sllParses;
+  }
+
+  /**
+   * Returns the number of {@link ParseMode#SLL_THEN_LL} parses of this
+   * session that fell back to LL (including the ones of input with syntax
+   * errors).
+   */
+  public long getLlFallbacks() {
+    return this.llFallbacks;
+  }
+
+  /**
+   * Parses the given input; syntax errors are reported as a
+   * RuntimeException that mentions the given source name.
+   */
+  public CompilationUnitContext parse(final CharStream input,
+      final String sourceName, final ParseMode mode) {
+    this.lexer.setInputStream(input);
+    this.tokens.setTokenSource(this.lexer);
+    this.parser.setTokenStream(this.tokens);
+    try {
+      return parse(sourceName, mode);
+    } finally {
+      // do not keep the source alive until the next parse
+      this.lexer.setInputStream(CharStreams.fromString(""));
+      this.tokens.setTokenSource(this.lexer);
+      this.tokenFactory.clear();
+    }
+  }
+
+  private CompilationUnitContext parse(final String sourceName,
+      final ParseMode mode) {
+    final ExtendedStaticJavaParser parser = this.parser;
+    parser.removeErrorListeners();
+    if (mode == ParseMode.SLL_THEN_LL) {
+      parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+      parser.setErrorHandler(new BailErrorStrategy());
+      try {
+        final CompilationUnitContext result = parser.compilationUnit();
+        this.sllParses++;
+        return result;
+      } catch (final ParseCancellationException e) {
+        this.llFallbacks++;
+        this.tokens.seek(0);
+        parser.reset();
+      }
+    }
+    parser.setErrorHandler(new DefaultErrorStrategy());
+    parser.getInterpreter().setPredictionMode(
+        mode == ParseMode.SLL ? PredictionMode.SLL : PredictionMode.LL);
+    parser.addErrorListener(new BaseErrorListener() {
+      @Override
+      public void syntaxError(final Recognizer<?, ?> recognizer,
+          final Object offendingSymbol, final int line,
+          final int charPositionInLine, final String msg,
+          final RecognitionException e) {
+        throw new RuntimeException("Parse Error in " + sourceName + ": ["
+            + line + ", " + charPositionInLine + "] " + msg);
+      }
+    });
+    return parser.compilationUnit();
+  }
+}
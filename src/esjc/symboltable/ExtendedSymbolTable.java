@@ -1,5 +1,6 @@
 package esjc.symboltable;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeSet;
 
@@ -9,6 +10,7 @@ import org.eclipse.jdt.core.dom.ClassInstanceCreation;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldAccess;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 
 import esjc.util.Pair;
@@ -19,8 +21,9 @@ import esjc.util.Util;
  * {@link CompilationUnit}. The {@link super.symbolMap} is augmented with mappings of
  * {@link FieldAccess} to its {@link FieldDeclaration},
  * {@link ClassInstanceCreation} to its {@link TypeDeclaration}, Note that
- * {@link FieldAccess}, {@link ArrayCreation}, and {@link ClassInstanceCreation}
- * will be resolved in the type checking phase.
+ * {@link FieldAccess}, {@link ArrayCreation}, {@link ClassInstanceCreation},
+ * and invocations of instance methods on a receiver will be resolved in the
+ * type checking phase.
  *
  * @author <a href="mailto:robby@cis.ksu.edu">Robby</a>
  */
@@ -37,6 +40,13 @@ public class ExtendedSymbolTable extends SymbolTable {
    */
   public final Map<Pair<String, String>, FieldDeclaration> fieldMap;
 
+  /**
+   * Holds the map of pairs of class fully-qualified and method names to the
+   * {@link MethodDeclaration} of the instance methods of the (non-main)
+   * classes.
+   */
+  public final Map<Pair<String, String>, MethodDeclaration> methodMap;
+
   /**
    * Constructs a symbol table for an ExtendedStaticJava {@link CompilationUnit}
    * .
@@ -52,9 +62,30 @@ public class ExtendedSymbolTable extends SymbolTable {
            final Map<ASTNode, Object> symbolMap,
           final Map<String, TypeDeclaration> classMap,
          final Map<Pair<String, String>, FieldDeclaration> fieldMap) {
+    this(symbolMap, classMap, fieldMap, new HashMap<>());
+  }
+
+  /**
+   * Constructs a symbol table for an ExtendedStaticJava {@link CompilationUnit}
+   * with instance methods.
+   *
+   * @param symbolMap
+   *          The symbol map.
+   * @param classMap
+   *          The class map.
+   * @param fieldMap
+   *          The field map.
+   * @param methodMap
+   *          The instance method map.
+   */
+  public ExtendedSymbolTable(final Map<ASTNode, Object> symbolMap,
+      final Map<String, TypeDeclaration> classMap,
+      final Map<Pair<String, String>, FieldDeclaration> fieldMap,
+      final Map<Pair<String, String>, MethodDeclaration> methodMap) {
     super(symbolMap);
     this.classMap = classMap;
     this.fieldMap = fieldMap;
+    this.methodMap = methodMap;
   }
 
   /**
@@ -84,6 +115,15 @@ public class ExtendedSymbolTable extends SymbolTable {
       sb.append(s);
       sb.append(lineSep);
     }
+    set.clear();
+    for (final Pair<String, String> p : this.methodMap.keySet()) {
+      set.add(p.first + "." + p.second + "() ==> "
+              + Util.getFirstLine(this.methodMap.get(p)));
+    }
+    for (final String s : set) {
+      sb.append(s);
+      sb.append(lineSep);
+    }
     sb.append(super.toString());
     return sb.toString();
   }
@@ -13,8 +13,8 @@ import esjc.util.Pair;
  * This class is used to build symbol table for an ExtendedStaticJava
  * {@link CompilationUnit}. Note that the algorithm assumes that the JDT AST
  * tree was built using the {@link esjc.ast.ExtendedStaticJavaASTBuilder}. That is, it
- * assumes certain structures on the AST, e.g., a class does not have an
- * instance method.
+ * assumes certain structures on the AST, e.g., only the (non-main) classes
+ * have instance methods.
  * 
  * @author <a href="mailto:robby@cis.ksu.edu">Robby</a>
  */
@@ -29,6 +29,8 @@ public class ExtendedSymbolTableBuilder extends SymbolTableBuilder {
 
     private Map<Pair<String, String>, FieldDeclaration> fieldMap = new HashMap<>();
 
+    private Map<Pair<String, String>, MethodDeclaration> classMethodMap = new HashMap<>();
+
     /**
      * Unlink references and clear maps/collections.
      */
@@ -77,6 +79,9 @@ public class ExtendedSymbolTableBuilder extends SymbolTableBuilder {
       // instead of method names.
       Type x = node.getType();
       this.result.put(node, classMap.get(x.toString()));
+      for (final Object o : node.arguments()) {
+        ((ASTNode) o).accept(this);
+      }
       return false;
     }
 
@@ -89,6 +94,22 @@ public class ExtendedSymbolTableBuilder extends SymbolTableBuilder {
       return false;
     }
 
+    @Override
+    public boolean visit(final MethodInvocation node) {
+      final Expression e = node.getExpression();
+      if ((e == null) || ((e instanceof SimpleName)
+          && (this.scopes.lookup(((SimpleName) e).getIdentifier()) == null))) {
+        return super.visit(node);
+      }
+      // an instance method invocation on a receiver; the method is resolved
+      // from the receiver's type in the type checking phase
+      e.accept(this);
+      for (final Object o : node.arguments()) {
+        ((Expression) o).accept(this);
+      }
+      return false;
+    }
+
     @Override
     public boolean visit(final TypeDeclaration node) {
       if (hasPublicModifier(node.modifiers())) { // use super's visit method because this node is the main class
@@ -103,8 +124,21 @@ public class ExtendedSymbolTableBuilder extends SymbolTableBuilder {
       }
       this.classMap.put(className, node);
 
+      final Scopes fieldScopes = new Scopes();
+      final Map<String, MethodDeclaration> methodNames = new HashMap<>();
       for (final Object o : node.bodyDeclarations()) {
-        // simple class declaration only has field declarations
+        if (o instanceof MethodDeclaration) {
+          final MethodDeclaration md = (MethodDeclaration) o;
+          final String methodName = md.getName().getIdentifier();
+          if (methodNames.containsKey(methodName)) {
+            throw new Error(md, "Error in method declaration '" + methodName
+                + "' : the method name has been used in:\n"
+                + methodNames.get(methodName));
+          }
+          methodNames.put(methodName, md);
+          this.classMethodMap.put(new Pair<>(className, methodName), md);
+          continue;
+        }
         final FieldDeclaration fd = (FieldDeclaration) o;
 
         final VariableDeclarationFragment vdf = (VariableDeclarationFragment) fd
@@ -117,7 +151,25 @@ public class ExtendedSymbolTableBuilder extends SymbolTableBuilder {
               + this.fieldMap.get(new Pair<>(className, name)));
         }
         this.fieldMap.put(p, fd);
+        fieldScopes.declare(name, fd);
+      }
+
+      // resolve the method bodies against the fields and methods of this
+      // class only
+      final Scopes oldScopes = this.scopes;
+      final Map<String, MethodDeclaration> oldMethodMap = this.methodMap;
+      final String oldClassName = this.className;
+      this.scopes = fieldScopes;
+      this.methodMap = methodNames;
+      this.className = className;
+      for (final Object o : node.bodyDeclarations()) {
+        if (o instanceof MethodDeclaration) {
+          ((MethodDeclaration) o).accept(this);
+        }
       }
+      this.scopes = oldScopes;
+      this.methodMap = oldMethodMap;
+      this.className = oldClassName;
       return false;
     }
   }
@@ -140,7 +192,7 @@ public class ExtendedSymbolTableBuilder extends SymbolTableBuilder {
     final Visitor v = new Visitor();
     cu.accept(v);
     final ExtendedSymbolTable result = new ExtendedSymbolTable(v.result,
-        v.classMap, v.fieldMap);
+        v.classMap, v.fieldMap, v.classMethodMap);
     v.dispose();
     return result;
   }
@@ -0,0 +1,179 @@
+package esjc.symboltable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+
+/**
+ * This class holds the nested scopes of declarations visible while resolving
+ * symbols: fields, method parameters and local variables, by their simple
+ * names. Each name is interned once to a dense symbol number; the rest is
+ * kept in arrays:
+ * <ul>
+ * <li>the declarations, each with the scope that holds it and the declaration
+ * it shadows, in the order they were made, and</li>
+ * <li>for each symbol, its innermost declaration.</li>
+ * </ul>
+ * Exiting a scope only closes it, in constant time; the declarations of a
+ * closed scope are skipped, once, by the next lookup or declaration of their
+ * symbol.
+ */
+public class Scopes {
+  /**
+   * Holds the map of names to their symbol numbers.
+   */
+  protected final Map<String, Integer> symbols = new HashMap<>();
+
+  /**
+   * Holds the innermost declaration of each symbol, or -1.
+   */
+  protected int[] heads = new int[16];
+
+  /**
+   * Holds the declaration nodes.
+   */
+  protected ASTNode[] declarations = new ASTNode[16];
+
+  /**
+   * Holds the scope of each declaration.
+   */
+  protected int[] declarationScopes = new int[16];
+
+  /**
+   * Holds the declaration shadowed by each declaration, or -1.
+   */
+  protected int[] shadowed = new int[16];
+
+  /**
+   * Holds the number of declarations.
+   */
+  protected int declarationCount;
+
+  /**
+   * Holds the depth of each scope.
+   */
+  protected int[] scopeDepths = new int[8];
+
+  /**
+   * Holds the number of scopes entered so far.
+   */
+  protected int scopeCount;
+
+  /**
+   * Holds the open scope at each depth.
+   */
+  protected int[] openScopes = new int[8];
+
+  /**
+   * Holds the number of open scopes.
+   */
+  protected int depth;
+
+  /**
+   * Constructs scopes with an open outermost scope.
+   */
+  public Scopes() {
+    enter();
+  }
+
+  /**
+   * Opens a scope nested in the current one.
+   */
+  public void enter() {
+    if (this.scopeCount == this.scopeDepths.length) {
+      this.scopeDepths = Arrays.copyOf(this.scopeDepths, this.scopeCount * 2);
+    }
+    if (this.depth == this.openScopes.length) {
+      this.openScopes = Arrays.copyOf(this.openScopes, this.depth * 2);
+    }
+    this.scopeDepths[this.scopeCount] = this.depth;
+    this.openScopes[this.depth++] = this.scopeCount++;
+  }
+
+  /**
+   * Closes the current scope, dropping its declarations.
+   */
+  public void exit() {
+    assert this.depth > 1;
+    this.depth--;
+  }
+
+  /**
+   * Returns the number of open scopes, the outermost one included.
+   */
+  public int depth() {
+    return this.depth;
+  }
+
+  /**
+   * Declares a name in the current scope, shadowing its declaration in the
+   * enclosing scopes, if any.
+   *
+   * @param name
+   *          The simple name.
+   * @param declaration
+   *          The declaration node.
+   */
+  public void declare(final String name, final ASTNode declaration) {
+    Integer symbol = this.symbols.get(name);
+    if (symbol == null) {
+      symbol = this.symbols.size();
+      this.symbols.put(name, symbol);
+      if (symbol == this.heads.length) {
+        this.heads = Arrays.copyOf(this.heads, symbol * 2);
+      }
+      this.heads[symbol] = -1;
+    }
+    final int n = this.declarationCount++;
+    if (n == this.declarations.length) {
+      this.declarations = Arrays.copyOf(this.declarations, n * 2);
+      this.declarationScopes = Arrays.copyOf(this.declarationScopes, n * 2);
+      this.shadowed = Arrays.copyOf(this.shadowed, n * 2);
+    }
+    this.declarations[n] = declaration;
+    this.declarationScopes[n] = this.openScopes[this.depth - 1];
+    this.shadowed[n] = head(symbol);
+    this.heads[symbol] = n;
+  }
+
+  /**
+   * Returns the innermost visible declaration of a name.
+   *
+   * @param name
+   *          The simple name.
+   * @return The declaration node, or null if the name is not declared in an
+   *         open scope.
+   */
+  public ASTNode lookup(final String name) {
+    final Integer symbol = this.symbols.get(name);
+    if (symbol == null) {
+      return null;
+    }
+    final int d = head(symbol);
+    return d < 0 ? null : this.declarations[d];
+  }
+
+  /**
+   * Returns the innermost declaration of a symbol in an open scope, or -1,
+   * dropping the ones of closed scopes on the way.
+   */
+  protected int head(final int symbol) {
+    int d = this.heads[symbol];
+    while ((d >= 0) && !isOpen(this.declarationScopes[d])) {
+      d = this.shadowed[d];
+    }
+    this.heads[symbol] = d;
+    return d;
+  }
+
+  /**
+   * Returns whether a scope is open; a scope that is closed is never opened
+   * again.
+   */
+  protected boolean isOpen(final int scope) {
+    final int d = this.scopeDepths[scope];
+    return (d < this.depth) && (this.openScopes[d] == scope);
+  }
+}
@@ -29,9 +29,10 @@ public class SymbolTable {
    * {@link FieldDeclaration}, {@link SingleVariableDeclaration}, or
    * {@link VariableDeclarationStatement}, respectively, and</li>
    * <li>a {@link MethodInvocation} expression to its corresponding
-   * {@link MethodDeclaration} or {@link java.lang.reflect.Method}. Note that
-   * {@link MethodInvocation} that refers to {@link java.lang.reflect.Method} in
-   * the library is resolved in the type checking phase.</li>
+   * {@link MethodDeclaration} or
+   * {@link esjc.type.checker.LibraryMethodIndex.LibraryMethod}. Note that
+   * {@link MethodInvocation} that refers to a method in the library is
+   * resolved in the type checking phase.</li>
    * </ul>
    */
   public final
@@ -1,9 +1,7 @@
 package esjc.symboltable;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -19,6 +17,8 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
 
+import esjc.ast.NodeTable;
+
 /**
  * This class is used to build symbol table for a StaticJava
  * {@link CompilationUnit}. Note that the algorithm assumes that the JDT AST
@@ -64,10 +64,10 @@ public class SymbolTableBuilder {
    * @author <a href="mailto:robby@ksu.edu">Robby</a>
    */
   protected static class Visitor extends ASTVisitor {
-    public Map<ASTNode, Object> result = new HashMap<>();
+    public Map<ASTNode, Object> result = new NodeTable<>();
 
     /**
-     * Holds the map of:
+     * Holds the scopes of:
      * <ul>
      * <li>a field's simple name to its {@link FieldDeclaration},</li>
      * <li>a method parameter's simple name to its
@@ -75,19 +75,15 @@ public class SymbolTableBuilder {
      * <li>a local variable's simple name to its
      * {@link VariableDeclarationStatement}</li>
      * </ul>
+     * Each method has a scope of its own, nested in the one of the fields.
      */
-    protected Map<String, ASTNode> nameMap = new HashMap<>();
+    protected Scopes scopes = new Scopes();
 
     /**
      * Holds the map of a method's simple name to its {@link MethodDeclaration}.
      */
     protected Map<String, MethodDeclaration> methodMap = new HashMap<>();
 
-    /**
-     * Holds the local variable names for a method.
-     */
-    protected Set<String> localNames = new HashSet<>();
-
     protected String className;
 
     /**
@@ -95,10 +91,7 @@ public class SymbolTableBuilder {
      */
     protected void dispose() {
       this.result = null;
-      if (this.nameMap != null) {
-        this.nameMap.clear();
-        this.nameMap = null;
-      }
+      this.scopes = null;
       if (this.methodMap != null) {
         this.methodMap.clear();
         this.methodMap = null;
@@ -111,34 +104,31 @@ public class SymbolTableBuilder {
       final VariableDeclarationFragment vdf = (VariableDeclarationFragment) node
           .fragments().get(0);
       final String name = vdf.getName().getIdentifier();
-      if (this.nameMap.containsKey(name)) {
+      final ASTNode other = this.scopes.lookup(name);
+      if (other != null) {
         throw new Error(node, "Error in field declaration '" + name
-            + "' : the field name has been used in:\n" + this.nameMap.get(name));
+            + "' : the field name has been used in:\n" + other);
       }
-      this.nameMap.put(name, node);
+      this.scopes.declare(name, node);
       return false;
     }
 
     @Override
     public boolean visit(final MethodDeclaration node) {
+      this.scopes.enter();
       for (final Object o : node.parameters()) {
         final SingleVariableDeclaration svd = (SingleVariableDeclaration) o;
         final String name = svd.getName().getIdentifier();
-        if (this.nameMap.containsKey(name)) {
+        final ASTNode other = this.scopes.lookup(name);
+        if (other != null) {
           throw new Error(node, "Error in method parameter declaration of '"
               + node.getName().getIdentifier() + "' : variable name '" + name
-              + "' has been used in:\n" + this.nameMap.get(name));
+              + "' has been used in:\n" + other);
         }
-
-        this.localNames.add(name);
-        this.nameMap.put(name, svd);
+        this.scopes.declare(name, svd);
       }
       node.getBody().accept(this);
-
-      for (final String name : this.localNames) {
-        this.nameMap.remove(name);
-      }
-      this.localNames.clear();
+      this.scopes.exit();
       return false;
     }
 
@@ -174,8 +164,9 @@ public class SymbolTableBuilder {
       // Note that we have to make sure that at this point, the node
       // only corresponds to a variable reference
       if ((parent instanceof Expression) || (parent instanceof Statement)) {
-        if (this.nameMap.containsKey(varName)) {
-          this.result.put(node, this.nameMap.get(varName));
+        final ASTNode decl = this.scopes.lookup(varName);
+        if (decl != null) {
+          this.result.put(node, decl);
         } else {
           throw new Error(node, "Cannot resolve symbol '" + varName + "' in:\n"
               + parent);
@@ -228,13 +219,12 @@ public class SymbolTableBuilder {
       final VariableDeclarationFragment vdf = (VariableDeclarationFragment) node
           .fragments().get(0);
       final String name = vdf.getName().getIdentifier();
-      if (this.nameMap.containsKey(name)) {
+      final ASTNode other = this.scopes.lookup(name);
+      if (other != null) {
         throw new Error(node, "Error in local variable declaration '" + name
-            + "' : the variable name has been used in:\n"
-            + this.nameMap.get(name));
+            + "' : the variable name has been used in:\n" + other);
       }
-      this.localNames.add(name);
-      this.nameMap.put(name, node);
+      this.scopes.declare(name, node);
       return false;
     }
   }
@@ -0,0 +1,507 @@
+package esjc.test;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import esjc.ast.ExtendedASTUtil;
+import esjc.codegen.ByteCodeGenerator;
+import esjc.driver.CompilationCache;
+import esjc.driver.EsjCompiler;
+import esjc.type.ClassType;
+import esjc.type.TypeFactory;
+import esjc.type.checker.LibraryMethodIndex;
+import esjc.type.checker.LibraryMethodIndex.LibraryMethod;
+import optim.Inliner;
+
+public class EsjCompilerTest {
+
+  private static String resource(final String filename) {
+    return System.getProperty("user.dir") + "/resources/" + filename;
+  }
+
+  private static EsjCompiler compiler(final File outputDir) {
+    final EsjCompiler.Options options = new EsjCompiler.Options();
+    options.outputDir = outputDir;
+    options.parallelism = 4;
+    return new EsjCompiler(options);
+  }
+
+  @Test
+  public void testCompileAll() throws Exception {
+    final File dir = Files.createTempDirectory("esjc").toFile();
+    final List<EsjCompiler.Result> results = compiler(dir).compileAll(
+        Arrays.asList(resource("IntAdd.java"), resource("NewBasic.java"),
+            resource("ParseFailDec.java"), resource("NewID.java")));
+    Assert.assertEquals(4, results.size());
+    Assert.assertTrue(results.get(0).isSuccess());
+    Assert.assertTrue(results.get(1).isSuccess());
+    Assert.assertFalse(results.get(2).isSuccess());
+    Assert.assertEquals("parse", results.get(2).diagnostics.get(0).phase);
+    Assert.assertTrue(results.get(3).isSuccess());
+    for (final EsjCompiler.Result r : results) {
+      if (r.isSuccess()) {
+        for (final String className : r.classes().keySet()) {
+          Assert.assertTrue(new File(dir, className + ".class").isFile());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCache() throws Exception {
+    final File cacheDir = Files.createTempDirectory("esjc-cache").toFile();
+    final List<String> paths = Arrays.asList(resource("NewBasic.java"),
+        resource("ParseFailDec.java"));
+    final EsjCompiler.Options options = new EsjCompiler.Options();
+    options.cacheDir = cacheDir;
+    final List<EsjCompiler.Result> first = new EsjCompiler(options)
+        .compileAll(paths);
+    final EsjCompiler second = new EsjCompiler(options);
+    final List<EsjCompiler.Result> results = second.compileAll(paths);
+    Assert.assertEquals(2, second.getCache().getHits());
+    // the keys hash the compiler's own class files, not a random fallback
+    Assert.assertEquals(64, CompilationCache.COMPILER_HASH.length());
+    Assert.assertTrue(results.get(0).cached);
+    Assert.assertTrue(first.get(0).slots.getSlotsBefore() > 0);
+    Assert.assertEquals(0, results.get(0).slots.getSlotsBefore());
+    Assert.assertArrayEquals(first.get(0).bytecodes.mainClassBytes,
+        results.get(0).bytecodes.mainClassBytes);
+    Assert.assertEquals(first.get(0).classes().keySet(),
+        results.get(0).classes().keySet());
+    Assert.assertFalse(results.get(1).isSuccess());
+    Assert.assertEquals("parse", results.get(1).diagnostics.get(0).phase);
+    options.pipeline = "default";
+    final EsjCompiler third = new EsjCompiler(options);
+    third.compileAll(paths);
+    Assert.assertEquals(0, third.getCache().getHits());
+  }
+
+  @Test
+  public void testInlining() throws Throwable {
+    final String source = "public class Helpers {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    int i;\n"
+        + "    int s;\n"
+        + "    s = 0;\n"
+        + "    for (i = 0; i < 10; i++) {\n"
+        + "      s = add(s, sq(i));\n"
+        + "      if (isOdd(i)) {\n"
+        + "        s = s - 1;\n"
+        + "      }\n"
+        + "    }\n"
+        + "    StaticJavaLib.assertTrue(s == 280);\n"
+        + "  }\n"
+        + "  static int sq(int x) {\n"
+        + "    return x * x;\n"
+        + "  }\n"
+        + "  static int add(int a, int b) {\n"
+        + "    return a + b;\n"
+        + "  }\n"
+        + "  static boolean isOdd(int x) {\n"
+        + "    return (x % 2) == 1;\n"
+        + "  }\n"
+        + "}\n";
+    final int[] calls = new int[2];
+    for (final int maxInlineSize : new int[] { 0, Inliner.DEFAULT_MAX_SIZE }) {
+      final EsjCompiler.Options options = new EsjCompiler.Options();
+      options.pipeline = "default";
+      options.maxInlineSize = maxInlineSize;
+      final EsjCompiler.Result r = new EsjCompiler(options).compile(
+          "Helpers.java", source);
+      final int i = maxInlineSize == 0 ? 0 : 1;
+      new ClassReader(r.bytecodes.mainClassBytes).accept(
+          new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(final int access,
+                final String name, final String desc, final String signature,
+                final String[] exceptions) {
+              return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitMethodInsn(final int opcode,
+                    final String owner, final String n, final String d,
+                    final boolean itf) {
+                  if ("Helpers".equals(owner)) {
+                    calls[i]++;
+                  }
+                }
+              };
+            }
+          }, 0);
+      EsjCompiler.mainHandle(EsjCompiler.load(r.bytecodes))
+          .invokeExact(new String[0]);
+    }
+    Assert.assertEquals(3, calls[0]);
+    Assert.assertEquals(0, calls[1]);
+  }
+
+  @Test
+  public void testInliningReferenceTypes() throws Throwable {
+    final String source = "public class Mixed {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    A a;\n"
+        + "    B b;\n"
+        + "    int i;\n"
+        + "    int s;\n"
+        + "    a = new A();\n"
+        + "    b = new B();\n"
+        + "    s = 0;\n"
+        + "    for (i = 0; i < 4; i++) {\n"
+        + "      if ((i % 2) == 0) {\n"
+        + "        s = s + (ga(a));\n"
+        + "      } else {\n"
+        + "        s = s + (gb(b));\n"
+        + "      }\n"
+        + "    }\n"
+        + "    StaticJavaLib.assertTrue(s == 6);\n"
+        + "  }\n"
+        + "  static int ga(A x) {\n"
+        + "    return (x.v) + 1;\n"
+        + "  }\n"
+        + "  static int gb(B y) {\n"
+        + "    return (y.w) + 2;\n"
+        + "  }\n"
+        + "}\n"
+        + "class A {\n"
+        + "  public int v;\n"
+        + "}\n"
+        + "class B {\n"
+        + "  public int w;\n"
+        + "}\n";
+    // the inlined parameters of ga and gb share a slot, so the frames merge
+    // A and B, classes the optimizer cannot load
+    for (final boolean computeFrames : new boolean[] { false, true }) {
+      for (final ByteCodeGenerator.DebugLevel level : ByteCodeGenerator.DebugLevel
+          .values()) {
+        final EsjCompiler.Options options = new EsjCompiler.Options();
+        options.pipeline = "default";
+        options.codegen.computeFrames = computeFrames;
+        options.codegen.debug = level;
+        final EsjCompiler.Result r = new EsjCompiler(options).compile(
+            "Mixed.java", source);
+        Assert.assertTrue(r.diagnostics.toString(), r.isSuccess());
+        EsjCompiler.mainHandle(EsjCompiler.load(r.bytecodes))
+            .invokeExact(new String[0]);
+      }
+    }
+  }
+
+  @Test
+  public void testLoopInvariants() throws Throwable {
+    final String source = "public class Hoist {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    Bag b;\n"
+        + "    int[] a;\n"
+        + "    int i;\n"
+        + "    b = new Bag();\n"
+        + "    b.n = 10;\n"
+        + "    b.k = 3;\n"
+        + "    a = new int[10];\n"
+        + "    for (i = 0; i < (b.n); i++) {\n"
+        + "      a[i] = i;\n"
+        + "    }\n"
+        + "    StaticJavaLib.assertTrue((b.sum(a)) == 90);\n"
+        + "  }\n"
+        + "}\n"
+        + "class Bag {\n"
+        + "  public int n;\n"
+        + "  public int k;\n"
+        + "  public int sum(int[] a) {\n"
+        + "    int i;\n"
+        + "    int s;\n"
+        + "    s = 0;\n"
+        + "    for (i = 0; i < n; i++) {\n"
+        + "      s = s + ((a[i]) * (k - 1));\n"
+        + "    }\n"
+        + "    return s;\n"
+        + "  }\n"
+        + "}\n";
+    final EsjCompiler.Options options = new EsjCompiler.Options();
+    options.pipeline = "default";
+    final EsjCompiler compiler = new EsjCompiler(options);
+    final EsjCompiler.Result r = compiler.compile("Hoist.java", source);
+    Assert.assertEquals(Integer.valueOf(6), r.hoisted.get("Bag.sum([I)I"));
+    Assert.assertEquals(Integer.valueOf(2),
+        r.hoisted.get("Hoist.main([Ljava/lang/String;)V"));
+    // the counts belong to each compilation, not to the compiler
+    Assert.assertEquals(r.hoisted,
+        compiler.compile("Hoist.java", source).hoisted);
+    final int[] fieldReads = new int[1];
+    new ClassReader(r.bytecodes.otherClasses.get("Bag")).accept(
+        new ClassVisitor(Opcodes.ASM9) {
+          @Override
+          public MethodVisitor visitMethod(final int access, final String name,
+              final String desc, final String signature,
+              final String[] exceptions) {
+            return new MethodVisitor(Opcodes.ASM9) {
+              @Override
+              public void visitFieldInsn(final int opcode, final String owner,
+                  final String n, final String d) {
+                if (opcode == Opcodes.GETFIELD) {
+                  fieldReads[0]++;
+                }
+              }
+            };
+          }
+        }, 0);
+    Assert.assertEquals(2, fieldReads[0]);
+    EsjCompiler.mainHandle(EsjCompiler.load(r.bytecodes))
+        .invokeExact(new String[0]);
+  }
+
+  @Test
+  public void testStrengthReduction() throws Throwable {
+    final String source = "public class Reduce {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    int[] a;\n"
+        + "    int i;\n"
+        + "    int s;\n"
+        + "    int n;\n"
+        + "    int low;\n"
+        + "    int limit;\n"
+        + "    int mid;\n"
+        + "    a = new int[30];\n"
+        + "    for (i = 0; i < 10; i++) {\n"
+        + "      a[i * 3] = i * 4;\n"
+        + "    }\n"
+        + "    s = 0;\n"
+        + "    for (i = 0; i < 10; i++) {\n"
+        + "      s = s + ((a[i * 3]) / 4);\n"
+        + "    }\n"
+        + "    StaticJavaLib.assertTrue(s == 45);\n"
+        + "    n = s - 52;\n"
+        + "    StaticJavaLib.assertTrue((n / 2) == (0 - 3));\n"
+        + "    StaticJavaLib.assertTrue((n % 4) == (0 - 3));\n"
+        + "    low = 0;\n"
+        + "    limit = 100;\n"
+        + "    while (low < limit) {\n"
+        + "      mid = (low + limit) / 2;\n"
+        + "      if (mid < 37) {\n"
+        + "        low = mid + 1;\n"
+        + "      } else {\n"
+        + "        limit = mid;\n"
+        + "      }\n"
+        + "    }\n"
+        + "    StaticJavaLib.assertTrue(low == 37);\n"
+        + "  }\n"
+        + "}\n";
+    final int[][] counts = new int[2][Opcodes.IREM + 1];
+    for (final String pipeline : new String[] { "none", "default" }) {
+      final EsjCompiler.Options options = new EsjCompiler.Options();
+      options.pipeline = pipeline;
+      final EsjCompiler.Result r = new EsjCompiler(options).compile(
+          "Reduce.java", source);
+      final int[] c = counts["none".equals(pipeline) ? 0 : 1];
+      new ClassReader(r.bytecodes.mainClassBytes).accept(
+          new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(final int access,
+                final String name, final String desc, final String signature,
+                final String[] exceptions) {
+              return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitInsn(final int opcode) {
+                  if (opcode < c.length) {
+                    c[opcode]++;
+                  }
+                }
+              };
+            }
+          }, 0);
+      EsjCompiler.mainHandle(EsjCompiler.load(r.bytecodes))
+          .invokeExact(new String[0]);
+    }
+    Assert.assertEquals(3, counts[0][Opcodes.IMUL]);
+    Assert.assertEquals(0, counts[1][Opcodes.IMUL]);
+    // only the divisions of negative or unknown values are left
+    Assert.assertEquals(3, counts[0][Opcodes.IDIV]);
+    Assert.assertEquals(2, counts[1][Opcodes.IDIV]);
+    Assert.assertEquals(1, counts[1][Opcodes.IREM]);
+  }
+
+  @Test
+  public void testCompileAndLoad() throws Throwable {
+    final EsjCompiler compiler = new EsjCompiler(new EsjCompiler.Options());
+    final String source = "public class Snippet {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    Cell c;\n"
+        + "    c = new Cell();\n"
+        + "    c.value = 6 * 7;\n"
+        + "    StaticJavaLib.assertTrue(c.value == 42);\n"
+        + "  }\n"
+        + "}\n"
+        + "class Cell {\n"
+        + "  public int value;\n"
+        + "}\n";
+    final MethodHandle first = compiler.compileAndLoad(source);
+    final MethodHandle second = compiler.compileAndLoad(source);
+    first.invokeExact(new String[0]);
+    second.invokeExact(new String[0]);
+    final EsjCompiler.Result r = compiler.compile("Snippet.java", source);
+    Assert.assertNotSame(EsjCompiler.load(r.bytecodes),
+        EsjCompiler.load(r.bytecodes));
+    try {
+      compiler.compileAndLoad(source.replace("6 * 7", "true"));
+      Assert.fail();
+    } catch (final EsjCompiler.Error e) {
+      Assert.assertEquals("type check", e.diagnostics.get(0).phase);
+    }
+  }
+
+  @Test
+  public void testDebugLevels() throws Throwable {
+    final String source = "public class Fault {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    int zero;\n"
+        + "    zero = 0;\n"
+        + "    StaticJavaLib.assertTrue((1 / zero) == 1);\n"
+        + "  }\n"
+        + "}\n";
+    int previousSize = 0;
+    for (final ByteCodeGenerator.DebugLevel level : ByteCodeGenerator.DebugLevel
+        .values()) {
+      final EsjCompiler.Options options = new EsjCompiler.Options();
+      options.codegen.debug = level;
+      final EsjCompiler.Result r = new EsjCompiler(options)
+          .compile("src/Fault.java", source);
+      final int size = r.bytecodes.mainClassBytes.length;
+      Assert.assertTrue(size > previousSize);
+      previousSize = size;
+      try {
+        EsjCompiler.mainHandle(EsjCompiler.load(r.bytecodes))
+            .invokeExact(new String[0]);
+        Assert.fail();
+      } catch (final ArithmeticException e) {
+        final StackTraceElement top = e.getStackTrace()[0];
+        Assert.assertEquals(level.hasLines() ? "Fault.java" : null,
+            top.getFileName());
+        Assert.assertEquals(level.hasLines() ? 5 : -1, top.getLineNumber());
+      }
+    }
+  }
+
+  @Test
+  public void testLibraryMethodIndex() throws Exception {
+    final LibraryMethodIndex index = new LibraryMethodIndex(
+        EsjCompilerTest.class.getClassLoader());
+    final List<Callable<LibraryMethod>> lookups = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      lookups.add(() -> index.lookup("StaticJavaLib", "getIntArgument",
+          "([Ljava/lang/String;I)"));
+    }
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      final LibraryMethod m = pool.invokeAll(lookups).get(0).get();
+      Assert.assertEquals("StaticJavaLib", m.owner);
+      Assert.assertEquals("([Ljava/lang/String;I)I", m.desc);
+      Assert.assertEquals("public static int StaticJavaLib.getIntArgument("
+          + "java.lang.String[],int)", m.toString());
+      for (final Future<LibraryMethod> f : pool.invokeAll(lookups)) {
+        Assert.assertSame(m, f.get());
+      }
+    } finally {
+      pool.shutdown();
+    }
+    Assert.assertNull(index.lookup("StaticJavaLib", "getIntArgument", "(I)"));
+    Assert.assertTrue(index.hasClass("java.lang.Math"));
+    Assert.assertNotNull(index.lookup("java.lang.Math", "abs", "(I)"));
+    Assert.assertFalse(index.hasClass("NoSuchLibrary"));
+  }
+
+  @Test
+  public void testParallelTypeCheck() throws Exception {
+    // same classes and same errors as the sequential check
+    final List<String> paths = EsjCompiler.sources(Arrays.asList(new File(
+        resource(""))));
+    final EsjCompiler.Options options = new EsjCompiler.Options();
+    options.parallelism = 4;
+    options.parallelTypeCheck = true;
+    final List<EsjCompiler.Result> expected = compiler(null).compileAll(paths);
+    final List<EsjCompiler.Result> results = new EsjCompiler(options)
+        .compileAll(paths);
+    for (int i = 0; i < paths.size(); i++) {
+      final EsjCompiler.Result r = results.get(i);
+      Assert.assertEquals(paths.get(i), expected.get(i).diagnostics.toString(),
+          r.diagnostics.toString());
+      if (r.isSuccess()) {
+        final Map<String, byte[]> classes = expected.get(i).classes();
+        Assert.assertEquals(classes.keySet(), r.classes().keySet());
+        for (final Map.Entry<String, byte[]> e : r.classes().entrySet()) {
+          Assert.assertArrayEquals(paths.get(i), classes.get(e.getKey()),
+              e.getValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testTypeDescriptors() throws Exception {
+    final TypeFactory tf = new TypeFactory();
+    final ClassType string = tf.getClassType("java.lang.String");
+    Assert.assertEquals("java/lang/String", string.internalName);
+    Assert.assertEquals("Ljava/lang/String;", string.descriptor);
+    Assert.assertSame(tf.getArrayType(string), tf.getArrayType(string));
+    Assert.assertEquals("[Ljava/lang/String;",
+        tf.getArrayType(string).descriptor);
+    Assert.assertEquals("[I", tf.getArrayType(tf.Int).internalName);
+    Assert.assertEquals("V", tf.Void.descriptor);
+    Assert.assertNull(tf.Null.descriptor);
+
+    // the occurrences of an identifier share one string
+    final CompilationUnit cu = ExtendedASTUtil.ast(resource("NewBasic.java"));
+    final Map<String, String> identifiers = new HashMap<>();
+    cu.accept(new ASTVisitor() {
+      @Override
+      public boolean visit(final SimpleName node) {
+        final String id = node.getIdentifier();
+        Assert.assertSame(identifiers.computeIfAbsent(id, k -> id), id);
+        return false;
+      }
+    });
+    Assert.assertTrue(identifiers.size() > 1);
+  }
+
+  @Test
+  public void testUndefinedType() throws Exception {
+    final List<EsjCompiler.Result> results = compiler(null).compileAll(
+        Arrays.asList(resource("ComplexFieldArrayAccess.java"),
+            resource("TypeCheckFailUndefinedClass.java"),
+            resource("IntAdd.java")));
+    for (int i = 0; i < 2; i++) {
+      final EsjCompiler.Result r = results.get(i);
+      Assert.assertFalse(r.isSuccess());
+      Assert.assertEquals("type check", r.diagnostics.get(0).phase);
+      Assert.assertTrue(r.diagnostics.get(0).message,
+          r.diagnostics.get(0).message.startsWith("Unexpected Type: "));
+    }
+    Assert.assertTrue(results.get(2).isSuccess());
+  }
+
+  @Test
+  public void testTypeError() throws Exception {
+    final EsjCompiler.Result r = compiler(null)
+        .compile(resource("TypeCheckFailAssignAnonymousBooleanArrayToBoolean.java"));
+    Assert.assertFalse(r.isSuccess());
+    Assert.assertEquals("type check", r.diagnostics.get(0).phase);
+  }
+}
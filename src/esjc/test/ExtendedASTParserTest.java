@@ -5,12 +5,22 @@ import java.io.FileReader;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.junit.Assert;
 import org.junit.Test;
 
 import esjc.ast.ExtendedASTUtil;
+import esjc.ast.NodeTable;
+import esjc.symboltable.ExtendedSymbolTable;
+import esjc.symboltable.ExtendedSymbolTableBuilder;
+import esjc.type.TypeFactory;
+import esjc.type.checker.ExtendedTypeChecker;
+import esjc.type.checker.ExtendedTypeTable;
 import esjc.util.Diff;
 import esjc.util.DiffPrint;
 import esjc.util.Pair;
@@ -468,6 +478,54 @@ public class ExtendedASTParserTest {
     testPass("NewID.java");
   }
 
+  @Test
+  public void testNodeTables() throws Exception {
+    final String filePath = System.getProperty("user.dir")
+        + "/resources/NewBasic.java";
+    final CompilationUnit cu = ExtendedASTUtil.ast(filePath);
+    final int count = ExtendedASTUtil.nodeCount(cu);
+    final BitSet ids = new BitSet();
+    final List<ASTNode> nodes = new ArrayList<>();
+    cu.accept(new ASTVisitor(true) {
+      @Override
+      public void preVisit(final ASTNode node) {
+        final int id = ExtendedASTUtil.nodeId(node);
+        Assert.assertFalse(ids.get(id));
+        ids.set(id);
+        nodes.add(node);
+      }
+    });
+    Assert.assertEquals(count, ids.cardinality());
+    Assert.assertEquals(count, ids.nextClearBit(0));
+
+    final ExtendedSymbolTable st = ExtendedSymbolTableBuilder.build(cu);
+    Assert.assertTrue(st.symbolMap instanceof NodeTable);
+    final ExtendedTypeTable tt = ExtendedTypeChecker.check(new TypeFactory(),
+        cu, st);
+    Assert.assertTrue(tt.typeMap instanceof NodeTable);
+
+    // nodes of another unit with the same ids, and nodes without ids
+    final CompilationUnit other = ExtendedASTUtil.ast(filePath);
+    final ASTNode fresh = cu.getAST().newSimpleName("fresh");
+    final NodeTable<String> table = new NodeTable<>(4);
+    for (final ASTNode n : nodes) {
+      table.put(n, "cu");
+    }
+    table.put(other, "other");
+    table.put(fresh, "fresh");
+    Assert.assertEquals(count + 2, table.size());
+    Assert.assertEquals("cu", table.get(cu));
+    Assert.assertEquals("other", table.get(other));
+    Assert.assertEquals("fresh", table.get(fresh));
+    Assert.assertFalse(table.containsKey(cu.getAST().newSimpleName("fresh")));
+    Assert.assertEquals(new ArrayList<>(nodes), new ArrayList<>(table
+        .keySet()).subList(0, count));
+    Assert.assertEquals("cu", table.remove(cu));
+    Assert.assertNull(table.get(cu));
+    Assert.assertEquals("other", table.get(other));
+    Assert.assertEquals(count + 1, table.size());
+  }
+
   @Test
   public void testNullArgumentForIntArrayParameter() {
     testPass("NullArgumentForIntArrayParameter.java");
@@ -1,8 +1,11 @@
 package esjc.test;
 
 import esjc.ast.ExtendedASTUtil;
+import esjc.codegen.ByteCodeGenerator;
 import esjc.codegen.ExtendedByteCodeGenerator;
 import esjc.codegen.ExtendedClassByteCodes;
+import esjc.codegen.LocalAllocator;
+import esjc.driver.EsjCompiler;
 import esjc.symboltable.ExtendedSymbolTable;
 import esjc.symboltable.ExtendedSymbolTableBuilder;
 import esjc.type.checker.ExtendedTypeChecker;
@@ -11,25 +14,17 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.junit.Assert;
 import org.junit.Test;
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.util.TraceClassVisitor;
 import esjc.type.TypeFactory;
 
 import java.io.PrintWriter;
+import java.lang.reflect.Modifier;
 
 public class ExtendedByteCodeGeneratorTest {
 
-  class CustomClassLoader extends ClassLoader {
-
-    public CustomClassLoader() {
-      super(ExtendedByteCodeGeneratorTest.this.getClass().getClassLoader());
-    }
-
-    @SuppressWarnings("rawtypes")
-    public Class loadClass(final String name, final byte[] bytecodes) {
-      return defineClass(name, bytecodes, 0, bytecodes.length);
-    }
-  }
-
   static void outputBytecodes(final PrintWriter pw, final byte[] b) {
     final ClassReader cr = new ClassReader(b);
     final TraceClassVisitor tcv = new TraceClassVisitor(pw);
@@ -37,6 +32,106 @@ public class ExtendedByteCodeGeneratorTest {
     pw.flush();
   }
 
+  @Test
+  public void testFrameModes() throws Exception {
+    final String filePath = System.getProperty("user.dir")
+        + "/resources/BranchConditions.java";
+    for (final boolean computeFrames : new boolean[] { false, true }) {
+      final CompilationUnit cu = ExtendedASTUtil.ast(filePath);
+      final ExtendedSymbolTable est = ExtendedSymbolTableBuilder.build(cu);
+      final ExtendedTypeTable ett = ExtendedTypeChecker.check(
+          new TypeFactory(), cu, est);
+      final ByteCodeGenerator.Options options = new ByteCodeGenerator.Options();
+      options.computeFrames = computeFrames;
+      final ExtendedClassByteCodes ecbc = ExtendedByteCodeGenerator.generate(
+          cu, est, ett, options);
+      Assert.assertEquals(computeFrames ? Opcodes.V1_5 : Opcodes.V1_8,
+          new ClassReader(ecbc.mainClassBytes).readShort(6));
+      EsjCompiler.load(ecbc).getMethod("main", String[].class)
+          .invoke(null, (Object) new String[0]);
+    }
+  }
+
+  @Test
+  public void testLocalAllocation() throws Exception {
+    final String filePath = System.getProperty("user.dir")
+        + "/resources/LocalSlots.java";
+    final int[] maxLocals = new int[2];
+    final LocalAllocator.Statistics[] slots = new LocalAllocator.Statistics[2];
+    for (final boolean allocateLocals : new boolean[] { false, true }) {
+      final CompilationUnit cu = ExtendedASTUtil.ast(filePath);
+      final ExtendedSymbolTable est = ExtendedSymbolTableBuilder.build(cu);
+      final ExtendedTypeTable ett = ExtendedTypeChecker.check(
+          new TypeFactory(), cu, est);
+      final ByteCodeGenerator.Options options = new ByteCodeGenerator.Options();
+      options.allocateLocals = allocateLocals;
+      slots[allocateLocals ? 1 : 0] = new LocalAllocator.Statistics();
+      final ExtendedClassByteCodes ecbc = ExtendedByteCodeGenerator.generate(
+          cu, est, ett, options, slots[allocateLocals ? 1 : 0]);
+      new ClassReader(ecbc.mainClassBytes).accept(
+          new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(final int access,
+                final String name, final String desc, final String signature,
+                final String[] exceptions) {
+              if (!"main".equals(name)) {
+                return null;
+              }
+              return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitMaxs(final int maxStack, final int max) {
+                  maxLocals[allocateLocals ? 1 : 0] = max;
+                }
+              };
+            }
+          }, 0);
+      EsjCompiler.load(ecbc).getMethod("main", String[].class)
+          .invoke(null, (Object) new String[0]);
+    }
+    Assert.assertEquals(10, maxLocals[0]);
+    Assert.assertTrue(maxLocals[1] < maxLocals[0]);
+    Assert.assertEquals(0, slots[0].getSlotsBefore());
+    Assert.assertTrue(slots[1].getSlotsBefore() >= maxLocals[0]);
+    Assert.assertTrue(slots[1].getSlotsAfter() < slots[1].getSlotsBefore());
+  }
+
+  @Test
+  public void testFinalClasses() throws Exception {
+    final String filePath = System.getProperty("user.dir")
+        + "/resources/InstanceMethods.java";
+    final CompilationUnit cu = ExtendedASTUtil.ast(filePath);
+    final ExtendedSymbolTable est = ExtendedSymbolTableBuilder.build(cu);
+    final ExtendedTypeTable ett = ExtendedTypeChecker.check(new TypeFactory(),
+        cu, est);
+    final ExtendedClassByteCodes ecbc = ExtendedByteCodeGenerator.generate(cu,
+        est, ett);
+    final Class<?> c = EsjCompiler.load(ecbc);
+    Assert.assertTrue(Modifier.isFinal(c.getModifiers()));
+    for (final String name : ecbc.otherClasses.keySet()) {
+      Assert.assertTrue(Modifier.isFinal(c.getClassLoader().loadClass(name)
+          .getModifiers()));
+    }
+    final int[] invokeVirtuals = new int[1];
+    new ClassReader(ecbc.otherClasses.get("ListNode")).accept(
+        new ClassVisitor(Opcodes.ASM9) {
+          @Override
+          public MethodVisitor visitMethod(final int access, final String name,
+              final String desc, final String signature,
+              final String[] exceptions) {
+            return new MethodVisitor(Opcodes.ASM9) {
+              @Override
+              public void visitMethodInsn(final int opcode, final String owner,
+                  final String n, final String d, final boolean itf) {
+                if (opcode == Opcodes.INVOKEVIRTUAL) {
+                  invokeVirtuals[0]++;
+                }
+              }
+            };
+          }
+        }, 0);
+    Assert.assertEquals(4, invokeVirtuals[0]);
+  }
+
   @SuppressWarnings("unchecked")
   void testPass(final String filename) {
     final Object[] args = new Object[] { new String[] {} };
@@ -60,12 +155,7 @@ public class ExtendedByteCodeGeneratorTest {
         ExtendedByteCodeGeneratorTest.outputBytecodes(pw, bytecodes);
       }
 
-      final CustomClassLoader ccl = new CustomClassLoader();
-      for (final String className : ecbc.otherClasses.keySet()) {
-        ccl.loadClass(className, ecbc.otherClasses.get(className));
-      }
-      @SuppressWarnings("rawtypes")
-      final Class c = ccl.loadClass(ecbc.mainClassName, ecbc.mainClassBytes);
+      final Class<?> c = EsjCompiler.load(ecbc);
       c.getMethod("main", new Class[] { String[].class }).invoke(null, args);
     } catch (final Exception e) {
       e.printStackTrace();
@@ -109,6 +199,26 @@ public class ExtendedByteCodeGeneratorTest {
     testPass("AssignNullToObject.java");
   }
 
+  @Test
+  public void testBranchConditions() {
+    testPass("BranchConditions.java");
+  }
+
+  @Test
+  public void testLocalSlots() {
+    testPass("LocalSlots.java");
+  }
+
+  @Test
+  public void testInstanceMethods() {
+    testPass("InstanceMethods.java");
+  }
+
+  @Test
+  public void testFieldConstructors() {
+    testPass("FieldConstructors.java");
+  }
+
   @Test
   public void testBasicTypes() {
     testPass("BasicTypes.java");
@@ -1,9 +1,18 @@
 package esjc.test;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
 import esjc.parser.ExtendedParserUtil;
+import esjc.parser.ExtendedParserUtil.ParseMode;
+import esjc.parser.ExtendedStaticJavaParser;
+import esjc.parser.ParserSession;
 import esjc.parser.ExtendedStaticJavaParser.CompilationUnitContext;
 
 public class ExtendedParserTest {
@@ -1041,4 +1050,62 @@ public class ExtendedParserTest {
   public void testWhileInitRD() {
     testPass("WhileInitRD.java");
   }
+
+  private static String parseTree(final String path, final ParseMode mode) {
+    try {
+      final CompilationUnitContext ctx = ExtendedParserUtil.parse(path, mode);
+      return ctx.toStringTree(
+          Arrays.asList(ExtendedStaticJavaParser.ruleNames));
+    } catch (final Exception e) {
+      return null;
+    }
+  }
+
+  @Test
+  public void testParseModesAgree() {
+    final File[] files = new File(System.getProperty("user.dir"), "resources")
+        .listFiles((dir, name) -> name.endsWith(".java"));
+    // the counts are those of this thread's session only
+    final ParserSession session = ParserSession.current();
+    final long before = session.getSllParses() + session.getLlFallbacks();
+    for (final File f : files) {
+      Assert.assertEquals(f.getName(),
+          parseTree(f.getPath(), ParseMode.LL),
+          parseTree(f.getPath(), ParseMode.SLL_THEN_LL));
+    }
+    Assert.assertEquals(files.length, session.getSllParses()
+        + session.getLlFallbacks() - before);
+  }
+
+  @Test
+  public void testParserSession() throws Exception {
+    final String path = System.getProperty("user.dir")
+        + "/resources/SyntaxTorture.java";
+    final String expected = parseTree(path, ParseMode.LL);
+    Assert.assertTrue(ParserSession.warmUp() > 0);
+    Assert.assertEquals(expected, parseTree(path, ParseMode.SLL_THEN_LL));
+    ParserSession.clearDFACache();
+    Assert.assertEquals(expected, parseTree(path, ParseMode.SLL_THEN_LL));
+    testFail("ParseFailDec.java");
+    Assert.assertEquals(expected, parseTree(path, ParseMode.LL));
+  }
+
+  @Test
+  public void testParseInMemory() throws Exception {
+    final File f = new File(System.getProperty("user.dir"),
+        "resources/SyntaxTorture.java");
+    final String expected = parseTree(f.getPath(), ParseMode.LL);
+    final byte[] bytes = Files.readAllBytes(f.toPath());
+    final String text = new String(bytes, StandardCharsets.UTF_8);
+    final List<String> ruleNames = Arrays
+        .asList(ExtendedStaticJavaParser.ruleNames);
+    Assert.assertEquals(expected, ExtendedParserUtil
+        .parse(bytes, f.getName(), ParseMode.SLL_THEN_LL)
+        .toStringTree(ruleNames));
+    Assert.assertEquals(expected, ExtendedParserUtil
+        .parse(text, f.getName(), ParseMode.SLL_THEN_LL)
+        .toStringTree(ruleNames));
+    Assert.assertEquals(expected, ExtendedParserUtil
+        .parse(text, f.getName(), ParseMode.LL).toStringTree(ruleNames));
+  }
 }
@@ -1,17 +1,29 @@
 package test;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.PrintWriter;
 import java.io.StringReader;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
 
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
 import org.junit.Assert;
 import org.junit.Test;
 
 import esjc.ast.ExtendedASTUtil;
 import esjc.symboltable.ExtendedSymbolTable;
 import esjc.symboltable.ExtendedSymbolTableBuilder;
+import esjc.symboltable.Scopes;
 import esjc.util.Util;
 import esjc.type.TypeFactory;
 import esjc.type.checker.ExtendedTypeChecker;
@@ -151,6 +163,27 @@ public class ExtendedTypeCheckingTest {
             ".etc", est, ExtendedTypeChecker.check(tf, cu, est));
   }
 
+  /**
+   * Counts the declarations whose scope {@link Scopes} checks.
+   */
+  private static class CountingScopes extends Scopes {
+    int checks;
+
+    @Override
+    protected boolean isOpen(final int scope) {
+      this.checks++;
+      return super.isOpen(scope);
+    }
+  }
+
+  private static ASTNode enclosing(final ASTNode node, final Class<?> c) {
+    ASTNode n = node;
+    while (!c.isInstance(n)) {
+      n = n.getParent();
+    }
+    return n;
+  }
+
   @Test
   public void testAEEmptyTest() {
     testPass("AEEmptyTest.java");
@@ -526,6 +559,32 @@ public class ExtendedTypeCheckingTest {
     testPass("ObjectAEqualsReturnedObjectA.java");
   }
 
+  @Test
+  public void testParallelCheck() throws Exception {
+    final String filePath = System.getProperty("user.dir")
+        + "/resources/InstanceMethods.java";
+    final CompilationUnit cu = ExtendedASTUtil.ast(filePath);
+    final ExtendedSymbolTable st = ExtendedSymbolTableBuilder.build(cu);
+    final int symbols = st.symbolMap.size();
+    final ExtendedTypeTable tt = ExtendedTypeChecker.check(new TypeFactory(),
+        cu, st);
+    final CompilationUnit cu2 = ExtendedASTUtil.ast(filePath);
+    final ExtendedSymbolTable st2 = ExtendedSymbolTableBuilder.build(cu2);
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final ExtendedTypeTable tt2 = ExtendedTypeChecker.check(
+          new TypeFactory(), cu2, st2, pool);
+      Assert.assertTrue(st.symbolMap.size() > symbols);
+      Assert.assertEquals(st.symbolMap.size(), st2.symbolMap.size());
+      Assert.assertEquals(tt.typeMap.size(), tt2.typeMap.size());
+      Assert.assertEquals(tt.methodTypeMap.size(), tt2.methodTypeMap.size());
+      Assert.assertEquals(st.toString(), st2.toString());
+      Assert.assertEquals(tt.toString(), tt2.toString());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   @Test
   public void testParens() {
     testPass("Parens.java");
@@ -551,6 +610,82 @@ public class ExtendedTypeCheckingTest {
     testPass("SAExample.java");
   }
 
+  @Test
+  public void testScopes() throws Exception {
+    // the fields of the main class follow main
+    final StringBuilder sb = new StringBuilder("public class Locals {\n");
+    for (final String m : new String[] { "main", "other" }) {
+      sb.append(m.equals("main") ? "  public static void main(String[] args) {\n"
+          : "  static int f;\n  static void other() {\n");
+      for (int i = 0; i < 5000; i++) {
+        sb.append("    int v").append(i).append(";\n");
+      }
+      sb.append("    v4999 = f;\n  }\n");
+    }
+    sb.append("  static int g(int v0) {\n"
+        + "    int v1;\n"
+        + "    v1 = v0 + f;\n"
+        + "    return v1;\n"
+        + "  }\n"
+        + "}\n"
+        + "class Box {\n"
+        + "  public int f;\n"
+        + "  public int v0;\n"
+        + "  public int get() {\n"
+        + "    return f + v0;\n"
+        + "  }\n"
+        + "}\n");
+    final File file = File.createTempFile("Locals", ".java");
+    file.deleteOnExit();
+    Files.write(file.toPath(), sb.toString().getBytes());
+    final CompilationUnit cu = ExtendedASTUtil.ast(file.getPath());
+
+    // every name resolves to a declaration of its own method, or to a field
+    // of its own class, whatever the sibling methods and classes declare
+    final ExtendedSymbolTable st = ExtendedSymbolTableBuilder.build(cu);
+    final int[] references = new int[2];
+    cu.accept(new ASTVisitor() {
+      @Override
+      public boolean visit(final SimpleName node) {
+        final ASTNode decl = (ASTNode) st.symbolMap.get(node);
+        if (decl instanceof FieldDeclaration) {
+          Assert.assertSame(enclosing(node, TypeDeclaration.class),
+              enclosing(decl, TypeDeclaration.class));
+          references[0]++;
+        } else if ((decl instanceof VariableDeclarationStatement)
+            || (decl instanceof SingleVariableDeclaration)) {
+          Assert.assertSame(enclosing(node, MethodDeclaration.class),
+              enclosing(decl, MethodDeclaration.class));
+          references[1]++;
+        }
+        return false;
+      }
+    });
+    Assert.assertEquals(5, references[0]);
+    Assert.assertEquals(5, references[1]);
+
+    // exiting a scope does not look at its declarations; the next lookup of
+    // a name skips the closed ones once
+    final ASTNode outer = (ASTNode) cu.types().get(0);
+    final CountingScopes scopes = new CountingScopes();
+    scopes.declare("x", outer);
+    for (int i = 0; i < 1000; i++) {
+      scopes.enter();
+      scopes.declare("x", cu);
+    }
+    scopes.checks = 0;
+    for (int i = 0; i < 1000; i++) {
+      scopes.exit();
+    }
+    Assert.assertEquals(0, scopes.checks);
+    Assert.assertEquals(1, scopes.depth());
+    Assert.assertSame(outer, scopes.lookup("x"));
+    Assert.assertEquals(1001, scopes.checks);
+    scopes.checks = 0;
+    Assert.assertSame(outer, scopes.lookup("x"));
+    Assert.assertEquals(1, scopes.checks);
+  }
+
   @Test
   public void testSymbolTableTest() {
     testPass("SymbolTableTest.java");
@@ -0,0 +1,379 @@
+package esjc.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.util.Printer;
+
+import esjc.codegen.ExtendedClassByteCodes;
+import esjc.driver.EsjCompiler;
+import optim.Insn;
+import optim.MethodBuffer;
+import optim.PassManager;
+import optim.PassStatistics;
+
+public class OptimizerTest {
+
+  private static ExtendedClassByteCodes compile(final String path,
+      final String source) {
+    final EsjCompiler.Result r = new EsjCompiler(new EsjCompiler.Options())
+        .compile(path, source);
+    Assert.assertTrue(r.diagnostics.toString(), r.isSuccess());
+    return r.bytecodes;
+  }
+
+  private static ExtendedClassByteCodes optimize(final PassManager pm,
+      final ExtendedClassByteCodes ecbc) {
+    final Map<String, byte[]> others = new HashMap<>();
+    for (final Map.Entry<String, byte[]> e : ecbc.otherClasses.entrySet()) {
+      others.put(e.getKey(), pm.optimize(e.getValue()));
+    }
+    return new ExtendedClassByteCodes(ecbc.mainClassName,
+        pm.optimize(ecbc.mainClassBytes), others);
+  }
+
+  private static void run(final ExtendedClassByteCodes ecbc) throws Throwable {
+    EsjCompiler.mainHandle(EsjCompiler.load(ecbc)).invokeExact(new String[0]);
+  }
+
+  /**
+   * Returns the instructions of the given method, jumps without their
+   * targets.
+   */
+  private static List<String> code(final byte[] bytes, final String method) {
+    final List<String> result = new ArrayList<>();
+    new ClassReader(bytes).accept(new ClassVisitor(Opcodes.ASM9) {
+      @Override
+      public MethodVisitor visitMethod(final int access, final String name,
+          final String desc, final String signature,
+          final String[] exceptions) {
+        if (!method.equals(name)) {
+          return null;
+        }
+        return new MethodBuffer(null, access, name, desc) {
+          @Override
+          protected void end() {
+            for (final Insn insn : this.code) {
+              if (insn.opcode >= 0) {
+                result.add(insn.kind == Insn.JUMP_INSN
+                    ? Printer.OPCODES[insn.opcode] : insn.toString());
+              }
+            }
+          }
+        };
+      }
+    }, 0);
+    return result;
+  }
+
+  private static long removed(final PassManager pm, final String pass) {
+    for (final PassStatistics s : pm.getStatistics()) {
+      if (s.name.equals(pass)) {
+        return s.getInstructionsRemoved();
+      }
+    }
+    throw new IllegalArgumentException(pass);
+  }
+
+  @Test
+  public void testPipelines() {
+    Assert.assertTrue(PassManager.pipeline("none").isEmpty());
+    final String[][] passes = {
+        {},
+        { "Optimizer1", "Optimizer2", "Optimizer3", "Optimizer4",
+            "Optimizer5" },
+        { "TreeOptimizer" },
+        { "Inliner", "Optimizer1", "Optimizer2", "Optimizer3", "Optimizer4",
+            "Optimizer5", "LoopOptimizer", "StrengthReducer",
+            "TreeOptimizer" } };
+    for (int i = 0; i < PassManager.PIPELINES.length; i++) {
+      final List<String> names = new ArrayList<>();
+      for (final PassStatistics s : PassManager.pipeline(
+          PassManager.PIPELINES[i]).getStatistics()) {
+        names.add(s.name);
+      }
+      Assert.assertEquals(PassManager.PIPELINES[i], List.of(passes[i]), names);
+    }
+    Assert.assertEquals("Optimizer1", PassManager.pipeline("default", 0)
+        .getStatistics().get(0).name);
+    try {
+      PassManager.pipeline("fast");
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      // expected
+    }
+    try {
+      new PassManager().setMaxRounds(0);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testPeephole() throws Throwable {
+    final String source = "public class Peephole {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    Box p;\n"
+        + "    p = new Box();\n"
+        + "    p.f = 2;\n"
+        + "    p.g = 5;\n"
+        + "    StaticJavaLib.assertTrue((add(3, 7)) == 3);\n"
+        + "    StaticJavaLib.assertTrue((sub(7, 3)) == -3);\n"
+        + "    StaticJavaLib.assertTrue((div(1, 4)) == 0);\n"
+        + "    StaticJavaLib.assertTrue((sum(p)) == 7);\n"
+        + "    StaticJavaLib.assertTrue((isOne(2)) == false);\n"
+        + "    StaticJavaLib.assertTrue(isFalse(false));\n"
+        + "    StaticJavaLib.assertTrue(isTrue(true));\n"
+        + "  }\n"
+        + "  static int add(int x, int a) {\n"
+        + "    return 0 + x;\n"
+        + "  }\n"
+        + "  static int sub(int a, int x) {\n"
+        + "    return 0 - x;\n"
+        + "  }\n"
+        + "  static int div(int a, int x) {\n"
+        + "    return 0 / x;\n"
+        + "  }\n"
+        + "  static int sum(Box p) {\n"
+        + "    return (p.f) + (p.g);\n"
+        + "  }\n"
+        + "  static boolean isOne(int x) {\n"
+        + "    boolean r;\n"
+        + "    r = false;\n"
+        + "    if (x == 1) {\n"
+        + "      r = true;\n"
+        + "    }\n"
+        + "    return r;\n"
+        + "  }\n"
+        + "  static boolean isFalse(boolean b) {\n"
+        + "    boolean r;\n"
+        + "    r = false;\n"
+        + "    if (b != true) {\n"
+        + "      r = true;\n"
+        + "    }\n"
+        + "    return r;\n"
+        + "  }\n"
+        + "  static boolean isTrue(boolean b) {\n"
+        + "    boolean r;\n"
+        + "    r = false;\n"
+        + "    if (b == true) {\n"
+        + "      r = true;\n"
+        + "    }\n"
+        + "    return r;\n"
+        + "  }\n"
+        + "}\n"
+        + "class Box {\n"
+        + "  public int f;\n"
+        + "  public int g;\n"
+        + "}\n";
+    final PassManager pm = PassManager.pipeline("peephole").setTiming(false);
+    final ExtendedClassByteCodes ecbc = optimize(pm, compile("Peephole.java",
+        source));
+    final byte[] bytes = ecbc.mainClassBytes;
+    run(ecbc);
+
+    // 0 + x is x, whatever the slot of x
+    Assert.assertEquals(List.of("ILOAD 0", "IRETURN"), code(bytes, "add"));
+    // 0 - x is -x and 0 / x throws when x is 0
+    Assert.assertEquals(List.of("ICONST_0", "ILOAD 1", "ISUB", "IRETURN"),
+        code(bytes, "sub"));
+    Assert.assertEquals(List.of("ICONST_0", "ILOAD 1", "IDIV", "IRETURN"),
+        code(bytes, "div"));
+    // the second p is loaded again when the fields differ
+    Assert.assertEquals(List.of("ALOAD 0", "GETFIELD Box.fI", "ALOAD 0",
+        "GETFIELD Box.gI", "IADD", "IRETURN"), code(bytes, "sum"));
+    // x == 1 is only x != 0 for booleans, and b != true keeps its constant
+    Assert.assertTrue(code(bytes, "isOne").contains("IF_ICMPNE"));
+    Assert.assertTrue(code(bytes, "isFalse").contains("IF_ICMPEQ"));
+    Assert.assertEquals(List.of("ICONST_0", "ISTORE 1", "ILOAD 0", "IFEQ"),
+        code(bytes, "isTrue").subList(0, 4));
+
+    Assert.assertEquals(0, removed(pm, "Optimizer1"));
+    Assert.assertEquals(2, removed(pm, "Optimizer2"));
+    Assert.assertEquals(0, removed(pm, "Optimizer3"));
+    Assert.assertEquals(0, removed(pm, "Optimizer4"));
+    Assert.assertEquals(1, removed(pm, "Optimizer5"));
+  }
+
+  @Test
+  public void testRounds() throws Throwable {
+    final String source = "public class Rounds {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    int x;\n"
+        + "    int y;\n"
+        + "    x = 4;\n"
+        + "    y = 3;\n"
+        + "    y = y + (0 * x);\n"
+        + "    StaticJavaLib.assertTrue(y == 3);\n"
+        + "    StaticJavaLib.assertTrue(x == 4);\n"
+        + "  }\n"
+        + "}\n";
+    final ExtendedClassByteCodes ecbc = compile("Rounds.java", source);
+    final PassManager pm = PassManager.pipeline("peephole").setTiming(false);
+    final byte[] bytes = pm.optimize(ecbc.mainClassBytes);
+    run(new ExtendedClassByteCodes(ecbc.mainClassName, bytes,
+        ecbc.otherClasses));
+    // Optimizer2 turns y + 0 * x into y + 0, which Optimizer1 removes in the
+    // next round; the last round removes nothing
+    Assert.assertEquals(3, pm.getLastRounds());
+    for (final PassStatistics s : pm.getStatistics()) {
+      Assert.assertEquals(3, s.getRounds());
+    }
+    Assert.assertEquals(2, removed(pm, "Optimizer1"));
+    Assert.assertEquals(2, removed(pm, "Optimizer2"));
+    Assert.assertEquals(List.of("ILOAD 2", "ISTORE 2"), code(bytes, "main")
+        .subList(8, 10));
+    Assert.assertEquals(code(bytes, "main"), code(pm.optimize(bytes), "main"));
+
+    pm.resetStatistics();
+    Assert.assertEquals(0, removed(pm, "Optimizer1"));
+    pm.setMaxRounds(1).optimize(ecbc.mainClassBytes);
+    Assert.assertEquals(1, pm.getLastRounds());
+    Assert.assertEquals(1, pm.getStatistics().get(0).getRounds());
+  }
+
+  @Test
+  public void testTreeConstantBranches() throws Throwable {
+    final String source = "public class Branches {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    StaticJavaLib.assertTrue((pick(5)) == 6);\n"
+        + "    StaticJavaLib.assertTrue((choose(5)) == 4);\n"
+        + "  }\n"
+        + "  static int pick(int a) {\n"
+        + "    int x;\n"
+        + "    if (true) {\n"
+        + "      x = a + 1;\n"
+        + "    } else {\n"
+        + "      x = a * 7;\n"
+        + "    }\n"
+        + "    return x;\n"
+        + "  }\n"
+        + "  static int choose(int a) {\n"
+        + "    int c;\n"
+        + "    int x;\n"
+        + "    c = 1;\n"
+        + "    if (c == 1) {\n"
+        + "      x = a - c;\n"
+        + "    } else {\n"
+        + "      x = a * 7;\n"
+        + "    }\n"
+        + "    return x;\n"
+        + "  }\n"
+        + "}\n";
+    final PassManager pm = PassManager.pipeline("tree").setTiming(false);
+    final ExtendedClassByteCodes ecbc = optimize(pm, compile("Branches.java",
+        source));
+    run(ecbc);
+    // the branches not taken are gone, and so are the jumps around them
+    Assert.assertEquals(List.of("ILOAD 0", "ICONST_1", "IADD", "ISTORE 1",
+        "ILOAD 1", "IRETURN"), code(ecbc.mainClassBytes, "pick"));
+    Assert.assertEquals(List.of("ILOAD 0", "ICONST_1", "ISUB", "ISTORE 1",
+        "ILOAD 1", "IRETURN"), code(ecbc.mainClassBytes, "choose"));
+    Assert.assertTrue(removed(pm, "TreeOptimizer") > 0);
+  }
+
+  @Test
+  public void testTreeDeadStores() throws Throwable {
+    final String source = "public class Stores {\n"
+        + "  public static void main(String[] args) {\n"
+        + "    StaticJavaLib.assertTrue((last(4)) == 4);\n"
+        + "  }\n"
+        + "  static int last(int a) {\n"
+        + "    int x;\n"
+        + "    x = a * 3;\n"
+        + "    x = a;\n"
+        + "    return x;\n"
+        + "  }\n"
+        + "}\n";
+    final ExtendedClassByteCodes ecbc = optimize(PassManager.pipeline("tree"),
+        compile("Stores.java", source));
+    run(ecbc);
+    // x = 0 and x = a * 3 are overwritten before being read
+    Assert.assertEquals(List.of("ILOAD 0", "ISTORE 1", "ILOAD 1", "IRETURN"),
+        code(ecbc.mainClassBytes, "last"));
+  }
+
+  @Test
+  public void testTreeUnsupportedCode() throws Throwable {
+    // main has a handler and twice a long; both also have a constant branch
+    // and a dead store, which are left as they are
+    final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+    cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "Handler", null,
+        "java/lang/Object", null);
+    MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC,
+        "main", "([Ljava/lang/String;)V", null, null);
+    final Label start = new Label();
+    final Label end = new Label();
+    final Label handler = new Label();
+    final Label done = new Label();
+    mv.visitCode();
+    mv.visitTryCatchBlock(start, end, handler, "java/lang/RuntimeException");
+    mv.visitLabel(start);
+    mv.visitInsn(Opcodes.ICONST_1);
+    mv.visitVarInsn(Opcodes.ISTORE, 1);
+    mv.visitInsn(Opcodes.ICONST_2);
+    mv.visitVarInsn(Opcodes.ISTORE, 1);
+    mv.visitVarInsn(Opcodes.ILOAD, 1);
+    mv.visitInsn(Opcodes.ICONST_2);
+    mv.visitJumpInsn(Opcodes.IF_ICMPEQ, end);
+    mv.visitInsn(Opcodes.ACONST_NULL);
+    mv.visitInsn(Opcodes.ATHROW);
+    mv.visitLabel(end);
+    mv.visitLdcInsn(21L);
+    mv.visitMethodInsn(Opcodes.INVOKESTATIC, "Handler", "twice", "(J)J",
+        false);
+    mv.visitLdcInsn(42L);
+    mv.visitInsn(Opcodes.LCMP);
+    mv.visitJumpInsn(Opcodes.IFEQ, done);
+    mv.visitInsn(Opcodes.ACONST_NULL);
+    mv.visitInsn(Opcodes.ATHROW);
+    mv.visitLabel(handler);
+    mv.visitInsn(Opcodes.ATHROW);
+    mv.visitLabel(done);
+    mv.visitInsn(Opcodes.RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    mv = cw.visitMethod(Opcodes.ACC_STATIC, "twice", "(J)J", null, null);
+    final Label other = new Label();
+    mv.visitCode();
+    mv.visitInsn(Opcodes.ICONST_0);
+    mv.visitVarInsn(Opcodes.ISTORE, 2);
+    mv.visitInsn(Opcodes.ICONST_1);
+    mv.visitVarInsn(Opcodes.ISTORE, 2);
+    mv.visitVarInsn(Opcodes.ILOAD, 2);
+    mv.visitInsn(Opcodes.ICONST_1);
+    mv.visitJumpInsn(Opcodes.IF_ICMPNE, other);
+    mv.visitVarInsn(Opcodes.LLOAD, 0);
+    mv.visitInsn(Opcodes.ICONST_2);
+    mv.visitInsn(Opcodes.I2L);
+    mv.visitInsn(Opcodes.LMUL);
+    mv.visitInsn(Opcodes.LRETURN);
+    mv.visitLabel(other);
+    mv.visitVarInsn(Opcodes.LLOAD, 0);
+    mv.visitInsn(Opcodes.LRETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    cw.visitEnd();
+    final byte[] bytes = cw.toByteArray();
+
+    final PassManager pm = PassManager.pipeline("tree");
+    final byte[] optimized = pm.optimize(bytes);
+    Assert.assertEquals(code(bytes, "main"), code(optimized, "main"));
+    Assert.assertEquals(code(bytes, "twice"), code(optimized, "twice"));
+    Assert.assertEquals(0, removed(pm, "TreeOptimizer"));
+    run(new ExtendedClassByteCodes("Handler", optimized,
+        Collections.emptyMap()));
+  }
+}
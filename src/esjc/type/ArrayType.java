@@ -12,6 +12,11 @@ public class ArrayType extends NonBaseType
    */
   public final BaseType baseType;
 
+  /**
+   * Holds the JVM internal name of this array type, i.e., its descriptor.
+   */
+  public final String internalName;
+
   /**
    * Constructs a one-dimensional array type with the given {@link BaseType}.
    * 
@@ -19,8 +24,8 @@ public class ArrayType extends NonBaseType
    *          The {@link BaseType} of this type.
    */
   protected ArrayType(final BaseType baseType) {
-    super(baseType.name + "[]");
-    assert baseType != null;
+    super(baseType.name + "[]", "[" + baseType.descriptor);
     this.baseType = baseType;
+    this.internalName = this.descriptor;
   }
 }
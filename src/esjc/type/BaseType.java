@@ -6,6 +6,13 @@ package esjc.type;
  * @author <a href="mailto:robby@ksu.edu">Robby</a>
  */
 public abstract class BaseType extends Type {
+  /**
+   * Holds the {@link ArrayType} of this base type, once its
+   * {@link TypeFactory} made it. It is set without synchronization: racing
+   * threads set the same {@link ArrayType}, whose fields are all final.
+   */
+  ArrayType arrayType;
+
   /**
    * Constucts a base type with the given name.
    * 
@@ -15,4 +22,16 @@ public abstract class BaseType extends Type {
   protected BaseType(final String name) {
     super(name);
   }
+
+  /**
+   * Constucts a base type with the given name and JVM descriptor.
+   * 
+   * @param name
+   *          The name of this base type.
+   * @param descriptor
+   *          The JVM descriptor of this base type.
+   */
+  protected BaseType(final String name, final String descriptor) {
+    super(name, descriptor);
+  }
 }
@@ -11,6 +11,6 @@ public class BooleanType extends BaseType
    * Constructs a boolean type.
    */
   protected BooleanType() {
-    super("boolean");
+    super("boolean", "Z");
   }
 }
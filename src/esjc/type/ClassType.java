@@ -15,6 +15,11 @@ public class ClassType extends BaseType
    */
   public final Map<String, Type> fieldTypeMap = new HashMap<>();
 
+  /**
+   * Holds the JVM internal name of this class type, e.g., "java/lang/String".
+   */
+  public final String internalName;
+
   /**
    * Constructs a class type with the given fully-qualified name.
    * 
@@ -22,6 +27,11 @@ public class ClassType extends BaseType
    *          The fully qualified name of this class type.
    */
   protected ClassType(final String name) {
-    super(name);
+    this(name, name.replace('.', '/'));
+  }
+
+  private ClassType(final String name, final String internalName) {
+    super(name, ("L" + internalName + ";").intern());
+    this.internalName = internalName.intern();
   }
 }
@@ -11,6 +11,6 @@ public class IntType extends BaseType
    * Constructs an int type.
    */
   protected IntType() {
-    super("int");
+    super("int", "I");
   }
 }
@@ -15,4 +15,16 @@ public abstract class NonBaseType extends Type {
   protected NonBaseType(final String name) {
     super(name);
   }
+
+  /**
+   * Constucts a non-base type with the given name and JVM descriptor.
+   * 
+   * @param name
+   *          The name of this type.
+   * @param descriptor
+   *          The JVM descriptor of this type.
+   */
+  protected NonBaseType(final String name, final String descriptor) {
+    super(name, descriptor);
+  }
 }
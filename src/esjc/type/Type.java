@@ -13,14 +13,33 @@ public abstract class Type {
   public final String name;
 
   /**
-   * Constructs a type with the given name.
+   * Holds this type's JVM descriptor, e.g., "I" or "[Ljava/lang/String;", or
+   * null if it has none.
+   */
+  public final String descriptor;
+
+  /**
+   * Constructs a type with the given name and no JVM descriptor.
    * 
    * @param name
    *          The name of this type.
    */
   protected Type(final String name) {
+    this(name, null);
+  }
+
+  /**
+   * Constructs a type with the given name and JVM descriptor.
+   * 
+   * @param name
+   *          The name of this type.
+   * @param descriptor
+   *          The JVM descriptor of this type.
+   */
+  protected Type(final String name, final String descriptor) {
     assert name != null;
     this.name = name;
+    this.descriptor = descriptor;
   }
 
   /**
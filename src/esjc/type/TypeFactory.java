@@ -1,10 +1,13 @@
 package esjc.type;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * This class is used to build {@link Type}s in StaticJava.
+ * This class is used to build {@link Type}s in StaticJava. Types can be
+ * built by several threads at the same time, e.g., by the
+ * {@link esjc.type.checker.ExtendedTypeChecker} checking method bodies
+ * concurrently.
  * 
  * @author <a href="mailto:robby@ksu.edu">Robby</a>
  */
@@ -33,7 +36,7 @@ public class TypeFactory {
    * Holds the type cache of this type factory. It maps the type's name to its
    * {@link Type} instance.
    */
-  public final Map<String, Type> typeMap = new HashMap<>();
+  public final Map<String, Type> typeMap = new ConcurrentHashMap<>();
 
   /**
    * Constructs a type factory. The type factory cache is filled with the
@@ -56,10 +59,15 @@ public class TypeFactory {
    */
   public ArrayType getArrayType(final BaseType bt) {
     assert bt != null;
-    final String name = bt.name + "[]";
-    Type result = this.typeMap.computeIfAbsent(name, k -> new ArrayType(bt));
-    assert result instanceof ArrayType;
-    return (ArrayType) result;
+    ArrayType result = bt.arrayType;
+    if (result == null) {
+      final Type t = this.typeMap.computeIfAbsent(bt.name + "[]",
+          k -> new ArrayType(bt));
+      assert t instanceof ArrayType;
+      result = (ArrayType) t;
+      bt.arrayType = result;
+    }
+    return result;
   }
 
   /**
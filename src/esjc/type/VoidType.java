@@ -11,6 +11,6 @@ public class VoidType extends Type
    * Constructs a void type.
    */
   protected VoidType() {
-    super("void");
+    super("void", "V");
   }
 }
@@ -1,9 +1,11 @@
 package esjc.type.checker;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import esjc.type.*;
 import esjc.type.ArrayType;
@@ -12,11 +14,15 @@ import org.eclipse.jdt.core.dom.*;
 
 import esjc.symboltable.SymbolTable;
 import esjc.symboltable.ExtendedSymbolTable;
+import esjc.type.checker.LibraryMethodIndex.LibraryMethod;
 import esjc.util.Pair;
 
 /**
  * This class is used to type check a StaticJava {@link CompilationUnit} with a
- * given {@link SymbolTable}.
+ * given {@link SymbolTable}. Once the classes, fields and method signatures
+ * are checked, the method bodies do not depend on each other; they can be
+ * checked concurrently on a {@link ForkJoinPool} (see
+ * {@link #check(TypeFactory, CompilationUnit, ExtendedSymbolTable, ForkJoinPool)}).
  *
  * @author <a href="mailto:robby@cis.ksu.edu">Robby</a>
  */
@@ -32,10 +38,13 @@ public class ExtendedTypeChecker extends TypeChecker {
 
         protected Map<Pair<String, String>, FieldDeclaration> fieldMap;
 
+        protected Map<Pair<String, String>, MethodDeclaration> methodMap;
+
         protected Visitor(final TypeFactory tf, final ExtendedSymbolTable est) {
             super(tf, est);
             this.classMap = est.classMap;
             this.fieldMap = est.fieldMap;
+            this.methodMap = est.methodMap;
             for (final Pair<String, String> p : est.fieldMap.keySet()) {
                 final FieldDeclaration fd = est.fieldMap.get(p);
                 final Type t = convertType(fd, fd.getType());
@@ -46,19 +55,31 @@ public class ExtendedTypeChecker extends TypeChecker {
             }
         }
 
+        /**
+         * Constructs a visitor to type check a method body of the
+         * {@link CompilationUnit} whose declarations the given visitor checked.
+         *
+         * @param declarations The visitor that checked the declarations.
+         */
+        protected Visitor(final Visitor declarations) {
+            super(declarations);
+            this.classMap = declarations.classMap;
+            this.fieldMap = declarations.fieldMap;
+            this.methodMap = declarations.methodMap;
+        }
+
         protected void typeCheckMethodInvocation(final MethodInvocation node,
                                                  final String className, final String methodName, final Type[] argTypes,
-                                                 final Method m) {
-            @SuppressWarnings("rawtypes")
-            final Class[] paramTypeClasses = m.getParameterTypes();
-            final int numOfParams = paramTypeClasses.length;
+                                                 final LibraryMethod m) {
+            final String[] paramDescs = m.parameterDescriptors;
+            final int numOfParams = paramDescs.length;
             if (argTypes.length != numOfParams) {
                 throw new Error(node, "Wrong number of arguments to invoke method \""
                         + methodName + "\" in \"" + node + "\"");
             }
             final List<Type> paramTypes = new ArrayList<>();
             for (int i = 0; i < numOfParams; i++) {
-                final Type t = convertType(node, paramTypeClasses[i]);
+                final Type t = convertType(node, paramDescs[i]);
                 if ((argTypes[i] instanceof NullType) && (t instanceof NonPrimitiveType)){
 
                 }
@@ -68,7 +89,7 @@ public class ExtendedTypeChecker extends TypeChecker {
                 }
                 paramTypes.add(t);
             }
-            final Type returnType = convertType(node, m.getReturnType());
+            final Type returnType = convertType(node, m.returnDescriptor);
             if (!this.resultMethodTypeMap.containsKey(m)) {
                 this.resultMethodTypeMap.put(m, new Pair<>(returnType,
                         paramTypes));
@@ -250,8 +271,28 @@ public class ExtendedTypeChecker extends TypeChecker {
         @Override
         public boolean visit(final ClassInstanceCreation node) {
             final Type t = convertType(node, node.getType());
+            final TypeDeclaration td = this.classMap.get(node.getType().toString());
+            if (!node.arguments().isEmpty()) {
+                // the arguments initialize all the fields, in declaration order
+                final FieldDeclaration[] fds = td.getFields();
+                if (node.arguments().size() != fds.length) {
+                    throw new Error(node, "Expecting " + fds.length
+                            + " arguments to initialize the fields of " + t
+                            + " in \"" + node + "\"");
+                }
+                for (int i = 0; i < fds.length; i++) {
+                    ((Expression) node.arguments().get(i)).accept(this);
+                    final Type argType = getResult();
+                    final Type fieldType = convertType(fds[i], fds[i].getType());
+                    if ((argType != fieldType) && !((argType == this.tf.Null)
+                            && (fieldType instanceof NonPrimitiveType))) {
+                        throw new Error(node, "Type mismatch the " + i
+                                + " argument in \"" + node + "\"");
+                    }
+                }
+            }
             setResult(node, t);
-            this.symbolMap.put(node, this.classMap.get(node.getType().toString()));
+            this.resultSymbolMap.put(node, td);
             return false;
         }
 
@@ -295,7 +336,49 @@ public class ExtendedTypeChecker extends TypeChecker {
             final FieldDeclaration fd = this.fieldMap.get(key);
 
             setResult(node, id);
-            this.symbolMap.put(node, fd);
+            this.resultSymbolMap.put(node, fd);
+            return false;
+        }
+
+        @Override
+        public boolean visit(final MethodInvocation node) {
+            final Expression e = node.getExpression();
+            if ((e == null) || ((e instanceof SimpleName) && !this.symbolMap.containsKey(e))) {
+                return super.visit(node);
+            }
+            // an instance method invocation on a receiver
+            e.accept(this);
+            final Type t = getResult();
+            final String methodName = node.getName().getIdentifier();
+            final MethodDeclaration md = t instanceof ClassType
+                    ? this.methodMap.get(new Pair<>(t.name, methodName)) : null;
+            if (md == null) {
+                throw new Error(node, "Cannot resolve method '" + methodName
+                        + "' of type " + t + " in \"" + node + "\"");
+            }
+            final int numOfArgs = node.arguments().size();
+            final Type[] argTypes = new Type[numOfArgs];
+            for (int i = 0; i < numOfArgs; i++) {
+                ((Expression) node.arguments().get(i)).accept(this);
+                argTypes[i] = getResult();
+            }
+            this.resultSymbolMap.put(node, md);
+            typeCheckMethodInvocation(node, t.name, methodName, argTypes, md);
+            return false;
+        }
+
+        @Override
+        public boolean visit(final ThisExpression node) {
+            ASTNode n = node.getParent();
+            while (!(n instanceof MethodDeclaration)) {
+                n = n.getParent();
+            }
+            if (Modifier.isStatic(((MethodDeclaration) n).getModifiers())) {
+                throw new Error(node, "Cannot use \"this\" in the static method \""
+                        + ((MethodDeclaration) n).getName() + "\"");
+            }
+            setResult(node, this.tf.getClassType(
+                    ((TypeDeclaration) n.getParent()).getName().getIdentifier()));
             return false;
         }
 
@@ -389,6 +472,73 @@ public class ExtendedTypeChecker extends TypeChecker {
 
             this.classMap = null;
             this.fieldMap = null;
+            this.methodMap = null;
+        }
+    }
+
+    /**
+     * The visitor that type checks the classes, fields and method signatures
+     * of an ExtendedStaticJava {@link CompilationUnit}, collecting the method
+     * bodies instead of checking them.
+     */
+    protected static class DeclarationVisitor extends Visitor {
+        /**
+         * Holds the methods whose bodies are left to check, in source order.
+         */
+        protected final List<MethodDeclaration> methods = new ArrayList<>();
+
+        protected DeclarationVisitor(final TypeFactory tf,
+                                     final ExtendedSymbolTable est) {
+            super(tf, est);
+        }
+
+        @Override
+        public boolean visit(final MethodDeclaration node) {
+            visitSignature(node);
+            this.methods.add(node);
+            return false;
+        }
+    }
+
+    /**
+     * The task that type checks a method body with a {@link Visitor} of its
+     * own, keeping the problem it finds instead of throwing it.
+     */
+    protected static class BodyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Holds the visitor of the method body.
+         */
+        protected final Visitor visitor;
+
+        /**
+         * Holds the method.
+         */
+        protected final MethodDeclaration method;
+
+        /**
+         * Holds the problem found in the method body, or null.
+         */
+        protected RuntimeException exception;
+
+        protected BodyTask(final DeclarationVisitor declarations,
+                           final MethodDeclaration method) {
+            this.visitor = new Visitor(declarations);
+            this.visitor.className = ((TypeDeclaration) method.getParent())
+                    .getName().getIdentifier();
+            this.visitor.methodReturnType = declarations.resultMethodTypeMap
+                    .get(method).first;
+            this.method = method;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                this.method.getBody().accept(this.visitor);
+            } catch (final RuntimeException e) {
+                this.exception = e;
+            }
         }
     }
 
@@ -420,6 +570,70 @@ public class ExtendedTypeChecker extends TypeChecker {
         return result;
     }
 
+    /**
+     * Type checks an ExtendedStaticJava {@link CompilationUnit} as
+     * {@link #check(TypeFactory, CompilationUnit, ExtendedSymbolTable)} does,
+     * but checks the method bodies concurrently on the given
+     * {@link ForkJoinPool}, each with its own {@link Visitor}. The results of
+     * the bodies are merged in source order, and the error reported is the
+     * one the sequential check reports.
+     *
+     * @param tf          The {@link TypeFactory}.
+     * @param cu          The StaticJava {@link CompilationUnit}.
+     * @param symbolTable The {@link ExtendedSymbolTable} of the {@link CompilationUnit}
+     * @param pool        The {@link ForkJoinPool} to check method bodies on.
+     * @return The {@link ExtendedTypeTable}.
+     * @throws Error If the type checker encounter type error in the
+     *               {@link CompilationUnit}.
+     */
+    public static ExtendedTypeTable check(final TypeFactory tf,
+                                          final CompilationUnit cu,
+                                          final ExtendedSymbolTable symbolTable,
+                                          final ForkJoinPool pool) throws Error {
+        assert (tf != null) && (cu != null) && (symbolTable != null)
+                && (pool != null);
+
+        final DeclarationVisitor v = new DeclarationVisitor(tf, symbolTable);
+        RuntimeException declarationError = null;
+        try {
+            cu.accept(v);
+        } catch (final RuntimeException e) {
+            // the bodies that come before the declaration are still checked
+            declarationError = e;
+        }
+        final List<BodyTask> tasks = new ArrayList<>();
+        for (final MethodDeclaration md : v.methods) {
+            tasks.add(new BodyTask(v, md));
+        }
+        pool.invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+        for (final BodyTask t : tasks) {
+            if (t.exception != null) {
+                throw t.exception;
+            }
+            v.resultTypeMap.putAll(t.visitor.resultTypeMap);
+            for (final Map.Entry<Object, Pair<Type, List<Type>>> e
+                    : t.visitor.resultMethodTypeMap.entrySet()) {
+                v.resultMethodTypeMap.putIfAbsent(e.getKey(), e.getValue());
+            }
+            v.symbolMap.putAll(t.visitor.resultSymbolMap);
+            t.visitor.dispose();
+        }
+        if (declarationError != null) {
+            throw declarationError;
+        }
+        final ExtendedTypeTable result = new ExtendedTypeTable(v.resultTypeMap,
+                v.resultMethodTypeMap);
+        v.dispose();
+        return result;
+    }
+
     /**
      * Declared as protected to disallow creation of this object outside from the
      * methods of this class.
@@ -0,0 +1,289 @@
+package esjc.type.checker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * This class indexes the public static methods of library classes, such as
+ * {@code StaticJavaLib}, that StaticJava programs may invoke. Each class file
+ * is read once with ASM, without loading the class, the first time the class
+ * is looked up; the index is immutable afterwards, and can be shared by
+ * compilations running concurrently.
+ */
+public class LibraryMethodIndex {
+  /**
+   * This class represents a public static method of a library class, with
+   * the JVM names and descriptors needed to type check and invoke it.
+   */
+  public static final class LibraryMethod {
+    /**
+     * Holds the internal name of the class declaring this method.
+     */
+    public final String owner;
+
+    /**
+     * Holds the name of this method.
+     */
+    public final String name;
+
+    /**
+     * Holds the JVM descriptor of this method.
+     */
+    public final String desc;
+
+    /**
+     * Holds the JVM descriptors of the parameters of this method.
+     */
+    public final String[] parameterDescriptors;
+
+    /**
+     * Holds the JVM descriptor of the return type of this method.
+     */
+    public final String returnDescriptor;
+
+    /**
+     * Constructs a library method.
+     *
+     * @param owner
+     *          The internal name of the declaring class.
+     * @param name
+     *          The name of the method.
+     * @param desc
+     *          The JVM descriptor of the method.
+     */
+    protected LibraryMethod(final String owner, final String name,
+        final String desc) {
+      this.owner = owner;
+      this.name = name;
+      this.desc = desc;
+      final int end = desc.indexOf(')');
+      this.parameterDescriptors = splitDescriptors(desc.substring(1, end));
+      this.returnDescriptor = desc.substring(end + 1);
+    }
+
+    /**
+     * Returns this method as {@link java.lang.reflect.Method#toString()}
+     * does, e.g., "public static void StaticJavaLib.assertTrue(boolean)".
+     */
+    @Override
+    public String toString() {
+      final StringBuilder sb = new StringBuilder("public static ");
+      sb.append(typeName(this.returnDescriptor));
+      sb.append(' ');
+      sb.append(this.owner.replace('/', '.'));
+      sb.append('.');
+      sb.append(this.name);
+      sb.append('(');
+      for (int i = 0; i < this.parameterDescriptors.length; i++) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        sb.append(typeName(this.parameterDescriptors[i]));
+      }
+      sb.append(')');
+      return sb.toString();
+    }
+  }
+
+  /**
+   * Marks the classes that cannot be found.
+   */
+  private static final Map<String, LibraryMethod> MISSING = Collections
+      .unmodifiableMap(new HashMap<>());
+
+  /**
+   * Holds the index of the classes visible from the compiler's class loader.
+   */
+  private static final LibraryMethodIndex GLOBAL = new LibraryMethodIndex(
+      LibraryMethodIndex.class.getClassLoader(), "StaticJavaLib");
+
+  /**
+   * Returns the index of the classes visible from the compiler's class
+   * loader, {@code StaticJavaLib} included.
+   *
+   * @return The shared {@link LibraryMethodIndex}.
+   */
+  public static LibraryMethodIndex global() {
+    return LibraryMethodIndex.GLOBAL;
+  }
+
+  /**
+   * Returns the Java source name of a JVM field or return descriptor.
+   *
+   * @param desc
+   *          The descriptor, e.g., "[Ljava/lang/String;".
+   * @return The type name, e.g., "java.lang.String[]".
+   */
+  protected static String typeName(final String desc) {
+    switch (desc.charAt(0)) {
+      case 'V':
+        return "void";
+      case 'Z':
+        return "boolean";
+      case 'B':
+        return "byte";
+      case 'C':
+        return "char";
+      case 'S':
+        return "short";
+      case 'I':
+        return "int";
+      case 'J':
+        return "long";
+      case 'F':
+        return "float";
+      case 'D':
+        return "double";
+      case '[':
+        return typeName(desc.substring(1)) + "[]";
+      default:
+        return desc.substring(1, desc.length() - 1).replace('/', '.');
+    }
+  }
+
+  /**
+   * Splits a sequence of JVM field descriptors.
+   *
+   * @param descs
+   *          The descriptors, e.g., "[Ljava/lang/String;I".
+   * @return The descriptors, e.g., {"[Ljava/lang/String;", "I"}.
+   */
+  protected static String[] splitDescriptors(final String descs) {
+    final String[] result = new String[descs.length()];
+    int n = 0;
+    int i = 0;
+    while (i < descs.length()) {
+      final int start = i;
+      while (descs.charAt(i) == '[') {
+        i++;
+      }
+      i = descs.charAt(i) == 'L' ? descs.indexOf(';', i) + 1 : i + 1;
+      result[n++] = descs.substring(start, i).intern();
+    }
+    return Arrays.copyOf(result, n);
+  }
+
+  /**
+   * Holds the class loader the class files are read from.
+   */
+  protected final ClassLoader loader;
+
+  /**
+   * Holds a map of fully-qualified class names to their methods, keyed by
+   * name and parameter descriptors, e.g., "getIntArgument([Ljava/lang/String;I)".
+   */
+  protected final Map<String, Map<String, LibraryMethod>> classes = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs an index of the classes visible from the given class loader.
+   *
+   * @param loader
+   *          The class loader to read class files from.
+   * @param preloaded
+   *          The fully-qualified names of the classes to index eagerly.
+   */
+  public LibraryMethodIndex(final ClassLoader loader,
+      final String... preloaded) {
+    this.loader = loader;
+    for (final String className : preloaded) {
+      methods(className);
+    }
+  }
+
+  /**
+   * Returns whether the given class can be found.
+   *
+   * @param className
+   *          The fully-qualified name of the class.
+   * @return True if the class file of the class can be read.
+   */
+  public boolean hasClass(final String className) {
+    return methods(className) != LibraryMethodIndex.MISSING;
+  }
+
+  /**
+   * Looks up a public static method of a class, inherited ones included.
+   *
+   * @param className
+   *          The fully-qualified name of the class.
+   * @param methodName
+   *          The name of the method.
+   * @param parameterDescriptors
+   *          The parameter descriptors of the method, parentheses included,
+   *          e.g., "([Ljava/lang/String;I)".
+   * @return The {@link LibraryMethod}, or null if there is none.
+   */
+  public LibraryMethod lookup(final String className, final String methodName,
+      final String parameterDescriptors) {
+    return methods(className).get(methodName + parameterDescriptors);
+  }
+
+  protected Map<String, LibraryMethod> methods(final String className) {
+    Map<String, LibraryMethod> result = this.classes.get(className);
+    if (result == null) {
+      // not computeIfAbsent: reading a class looks up its superclass
+      result = read(className);
+      final Map<String, LibraryMethod> other = this.classes.putIfAbsent(
+          className, result);
+      if (other != null) {
+        result = other;
+      }
+    }
+    return result;
+  }
+
+  protected Map<String, LibraryMethod> read(final String className) {
+    final String internalName = className.replace('.', '/');
+    final InputStream is = this.loader == null ? ClassLoader
+        .getSystemResourceAsStream(internalName + ".class") : this.loader
+        .getResourceAsStream(internalName + ".class");
+    if (is == null) {
+      return LibraryMethodIndex.MISSING;
+    }
+    final Map<String, LibraryMethod> result = new HashMap<>();
+    final String[] superName = new String[1];
+    try (InputStream in = is) {
+      new ClassReader(in).accept(new ClassVisitor(Opcodes.ASM9) {
+        @Override
+        public void visit(final int version, final int access,
+            final String name, final String signature, final String superclass,
+            final String[] interfaces) {
+          superName[0] = superclass;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(final int access, final String name,
+            final String desc, final String signature,
+            final String[] exceptions) {
+          if ((access & (Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC)) == (Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC)
+              && !"<clinit>".equals(name)) {
+            final String key = name + desc.substring(0, desc.indexOf(')') + 1);
+            result.put(key, new LibraryMethod(internalName, name.intern(),
+                desc.intern()));
+          }
+          return null;
+        }
+      }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG
+          | ClassReader.SKIP_FRAMES);
+    } catch (final IOException | RuntimeException e) {
+      return LibraryMethodIndex.MISSING;
+    }
+    if (superName[0] != null) {
+      for (final Map.Entry<String, LibraryMethod> e : methods(
+          superName[0].replace('/', '.')).entrySet()) {
+        result.putIfAbsent(e.getKey(), e.getValue());
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+}
@@ -1,6 +1,5 @@
 package esjc.type.checker;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,12 +31,14 @@ import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
 import org.eclipse.jdt.core.dom.WhileStatement;
 
 
+import esjc.ast.NodeTable;
 import esjc.symboltable.SymbolTable;
 import esjc.type.ArrayType;
 import esjc.type.BaseType;
 import esjc.type.ClassType;
 import esjc.type.Type;
 import esjc.type.TypeFactory;
+import esjc.type.checker.LibraryMethodIndex.LibraryMethod;
 import esjc.util.Pair;
 
 /**
@@ -89,6 +90,13 @@ public class TypeChecker {
      */
     protected Map<ASTNode, Object> symbolMap;
 
+    /**
+     * Holds the map the symbols resolved while type checking are put in; the
+     * symbol map itself, unless this visitor checks a method body
+     * concurrently with others.
+     */
+    protected Map<ASTNode, Object> resultSymbolMap;
+
     /**
      * Holds a map of {@link ASTNode} to its {@link Type}.
      */
@@ -116,6 +124,12 @@ public class TypeChecker {
      */
     protected String className;
 
+    /**
+     * The {@link LibraryMethodIndex} of the library classes invoked.
+     */
+    protected LibraryMethodIndex libraryMethodIndex = LibraryMethodIndex
+        .global();
+
     /**
      * Holds a method's return {@link Type}.
      */
@@ -139,32 +153,54 @@ public class TypeChecker {
          final SymbolTable st) {
       this.tf = tf;
       this.symbolMap = st.symbolMap;
-      this.resultTypeMap = new HashMap<>();
+      this.resultSymbolMap = st.symbolMap;
+      this.resultTypeMap = new NodeTable<>();
       this.resultMethodTypeMap = new HashMap<>();
       this.stringArrayType = tf.getArrayType(tf
           .getClassType("java.lang.String"));
     }
 
-    protected Type convertType(final ASTNode node,
-        @SuppressWarnings("rawtypes") final Class c) {
-      if (c == void.class) {
-        return this.tf.Void;
-      }
-      if (c == boolean.class) {
-        return this.tf.Boolean;
-      } else if (c == int.class) {
-        return this.tf.Int;
-      } else if (c == String[].class) {
-        return this.stringArrayType;
-      } else if (c.isPrimitive()) {
-        throw new Error(null, "Unexpected primitive type (Class): \'"
-            + c.getName() + "\'");
-      } else if (!c.isArray()) {
-        return this.tf.getClassType(c.getName());
-      } else {
-        return this.tf.getArrayType((BaseType) convertType(
-            node,
-            c.getComponentType()));
+    /**
+     * Constructs a visitor to type check a method body of the
+     * {@link CompilationUnit} whose declarations the given visitor checked.
+     * It only reads the symbol map and the maps of the given visitor, so that
+     * several method bodies can be checked concurrently; its results go to
+     * maps of its own.
+     * 
+     * @param declarations
+     *          The visitor that checked the declarations.
+     */
+    protected Visitor(final Visitor declarations) {
+      this.tf = declarations.tf;
+      this.symbolMap = declarations.symbolMap;
+      this.resultSymbolMap = new HashMap<>();
+      this.resultTypeMap = new HashMap<>();
+      this.resultMethodTypeMap = new HashMap<>();
+      this.stringArrayType = declarations.stringArrayType;
+      this.libraryMethodIndex = declarations.libraryMethodIndex;
+    }
+
+    protected Type convertType(final ASTNode node, final String desc) {
+      switch (desc.charAt(0)) {
+        case 'V':
+          return this.tf.Void;
+        case 'Z':
+          return this.tf.Boolean;
+        case 'I':
+          return this.tf.Int;
+        case 'L':
+          return this.tf.getClassType(desc.substring(1, desc.length() - 1)
+              .replace('/', '.'));
+        case '[':
+          if ("[Ljava/lang/String;".equals(desc)) {
+            return this.stringArrayType;
+          }
+          return this.tf.getArrayType((BaseType) convertType(
+              node,
+              desc.substring(1)));
+        default:
+          throw new Error(node, "Unexpected primitive type (descriptor): \'"
+              + desc + "\'");
       }
     }
 
@@ -192,48 +228,22 @@ public class TypeChecker {
         final BaseType bt = (BaseType) convertType(node, at.getElementType());
         return this.tf.getArrayType(bt);
       }
-      throw new Error(null, "Unexpected Type: \'" + t + "\'");
+      throw new Error(node, "Unexpected Type: \'" + t + "\'");
     }
 
-    @SuppressWarnings("rawtypes")
-    protected Class convertType(final ASTNode node, final Type t) {
-      if (t == this.tf.Void) {
-        return void.class;
-      } else if (t == this.tf.Boolean) {
-        return boolean.class;
-      } else if (t == this.tf.Int) {
-        return int.class;
-      } else if (t == this.stringArrayType) {
-        return String[].class;
-      } else if (t instanceof ClassType) {
-        try {
-          return Class.forName(((ClassType) t).name);
-        } catch (final ClassNotFoundException e) {
-          throw new Error(node, "Unresolvable Type: \'" + t + "\'");
-        }
-      } else if (t instanceof ArrayType) {
-        final ArrayType at = (ArrayType) t;
-        final BaseType bt = at.baseType;
-        if (bt == this.tf.Boolean) {
-          return boolean[].class;
-        } else if (bt == this.tf.Int) {
-          return int[].class;
-        } else if (bt instanceof ClassType) {
-          try {
-            return Class.forName("[L" + ((ClassType) bt).name + ";");
-          } catch (final ClassNotFoundException e) {
-            throw new Error(node, "Unresolvable Type: \'" + t + "\'");
-          }
-        } else {
-          throw new Error(node, "Unexpected BaseType: \'" + t + "\'");
-        }
-      } else {
+    /**
+     * Returns the JVM descriptor of a {@link Type}.
+     */
+    protected String descriptor(final ASTNode node, final Type t) {
+      if (t.descriptor == null) {
         throw new Error(node, "Unexpected Type: \'" + t + "\'");
       }
+      return t.descriptor;
     }
 
     protected void dispose() {
       this.symbolMap = null;
+      this.resultSymbolMap = null;
       this.resultTypeMap = null;
       this.tf = null;
       this.stringArrayType = null;
@@ -248,27 +258,24 @@ public class TypeChecker {
       return result;
     }
 
-    @SuppressWarnings("unchecked")
-    protected Method resolveMethod(final MethodInvocation node,
+    protected LibraryMethod resolveMethod(final MethodInvocation node,
         final String className, final String methodName, final Type[] argTypes) {
-      try {
-        final int numOfArgs = argTypes.length;
-        @SuppressWarnings("rawtypes")
-        final Class[] paramTypes = new Class[numOfArgs];
-        for (int i = 0; i < numOfArgs; i++) {
-          paramTypes[i] = convertType(node, argTypes[i]);
-        }
-        @SuppressWarnings("rawtypes")
-        final Class c = Class.forName(className);
-        final Method m = c.getMethod(methodName, paramTypes);
-        this.symbolMap.put(node, m);
-        return m;
-      } catch (final ClassNotFoundException e) {
+      final StringBuilder sb = new StringBuilder("(");
+      for (final Type t : argTypes) {
+        sb.append(descriptor(node, t));
+      }
+      sb.append(')');
+      if (!this.libraryMethodIndex.hasClass(className)) {
         throw new Error(node, "Unresolvable class \"" + className + "\"");
-      } catch (final SecurityException | NoSuchMethodException e) {
+      }
+      final LibraryMethod m = this.libraryMethodIndex.lookup(className,
+          methodName, sb.toString());
+      if (m == null) {
         throw new Error(node, "Unresolvable method \"" + className + "."
             + methodName + "\"");
       }
+      this.resultSymbolMap.put(node, m);
+      return m;
     }
 
     protected void setResult(final Expression e, final Type t) {
@@ -279,24 +286,23 @@ public class TypeChecker {
 
     protected void typeCheckMethodInvocation(final MethodInvocation node,
         final String className, final String methodName, final Type[] argTypes,
-        final Method m) {
-      @SuppressWarnings("rawtypes")
-      final Class[] paramTypeClasses = m.getParameterTypes();
-      final int numOfParams = paramTypeClasses.length;
+        final LibraryMethod m) {
+      final String[] paramDescs = m.parameterDescriptors;
+      final int numOfParams = paramDescs.length;
       if (argTypes.length != numOfParams) {
         throw new Error(node, "Wrong number of arguments to invoke method \""
             + methodName + "\" in \"" + node + "\"");
       }
       final List<Type> paramTypes = new ArrayList<>();
       for (int i = 0; i < numOfParams; i++) {
-        final Type t = convertType(node, paramTypeClasses[i]);
+        final Type t = convertType(node, paramDescs[i]);
         if (t != argTypes[i]) {
           throw new Error(node, "Type mismatch the " + i + " argument in \""
               + node + "\"");
         }
         paramTypes.add(t);
       }
-      final Type returnType = convertType(node, m.getReturnType());
+      final Type returnType = convertType(node, m.returnDescriptor);
       if (!this.resultMethodTypeMap.containsKey(m)) {
         this.resultMethodTypeMap.put(m, new Pair<>(returnType,
             paramTypes));
@@ -448,7 +454,21 @@ public class TypeChecker {
 
     @Override
     public boolean visit(final MethodDeclaration node) {
-      this.methodReturnType = convertType(node, node.getReturnType2());
+      this.methodReturnType = visitSignature(node);
+      node.getBody().accept(this);
+      this.methodReturnType = null;
+      return false;
+    }
+
+    /**
+     * Type checks the return type and the parameters of a method.
+     * 
+     * @param node
+     *          The {@link MethodDeclaration}.
+     * @return The return {@link Type} of the method.
+     */
+    protected Type visitSignature(final MethodDeclaration node) {
+      final Type returnType = convertType(node, node.getReturnType2());
       final List<Type> paramTypes = new ArrayList<>();
       for (final Object o : node.parameters()) {
         final SingleVariableDeclaration sdv = (SingleVariableDeclaration) o;
@@ -456,11 +476,8 @@ public class TypeChecker {
         paramTypes.add(t);
         this.resultTypeMap.put(sdv, t);
       }
-      this.resultMethodTypeMap.put(node, new Pair<>(
-          this.methodReturnType, paramTypes));
-      node.getBody().accept(this);
-      this.methodReturnType = null;
-      return false;
+      this.resultMethodTypeMap.put(node, new Pair<>(returnType, paramTypes));
+      return returnType;
     }
 
     @Override
@@ -478,12 +495,12 @@ public class TypeChecker {
         argTypes[i] = getResult();
       }
       final Object o = this.symbolMap.get(node);
-      if ((o == null) || (o instanceof Method)) {
-        final Method m = o == null ? resolveMethod(
+      if ((o == null) || (o instanceof LibraryMethod)) {
+        final LibraryMethod m = o == null ? resolveMethod(
             node,
             className,
             methodName,
-            argTypes) : (Method) o;
+            argTypes) : (LibraryMethod) o;
         typeCheckMethodInvocation(node, className, methodName, argTypes, m);
       } else {
         typeCheckMethodInvocation(
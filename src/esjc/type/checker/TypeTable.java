@@ -37,7 +37,7 @@ public class TypeTable {
 
   /**
    * Holds the mappings of {@link MethodDeclaration} or
-   * {@link java.lang.reflect.Method} to its return {@link Type} and its
+   * {@link LibraryMethodIndex.LibraryMethod} to its return {@link Type} and its
    * parameter {@link Type}s.
    */
   public final
@@ -21,17 +21,16 @@ public class ByteCodeOptimizer {
     }
 
     public static byte[] optimize(String fileName) throws IOException {
-        ClassReader cr = new ClassReader(fileName);
-        ClassWriter cw = new ClassWriter(cr, ClassWriter.COMPUTE_FRAMES);
-        //default visitor - uncomment it to see
-        //the default bytecode produced by ASM
-//        ClassVisitor cv = new ClassVisitor(ASM9, cw) {};
-        ClassVisitor cv = new Optimizer1(cw);
-//        ClassVisitor cv = new Optimizer2(cw);
-//        ClassVisitor cv = new Optimizer3(cw);
-//        ClassVisitor cv = new Optimizer4(cw);
-//        ClassVisitor cv = new Optimizer5(cw);
-        cr.accept(cv, 0);
-        return cw.toByteArray();
+        //the default pipeline runs Optimizer1-5 to a fixed point; use
+        //optimize(fileName, pm) with a custom PassManager to pick passes
+        return optimize(fileName, PassManager.defaultPipeline());
+    }
+
+    public static byte[] optimize(String fileName, PassManager pm) throws IOException {
+        return pm.optimize(fileName);
+    }
+
+    public static byte[] optimize(byte[] classBytes) {
+        return PassManager.defaultPipeline().optimize(classBytes);
     }
 }
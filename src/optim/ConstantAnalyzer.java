@@ -0,0 +1,641 @@
+package optim;
+
+import org.objectweb.asm.Type;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Conditional constant propagation over the locals and the operand stack of
+ * a method held in a {@link MethodBuffer}.
+ * <p>
+ * Every value is either unknown yet (null), an int constant ({@link Integer}),
+ * the null reference ({@link #NULL}) or not a constant ({@link #TOP}). Blocks
+ * are only entered through edges that can be taken under the constants known
+ * so far, so code guarded by a constant condition is never analyzed and
+ * stays unreachable.
+ * <p>
+ * Only category 1 values are modelled; methods using long or double values,
+ * jsr/ret, invokedynamic or exception handlers are rejected with
+ * {@link UnsupportedCodeException}.
+ */
+public class ConstantAnalyzer {
+    public static final Object TOP = new Object() {
+        @Override
+        public String toString() {
+            return "?";
+        }
+    };
+
+    public static final Object NULL = new Object() {
+        @Override
+        public String toString() {
+            return "null";
+        }
+    };
+
+    public static class UnsupportedCodeException extends RuntimeException {
+        private static final long serialVersionUID = 4405541397627617512L;
+
+        public UnsupportedCodeException(String msg) {
+            super(msg);
+        }
+    }
+
+    /**
+     * The abstract values of the locals and of the operand stack at one
+     * point of a method.
+     */
+    public static class Frame {
+        public final Object[] locals;
+        protected Object[] stack;
+        protected int top;
+
+        Frame(int maxLocals) {
+            locals = new Object[maxLocals];
+            stack = new Object[4];
+        }
+
+        Frame(Frame f) {
+            locals = f.locals.clone();
+            stack = f.stack.clone();
+            top = f.top;
+        }
+
+        public int stackSize() {
+            return top;
+        }
+
+        /**
+         * Returns the stack value at the given depth, 0 being the top.
+         */
+        public Object peek(int depth) {
+            return stack[top - 1 - depth];
+        }
+
+        void push(Object v) {
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, top * 2);
+            }
+            stack[top++] = v;
+        }
+
+        Object pop() {
+            if (top == 0) {
+                throw new UnsupportedCodeException("Operand stack underflow");
+            }
+            return stack[--top];
+        }
+
+        void pop(int n) {
+            for (int i = 0; i < n; i++) {
+                pop();
+            }
+        }
+
+        /**
+         * Merges the given frame into this one; returns whether this frame
+         * changed.
+         */
+        boolean merge(Frame f) {
+            if (f.top != top) {
+                throw new UnsupportedCodeException("Inconsistent stack heights");
+            }
+            boolean changed = false;
+            for (int i = 0; i < locals.length; i++) {
+                Object m = join(locals[i], f.locals[i]);
+                if (m != locals[i]) {
+                    locals[i] = m;
+                    changed = true;
+                }
+            }
+            for (int i = 0; i < top; i++) {
+                Object m = join(stack[i], f.stack[i]);
+                if (m != stack[i]) {
+                    stack[i] = m;
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        static Object join(Object a, Object b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null || a == TOP || a.equals(b)) {
+                return a;
+            }
+            return TOP;
+        }
+    }
+
+    public final MethodBuffer method;
+    public final ControlFlowGraph cfg;
+    /** The frame before each code index, null where the code is unreachable. */
+    public final Frame[] frames;
+    /** The blocks that are reachable under the propagated constants. */
+    public final BitSet reachable = new BitSet();
+    protected final Frame[] in;
+    protected final int maxLocals;
+
+    public ConstantAnalyzer(MethodBuffer method, ControlFlowGraph cfg) {
+        this.method = method;
+        this.cfg = cfg;
+        if (!method.tryCatchBlocks.isEmpty()) {
+            throw new UnsupportedCodeException("Exception handlers");
+        }
+        int locals = Math.max(method.maxLocals, argumentSize());
+        for (Insn insn : method.code) {
+            if (insn.kind == Insn.VAR_INSN || insn.kind == Insn.IINC_INSN) {
+                locals = Math.max(locals, insn.operand + 1);
+            }
+        }
+        maxLocals = locals;
+        frames = new Frame[method.code.size()];
+        in = new Frame[cfg.blocks.size()];
+        if (!cfg.blocks.isEmpty()) {
+            analyze();
+        }
+    }
+
+    protected int argumentSize() {
+        int size = (method.access & ACC_STATIC) != 0 ? 0 : 1;
+        for (Type t : Type.getArgumentTypes(method.desc)) {
+            checkSize(t);
+            size++;
+        }
+        return size;
+    }
+
+    protected void analyze() {
+        Frame entry = new Frame(maxLocals);
+        for (int i = 0; i < argumentSize(); i++) {
+            entry.locals[i] = TOP;
+        }
+        in[0] = entry;
+        reachable.set(0);
+        Deque<ControlFlowGraph.Block> work = new ArrayDeque<>();
+        work.add(cfg.blocks.get(0));
+        BitSet queued = new BitSet();
+        queued.set(0);
+        while (!work.isEmpty()) {
+            ControlFlowGraph.Block b = work.poll();
+            queued.clear(b.index);
+            Frame f = new Frame(in[b.index]);
+            int decision = -1;
+            Insn last = null;
+            for (int i = b.start; i < b.end; i++) {
+                Insn insn = method.code.get(i);
+                if (insn.isInstruction()) {
+                    last = insn;
+                    decision = execute(insn, f);
+                }
+            }
+            for (ControlFlowGraph.Block s : b.successors) {
+                if (!edgeTaken(b, last, decision, s)) {
+                    continue;
+                }
+                reachable.set(s.index);
+                boolean changed;
+                if (in[s.index] == null) {
+                    in[s.index] = new Frame(f);
+                    changed = true;
+                } else {
+                    changed = in[s.index].merge(f);
+                }
+                if (changed && !queued.get(s.index)) {
+                    queued.set(s.index);
+                    work.add(s);
+                }
+            }
+        }
+        for (int bi = reachable.nextSetBit(0); bi >= 0; bi = reachable.nextSetBit(bi + 1)) {
+            ControlFlowGraph.Block b = cfg.blocks.get(bi);
+            Frame f = new Frame(in[bi]);
+            for (int i = b.start; i < b.end; i++) {
+                frames[i] = new Frame(f);
+                Insn insn = method.code.get(i);
+                if (insn.isInstruction()) {
+                    execute(insn, f);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether control can flow from block b to its successor s,
+     * given the outcome of the conditional jump ending b (1 taken, 0 not
+     * taken, -1 unknown).
+     */
+    protected boolean edgeTaken(ControlFlowGraph.Block b, Insn last, int decision, ControlFlowGraph.Block s) {
+        if (last == null || last.kind != Insn.JUMP_INSN || decision < 0) {
+            return true;
+        }
+        ControlFlowGraph.Block target = cfg.blockAt(last.label);
+        ControlFlowGraph.Block next = b.index + 1 < cfg.blocks.size() ? cfg.blocks.get(b.index + 1) : null;
+        if (target == next) {
+            return true;
+        }
+        return decision == 1 ? s == target : s == next;
+    }
+
+    /**
+     * Returns the frame before the given code index, or null if it is
+     * unreachable.
+     */
+    public Frame frameAt(int index) {
+        return frames[index];
+    }
+
+    protected static void checkSize(Type t) {
+        if (t.getSize() != 1) {
+            throw new UnsupportedCodeException("Category 2 value: " + t);
+        }
+    }
+
+    protected static void checkSize(String desc) {
+        checkSize(Type.getType(desc));
+    }
+
+    /**
+     * Folds a binary int operation, or returns null when it cannot be folded
+     * (division by zero).
+     */
+    public static Integer fold(int opcode, int a, int b) {
+        switch (opcode) {
+            case IADD:
+                return a + b;
+            case ISUB:
+                return a - b;
+            case IMUL:
+                return a * b;
+            case IDIV:
+                return b == 0 ? null : a / b;
+            case IREM:
+                return b == 0 ? null : a % b;
+            case ISHL:
+                return a << b;
+            case ISHR:
+                return a >> b;
+            case IUSHR:
+                return a >>> b;
+            case IAND:
+                return a & b;
+            case IOR:
+                return a | b;
+            case IXOR:
+                return a ^ b;
+            default:
+                return null;
+        }
+    }
+
+    public static Integer fold(int opcode, int a) {
+        switch (opcode) {
+            case INEG:
+                return -a;
+            case I2B:
+                return (int) (byte) a;
+            case I2C:
+                return (int) (char) a;
+            case I2S:
+                return (int) (short) a;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Decides a conditional jump on constant operands: 1 taken, 0 not taken,
+     * -1 unknown.
+     */
+    public static int decide(int opcode, Object a, Object b) {
+        switch (opcode) {
+            case IFNULL:
+            case IFNONNULL:
+                if (b == NULL) {
+                    return opcode == IFNULL ? 1 : 0;
+                }
+                return -1;
+            case IF_ACMPEQ:
+            case IF_ACMPNE:
+                if (a == NULL && b == NULL) {
+                    return opcode == IF_ACMPEQ ? 1 : 0;
+                }
+                return -1;
+        }
+        if (!(b instanceof Integer) || (a != null && !(a instanceof Integer))) {
+            return -1;
+        }
+        int y = (Integer) b;
+        int x = a == null ? y : (Integer) a;
+        boolean r;
+        switch (opcode) {
+            case IFEQ:
+                r = y == 0;
+                break;
+            case IFNE:
+                r = y != 0;
+                break;
+            case IFLT:
+                r = y < 0;
+                break;
+            case IFGE:
+                r = y >= 0;
+                break;
+            case IFGT:
+                r = y > 0;
+                break;
+            case IFLE:
+                r = y <= 0;
+                break;
+            case IF_ICMPEQ:
+                r = x == y;
+                break;
+            case IF_ICMPNE:
+                r = x != y;
+                break;
+            case IF_ICMPLT:
+                r = x < y;
+                break;
+            case IF_ICMPGE:
+                r = x >= y;
+                break;
+            case IF_ICMPGT:
+                r = x > y;
+                break;
+            case IF_ICMPLE:
+                r = x <= y;
+                break;
+            default:
+                return -1;
+        }
+        return r ? 1 : 0;
+    }
+
+    /**
+     * Applies the given instruction to the frame; for a conditional jump,
+     * returns whether it is taken (see {@link #decide}), otherwise -1.
+     */
+    protected int execute(Insn insn, Frame f) {
+        int op = insn.opcode;
+        switch (op) {
+            case NOP:
+                break;
+            case ACONST_NULL:
+                f.push(NULL);
+                break;
+            case ICONST_M1:
+            case ICONST_0:
+            case ICONST_1:
+            case ICONST_2:
+            case ICONST_3:
+            case ICONST_4:
+            case ICONST_5:
+            case BIPUSH:
+            case SIPUSH:
+                f.push(insn.intConstant());
+                break;
+            case LDC:
+                if (insn.value instanceof Long || insn.value instanceof Double) {
+                    throw new UnsupportedCodeException("Category 2 constant");
+                }
+                f.push(insn.value instanceof Integer ? insn.value : TOP);
+                break;
+            case ILOAD:
+            case FLOAD:
+            case ALOAD: {
+                Object v = f.locals[insn.operand];
+                f.push(v == null ? TOP : v);
+                break;
+            }
+            case ISTORE:
+            case FSTORE:
+            case ASTORE:
+                f.locals[insn.operand] = f.pop();
+                break;
+            case IINC: {
+                Object v = f.locals[insn.operand];
+                f.locals[insn.operand] = v instanceof Integer ? (Object) ((Integer) v + insn.operand2) : TOP;
+                break;
+            }
+            case IALOAD:
+            case FALOAD:
+            case AALOAD:
+            case BALOAD:
+            case CALOAD:
+            case SALOAD:
+                f.pop(2);
+                f.push(TOP);
+                break;
+            case IASTORE:
+            case FASTORE:
+            case AASTORE:
+            case BASTORE:
+            case CASTORE:
+            case SASTORE:
+                f.pop(3);
+                break;
+            case POP:
+                f.pop();
+                break;
+            case POP2:
+                f.pop(2);
+                break;
+            case DUP: {
+                Object v = f.pop();
+                f.push(v);
+                f.push(v);
+                break;
+            }
+            case DUP_X1: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                f.push(v1);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case DUP_X2: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                Object v3 = f.pop();
+                f.push(v1);
+                f.push(v3);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case DUP2: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                f.push(v2);
+                f.push(v1);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case DUP2_X1: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                Object v3 = f.pop();
+                f.push(v2);
+                f.push(v1);
+                f.push(v3);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case DUP2_X2: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                Object v3 = f.pop();
+                Object v4 = f.pop();
+                f.push(v2);
+                f.push(v1);
+                f.push(v4);
+                f.push(v3);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case SWAP: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                f.push(v1);
+                f.push(v2);
+                break;
+            }
+            case IADD:
+            case ISUB:
+            case IMUL:
+            case IDIV:
+            case IREM:
+            case ISHL:
+            case ISHR:
+            case IUSHR:
+            case IAND:
+            case IOR:
+            case IXOR: {
+                Object b = f.pop();
+                Object a = f.pop();
+                Integer r = a instanceof Integer && b instanceof Integer
+                        ? fold(op, (Integer) a, (Integer) b) : null;
+                f.push(r == null ? TOP : r);
+                break;
+            }
+            case INEG:
+            case I2B:
+            case I2C:
+            case I2S: {
+                Object a = f.pop();
+                f.push(a instanceof Integer ? fold(op, (Integer) a) : TOP);
+                break;
+            }
+            case FADD:
+            case FSUB:
+            case FMUL:
+            case FDIV:
+            case FREM:
+            case FCMPL:
+            case FCMPG:
+                f.pop(2);
+                f.push(TOP);
+                break;
+            case FNEG:
+            case I2F:
+            case F2I:
+            case ARRAYLENGTH:
+            case NEWARRAY:
+            case ANEWARRAY:
+            case CHECKCAST:
+            case INSTANCEOF:
+                f.pop();
+                f.push(TOP);
+                break;
+            case IFEQ:
+            case IFNE:
+            case IFLT:
+            case IFGE:
+            case IFGT:
+            case IFLE:
+            case IFNULL:
+            case IFNONNULL:
+                return decide(op, null, f.pop());
+            case IF_ICMPEQ:
+            case IF_ICMPNE:
+            case IF_ICMPLT:
+            case IF_ICMPGE:
+            case IF_ICMPGT:
+            case IF_ICMPLE:
+            case IF_ACMPEQ:
+            case IF_ACMPNE: {
+                Object b = f.pop();
+                Object a = f.pop();
+                return decide(op, a, b);
+            }
+            case GOTO:
+                break;
+            case TABLESWITCH:
+            case LOOKUPSWITCH:
+            case IRETURN:
+            case FRETURN:
+            case ARETURN:
+            case ATHROW:
+            case MONITORENTER:
+            case MONITOREXIT:
+                f.pop();
+                break;
+            case RETURN:
+                break;
+            case GETSTATIC:
+                checkSize(insn.desc);
+                f.push(TOP);
+                break;
+            case PUTSTATIC:
+                f.pop();
+                break;
+            case GETFIELD:
+                checkSize(insn.desc);
+                f.pop();
+                f.push(TOP);
+                break;
+            case PUTFIELD:
+                f.pop(2);
+                break;
+            case INVOKEVIRTUAL:
+            case INVOKESPECIAL:
+            case INVOKESTATIC:
+            case INVOKEINTERFACE: {
+                for (Type t : Type.getArgumentTypes(insn.desc)) {
+                    checkSize(t);
+                    f.pop();
+                }
+                if (op != INVOKESTATIC) {
+                    f.pop();
+                }
+                Type r = Type.getReturnType(insn.desc);
+                if (r.getSort() != Type.VOID) {
+                    checkSize(r);
+                    f.push(TOP);
+                }
+                break;
+            }
+            case NEW:
+                f.push(TOP);
+                break;
+            case MULTIANEWARRAY:
+                f.pop(insn.operand);
+                f.push(TOP);
+                break;
+            default:
+                throw new UnsupportedCodeException("Unsupported opcode: " + insn);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,180 @@
+package optim;
+
+import org.objectweb.asm.Label;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * The basic blocks of a method held in a {@link MethodBuffer}. A block
+ * starts at the first instruction, at every label that is a jump or switch
+ * target, and after every jump, switch, return or throw. Exception handlers
+ * are not modelled; callers bail out on methods with try-catch blocks.
+ */
+public class ControlFlowGraph {
+    public static class Block {
+        public final int index;
+        /** The first code index of this block. */
+        public final int start;
+        /** One past the last code index of this block. */
+        public int end;
+        public final List<Block> successors = new ArrayList<>();
+        public final List<Block> predecessors = new ArrayList<>();
+
+        Block(int index, int start) {
+            this.index = index;
+            this.start = start;
+        }
+
+        @Override
+        public String toString() {
+            return "B" + index + "[" + start + ", " + end + ")";
+        }
+    }
+
+    public final List<Insn> code;
+    public final List<Block> blocks = new ArrayList<>();
+    /** The code indices of labels that are jump or switch targets. */
+    public final BitSet targets = new BitSet();
+    protected final Map<Label, Integer> labelIndex = new HashMap<>();
+    protected final Block[] blockOf;
+
+    public ControlFlowGraph(List<Insn> code) {
+        this.code = code;
+        int n = code.size();
+        for (int i = 0; i < n; i++) {
+            Insn insn = code.get(i);
+            if (insn.kind == Insn.LABEL) {
+                labelIndex.put(insn.label, i);
+            }
+        }
+        for (Insn insn : code) {
+            for (Label l : targetsOf(insn)) {
+                targets.set(indexOf(l));
+            }
+        }
+        blockOf = new Block[n];
+        Block current = null;
+        for (int i = 0; i < n; i++) {
+            if (current == null || targets.get(i)) {
+                if (current != null) {
+                    current.end = i;
+                }
+                current = new Block(blocks.size(), i);
+                blocks.add(current);
+            }
+            blockOf[i] = current;
+            Insn insn = code.get(i);
+            if (insn.kind == Insn.JUMP_INSN || insn.endsFlow()) {
+                current.end = i + 1;
+                current = null;
+            }
+        }
+        if (current != null) {
+            current.end = n;
+        }
+        for (Block b : blocks) {
+            Insn last = lastInstruction(b);
+            boolean fallsThrough = last == null || !last.endsFlow();
+            if (last != null) {
+                for (Label l : targetsOf(last)) {
+                    link(b, blockAt(l));
+                }
+            }
+            if (fallsThrough && b.index + 1 < blocks.size()) {
+                link(b, blocks.get(b.index + 1));
+            }
+        }
+    }
+
+    protected static void link(Block from, Block to) {
+        if (!from.successors.contains(to)) {
+            from.successors.add(to);
+            to.predecessors.add(from);
+        }
+    }
+
+    /**
+     * Returns the labels the given instruction may jump to.
+     */
+    public static List<Label> targetsOf(Insn insn) {
+        List<Label> result = new ArrayList<>();
+        switch (insn.kind) {
+            case Insn.JUMP_INSN:
+                result.add(insn.label);
+                break;
+            case Insn.TABLESWITCH_INSN:
+            case Insn.LOOKUPSWITCH_INSN:
+                result.add(insn.label);
+                for (Label l : insn.labels) {
+                    result.add(l);
+                }
+                break;
+        }
+        return result;
+    }
+
+    public int indexOf(Label label) {
+        Integer i = labelIndex.get(label);
+        if (i == null) {
+            throw new IllegalArgumentException("Label not in code: " + label);
+        }
+        return i;
+    }
+
+    public Block blockAt(Label label) {
+        return blockOf[indexOf(label)];
+    }
+
+    public Block blockOf(int codeIndex) {
+        return blockOf[codeIndex];
+    }
+
+    /**
+     * Returns the last real instruction of the given block, or null if the
+     * block only holds labels, frames and line numbers.
+     */
+    public Insn lastInstruction(Block b) {
+        for (int i = b.end - 1; i >= b.start; i--) {
+            if (code.get(i).isInstruction()) {
+                return code.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the blocks reachable from the entry block.
+     */
+    public BitSet reachable() {
+        BitSet seen = new BitSet();
+        if (blocks.isEmpty()) {
+            return seen;
+        }
+        List<Block> work = new ArrayList<>();
+        work.add(blocks.get(0));
+        seen.set(0);
+        while (!work.isEmpty()) {
+            Block b = work.remove(work.size() - 1);
+            for (Block s : b.successors) {
+                if (!seen.get(s.index)) {
+                    seen.set(s.index);
+                    work.add(s);
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * Returns whether the given opcode is a conditional jump.
+     */
+    public static boolean isConditional(int opcode) {
+        return (opcode >= IFEQ && opcode <= IF_ACMPNE) || opcode == IFNULL || opcode == IFNONNULL;
+    }
+}
@@ -0,0 +1,303 @@
+package optim;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Inlines calls to small static methods of the same class. All methods of the
+ * class are buffered; at the end of the class, each {@code INVOKESTATIC} of a
+ * method of the class whose code is at most {@link #maxSize} bytes long is
+ * replaced by the callee's code:
+ * <ul>
+ * <li>the arguments are stored from the operand stack into locals placed
+ * after the caller's own locals;</li>
+ * <li>the callee's locals are shifted to those slots and its labels are
+ * copied;</li>
+ * <li>its returns jump to the end of the inlined code, leaving the return
+ * value on the stack.</li>
+ * </ul>
+ * Callees are inlined as they were when the class was read, so a round
+ * inlines one level of calls; recursive callees, callees with exception
+ * handlers and callees whose returns leave more than the return value on the
+ * stack (see {@link ConstantAnalyzer}) are not inlined. Line numbers and local
+ * variable entries of the callee are dropped, as are the frames of rewritten
+ * methods, so the class must be written with
+ * {@code ClassWriter.COMPUTE_FRAMES}, as {@link PassManager} does.
+ * <p>
+ * The callees stay in the class, as other classes may still call them.
+ */
+public class Inliner extends ClassVisitor {
+    /**
+     * The default maximum callee size in bytes, the same as HotSpot's
+     * {@code MaxInlineSize}.
+     */
+    public static final int DEFAULT_MAX_SIZE = 35;
+
+    protected final int maxSize;
+    protected String className;
+    protected final List<MethodBuffer> methods = new ArrayList<>();
+
+    public Inliner(ClassVisitor cv) {
+        this(cv, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the maximum code size in bytes of an inlined callee; 0
+     *                disables inlining
+     */
+    public Inliner(ClassVisitor cv, int maxSize) {
+        super(ASM9, cv);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature,
+                      String superName, String[] interfaces) {
+        className = name;
+        super.visit(version, access, name, signature, superName, interfaces);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String desc,
+                                     String signature, String[] exceptions) {
+        MethodVisitor mv = cv.visitMethod(access, name, desc, signature, exceptions);
+        if (mv == null) {
+            return null;
+        }
+        MethodBuffer m = new MethodBuffer(mv, access, name, desc) {
+            @Override
+            protected void end() {
+                // replayed in visitEnd, once every callee is known
+            }
+        };
+        methods.add(m);
+        return m;
+    }
+
+    @Override
+    public void visitEnd() {
+        Map<String, List<Insn>> callees = new HashMap<>();
+        for (MethodBuffer m : methods) {
+            if (isInlinable(m)) {
+                callees.put(m.name + m.desc, new ArrayList<>(m.code));
+            }
+        }
+        for (MethodBuffer m : methods) {
+            if (!callees.isEmpty()) {
+                inline(m, callees);
+            }
+            m.accept(m.getDelegate());
+        }
+        methods.clear();
+        super.visitEnd();
+    }
+
+    /**
+     * Returns whether calls to the given method may be replaced by its code.
+     */
+    protected boolean isInlinable(MethodBuffer m) {
+        if ((m.access & (ACC_STATIC | ACC_SYNCHRONIZED | ACC_NATIVE | ACC_ABSTRACT)) != ACC_STATIC
+                || !m.hasCode || m.name.startsWith("<") || !m.tryCatchBlocks.isEmpty()
+                || codeSize(m.code) > maxSize) {
+            return false;
+        }
+        for (Insn insn : m.code) {
+            if (isCallTo(insn, m.name, m.desc) || insn.opcode == JSR || insn.opcode == RET) {
+                return false;
+            }
+        }
+        // a return must leave nothing but its value on the stack, as the
+        // caller's operands below it are not discarded
+        int returnSize = Type.getReturnType(m.desc).getSize();
+        try {
+            ConstantAnalyzer ca = new ConstantAnalyzer(m, new ControlFlowGraph(m.code));
+            for (int i = 0; i < m.code.size(); i++) {
+                ConstantAnalyzer.Frame f = ca.frameAt(i);
+                if (f != null && isReturn(m.code.get(i).opcode) && f.stackSize() != returnSize) {
+                    return false;
+                }
+            }
+        } catch (ConstantAnalyzer.UnsupportedCodeException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the calls of the given method to the given callees by their
+     * code; returns whether it changed.
+     */
+    protected boolean inline(MethodBuffer m, Map<String, List<Insn>> callees) {
+        // inlined calls never overlap, so they all share the locals after the
+        // caller's ones
+        int base = Math.max(m.maxLocals, (Type.getArgumentsAndReturnSizes(m.desc) >> 2)
+                - ((m.access & ACC_STATIC) != 0 ? 1 : 0));
+        int maxLocals = m.maxLocals;
+        List<Insn> out = new ArrayList<>(m.code.size());
+        boolean changed = false;
+        for (Insn insn : m.code) {
+            List<Insn> callee = insn.opcode == INVOKESTATIC && className.equals(insn.owner)
+                    ? callees.get(insn.name + insn.desc) : null;
+            if (callee == null) {
+                out.add(insn);
+                continue;
+            }
+            maxLocals = Math.max(maxLocals, base + copy(callee, insn.desc, base, out));
+            changed = true;
+        }
+        if (changed) {
+            out.removeIf(insn -> insn.kind == Insn.FRAME);
+            m.code = out;
+            m.maxLocals = maxLocals;
+        }
+        return changed;
+    }
+
+    /**
+     * Appends the given callee code, with its locals starting at the given
+     * base, to the given list; returns the number of locals it uses.
+     */
+    protected static int copy(List<Insn> callee, String desc, int base, List<Insn> out) {
+        Type[] args = Type.getArgumentTypes(desc);
+        int[] slots = new int[args.length];
+        int size = 0;
+        for (int i = 0; i < args.length; i++) {
+            slots[i] = size;
+            size += args[i].getSize();
+        }
+        for (int i = args.length - 1; i >= 0; i--) {
+            out.add(Insn.varInsn(args[i].getOpcode(ISTORE), base + slots[i]));
+        }
+
+        Map<Label, Label> labels = new HashMap<>();
+        Label end = new Label();
+        int last = callee.size() - 1;
+        while (last >= 0 && !callee.get(last).isInstruction()) {
+            last--;
+        }
+        for (int i = 0; i < callee.size(); i++) {
+            Insn insn = callee.get(i);
+            switch (insn.kind) {
+                case Insn.VAR_INSN:
+                    out.add(Insn.varInsn(insn.opcode, base + insn.operand));
+                    size = Math.max(size, insn.operand + (isWide(insn.opcode) ? 2 : 1));
+                    break;
+                case Insn.IINC_INSN:
+                    out.add(Insn.iincInsn(base + insn.operand, insn.operand2));
+                    size = Math.max(size, insn.operand + 1);
+                    break;
+                case Insn.LABEL:
+                    out.add(Insn.label(copy(insn.label, labels)));
+                    break;
+                case Insn.JUMP_INSN:
+                    out.add(Insn.jumpInsn(insn.opcode, copy(insn.label, labels)));
+                    break;
+                case Insn.TABLESWITCH_INSN:
+                    out.add(Insn.tableSwitchInsn(insn.operand2, insn.operand3,
+                            copy(insn.label, labels), copy(insn.labels, labels)));
+                    break;
+                case Insn.LOOKUPSWITCH_INSN:
+                    out.add(Insn.lookupSwitchInsn(copy(insn.label, labels), insn.keys,
+                            copy(insn.labels, labels)));
+                    break;
+                case Insn.LINE:
+                case Insn.FRAME:
+                    break;
+                default:
+                    if (isReturn(insn.opcode)) {
+                        if (i != last) {
+                            out.add(Insn.jumpInsn(GOTO, end));
+                        }
+                    } else {
+                        out.add(insn);
+                    }
+            }
+        }
+        out.add(Insn.label(end));
+        return size;
+    }
+
+    protected static Label copy(Label label, Map<Label, Label> labels) {
+        return labels.computeIfAbsent(label, l -> new Label());
+    }
+
+    protected static Label[] copy(Label[] ls, Map<Label, Label> labels) {
+        Label[] result = new Label[ls.length];
+        for (int i = 0; i < ls.length; i++) {
+            result[i] = copy(ls[i], labels);
+        }
+        return result;
+    }
+
+    protected static boolean isCallTo(Insn insn, String name, String desc) {
+        return insn.kind == Insn.METHOD_INSN && insn.name.equals(name) && insn.desc.equals(desc);
+    }
+
+    protected static boolean isReturn(int opcode) {
+        return opcode >= IRETURN && opcode <= RETURN;
+    }
+
+    protected static boolean isWide(int opcode) {
+        return opcode == LLOAD || opcode == DLOAD || opcode == LSTORE || opcode == DSTORE;
+    }
+
+    /**
+     * Returns the size in bytes of the given code once written, as the
+     * {@code ClassWriter} encodes it (switch padding aside).
+     */
+    public static int codeSize(List<Insn> code) {
+        int size = 0;
+        for (Insn insn : code) {
+            switch (insn.kind) {
+                case Insn.INSN:
+                    size += 1;
+                    break;
+                case Insn.INT_INSN:
+                    size += insn.opcode == SIPUSH ? 3 : 2;
+                    break;
+                case Insn.VAR_INSN:
+                    size += insn.operand < 4 ? 1 : insn.operand < 256 ? 2 : 4;
+                    break;
+                case Insn.TYPE_INSN:
+                case Insn.FIELD_INSN:
+                case Insn.JUMP_INSN:
+                    size += 3;
+                    break;
+                case Insn.METHOD_INSN:
+                    size += insn.opcode == INVOKEINTERFACE ? 5 : 3;
+                    break;
+                case Insn.INVOKE_DYNAMIC_INSN:
+                    size += 5;
+                    break;
+                case Insn.LDC_INSN:
+                    size += 3;
+                    break;
+                case Insn.IINC_INSN:
+                    size += insn.operand < 256 && insn.operand2 >= Byte.MIN_VALUE
+                            && insn.operand2 <= Byte.MAX_VALUE ? 3 : 6;
+                    break;
+                case Insn.TABLESWITCH_INSN:
+                    size += 13 + 4 * insn.labels.length;
+                    break;
+                case Insn.LOOKUPSWITCH_INSN:
+                    size += 9 + 8 * insn.labels.length;
+                    break;
+                case Insn.MULTIANEWARRAY_INSN:
+                    size += 4;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,295 @@
+package optim;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.util.Printer;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * One recorded event of a method body: an instruction, a label, a frame or a
+ * line number. Instructions keep their ASM opcode, the other events have
+ * opcode -1. Instances are immutable; a rewrite replaces the {@link Insn} in
+ * the {@link MethodBuffer} code list.
+ */
+public class Insn {
+    public static final int INSN = 0;
+    public static final int INT_INSN = 1;
+    public static final int VAR_INSN = 2;
+    public static final int TYPE_INSN = 3;
+    public static final int FIELD_INSN = 4;
+    public static final int METHOD_INSN = 5;
+    public static final int INVOKE_DYNAMIC_INSN = 6;
+    public static final int JUMP_INSN = 7;
+    public static final int LABEL = 8;
+    public static final int LDC_INSN = 9;
+    public static final int IINC_INSN = 10;
+    public static final int TABLESWITCH_INSN = 11;
+    public static final int LOOKUPSWITCH_INSN = 12;
+    public static final int MULTIANEWARRAY_INSN = 13;
+    public static final int FRAME = 14;
+    public static final int LINE = 15;
+
+    public final int kind;
+    public final int opcode;
+    /** The int operand, local variable index, dimensions, frame type or line. */
+    public final int operand;
+    /** The increment of IINC, or the min and max keys of TABLESWITCH. */
+    public final int operand2;
+    public final int operand3;
+    /** The label itself, the jump target, the default switch target or the line start. */
+    public final Label label;
+    public final Label[] labels;
+    public final int[] keys;
+    public final String owner;
+    public final String name;
+    public final String desc;
+    public final boolean isInterface;
+    /** The LDC constant, bootstrap handle, or frame locals. */
+    public final Object value;
+    /** Bootstrap arguments, or frame stack. */
+    public final Object[] values;
+
+    private Insn(int kind, int opcode, int operand, int operand2, int operand3, Label label, Label[] labels,
+                 int[] keys, String owner, String name, String desc, boolean isInterface, Object value,
+                 Object[] values) {
+        this.kind = kind;
+        this.opcode = opcode;
+        this.operand = operand;
+        this.operand2 = operand2;
+        this.operand3 = operand3;
+        this.label = label;
+        this.labels = labels;
+        this.keys = keys;
+        this.owner = owner;
+        this.name = name;
+        this.desc = desc;
+        this.isInterface = isInterface;
+        this.value = value;
+        this.values = values;
+    }
+
+    public static Insn insn(int opcode) {
+        return new Insn(INSN, opcode, 0, 0, 0, null, null, null, null, null, null, false, null, null);
+    }
+
+    public static Insn intInsn(int opcode, int operand) {
+        return new Insn(INT_INSN, opcode, operand, 0, 0, null, null, null, null, null, null, false, null, null);
+    }
+
+    public static Insn varInsn(int opcode, int varIndex) {
+        return new Insn(VAR_INSN, opcode, varIndex, 0, 0, null, null, null, null, null, null, false, null, null);
+    }
+
+    public static Insn typeInsn(int opcode, String type) {
+        return new Insn(TYPE_INSN, opcode, 0, 0, 0, null, null, null, null, null, type, false, null, null);
+    }
+
+    public static Insn fieldInsn(int opcode, String owner, String name, String desc) {
+        return new Insn(FIELD_INSN, opcode, 0, 0, 0, null, null, null, owner, name, desc, false, null, null);
+    }
+
+    public static Insn methodInsn(int opcode, String owner, String name, String desc, boolean isInterface) {
+        return new Insn(METHOD_INSN, opcode, 0, 0, 0, null, null, null, owner, name, desc, isInterface, null,
+                null);
+    }
+
+    public static Insn invokeDynamicInsn(String name, String desc, Handle bsm, Object[] bsmArgs) {
+        return new Insn(INVOKE_DYNAMIC_INSN, INVOKEDYNAMIC, 0, 0, 0, null, null, null, null, name, desc, false,
+                bsm, bsmArgs);
+    }
+
+    public static Insn jumpInsn(int opcode, Label label) {
+        return new Insn(JUMP_INSN, opcode, 0, 0, 0, label, null, null, null, null, null, false, null, null);
+    }
+
+    public static Insn label(Label label) {
+        return new Insn(LABEL, -1, 0, 0, 0, label, null, null, null, null, null, false, null, null);
+    }
+
+    public static Insn ldcInsn(Object value) {
+        return new Insn(LDC_INSN, LDC, 0, 0, 0, null, null, null, null, null, null, false, value, null);
+    }
+
+    public static Insn iincInsn(int varIndex, int increment) {
+        return new Insn(IINC_INSN, IINC, varIndex, increment, 0, null, null, null, null, null, null, false, null,
+                null);
+    }
+
+    public static Insn tableSwitchInsn(int min, int max, Label dflt, Label[] labels) {
+        return new Insn(TABLESWITCH_INSN, TABLESWITCH, 0, min, max, dflt, labels, null, null, null, null, false,
+                null, null);
+    }
+
+    public static Insn lookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+        return new Insn(LOOKUPSWITCH_INSN, LOOKUPSWITCH, 0, 0, 0, dflt, labels, keys, null, null, null, false,
+                null, null);
+    }
+
+    public static Insn multiANewArrayInsn(String desc, int numDimensions) {
+        return new Insn(MULTIANEWARRAY_INSN, MULTIANEWARRAY, numDimensions, 0, 0, null, null, null, null, null,
+                desc, false, null, null);
+    }
+
+    public static Insn frame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+        return new Insn(FRAME, -1, type, numLocal, numStack, null, null, null, null, null, null, false, local,
+                stack);
+    }
+
+    public static Insn lineNumber(int line, Label start) {
+        return new Insn(LINE, -1, line, 0, 0, start, null, null, null, null, null, false, null, null);
+    }
+
+    /**
+     * Returns the pushed constant if this instruction pushes an int
+     * constant, otherwise null.
+     */
+    public Integer intConstant() {
+        if (opcode >= ICONST_M1 && opcode <= ICONST_5) {
+            return opcode - ICONST_0;
+        }
+        if (opcode == BIPUSH || opcode == SIPUSH) {
+            return operand;
+        }
+        if (opcode == LDC && value instanceof Integer) {
+            return (Integer) value;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the shortest instruction pushing the given int constant.
+     */
+    public static Insn pushInt(int value) {
+        if (value >= -1 && value <= 5) {
+            return insn(ICONST_0 + value);
+        }
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            return intInsn(BIPUSH, value);
+        }
+        if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            return intInsn(SIPUSH, value);
+        }
+        return ldcInsn(value);
+    }
+
+    public boolean isInstruction() {
+        return opcode >= 0;
+    }
+
+    /**
+     * Returns whether control never falls through to the next instruction.
+     */
+    public boolean endsFlow() {
+        switch (opcode) {
+            case GOTO:
+            case TABLESWITCH:
+            case LOOKUPSWITCH:
+            case IRETURN:
+            case LRETURN:
+            case FRETURN:
+            case DRETURN:
+            case ARETURN:
+            case RETURN:
+            case ATHROW:
+            case RET:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public void accept(MethodVisitor mv) {
+        switch (kind) {
+            case INSN:
+                mv.visitInsn(opcode);
+                break;
+            case INT_INSN:
+                mv.visitIntInsn(opcode, operand);
+                break;
+            case VAR_INSN:
+                mv.visitVarInsn(opcode, operand);
+                break;
+            case TYPE_INSN:
+                mv.visitTypeInsn(opcode, desc);
+                break;
+            case FIELD_INSN:
+                mv.visitFieldInsn(opcode, owner, name, desc);
+                break;
+            case METHOD_INSN:
+                mv.visitMethodInsn(opcode, owner, name, desc, isInterface);
+                break;
+            case INVOKE_DYNAMIC_INSN:
+                mv.visitInvokeDynamicInsn(name, desc, (Handle) value, values);
+                break;
+            case JUMP_INSN:
+                mv.visitJumpInsn(opcode, label);
+                break;
+            case LABEL:
+                mv.visitLabel(label);
+                break;
+            case LDC_INSN:
+                mv.visitLdcInsn(value);
+                break;
+            case IINC_INSN:
+                mv.visitIincInsn(operand, operand2);
+                break;
+            case TABLESWITCH_INSN:
+                mv.visitTableSwitchInsn(operand2, operand3, label, labels);
+                break;
+            case LOOKUPSWITCH_INSN:
+                mv.visitLookupSwitchInsn(label, keys, labels);
+                break;
+            case MULTIANEWARRAY_INSN:
+                mv.visitMultiANewArrayInsn(desc, operand);
+                break;
+            case FRAME:
+                mv.visitFrame(operand, operand2, (Object[]) value, operand3, values);
+                break;
+            case LINE:
+                mv.visitLineNumber(operand, label);
+                break;
+            default:
+                throw new IllegalStateException("Unknown instruction kind: " + kind);
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case LABEL:
+                return label + ":";
+            case LINE:
+                return "LINE " + operand + " " + label;
+            case FRAME:
+                return "FRAME";
+            default:
+                StringBuilder sb = new StringBuilder(Printer.OPCODES[opcode]);
+                switch (kind) {
+                    case INT_INSN:
+                    case VAR_INSN:
+                        sb.append(' ').append(operand);
+                        break;
+                    case IINC_INSN:
+                        sb.append(' ').append(operand).append(' ').append(operand2);
+                        break;
+                    case JUMP_INSN:
+                        sb.append(' ').append(label);
+                        break;
+                    case LDC_INSN:
+                        sb.append(' ').append(value);
+                        break;
+                    case TYPE_INSN:
+                    case MULTIANEWARRAY_INSN:
+                        sb.append(' ').append(desc);
+                        break;
+                    case FIELD_INSN:
+                    case METHOD_INSN:
+                        sb.append(' ').append(owner).append('.').append(name).append(desc);
+                        break;
+                }
+                return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package optim;
+
+import java.util.BitSet;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Backward liveness of local variables over a {@link ControlFlowGraph}. A
+ * local is live after an instruction if some path from there reads it before
+ * writing it.
+ */
+public class LocalLiveness {
+    protected final ControlFlowGraph cfg;
+    protected final BitSet[] liveIn;
+    protected final BitSet[] liveOut;
+    /** The locals live after each code index. */
+    protected final BitSet[] liveAfter;
+
+    public LocalLiveness(ControlFlowGraph cfg) {
+        this.cfg = cfg;
+        int n = cfg.blocks.size();
+        liveIn = new BitSet[n];
+        liveOut = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            liveIn[i] = new BitSet();
+            liveOut[i] = new BitSet();
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int bi = n - 1; bi >= 0; bi--) {
+                ControlFlowGraph.Block b = cfg.blocks.get(bi);
+                BitSet out = new BitSet();
+                for (ControlFlowGraph.Block s : b.successors) {
+                    out.or(liveIn[s.index]);
+                }
+                BitSet live = (BitSet) out.clone();
+                for (int i = b.end - 1; i >= b.start; i--) {
+                    transfer(cfg.code.get(i), live);
+                }
+                if (!out.equals(liveOut[bi]) || !live.equals(liveIn[bi])) {
+                    liveOut[bi] = out;
+                    liveIn[bi] = live;
+                    changed = true;
+                }
+            }
+        }
+        liveAfter = new BitSet[cfg.code.size()];
+        for (ControlFlowGraph.Block b : cfg.blocks) {
+            BitSet live = (BitSet) liveOut[b.index].clone();
+            for (int i = b.end - 1; i >= b.start; i--) {
+                liveAfter[i] = (BitSet) live.clone();
+                transfer(cfg.code.get(i), live);
+            }
+        }
+    }
+
+    protected static void transfer(Insn insn, BitSet live) {
+        switch (insn.opcode) {
+            case ISTORE:
+            case LSTORE:
+            case FSTORE:
+            case DSTORE:
+            case ASTORE:
+                live.clear(insn.operand);
+                break;
+            case ILOAD:
+            case LLOAD:
+            case FLOAD:
+            case DLOAD:
+            case ALOAD:
+            case IINC:
+            case RET:
+                live.set(insn.operand);
+                break;
+        }
+    }
+
+    public boolean isLiveAfter(int codeIndex, int var) {
+        return liveAfter[codeIndex].get(var);
+    }
+
+    /**
+     * Returns the locals live after the given code index; not to be modified.
+     */
+    public BitSet liveAfter(int codeIndex) {
+        return liveAfter[codeIndex];
+    }
+
+    public BitSet liveIn(ControlFlowGraph.Block b) {
+        return liveIn[b.index];
+    }
+}
@@ -0,0 +1,645 @@
+package optim;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Moves loop-invariant code out of loops. The natural loops of each method
+ * are found with {@link NaturalLoops}, inner loops first; in each loop with a
+ * preheader, the expressions whose value cannot change while the loop runs
+ * are computed once in the preheader, stored in a new local, and loaded from
+ * it in the loop. An expression is invariant if it is built from
+ * <ul>
+ * <li>constants and loads of locals the loop never stores to;</li>
+ * <li>int and float arithmetic and {@code ARRAYLENGTH} on invariant
+ * operands;</li>
+ * <li>field reads of invariant objects, if the loop writes no field of that
+ * name and calls no method;</li>
+ * <li>array loads of invariant arrays and indices, if the loop stores into no
+ * array and calls no method.</li>
+ * </ul>
+ * Single loads and constants are not worth a local and stay. Expressions that
+ * may throw (field reads of objects other than {@code this}, array accesses,
+ * division) are only moved out of the loop header, and only when nothing
+ * before them in the header has an effect, as the header runs whenever the
+ * loop is entered and they would throw at the same point; the loops the code
+ * generator emits test their condition in the header, so {@code a.length} or
+ * {@code this.count} in a loop condition is moved.
+ * <p>
+ * The number of instructions moved out of each method is counted in the
+ * {@link PassStatistics} of the pass. Methods with exception handlers are left
+ * untouched. Frames of rewritten methods are dropped, so the class must be
+ * written with {@code ClassWriter.COMPUTE_FRAMES}, as {@link PassManager}
+ * does.
+ */
+public class LoopOptimizer extends ClassVisitor {
+    public static final int MAX_ITERATIONS = 16;
+
+    protected final PassStatistics statistics;
+    protected String className;
+
+    public LoopOptimizer(ClassVisitor cv) {
+        this(cv, null);
+    }
+
+    /**
+     * Creates a pass that counts the instructions it moves out of the loops
+     * of each method in the given statistics, unless they are null.
+     */
+    public LoopOptimizer(ClassVisitor cv, PassStatistics statistics) {
+        super(ASM9, cv);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature,
+                      String superName, String[] interfaces) {
+        className = name;
+        super.visit(version, access, name, signature, superName, interfaces);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String desc,
+                                     String signature, String[] exceptions) {
+        MethodVisitor mv = cv.visitMethod(access, name, desc, signature, exceptions);
+        if (mv != null) {
+            mv = new MethodBuffer(mv, access, name, desc) {
+                @Override
+                protected void end() {
+                    int n = optimize(className, this);
+                    if (n > 0 && statistics != null) {
+                        statistics.count(className + "." + name + desc, n);
+                    }
+                    accept(mv);
+                }
+            };
+        }
+        return mv;
+    }
+
+    /**
+     * Moves the invariant code of the loops of the given method of the given
+     * class out of them; returns the number of instructions moved.
+     */
+    public static int optimize(String owner, MethodBuffer m) {
+        if (!m.hasCode || !m.tryCatchBlocks.isEmpty()) {
+            return 0;
+        }
+        int result = 0;
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            NaturalLoops loops = new NaturalLoops(new ControlFlowGraph(m.code));
+            int n = 0;
+            for (NaturalLoops.Loop loop : loops.loops) {
+                n = hoist(owner, m, loops, loop);
+                if (n > 0) {
+                    break;
+                }
+            }
+            if (n == 0) {
+                break;
+            }
+            result += n;
+        }
+        if (result > 0) {
+            m.code.removeIf(insn -> insn.kind == Insn.FRAME);
+        }
+        return result;
+    }
+
+    /**
+     * An expression computed by consecutive instructions, from the code index
+     * of its first instruction to the one of its last instruction.
+     */
+    protected static class Expr {
+        final int start;
+        final int end;
+        /** The number of instructions. */
+        final int size;
+        final boolean invariant;
+        /** Whether it can neither throw nor have an effect. */
+        final boolean safe;
+        /** The opcode loading a value of its type, or 0 if not a one-slot value. */
+        final int load;
+
+        Expr(int start, int end, int size, boolean invariant, boolean safe, int load) {
+            this.start = start;
+            this.end = end;
+            this.size = size;
+            this.invariant = invariant;
+            this.safe = safe;
+            this.load = load;
+        }
+    }
+
+    /**
+     * What a loop may change: the locals it stores to, the names of the
+     * fields it writes, and whether it stores into arrays or calls methods.
+     */
+    protected static class Effects {
+        final BitSet locals = new BitSet();
+        final Set<String> fields = new HashSet<>();
+        boolean arrays;
+        boolean calls;
+
+        Effects(ControlFlowGraph cfg, BitSet blocks) {
+            for (int b = blocks.nextSetBit(0); b >= 0; b = blocks.nextSetBit(b + 1)) {
+                ControlFlowGraph.Block block = cfg.blocks.get(b);
+                for (int i = block.start; i < block.end; i++) {
+                    add(cfg.code.get(i));
+                }
+            }
+        }
+
+        void add(Insn insn) {
+            switch (insn.opcode) {
+                case ISTORE:
+                case LSTORE:
+                case FSTORE:
+                case DSTORE:
+                case ASTORE:
+                case IINC:
+                    locals.set(insn.operand);
+                    break;
+                case PUTFIELD:
+                case PUTSTATIC:
+                    fields.add(insn.name);
+                    break;
+                case IASTORE:
+                case LASTORE:
+                case FASTORE:
+                case DASTORE:
+                case AASTORE:
+                case BASTORE:
+                case CASTORE:
+                case SASTORE:
+                    arrays = true;
+                    break;
+                case INVOKEVIRTUAL:
+                case INVOKESPECIAL:
+                case INVOKESTATIC:
+                case INVOKEINTERFACE:
+                case INVOKEDYNAMIC:
+                case JSR:
+                    calls = true;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Moves the invariant expressions of the given loop to its preheader;
+     * returns the number of instructions moved.
+     */
+    protected static int hoist(String owner, MethodBuffer m, NaturalLoops loops, NaturalLoops.Loop loop) {
+        int at = loops.preheaderIndex(loop);
+        if (at < 0) {
+            return 0;
+        }
+        ControlFlowGraph cfg = loops.cfg;
+        List<Insn> code = m.code;
+        Effects effects = new Effects(cfg, loop.blocks);
+        boolean thisNotNull = (m.access & ACC_STATIC) == 0 && !new Effects(cfg, loops.reachable).locals.get(0);
+
+        // the ordinal of every instruction, to tell whether expressions are
+        // next to each other
+        int[] ordinal = new int[code.size() + 1];
+        for (int i = 0, n = 0; i < code.size(); i++) {
+            ordinal[i] = n;
+            if (code.get(i).isInstruction()) {
+                n++;
+            }
+        }
+
+        List<Expr> candidates = new ArrayList<>();
+        for (int b = loop.blocks.nextSetBit(0); b >= 0; b = loop.blocks.nextSetBit(b + 1)) {
+            ControlFlowGraph.Block block = cfg.blocks.get(b);
+            List<Expr> stack = new ArrayList<>();
+            for (int i = block.start; i < block.end; i++) {
+                Insn insn = code.get(i);
+                if (insn.isInstruction()) {
+                    simulate(owner, insn, i, stack, candidates, effects, thisNotNull, code, ordinal);
+                }
+            }
+            for (Expr e : stack) {
+                record(e, candidates);
+            }
+        }
+        candidates.removeIf(e -> !e.safe && !isHeaderPrefix(cfg, loop.header, e, candidates));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        // the header ones first, in their order, as they may throw
+        candidates.sort((e1, e2) -> {
+            boolean h1 = cfg.blockOf(e1.start) == loop.header;
+            boolean h2 = cfg.blockOf(e2.start) == loop.header;
+            return h1 != h2 ? (h1 ? -1 : 1) : Integer.compare(e1.start, e2.start);
+        });
+
+        Map<String, Integer> locals = new LinkedHashMap<>();
+        Map<Integer, Expr> byEnd = new HashMap<>();
+        List<Insn> preheader = new ArrayList<>();
+        int result = 0;
+        for (Expr e : candidates) {
+            String key = key(code, e);
+            Integer local = locals.get(key);
+            if (local == null) {
+                local = m.maxLocals++;
+                locals.put(key, local);
+                for (int i = e.start; i <= e.end; i++) {
+                    if (code.get(i).isInstruction()) {
+                        preheader.add(code.get(i));
+                    }
+                }
+                preheader.add(Insn.varInsn(e.load + (ISTORE - ILOAD), local));
+            }
+            byEnd.put(e.end, e);
+            result += e.size;
+        }
+
+        List<Insn> out = new ArrayList<>(code.size() + preheader.size());
+        Expr current = null;
+        for (int i = 0; i < code.size(); i++) {
+            if (i == at) {
+                out.addAll(preheader);
+            }
+            Insn insn = code.get(i);
+            if (current == null) {
+                for (Expr e : byEnd.values()) {
+                    if (e.start == i) {
+                        current = e;
+                    }
+                }
+            }
+            if (current == null || !insn.isInstruction()) {
+                out.add(insn);
+            } else if (i == current.end) {
+                out.add(Insn.varInsn(current.load, locals.get(key(code, current))));
+            }
+            if (current != null && i == current.end) {
+                current = null;
+            }
+        }
+        if (at == code.size()) {
+            out.addAll(preheader);
+        }
+        m.code = out;
+        return result;
+    }
+
+    /**
+     * Updates the given stack of expressions for the given instruction at
+     * the given code index, and records the invariant expressions it uses up
+     * without being invariant itself.
+     */
+    protected static void simulate(String owner, Insn insn, int index, List<Expr> stack, List<Expr> candidates,
+                                   Effects effects, boolean thisNotNull, List<Insn> code, int[] ordinal) {
+        int op = insn.opcode;
+        int pops;
+        boolean invariant;
+        boolean safe;
+        int load;
+        if (op == LDC && !(insn.value instanceof Integer || insn.value instanceof Float
+                || insn.value instanceof String)) {
+            // class constants may load a class
+            use(insn, stack, candidates);
+            return;
+        }
+        switch (op) {
+            case ACONST_NULL:
+            case ICONST_M1:
+            case ICONST_0:
+            case ICONST_1:
+            case ICONST_2:
+            case ICONST_3:
+            case ICONST_4:
+            case ICONST_5:
+            case FCONST_0:
+            case FCONST_1:
+            case FCONST_2:
+            case BIPUSH:
+            case SIPUSH:
+            case LDC:
+                pops = 0;
+                invariant = true;
+                safe = true;
+                load = op == LDC ? loadOf(Type.getType(insn.value.getClass())) : loadOf(constantType(op));
+                break;
+            case ILOAD:
+            case FLOAD:
+            case ALOAD:
+                pops = 0;
+                invariant = !effects.locals.get(insn.operand);
+                safe = true;
+                load = op;
+                break;
+            case GETSTATIC:
+                pops = 0;
+                invariant = !effects.calls && !effects.fields.contains(insn.name);
+                // reading a field of another class may initialize that class
+                safe = owner.equals(insn.owner);
+                load = loadOf(Type.getType(insn.desc));
+                break;
+            case GETFIELD:
+                pops = 1;
+                invariant = !effects.calls && !effects.fields.contains(insn.name);
+                safe = thisNotNull && isThis(code, peek(stack, 0));
+                load = loadOf(Type.getType(insn.desc));
+                break;
+            case ARRAYLENGTH:
+                pops = 1;
+                invariant = true;
+                safe = false;
+                load = ILOAD;
+                break;
+            case IALOAD:
+            case BALOAD:
+            case CALOAD:
+            case SALOAD:
+            case FALOAD:
+            case AALOAD:
+                pops = 2;
+                invariant = !effects.calls && !effects.arrays;
+                safe = false;
+                load = op == FALOAD ? FLOAD : op == AALOAD ? ALOAD : ILOAD;
+                break;
+            case IADD:
+            case ISUB:
+            case IMUL:
+            case IAND:
+            case IOR:
+            case IXOR:
+            case ISHL:
+            case ISHR:
+            case IUSHR:
+            case IDIV:
+            case IREM:
+                pops = 2;
+                invariant = true;
+                safe = op != IDIV && op != IREM;
+                load = ILOAD;
+                break;
+            case FADD:
+            case FSUB:
+            case FMUL:
+            case FDIV:
+            case FREM:
+                pops = 2;
+                invariant = true;
+                safe = true;
+                load = FLOAD;
+                break;
+            case INEG:
+            case I2B:
+            case I2C:
+            case I2S:
+                pops = 1;
+                invariant = true;
+                safe = true;
+                load = ILOAD;
+                break;
+            case FNEG:
+                pops = 1;
+                invariant = true;
+                safe = true;
+                load = FLOAD;
+                break;
+            default:
+                use(insn, stack, candidates);
+                return;
+        }
+        if (stack.size() < pops) {
+            use(insn, stack, candidates);
+            return;
+        }
+        List<Expr> operands = new ArrayList<>(stack.subList(stack.size() - pops, stack.size()));
+        stack.subList(stack.size() - pops, stack.size()).clear();
+        int start = pops == 0 ? index : operands.get(0).start;
+        int size = 1;
+        for (Expr e : operands) {
+            invariant &= e.invariant;
+            safe &= e.safe;
+            size += e.size;
+        }
+        // the operands must be computed right before, with nothing in between
+        invariant = invariant && load != 0 && ordinal[index] - ordinal[start] == size - 1;
+        if (!invariant) {
+            for (Expr e : operands) {
+                record(e, candidates);
+            }
+        }
+        stack.add(new Expr(start, index, size, invariant, safe, load));
+    }
+
+    /**
+     * Pops the operands of an instruction that is not modelled, recording
+     * them, and pushes its results as variant expressions.
+     */
+    protected static void use(Insn insn, List<Expr> stack, List<Expr> candidates) {
+        int pops;
+        int pushes;
+        switch (insn.opcode) {
+            case ISTORE:
+            case FSTORE:
+            case ASTORE:
+            case POP:
+            case IFEQ:
+            case IFNE:
+            case IFLT:
+            case IFGE:
+            case IFGT:
+            case IFLE:
+            case IFNULL:
+            case IFNONNULL:
+            case PUTSTATIC:
+            case TABLESWITCH:
+            case LOOKUPSWITCH:
+            case IRETURN:
+            case FRETURN:
+            case ARETURN:
+            case ATHROW:
+            case MONITORENTER:
+            case MONITOREXIT:
+                pops = 1;
+                pushes = 0;
+                break;
+            case IF_ICMPEQ:
+            case IF_ICMPNE:
+            case IF_ICMPLT:
+            case IF_ICMPGE:
+            case IF_ICMPGT:
+            case IF_ICMPLE:
+            case IF_ACMPEQ:
+            case IF_ACMPNE:
+            case PUTFIELD:
+                pops = 2;
+                pushes = 0;
+                break;
+            case IASTORE:
+            case FASTORE:
+            case AASTORE:
+            case BASTORE:
+            case CASTORE:
+            case SASTORE:
+                pops = 3;
+                pushes = 0;
+                break;
+            case NEW:
+                pops = 0;
+                pushes = 1;
+                break;
+            case NEWARRAY:
+            case ANEWARRAY:
+            case CHECKCAST:
+            case INSTANCEOF:
+                pops = 1;
+                pushes = 1;
+                break;
+            case DUP:
+                pops = 1;
+                pushes = 2;
+                break;
+            case GOTO:
+            case RETURN:
+            case IINC:
+            case NOP:
+                pops = 0;
+                pushes = 0;
+                break;
+            case INVOKEVIRTUAL:
+            case INVOKESPECIAL:
+            case INVOKESTATIC:
+            case INVOKEINTERFACE:
+                pops = Type.getArgumentTypes(insn.desc).length + (insn.opcode == INVOKESTATIC ? 0 : 1);
+                pushes = Type.getReturnType(insn.desc) == Type.VOID_TYPE ? 0 : 1;
+                break;
+            default:
+                pops = stack.size();
+                pushes = -1;
+        }
+        for (int i = 0; i < pops && !stack.isEmpty(); i++) {
+            record(stack.remove(stack.size() - 1), candidates);
+        }
+        if (pushes < 0) {
+            // the stack is no longer known; what is left of it stays unused
+            stack.clear();
+        }
+        for (int i = 0; i < pushes; i++) {
+            stack.add(new Expr(-1, -1, 0, false, false, 0));
+        }
+    }
+
+    /**
+     * Records the given expression as a candidate if it is invariant and
+     * does more than pushing a single value.
+     */
+    protected static void record(Expr e, List<Expr> candidates) {
+        if (e.invariant && e.size > 1) {
+            candidates.add(e);
+        }
+    }
+
+    /**
+     * Returns whether the given expression is in the given loop header, with
+     * only instructions without effects or candidates that are moved before
+     * it, checking the candidates before it the same way.
+     */
+    protected static boolean isHeaderPrefix(ControlFlowGraph cfg, ControlFlowGraph.Block header, Expr e,
+                                            List<Expr> candidates) {
+        if (cfg.blockOf(e.start) != header) {
+            return false;
+        }
+        for (int i = header.start; i < e.start; i++) {
+            Insn insn = cfg.code.get(i);
+            if (!insn.isInstruction() || hasNoEffect(insn)) {
+                continue;
+            }
+            Expr before = null;
+            for (Expr c : candidates) {
+                if (c.start == i && (c.safe || isHeaderPrefix(cfg, header, c, candidates))) {
+                    before = c;
+                }
+            }
+            if (before == null) {
+                return false;
+            }
+            i = before.end;
+        }
+        return true;
+    }
+
+    protected static boolean hasNoEffect(Insn insn) {
+        int op = insn.opcode;
+        return (op >= ACONST_NULL && op <= ALOAD) || (op >= IADD && op <= FNEG && op != IDIV && op != IREM
+                && op != LDIV && op != LREM) || op == I2B || op == I2C || op == I2S;
+    }
+
+    protected static boolean isThis(List<Insn> code, Expr e) {
+        return e != null && e.size == 1 && code.get(e.start).opcode == ALOAD && code.get(e.start).operand == 0;
+    }
+
+    protected static Expr peek(List<Expr> stack, int depth) {
+        return stack.size() > depth ? stack.get(stack.size() - 1 - depth) : null;
+    }
+
+    protected static Type constantType(int opcode) {
+        if (opcode == ACONST_NULL) {
+            return Type.getType(Object.class);
+        }
+        return opcode >= FCONST_0 && opcode <= FCONST_2 ? Type.FLOAT_TYPE : Type.INT_TYPE;
+    }
+
+    /**
+     * Returns the load opcode for a one-slot value of the given type (or of
+     * the type boxed by the given LDC constant class), 0 otherwise.
+     */
+    protected static int loadOf(Type type) {
+        switch (type.getSort()) {
+            case Type.BOOLEAN:
+            case Type.CHAR:
+            case Type.BYTE:
+            case Type.SHORT:
+            case Type.INT:
+                return ILOAD;
+            case Type.FLOAT:
+                return FLOAD;
+            case Type.ARRAY:
+                return ALOAD;
+            case Type.OBJECT:
+                switch (type.getInternalName()) {
+                    case "java/lang/Integer":
+                        return ILOAD;
+                    case "java/lang/Float":
+                        return FLOAD;
+                    case "java/lang/Long":
+                    case "java/lang/Double":
+                        return 0;
+                    default:
+                        return ALOAD;
+                }
+            default:
+                return 0;
+        }
+    }
+
+    protected static String key(List<Insn> code, Expr e) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = e.start; i <= e.end; i++) {
+            if (code.get(i).isInstruction()) {
+                sb.append(code.get(i)).append(';');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,240 @@
+package optim;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.TypePath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.ASM9;
+
+/**
+ * A {@link MethodVisitor} that holds back the code of a method so that a pass
+ * can look at the whole method before anything reaches the next visitor.
+ * <p>
+ * Events before {@code visitCode} (parameters, annotations, attributes) go
+ * straight to the next visitor. From {@code visitCode} on, instructions,
+ * labels, frames and line numbers are kept in {@link #code}, try-catch blocks
+ * and local variables in their own lists. On {@code visitEnd},
+ * {@link #end()} is called, which by default replays everything unchanged;
+ * passes override it to rewrite {@link #code} first.
+ */
+public class MethodBuffer extends MethodVisitor {
+    public final int access;
+    public final String name;
+    public final String desc;
+    public List<Insn> code = new ArrayList<>();
+    public final List<TryCatch> tryCatchBlocks = new ArrayList<>();
+    public final List<LocalVariable> localVariables = new ArrayList<>();
+    public int maxStack;
+    public int maxLocals;
+    protected boolean hasCode;
+
+    public MethodBuffer(MethodVisitor mv, int access, String name, String desc) {
+        super(ASM9, mv);
+        this.access = access;
+        this.name = name;
+        this.desc = desc;
+    }
+
+    public static class TryCatch {
+        public final Label start;
+        public final Label end;
+        public final Label handler;
+        public final String type;
+
+        public TryCatch(Label start, Label end, Label handler, String type) {
+            this.start = start;
+            this.end = end;
+            this.handler = handler;
+            this.type = type;
+        }
+    }
+
+    public static class LocalVariable {
+        public final String name;
+        public final String desc;
+        public final String signature;
+        public final Label start;
+        public final Label end;
+        public final int index;
+
+        public LocalVariable(String name, String desc, String signature, Label start, Label end, int index) {
+            this.name = name;
+            this.desc = desc;
+            this.signature = signature;
+            this.start = start;
+            this.end = end;
+            this.index = index;
+        }
+    }
+
+    @Override
+    public void visitCode() {
+        hasCode = true;
+    }
+
+    @Override
+    public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+        code.add(Insn.frame(type, numLocal, local, numStack, stack));
+    }
+
+    @Override
+    public void visitInsn(int opcode) {
+        code.add(Insn.insn(opcode));
+    }
+
+    @Override
+    public void visitIntInsn(int opcode, int operand) {
+        code.add(Insn.intInsn(opcode, operand));
+    }
+
+    @Override
+    public void visitVarInsn(int opcode, int varIndex) {
+        code.add(Insn.varInsn(opcode, varIndex));
+    }
+
+    @Override
+    public void visitTypeInsn(int opcode, String type) {
+        code.add(Insn.typeInsn(opcode, type));
+    }
+
+    @Override
+    public void visitFieldInsn(int opcode, String owner, String name, String desc) {
+        code.add(Insn.fieldInsn(opcode, owner, name, desc));
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name, String desc, boolean isInterface) {
+        code.add(Insn.methodInsn(opcode, owner, name, desc, isInterface));
+    }
+
+    @Override
+    public void visitInvokeDynamicInsn(String name, String desc, Handle bsm, Object... bsmArgs) {
+        code.add(Insn.invokeDynamicInsn(name, desc, bsm, bsmArgs));
+    }
+
+    @Override
+    public void visitJumpInsn(int opcode, Label label) {
+        code.add(Insn.jumpInsn(opcode, label));
+    }
+
+    @Override
+    public void visitLabel(Label label) {
+        code.add(Insn.label(label));
+    }
+
+    @Override
+    public void visitLdcInsn(Object value) {
+        code.add(Insn.ldcInsn(value));
+    }
+
+    @Override
+    public void visitIincInsn(int varIndex, int increment) {
+        code.add(Insn.iincInsn(varIndex, increment));
+    }
+
+    @Override
+    public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+        code.add(Insn.tableSwitchInsn(min, max, dflt, labels));
+    }
+
+    @Override
+    public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+        code.add(Insn.lookupSwitchInsn(dflt, keys, labels));
+    }
+
+    @Override
+    public void visitMultiANewArrayInsn(String desc, int numDimensions) {
+        code.add(Insn.multiANewArrayInsn(desc, numDimensions));
+    }
+
+    @Override
+    public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+        tryCatchBlocks.add(new TryCatch(start, end, handler, type));
+    }
+
+    @Override
+    public void visitLocalVariable(String name, String desc, String signature, Label start, Label end, int index) {
+        localVariables.add(new LocalVariable(name, desc, signature, start, end, index));
+    }
+
+    @Override
+    public void visitLineNumber(int line, Label start) {
+        code.add(Insn.lineNumber(line, start));
+    }
+
+    @Override
+    public void visitMaxs(int maxStack, int maxLocals) {
+        this.maxStack = maxStack;
+        this.maxLocals = maxLocals;
+    }
+
+    //type annotations on code refer to instructions that are not emitted
+    //yet, they are dropped
+    @Override
+    public AnnotationVisitor visitInsnAnnotation(int typeRef, TypePath typePath, String desc, boolean visible) {
+        return null;
+    }
+
+    @Override
+    public AnnotationVisitor visitTryCatchAnnotation(int typeRef, TypePath typePath, String desc, boolean visible) {
+        return null;
+    }
+
+    @Override
+    public AnnotationVisitor visitLocalVariableAnnotation(int typeRef, TypePath typePath, Label[] start,
+                                                          Label[] end, int[] index, String desc, boolean visible) {
+        return null;
+    }
+
+    @Override
+    public void visitEnd() {
+        end();
+    }
+
+    /**
+     * Called once the whole method has been recorded; replays it to the next
+     * visitor.
+     */
+    protected void end() {
+        accept(mv);
+    }
+
+    /**
+     * Replays the recorded code, followed by {@code visitEnd}, to the given
+     * visitor.
+     */
+    public void accept(MethodVisitor mv) {
+        if (hasCode) {
+            mv.visitCode();
+            for (TryCatch tc : tryCatchBlocks) {
+                mv.visitTryCatchBlock(tc.start, tc.end, tc.handler, tc.type);
+            }
+            for (Insn insn : code) {
+                insn.accept(mv);
+            }
+            for (LocalVariable lv : localVariables) {
+                mv.visitLocalVariable(lv.name, lv.desc, lv.signature, lv.start, lv.end, lv.index);
+            }
+            mv.visitMaxs(maxStack, maxLocals);
+        }
+        mv.visitEnd();
+    }
+
+    /**
+     * Returns the number of real instructions in {@link #code}.
+     */
+    public int instructionCount() {
+        int n = 0;
+        for (Insn insn : code) {
+            if (insn.isInstruction()) {
+                n++;
+            }
+        }
+        return n;
+    }
+}
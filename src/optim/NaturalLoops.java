@@ -0,0 +1,172 @@
+package optim;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.GOTO;
+
+/**
+ * The dominators and natural loops of a {@link ControlFlowGraph}. A natural
+ * loop is found for every back edge, an edge whose target (the header)
+ * dominates its source (a latch); its body is the header plus every block
+ * that reaches a latch without going through the header. Back edges to the
+ * same header give one loop. Loops that are not natural (irreducible flow)
+ * are not found, and neither are loops in unreachable code.
+ */
+public class NaturalLoops {
+    public static class Loop {
+        public final ControlFlowGraph.Block header;
+        /** The indices of the blocks of the loop, header and latches included. */
+        public final BitSet blocks = new BitSet();
+        public final List<ControlFlowGraph.Block> latches = new ArrayList<>();
+        /**
+         * The only block outside the loop that enters it, if that block has
+         * no other successor, otherwise null.
+         */
+        public ControlFlowGraph.Block preheader;
+
+        Loop(ControlFlowGraph.Block header) {
+            this.header = header;
+            blocks.set(header.index);
+        }
+
+        public boolean contains(ControlFlowGraph.Block b) {
+            return blocks.get(b.index);
+        }
+
+        @Override
+        public String toString() {
+            return "loop " + header + " " + blocks;
+        }
+    }
+
+    public final ControlFlowGraph cfg;
+    /** The loops, inner loops before the loops containing them. */
+    public final List<Loop> loops = new ArrayList<>();
+    protected final BitSet reachable;
+    /** The dominators of each reachable block, null for the others. */
+    protected final BitSet[] dominators;
+
+    public NaturalLoops(ControlFlowGraph cfg) {
+        this.cfg = cfg;
+        int n = cfg.blocks.size();
+        reachable = cfg.reachable();
+        dominators = new BitSet[n];
+        BitSet all = new BitSet();
+        all.set(0, n);
+        for (int i = reachable.nextSetBit(0); i >= 0; i = reachable.nextSetBit(i + 1)) {
+            dominators[i] = (BitSet) all.clone();
+        }
+        if (n == 0) {
+            return;
+        }
+        dominators[0] = new BitSet();
+        dominators[0].set(0);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = reachable.nextSetBit(1); i >= 0; i = reachable.nextSetBit(i + 1)) {
+                BitSet d = (BitSet) all.clone();
+                for (ControlFlowGraph.Block p : cfg.blocks.get(i).predecessors) {
+                    if (dominators[p.index] != null) {
+                        d.and(dominators[p.index]);
+                    }
+                }
+                d.set(i);
+                if (!d.equals(dominators[i])) {
+                    dominators[i] = d;
+                    changed = true;
+                }
+            }
+        }
+
+        Loop[] byHeader = new Loop[n];
+        for (int i = reachable.nextSetBit(0); i >= 0; i = reachable.nextSetBit(i + 1)) {
+            ControlFlowGraph.Block b = cfg.blocks.get(i);
+            for (ControlFlowGraph.Block h : b.successors) {
+                if (dominates(h, b)) {
+                    if (byHeader[h.index] == null) {
+                        byHeader[h.index] = new Loop(h);
+                        loops.add(byHeader[h.index]);
+                    }
+                    addBody(byHeader[h.index], b);
+                }
+            }
+        }
+        for (Loop loop : loops) {
+            loop.preheader = findPreheader(loop);
+        }
+        loops.sort(Comparator.comparingInt(l -> l.blocks.cardinality()));
+    }
+
+    protected void addBody(Loop loop, ControlFlowGraph.Block latch) {
+        loop.latches.add(latch);
+        List<ControlFlowGraph.Block> work = new ArrayList<>();
+        if (!loop.blocks.get(latch.index)) {
+            loop.blocks.set(latch.index);
+            work.add(latch);
+        }
+        while (!work.isEmpty()) {
+            ControlFlowGraph.Block b = work.remove(work.size() - 1);
+            for (ControlFlowGraph.Block p : b.predecessors) {
+                if (reachable.get(p.index) && !loop.blocks.get(p.index)) {
+                    loop.blocks.set(p.index);
+                    work.add(p);
+                }
+            }
+        }
+    }
+
+    protected ControlFlowGraph.Block findPreheader(Loop loop) {
+        ControlFlowGraph.Block result = null;
+        for (ControlFlowGraph.Block p : loop.header.predecessors) {
+            if (reachable.get(p.index) && !loop.contains(p)) {
+                if (result != null) {
+                    return null;
+                }
+                result = p;
+            }
+        }
+        if (result == null || result.successors.size() != 1) {
+            return null;
+        }
+        Insn last = cfg.lastInstruction(result);
+        if (last != null && last.kind == Insn.JUMP_INSN && last.opcode != GOTO) {
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the code index where code run once before the given loop is
+     * entered can be inserted: before the jump into the loop that ends the
+     * preheader, or at the end of a preheader that falls into the loop; -1 if
+     * the loop has no preheader.
+     */
+    public int preheaderIndex(Loop loop) {
+        if (loop.preheader == null) {
+            return -1;
+        }
+        for (int i = loop.preheader.end - 1; i >= loop.preheader.start; i--) {
+            Insn insn = cfg.code.get(i);
+            if (insn.isInstruction()) {
+                return insn.opcode == GOTO ? i : loop.preheader.end;
+            }
+        }
+        return loop.preheader.end;
+    }
+
+    public boolean isReachable(ControlFlowGraph.Block b) {
+        return reachable.get(b.index);
+    }
+
+    /**
+     * Returns whether every path from the entry to b goes through a; false
+     * if either block is unreachable.
+     */
+    public boolean dominates(ControlFlowGraph.Block a, ControlFlowGraph.Block b) {
+        return dominators[b.index] != null && dominators[a.index] != null && dominators[b.index].get(a.index);
+    }
+}
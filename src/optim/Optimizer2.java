@@ -27,6 +27,7 @@ public class Optimizer2 extends ClassVisitor {
         protected final static int SEEN_ICONST_0 = 1;
         protected final static int SEEN_ILOAD = 2;
         protected int state;
+        protected int x;
 
         public RemoveAddSubZero(MethodVisitor mv) {
             super(ASM9, mv);
@@ -40,13 +41,14 @@ public class Optimizer2 extends ClassVisitor {
 
         @Override
         public void visitInsn(int opcode) {
+            //0 - x is -x and 0 / x throws when x is 0, so only + and * are rewritten
             if (state == SEEN_ILOAD) {
-                if ((opcode == IADD) || (opcode == ISUB)) {
-                    visitInsn();
+                if (opcode == IADD) {
+                    mv.visitVarInsn(ILOAD, x);
                     state = SEEN_NOTHING;
                     return;
                 }
-                else if ((opcode == IMUL) || (opcode == IDIV)) {
+                else if (opcode == IMUL) {
                     state = SEEN_ICONST_0;
                     visitInsn();
                     return;
@@ -65,7 +67,8 @@ public class Optimizer2 extends ClassVisitor {
                 mv.visitInsn(ICONST_0);
             }
             if (state == SEEN_ILOAD) {
-                mv.visitVarInsn(ILOAD, 1);
+                mv.visitInsn(ICONST_0);
+                mv.visitVarInsn(ILOAD, x);
             }
             state = SEEN_NOTHING;
         }
@@ -79,8 +82,9 @@ public class Optimizer2 extends ClassVisitor {
         @Override
         public void visitVarInsn(int opcode, int varIndex) {
             if(state == SEEN_ICONST_0){
-                if(opcode == ILOAD && varIndex== 1){
+                if(opcode == ILOAD){
                     state = SEEN_ILOAD;
+                    x = varIndex;
                     return;
                 }
             }
@@ -62,6 +62,11 @@ public class Optimizer4 extends ClassVisitor {
                     mv.visitInsn(DUP);
                     break;
                 }
+                case SEEN_ALOAD_GETFIELD_ALOAD: {
+                    //the second ALOAD was held back, emit it as is
+                    mv.visitVarInsn(ALOAD, x);
+                    break;
+                }
             }
             state = SEEN_NOTHING;
         }
@@ -105,10 +110,12 @@ public class Optimizer4 extends ClassVisitor {
                     break;
                 }
                 case SEEN_ALOAD: {
-                    state = SEEN_ALOAD;
-                    x = varIndex;
-                    mv.visitVarInsn(opcode, varIndex);
-                    return;
+                    if (opcode == ALOAD) {
+                        x = varIndex;
+                        mv.visitVarInsn(opcode, varIndex);
+                        return;
+                    }
+                    break;
                 }
                 case SEEN_ALOAD_GETFIELD: {
                     if (opcode == ALOAD && varIndex == x) {
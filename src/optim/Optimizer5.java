@@ -3,9 +3,9 @@ package optim;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.BitSet;
 
 import static org.objectweb.asm.Opcodes.*;
 
@@ -21,11 +21,38 @@ public class Optimizer5 extends ClassVisitor {
 
         mv = cv.visitMethod(access, name, desc, signature, exceptions);
         if (mv != null) {
-            mv = new ReplaceWithDup(mv);
+            mv = new BooleanLocals(mv, access, name, desc);
         }
         return mv;
     }
 
+    /**
+     * x == true can only become x != 0 when x is a boolean, and the local
+     * variable table is visited after the code, so the code is held back
+     * until the end of the method and then replayed through ReplaceWithDup.
+     */
+    private class BooleanLocals extends MethodBuffer {
+        public BooleanLocals(MethodVisitor mv, int access, String name, String desc) {
+            super(mv, access, name, desc);
+        }
+
+        @Override
+        protected void end() {
+            BitSet booleans = new BitSet();
+            BitSet others = new BitSet();
+            int slot = (access & ACC_STATIC) != 0 ? 0 : 1;
+            for (Type t : Type.getArgumentTypes(desc)) {
+                (t.getSort() == Type.BOOLEAN ? booleans : others).set(slot);
+                slot += t.getSize();
+            }
+            for (LocalVariable lv : localVariables) {
+                ("Z".equals(lv.desc) ? booleans : others).set(lv.index);
+            }
+            //a slot reused for another type is not a boolean
+            booleans.andNot(others);
+            accept(new ReplaceWithDup(mv, booleans));
+        }
+    }
 
     private class ReplaceWithDup extends MethodVisitor {
         protected final static int SEEN_NOTHING = 0;
@@ -35,10 +62,11 @@ public class Optimizer5 extends ClassVisitor {
         protected int state;
         protected int x;
         protected Label lbl;
-        protected String typeOfLocal;
+        protected final BitSet booleans;
 
-        public ReplaceWithDup(MethodVisitor mv) {
+        public ReplaceWithDup(MethodVisitor mv, BitSet booleans) {
             super(ASM9, mv);
+            this.booleans = booleans;
         }
 
         public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
@@ -63,6 +91,10 @@ public class Optimizer5 extends ClassVisitor {
 
         protected void visitInsn() {
             switch (state) {
+                case SEEN_ILOAD_ICONST: {
+                    mv.visitInsn(ICONST_1);
+                    break;
+                }
                 case SEEN_ILOAD_ICONST_IFICMPNE: {
                     mv.visitJumpInsn(IFEQ, lbl);
                     break;
@@ -81,7 +113,7 @@ public class Optimizer5 extends ClassVisitor {
         public void visitVarInsn(int opcode, int varIndex) {
             switch (state) {
                 case SEEN_NOTHING: {
-                    if (opcode == ILOAD) {
+                    if (opcode == ILOAD && booleans.get(varIndex)) {
                         state = SEEN_ILOAD;
                         x = varIndex;
                         mv.visitVarInsn(opcode, varIndex);
@@ -0,0 +1,459 @@
+package optim;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.objectweb.asm.Opcodes.ASM9;
+
+/**
+ * Runs a configurable pipeline of {@link ClassVisitor} based passes over a
+ * class file.
+ * <p>
+ * All passes of a round are chained behind a single {@link ClassReader} and
+ * {@link ClassWriter}, so one round costs one round trip no matter how many
+ * passes are registered. Rounds are repeated until no pass of a round removes
+ * an instruction (or {@link #setMaxRounds(int)} is reached), which lets a
+ * rewrite of one pass expose a pattern for another one; a pass that adds
+ * instructions, like the {@link Inliner}, does not end the rounds as long as
+ * the passes after it still clean up.
+ * <p>
+ * A monitor is placed in front of every pass (and of the writer) to count the
+ * instructions flowing into it; the difference between two neighbouring
+ * monitors is what the pass in between removed. As the passes are nested
+ * calls, the self time of a pass is the time spent in its monitor minus the
+ * time spent in the next one.
+ */
+public class PassManager {
+    public static final int DEFAULT_MAX_ROUNDS = 8;
+
+    protected final List<Function<ClassVisitor, ClassVisitor>> factories = new ArrayList<>();
+    protected final List<PassStatistics> statistics = new ArrayList<>();
+    protected int maxRounds = DEFAULT_MAX_ROUNDS;
+    protected boolean timing = true;
+    protected int lastRounds;
+    protected long lastInstructionsIn;
+    protected long lastInstructionsOut;
+
+    /**
+     * Returns a pass manager with the {@link Inliner}, every peephole pass of
+     * this package, in order, the {@link LoopOptimizer}, the
+     * {@link StrengthReducer} and the whole-method {@link TreeOptimizer}.
+     */
+    public static PassManager defaultPipeline() {
+        return defaultPipeline(Inliner.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Returns the {@link #defaultPipeline()} with the given maximum size in
+     * bytes of the callees the {@link Inliner} inlines; 0 leaves the inliner
+     * out.
+     */
+    public static PassManager defaultPipeline(int maxInlineSize) {
+        PassManager result = new PassManager();
+        if (maxInlineSize > 0) {
+            result.add("Inliner", cv -> new Inliner(cv, maxInlineSize));
+        }
+        return result.addPeephole()
+                .addWithStatistics("LoopOptimizer", LoopOptimizer::new)
+                .add("StrengthReducer", StrengthReducer::new)
+                .add("TreeOptimizer", TreeOptimizer::new);
+    }
+
+    /**
+     * The names accepted by {@link #pipeline(String)}.
+     */
+    public static final String[] PIPELINES = {"none", "peephole", "tree", "default"};
+
+    /**
+     * Returns the pipeline with the given name: "none" (no pass), "peephole"
+     * (Optimizer1-5), "tree" ({@link TreeOptimizer} only) or "default" (see
+     * {@link #defaultPipeline()}).
+     */
+    public static PassManager pipeline(String name) {
+        return pipeline(name, Inliner.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Returns the pipeline with the given name, as {@link #pipeline(String)}
+     * does, with the given maximum callee size for the {@link Inliner} of the
+     * "default" pipeline.
+     */
+    public static PassManager pipeline(String name, int maxInlineSize) {
+        switch (name) {
+            case "none":
+                return new PassManager();
+            case "peephole":
+                return new PassManager().addPeephole();
+            case "tree":
+                return new PassManager().add("TreeOptimizer", TreeOptimizer::new);
+            case "default":
+                return defaultPipeline(maxInlineSize);
+            default:
+                throw new IllegalArgumentException("Unknown pipeline: " + name);
+        }
+    }
+
+    protected PassManager addPeephole() {
+        return add("Optimizer1", Optimizer1::new)
+                .add("Optimizer2", Optimizer2::new)
+                .add("Optimizer3", Optimizer3::new)
+                .add("Optimizer4", Optimizer4::new)
+                .add("Optimizer5", Optimizer5::new);
+    }
+
+    /**
+     * Returns whether no pass is registered.
+     */
+    public boolean isEmpty() {
+        return factories.isEmpty();
+    }
+
+    /**
+     * Appends a pass to the pipeline.
+     *
+     * @param name    the name used in the statistics
+     * @param factory creates the pass given the visitor it should delegate to
+     */
+    public PassManager add(String name, Function<ClassVisitor, ClassVisitor> factory) {
+        return addWithStatistics(name, (cv, s) -> factory.apply(cv));
+    }
+
+    /**
+     * Appends a pass that reports per-method counts to its statistics.
+     *
+     * @param name    the name used in the statistics
+     * @param factory creates the pass given the visitor it should delegate to
+     *                and the statistics of the pass
+     */
+    public PassManager addWithStatistics(String name,
+                                         BiFunction<ClassVisitor, PassStatistics, ClassVisitor> factory) {
+        PassStatistics s = new PassStatistics(name);
+        factories.add(cv -> factory.apply(cv, s));
+        statistics.add(s);
+        return this;
+    }
+
+    public PassManager setMaxRounds(int maxRounds) {
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("maxRounds must be positive: " + maxRounds);
+        }
+        this.maxRounds = maxRounds;
+        return this;
+    }
+
+    /**
+     * Enables or disables per-pass timing; instruction counts are always
+     * collected.
+     */
+    public PassManager setTiming(boolean timing) {
+        this.timing = timing;
+        return this;
+    }
+
+    public byte[] optimize(String className) throws IOException {
+        return optimize(new ClassReader(className));
+    }
+
+    public byte[] optimize(byte[] classBytes) {
+        return optimize(new ClassReader(classBytes));
+    }
+
+    protected byte[] optimize(ClassReader cr) {
+        byte[] result = null;
+        lastRounds = 0;
+        lastInstructionsIn = -1;
+        while (lastRounds < maxRounds) {
+            if (result != null) {
+                cr = new ClassReader(result);
+            }
+            Round round = new Round(factories.size());
+            ClassWriter cw = newClassWriter(cr);
+            ClassVisitor cv = new Monitor(cw, round, factories.size());
+            for (int i = factories.size() - 1; i >= 0; i--) {
+                cv = new Monitor(factories.get(i).apply(cv), round, i);
+            }
+            cr.accept(cv, ClassReader.SKIP_FRAMES);
+            result = cw.toByteArray();
+            lastRounds++;
+            record(round);
+            if (lastInstructionsIn < 0) {
+                lastInstructionsIn = round.count[0];
+            }
+            lastInstructionsOut = round.count[factories.size()];
+            if (!round.removedAny()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the writer of a round. It computes the frames from scratch, as
+     * the passes drop the frames of the methods they rewrite; where two
+     * classes it cannot load meet in a frame, such as the classes of the
+     * compiled program (which have no superclass but Object), their common
+     * superclass is taken to be Object.
+     */
+    protected ClassWriter newClassWriter(ClassReader cr) {
+        return new ClassWriter(cr, ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                try {
+                    return super.getCommonSuperClass(type1, type2);
+                } catch (TypeNotPresentException e) {
+                    return "java/lang/Object";
+                }
+            }
+        };
+    }
+
+    protected void record(Round round) {
+        for (int i = 0; i < statistics.size(); i++) {
+            PassStatistics s = statistics.get(i);
+            s.rounds++;
+            s.instructionsIn += round.count[i];
+            s.instructionsOut += round.count[i + 1];
+            s.nanos += round.nanos[i] - round.nanos[i + 1];
+        }
+    }
+
+    public List<PassStatistics> getStatistics() {
+        return Collections.unmodifiableList(statistics);
+    }
+
+    /**
+     * Returns the statistics of the first pass with the given name, or null
+     * if there is none.
+     */
+    public PassStatistics getStatistics(String name) {
+        for (PassStatistics s : statistics) {
+            if (s.name.equals(name)) {
+                return s;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of rounds the last {@link #optimize} call ran.
+     */
+    public int getLastRounds() {
+        return lastRounds;
+    }
+
+    public void resetStatistics() {
+        for (PassStatistics s : statistics) {
+            s.reset();
+        }
+    }
+
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("last run: %d round(s), %d -> %d instructions%n",
+                lastRounds, lastInstructionsIn, lastInstructionsOut));
+        for (PassStatistics s : statistics) {
+            sb.append(s).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Instruction counts and inclusive times of the monitors of one round;
+     * index {@code i} is the monitor in front of pass {@code i}, the last
+     * index is the one in front of the writer.
+     */
+    protected static class Round {
+        final long[] count;
+        final long[] nanos;
+
+        Round(int passes) {
+            count = new long[passes + 1];
+            nanos = new long[passes + 1];
+        }
+
+        /**
+         * Returns whether some pass of this round removed instructions.
+         */
+        boolean removedAny() {
+            for (int i = 0; i + 1 < count.length; i++) {
+                if (count[i + 1] < count[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    protected class Monitor extends ClassVisitor {
+        protected final Round round;
+        protected final int stage;
+
+        Monitor(ClassVisitor cv, Round round, int stage) {
+            super(ASM9, cv);
+            this.round = round;
+            this.stage = stage;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String desc,
+                                         String signature, String[] exceptions) {
+            long start = start();
+            MethodVisitor mv = cv.visitMethod(access, name, desc, signature, exceptions);
+            stop(start);
+            return mv == null ? null : new MethodMonitor(mv);
+        }
+
+        @Override
+        public void visitEnd() {
+            long start = start();
+            cv.visitEnd();
+            stop(start);
+        }
+
+        protected long start() {
+            return timing ? System.nanoTime() : 0;
+        }
+
+        protected void stop(long start) {
+            if (timing) {
+                round.nanos[stage] += System.nanoTime() - start;
+            }
+        }
+
+        protected long insn() {
+            round.count[stage]++;
+            return start();
+        }
+
+        private class MethodMonitor extends MethodVisitor {
+            MethodMonitor(MethodVisitor mv) {
+                super(ASM9, mv);
+            }
+
+            @Override
+            public void visitInsn(int opcode) {
+                long start = insn();
+                mv.visitInsn(opcode);
+                stop(start);
+            }
+
+            @Override
+            public void visitIntInsn(int opcode, int operand) {
+                long start = insn();
+                mv.visitIntInsn(opcode, operand);
+                stop(start);
+            }
+
+            @Override
+            public void visitVarInsn(int opcode, int varIndex) {
+                long start = insn();
+                mv.visitVarInsn(opcode, varIndex);
+                stop(start);
+            }
+
+            @Override
+            public void visitTypeInsn(int opcode, String type) {
+                long start = insn();
+                mv.visitTypeInsn(opcode, type);
+                stop(start);
+            }
+
+            @Override
+            public void visitFieldInsn(int opcode, String owner, String name, String desc) {
+                long start = insn();
+                mv.visitFieldInsn(opcode, owner, name, desc);
+                stop(start);
+            }
+
+            @Override
+            public void visitMethodInsn(int opcode, String owner, String name, String desc,
+                                        boolean isInterface) {
+                long start = insn();
+                mv.visitMethodInsn(opcode, owner, name, desc, isInterface);
+                stop(start);
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(String name, String desc, Handle bsm,
+                                               Object... bsmArgs) {
+                long start = insn();
+                mv.visitInvokeDynamicInsn(name, desc, bsm, bsmArgs);
+                stop(start);
+            }
+
+            @Override
+            public void visitJumpInsn(int opcode, Label label) {
+                long start = insn();
+                mv.visitJumpInsn(opcode, label);
+                stop(start);
+            }
+
+            @Override
+            public void visitLabel(Label label) {
+                long start = start();
+                mv.visitLabel(label);
+                stop(start);
+            }
+
+            @Override
+            public void visitLdcInsn(Object value) {
+                long start = insn();
+                mv.visitLdcInsn(value);
+                stop(start);
+            }
+
+            @Override
+            public void visitIincInsn(int varIndex, int increment) {
+                long start = insn();
+                mv.visitIincInsn(varIndex, increment);
+                stop(start);
+            }
+
+            @Override
+            public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+                long start = insn();
+                mv.visitTableSwitchInsn(min, max, dflt, labels);
+                stop(start);
+            }
+
+            @Override
+            public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+                long start = insn();
+                mv.visitLookupSwitchInsn(dflt, keys, labels);
+                stop(start);
+            }
+
+            @Override
+            public void visitMultiANewArrayInsn(String desc, int numDimensions) {
+                long start = insn();
+                mv.visitMultiANewArrayInsn(desc, numDimensions);
+                stop(start);
+            }
+
+            @Override
+            public void visitMaxs(int maxStack, int maxLocals) {
+                long start = start();
+                mv.visitMaxs(maxStack, maxLocals);
+                stop(start);
+            }
+
+            @Override
+            public void visitEnd() {
+                long start = start();
+                mv.visitEnd();
+                stop(start);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package optim;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Accumulated statistics of a single pass registered with a
+ * {@link PassManager}.
+ */
+public class PassStatistics {
+    public final String name;
+    protected long instructionsIn;
+    protected long instructionsOut;
+    protected long nanos;
+    protected int rounds;
+    protected final Map<String, Integer> methodCounts = new TreeMap<>();
+
+    public PassStatistics(String name) {
+        this.name = name;
+    }
+
+    public long getInstructionsIn() {
+        return instructionsIn;
+    }
+
+    public long getInstructionsOut() {
+        return instructionsOut;
+    }
+
+    public long getInstructionsRemoved() {
+        return instructionsIn - instructionsOut;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Adds to the count the pass itself reports for the given method
+     * ("Class.name(desc)"), such as the instructions the
+     * {@link LoopOptimizer} moved out of its loops.
+     */
+    public void count(String method, int n) {
+        methodCounts.merge(method, n, Integer::sum);
+    }
+
+    /**
+     * Returns the counts reported with {@link #count(String, int)}, by method.
+     */
+    public Map<String, Integer> getMethodCounts() {
+        return Collections.unmodifiableMap(methodCounts);
+    }
+
+    protected void reset() {
+        instructionsIn = 0;
+        instructionsOut = 0;
+        nanos = 0;
+        rounds = 0;
+        methodCounts.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s rounds=%d in=%d removed=%d time=%.3fms",
+                name, rounds, instructionsIn, getInstructionsRemoved(), nanos / 1e6);
+    }
+}
@@ -0,0 +1,816 @@
+package optim;
+
+import org.objectweb.asm.Type;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Objects;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Interval analysis of the int values in the locals and on the operand stack
+ * of a method held in a {@link MethodBuffer}.
+ * <p>
+ * Every int value is a {@link Range}; other values are
+ * {@link ConstantAnalyzer#TOP}, and null is unknown yet. Conditional jumps
+ * comparing ints narrow the ranges of the compared locals on each outgoing
+ * edge, so in the body of {@code while (low < limit)} the analysis knows that
+ * {@code low} is below the largest {@code limit}. A block whose input keeps
+ * changing is widened: the bounds that still move go to the int limits,
+ * which ends the analysis of loops after a few rounds.
+ * <p>
+ * Like {@link ConstantAnalyzer}, only category 1 values are modelled, and
+ * methods using long or double values, jsr/ret, invokedynamic or exception
+ * handlers are rejected with
+ * {@link ConstantAnalyzer.UnsupportedCodeException}.
+ */
+public class RangeAnalyzer {
+    /**
+     * The number of times the input of a block may change before it is
+     * widened.
+     */
+    public static final int WIDEN_AFTER = 3;
+
+    /**
+     * The ints from {@link #lo} to {@link #hi}, both included.
+     */
+    public static final class Range {
+        public static final Range FULL = new Range(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        public static final Range BOOLEAN = new Range(0, 1);
+
+        public final int lo;
+        public final int hi;
+
+        public Range(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        public static Range of(int value) {
+            return new Range(value, value);
+        }
+
+        /**
+         * Returns the given bounds as a range, or {@link #FULL} if they do
+         * not fit in an int (the computation may overflow).
+         */
+        static Range of(long lo, long hi) {
+            if (lo < Integer.MIN_VALUE || hi > Integer.MAX_VALUE) {
+                return FULL;
+            }
+            return new Range((int) lo, (int) hi);
+        }
+
+        public boolean isConstant() {
+            return lo == hi;
+        }
+
+        public boolean isNonNegative() {
+            return lo >= 0;
+        }
+
+        Range join(Range r) {
+            if (r.lo >= lo && r.hi <= hi) {
+                return this;
+            }
+            return new Range(Math.min(lo, r.lo), Math.max(hi, r.hi));
+        }
+
+        /**
+         * Returns this range widened against the given larger one: the bounds
+         * that moved go to the int limits.
+         */
+        Range widen(Range r) {
+            return new Range(r.lo < lo ? Integer.MIN_VALUE : lo, r.hi > hi ? Integer.MAX_VALUE : hi);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Range && ((Range) o).lo == lo && ((Range) o).hi == hi;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * lo + hi;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + lo + ", " + hi + "]";
+        }
+    }
+
+    /**
+     * The abstract values of the locals and of the operand stack at one
+     * point of a method, with the local each stack value was loaded from
+     * while that local still holds it.
+     */
+    public static class Frame {
+        public final Object[] locals;
+        protected Object[] stack;
+        protected int[] from;
+        protected int top;
+
+        Frame(int maxLocals) {
+            locals = new Object[maxLocals];
+            stack = new Object[4];
+            from = new int[4];
+        }
+
+        Frame(Frame f) {
+            locals = f.locals.clone();
+            stack = f.stack.clone();
+            from = f.from.clone();
+            top = f.top;
+        }
+
+        public int stackSize() {
+            return top;
+        }
+
+        /**
+         * Returns the stack value at the given depth, 0 being the top.
+         */
+        public Object peek(int depth) {
+            return stack[top - 1 - depth];
+        }
+
+        /**
+         * Returns the range of the int at the given stack depth, or null if
+         * it is not an int.
+         */
+        public Range range(int depth) {
+            Object v = peek(depth);
+            return v instanceof Range ? (Range) v : null;
+        }
+
+        /**
+         * Returns the range of the given local, or null if it does not hold
+         * an int.
+         */
+        public Range local(int var) {
+            return locals[var] instanceof Range ? (Range) locals[var] : null;
+        }
+
+        void push(Object v) {
+            push(v, -1);
+        }
+
+        void push(Object v, int local) {
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, top * 2);
+                from = Arrays.copyOf(from, top * 2);
+            }
+            from[top] = local;
+            stack[top++] = v;
+        }
+
+        Object pop() {
+            if (top == 0) {
+                throw new ConstantAnalyzer.UnsupportedCodeException("Operand stack underflow");
+            }
+            return stack[--top];
+        }
+
+        Range popRange() {
+            Object v = pop();
+            return v instanceof Range ? (Range) v : Range.FULL;
+        }
+
+        void pop(int n) {
+            for (int i = 0; i < n; i++) {
+                pop();
+            }
+        }
+
+        void store(int var, Object v) {
+            locals[var] = v;
+            for (int i = 0; i < top; i++) {
+                if (from[i] == var) {
+                    from[i] = -1;
+                }
+            }
+        }
+
+        /**
+         * Merges the given frame into this one, widening if asked to; returns
+         * whether this frame changed.
+         */
+        boolean merge(Frame f, boolean widen) {
+            if (f.top != top) {
+                throw new ConstantAnalyzer.UnsupportedCodeException("Inconsistent stack heights");
+            }
+            boolean changed = false;
+            for (int i = 0; i < locals.length; i++) {
+                Object m = join(locals[i], f.locals[i], widen);
+                if (!Objects.equals(m, locals[i])) {
+                    locals[i] = m;
+                    changed = true;
+                }
+            }
+            for (int i = 0; i < top; i++) {
+                Object m = join(stack[i], f.stack[i], widen);
+                if (!Objects.equals(m, stack[i])) {
+                    stack[i] = m;
+                    changed = true;
+                }
+                if (from[i] != f.from[i] && from[i] >= 0) {
+                    from[i] = -1;
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        static Object join(Object a, Object b, boolean widen) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null || a.equals(b)) {
+                return a;
+            }
+            if (a instanceof Range && b instanceof Range) {
+                Range j = ((Range) a).join((Range) b);
+                return widen ? ((Range) a).widen(j) : j;
+            }
+            return ConstantAnalyzer.TOP;
+        }
+    }
+
+    public final MethodBuffer method;
+    public final ControlFlowGraph cfg;
+    /** The frame before each code index, null where the code is unreachable. */
+    public final Frame[] frames;
+    protected final Frame[] in;
+    protected final int[] changes;
+    protected final int maxLocals;
+
+    public RangeAnalyzer(MethodBuffer method, ControlFlowGraph cfg) {
+        this.method = method;
+        this.cfg = cfg;
+        if (!method.tryCatchBlocks.isEmpty()) {
+            throw new ConstantAnalyzer.UnsupportedCodeException("Exception handlers");
+        }
+        int locals = Math.max(method.maxLocals, argumentSize());
+        for (Insn insn : method.code) {
+            if (insn.kind == Insn.VAR_INSN || insn.kind == Insn.IINC_INSN) {
+                locals = Math.max(locals, insn.operand + 1);
+            }
+        }
+        maxLocals = locals;
+        frames = new Frame[method.code.size()];
+        in = new Frame[cfg.blocks.size()];
+        changes = new int[cfg.blocks.size()];
+        if (!cfg.blocks.isEmpty()) {
+            analyze();
+        }
+    }
+
+    protected int argumentSize() {
+        int size = (method.access & ACC_STATIC) != 0 ? 0 : 1;
+        for (Type t : Type.getArgumentTypes(method.desc)) {
+            ConstantAnalyzer.checkSize(t);
+            size++;
+        }
+        return size;
+    }
+
+    protected void analyze() {
+        Frame entry = new Frame(maxLocals);
+        int var = 0;
+        if ((method.access & ACC_STATIC) == 0) {
+            entry.locals[var++] = ConstantAnalyzer.TOP;
+        }
+        for (Type t : Type.getArgumentTypes(method.desc)) {
+            entry.locals[var++] = rangeOf(t);
+        }
+        in[0] = entry;
+        Deque<ControlFlowGraph.Block> work = new ArrayDeque<>();
+        work.add(cfg.blocks.get(0));
+        BitSet queued = new BitSet();
+        queued.set(0);
+        while (!work.isEmpty()) {
+            ControlFlowGraph.Block b = work.poll();
+            queued.clear(b.index);
+            Frame f = new Frame(in[b.index]);
+            Insn last = null;
+            Frame beforeLast = null;
+            for (int i = b.start; i < b.end; i++) {
+                Insn insn = method.code.get(i);
+                if (insn.isInstruction()) {
+                    last = insn;
+                    beforeLast = new Frame(f);
+                    execute(insn, f);
+                }
+            }
+            for (ControlFlowGraph.Block s : b.successors) {
+                Frame out = refine(b, last, beforeLast, f, s);
+                if (out == null) {
+                    continue;
+                }
+                boolean changed;
+                if (in[s.index] == null) {
+                    in[s.index] = new Frame(out);
+                    changed = true;
+                } else {
+                    changed = in[s.index].merge(out, changes[s.index] >= WIDEN_AFTER);
+                }
+                if (changed) {
+                    changes[s.index]++;
+                    if (!queued.get(s.index)) {
+                        queued.set(s.index);
+                        work.add(s);
+                    }
+                }
+            }
+        }
+        for (ControlFlowGraph.Block b : cfg.blocks) {
+            if (in[b.index] == null) {
+                continue;
+            }
+            Frame f = new Frame(in[b.index]);
+            for (int i = b.start; i < b.end; i++) {
+                frames[i] = new Frame(f);
+                Insn insn = method.code.get(i);
+                if (insn.isInstruction()) {
+                    execute(insn, f);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the frame flowing from block b to its successor s: the frame
+     * after b, with the compared locals narrowed when b ends with a
+     * conditional jump on ints; null if the edge cannot be taken.
+     */
+    protected Frame refine(ControlFlowGraph.Block b, Insn last, Frame before, Frame after,
+                           ControlFlowGraph.Block s) {
+        if (last == null || last.kind != Insn.JUMP_INSN || !ControlFlowGraph.isConditional(last.opcode)) {
+            return after;
+        }
+        ControlFlowGraph.Block target = cfg.blockAt(last.label);
+        ControlFlowGraph.Block next = b.index + 1 < cfg.blocks.size() ? cfg.blocks.get(b.index + 1) : null;
+        if (target == next) {
+            return after;
+        }
+        int op = last.opcode;
+        boolean taken = s == target;
+        int cond;
+        int a;
+        int c;
+        Range x;
+        Range y;
+        if (op >= IFEQ && op <= IFLE) {
+            cond = op - IFEQ;
+            a = before.from[before.top - 1];
+            c = -1;
+            x = before.range(0);
+            y = Range.of(0);
+        } else if (op >= IF_ICMPEQ && op <= IF_ICMPLE) {
+            cond = op - IF_ICMPEQ;
+            a = before.from[before.top - 2];
+            c = before.from[before.top - 1];
+            x = before.range(1);
+            y = before.range(0);
+        } else {
+            return after;
+        }
+        if (x == null || y == null) {
+            return after;
+        }
+        if (!taken) {
+            cond = negate(cond);
+        }
+        // cond is 0 ==, 1 !=, 2 <, 3 >=, 4 >, 5 <=, for x cond y
+        long xlo = x.lo;
+        long xhi = x.hi;
+        long ylo = y.lo;
+        long yhi = y.hi;
+        switch (cond) {
+            case 0:
+                xlo = ylo = Math.max(x.lo, y.lo);
+                xhi = yhi = Math.min(x.hi, y.hi);
+                break;
+            case 2:
+                xhi = Math.min(xhi, yhi - 1);
+                ylo = Math.max(ylo, xlo + 1);
+                break;
+            case 3:
+                xlo = Math.max(xlo, ylo);
+                yhi = Math.min(yhi, xhi);
+                break;
+            case 4:
+                xlo = Math.max(xlo, ylo + 1);
+                yhi = Math.min(yhi, xhi - 1);
+                break;
+            case 5:
+                xhi = Math.min(xhi, yhi);
+                ylo = Math.max(ylo, xlo);
+                break;
+            default:
+                return after;
+        }
+        if (xlo > xhi || ylo > yhi) {
+            return null;
+        }
+        Frame result = new Frame(after);
+        if (a >= 0) {
+            result.locals[a] = new Range((int) xlo, (int) xhi);
+        }
+        if (c >= 0 && c != a) {
+            result.locals[c] = new Range((int) ylo, (int) yhi);
+        }
+        return result;
+    }
+
+    protected static int negate(int cond) {
+        return cond ^ 1;
+    }
+
+    /**
+     * Returns the frame before the given code index, or null if it is
+     * unreachable.
+     */
+    public Frame frameAt(int index) {
+        return frames[index];
+    }
+
+    /**
+     * Returns the range of the values of the given type, or
+     * {@link ConstantAnalyzer#TOP} if it is not an int type.
+     */
+    protected static Object rangeOf(Type t) {
+        ConstantAnalyzer.checkSize(t);
+        switch (t.getSort()) {
+            case Type.BOOLEAN:
+                return Range.BOOLEAN;
+            case Type.BYTE:
+                return new Range(Byte.MIN_VALUE, Byte.MAX_VALUE);
+            case Type.CHAR:
+                return new Range(Character.MIN_VALUE, Character.MAX_VALUE);
+            case Type.SHORT:
+                return new Range(Short.MIN_VALUE, Short.MAX_VALUE);
+            case Type.INT:
+                return Range.FULL;
+            default:
+                return ConstantAnalyzer.TOP;
+        }
+    }
+
+    /**
+     * Returns the range of the result of a binary int operation.
+     */
+    public static Range binary(int opcode, Range a, Range b) {
+        if (a.isConstant() && b.isConstant()) {
+            Integer r = ConstantAnalyzer.fold(opcode, a.lo, b.lo);
+            if (r != null) {
+                return Range.of(r);
+            }
+        }
+        switch (opcode) {
+            case IADD:
+                return Range.of((long) a.lo + b.lo, (long) a.hi + b.hi);
+            case ISUB:
+                return Range.of((long) a.lo - b.hi, (long) a.hi - b.lo);
+            case IMUL: {
+                long p1 = (long) a.lo * b.lo;
+                long p2 = (long) a.lo * b.hi;
+                long p3 = (long) a.hi * b.lo;
+                long p4 = (long) a.hi * b.hi;
+                return Range.of(Math.min(Math.min(p1, p2), Math.min(p3, p4)),
+                        Math.max(Math.max(p1, p2), Math.max(p3, p4)));
+            }
+            case IDIV:
+                // division truncates towards zero, which is monotonic in the
+                // dividend for a positive divisor
+                if (b.lo > 0) {
+                    return Range.of(Math.min(a.lo / b.lo, a.lo / b.hi), Math.max(a.hi / b.lo, a.hi / b.hi));
+                }
+                return Range.FULL;
+            case IREM: {
+                if (b.lo == Integer.MIN_VALUE || b.lo <= 0 && b.hi >= 0) {
+                    return a.isNonNegative() ? new Range(0, a.hi) : Range.FULL;
+                }
+                int m = Math.max(Math.abs(b.lo), Math.abs(b.hi)) - 1;
+                if (a.isNonNegative()) {
+                    return new Range(0, Math.min(a.hi, m));
+                }
+                return new Range(Math.max(a.lo, -m), a.hi <= 0 ? 0 : Math.min(a.hi, m));
+            }
+            case ISHL:
+                if (b.isConstant() && (b.lo & 31) < 31) {
+                    return binary(IMUL, a, Range.of(1 << (b.lo & 31)));
+                }
+                return Range.FULL;
+            case ISHR:
+                if (b.isConstant()) {
+                    return new Range(a.lo >> b.lo, a.hi >> b.lo);
+                }
+                return a.isNonNegative() ? new Range(0, a.hi) : Range.FULL;
+            case IUSHR:
+                if (a.isNonNegative()) {
+                    return b.isConstant() ? new Range(a.lo >>> b.lo, a.hi >>> b.lo) : new Range(0, a.hi);
+                }
+                return b.isConstant() && (b.lo & 31) != 0 ? new Range(0, -1 >>> b.lo) : Range.FULL;
+            case IAND:
+                if (a.isNonNegative() || b.isNonNegative()) {
+                    int hi = a.isNonNegative() && b.isNonNegative() ? Math.min(a.hi, b.hi)
+                            : a.isNonNegative() ? a.hi : b.hi;
+                    return new Range(0, hi);
+                }
+                return Range.FULL;
+            case IOR:
+            case IXOR:
+                if (a.isNonNegative() && b.isNonNegative()) {
+                    return new Range(0, -1 >>> Integer.numberOfLeadingZeros(Math.max(a.hi, b.hi) | 1));
+                }
+                return Range.FULL;
+            default:
+                return Range.FULL;
+        }
+    }
+
+    /**
+     * Applies the given instruction to the frame.
+     */
+    protected void execute(Insn insn, Frame f) {
+        int op = insn.opcode;
+        switch (op) {
+            case NOP:
+                break;
+            case ACONST_NULL:
+                f.push(ConstantAnalyzer.TOP);
+                break;
+            case ICONST_M1:
+            case ICONST_0:
+            case ICONST_1:
+            case ICONST_2:
+            case ICONST_3:
+            case ICONST_4:
+            case ICONST_5:
+            case BIPUSH:
+            case SIPUSH:
+                f.push(Range.of(insn.intConstant()));
+                break;
+            case LDC:
+                if (insn.value instanceof Long || insn.value instanceof Double) {
+                    throw new ConstantAnalyzer.UnsupportedCodeException("Category 2 constant");
+                }
+                f.push(insn.value instanceof Integer ? Range.of((Integer) insn.value) : ConstantAnalyzer.TOP);
+                break;
+            case ILOAD:
+            case FLOAD:
+            case ALOAD: {
+                Object v = f.locals[insn.operand];
+                f.push(v == null ? (op == ILOAD ? Range.FULL : ConstantAnalyzer.TOP) : v, insn.operand);
+                break;
+            }
+            case ISTORE:
+            case FSTORE:
+            case ASTORE:
+                f.store(insn.operand, f.pop());
+                break;
+            case IINC: {
+                Range v = f.local(insn.operand);
+                f.store(insn.operand, binary(IADD, v == null ? Range.FULL : v, Range.of(insn.operand2)));
+                break;
+            }
+            case IALOAD:
+                f.pop(2);
+                f.push(Range.FULL);
+                break;
+            case BALOAD:
+                f.pop(2);
+                f.push(new Range(Byte.MIN_VALUE, Byte.MAX_VALUE));
+                break;
+            case CALOAD:
+                f.pop(2);
+                f.push(new Range(Character.MIN_VALUE, Character.MAX_VALUE));
+                break;
+            case SALOAD:
+                f.pop(2);
+                f.push(new Range(Short.MIN_VALUE, Short.MAX_VALUE));
+                break;
+            case FALOAD:
+            case AALOAD:
+                f.pop(2);
+                f.push(ConstantAnalyzer.TOP);
+                break;
+            case IASTORE:
+            case FASTORE:
+            case AASTORE:
+            case BASTORE:
+            case CASTORE:
+            case SASTORE:
+                f.pop(3);
+                break;
+            case POP:
+                f.pop();
+                break;
+            case POP2:
+                f.pop(2);
+                break;
+            case DUP: {
+                int l = f.from[f.top - 1];
+                Object v = f.pop();
+                f.push(v, l);
+                f.push(v, l);
+                break;
+            }
+            case DUP_X1: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                f.push(v1);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case DUP_X2: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                Object v3 = f.pop();
+                f.push(v1);
+                f.push(v3);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case DUP2: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                f.push(v2);
+                f.push(v1);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case DUP2_X1: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                Object v3 = f.pop();
+                f.push(v2);
+                f.push(v1);
+                f.push(v3);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case DUP2_X2: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                Object v3 = f.pop();
+                Object v4 = f.pop();
+                f.push(v2);
+                f.push(v1);
+                f.push(v4);
+                f.push(v3);
+                f.push(v2);
+                f.push(v1);
+                break;
+            }
+            case SWAP: {
+                Object v1 = f.pop();
+                Object v2 = f.pop();
+                f.push(v1);
+                f.push(v2);
+                break;
+            }
+            case IADD:
+            case ISUB:
+            case IMUL:
+            case IDIV:
+            case IREM:
+            case ISHL:
+            case ISHR:
+            case IUSHR:
+            case IAND:
+            case IOR:
+            case IXOR: {
+                Range b = f.popRange();
+                Range a = f.popRange();
+                f.push(binary(op, a, b));
+                break;
+            }
+            case INEG: {
+                Range a = f.popRange();
+                f.push(Range.of(-(long) a.hi, -(long) a.lo));
+                break;
+            }
+            case I2B:
+                f.pop();
+                f.push(new Range(Byte.MIN_VALUE, Byte.MAX_VALUE));
+                break;
+            case I2C:
+                f.pop();
+                f.push(new Range(Character.MIN_VALUE, Character.MAX_VALUE));
+                break;
+            case I2S:
+                f.pop();
+                f.push(new Range(Short.MIN_VALUE, Short.MAX_VALUE));
+                break;
+            case FADD:
+            case FSUB:
+            case FMUL:
+            case FDIV:
+            case FREM:
+                f.pop(2);
+                f.push(ConstantAnalyzer.TOP);
+                break;
+            case FCMPL:
+            case FCMPG:
+                f.pop(2);
+                f.push(new Range(-1, 1));
+                break;
+            case ARRAYLENGTH:
+                f.pop();
+                f.push(new Range(0, Integer.MAX_VALUE));
+                break;
+            case INSTANCEOF:
+                f.pop();
+                f.push(Range.BOOLEAN);
+                break;
+            case F2I:
+                f.pop();
+                f.push(Range.FULL);
+                break;
+            case FNEG:
+            case I2F:
+            case NEWARRAY:
+            case ANEWARRAY:
+            case CHECKCAST:
+                f.pop();
+                f.push(ConstantAnalyzer.TOP);
+                break;
+            case IFEQ:
+            case IFNE:
+            case IFLT:
+            case IFGE:
+            case IFGT:
+            case IFLE:
+            case IFNULL:
+            case IFNONNULL:
+            case TABLESWITCH:
+            case LOOKUPSWITCH:
+            case IRETURN:
+            case FRETURN:
+            case ARETURN:
+            case ATHROW:
+            case MONITORENTER:
+            case MONITOREXIT:
+            case PUTSTATIC:
+                f.pop();
+                break;
+            case IF_ICMPEQ:
+            case IF_ICMPNE:
+            case IF_ICMPLT:
+            case IF_ICMPGE:
+            case IF_ICMPGT:
+            case IF_ICMPLE:
+            case IF_ACMPEQ:
+            case IF_ACMPNE:
+            case PUTFIELD:
+                f.pop(2);
+                break;
+            case GOTO:
+            case RETURN:
+                break;
+            case GETSTATIC:
+                f.push(rangeOf(Type.getType(insn.desc)));
+                break;
+            case GETFIELD:
+                f.pop();
+                f.push(rangeOf(Type.getType(insn.desc)));
+                break;
+            case INVOKEVIRTUAL:
+            case INVOKESPECIAL:
+            case INVOKESTATIC:
+            case INVOKEINTERFACE: {
+                for (Type t : Type.getArgumentTypes(insn.desc)) {
+                    ConstantAnalyzer.checkSize(t);
+                    f.pop();
+                }
+                if (op != INVOKESTATIC) {
+                    f.pop();
+                }
+                Type r = Type.getReturnType(insn.desc);
+                if (r.getSort() != Type.VOID) {
+                    f.push(rangeOf(r));
+                }
+                break;
+            }
+            case NEW:
+                f.push(ConstantAnalyzer.TOP);
+                break;
+            case MULTIANEWARRAY:
+                f.pop(insn.operand);
+                f.push(ConstantAnalyzer.TOP);
+                break;
+            default:
+                throw new ConstantAnalyzer.UnsupportedCodeException("Unsupported opcode: " + insn);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package optim;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Replaces int multiplications, divisions and remainders by constants with
+ * cheaper instructions:
+ * <ul>
+ * <li>{@code x * 2^k} becomes {@code x << k}, {@code x * 1} becomes
+ * {@code x} and {@code x * -1} becomes {@code -x};</li>
+ * <li>{@code x / 2^k} becomes {@code x >> k} and {@code x % 2^k} becomes
+ * {@code x & (2^k - 1)} when {@link RangeAnalyzer} proves that {@code x} is
+ * not negative, as in {@code mid = (low + limit) / 2} under
+ * {@code while (low < limit)} with {@code low} starting at 0;</li>
+ * <li>in a loop, {@code i * c} where {@code i} only changes by
+ * {@code IINC} (a basic induction variable) is read from a new local set to
+ * {@code i * c} before the loop and incremented along with {@code i}.</li>
+ * </ul>
+ * Division of an operand that may be negative needs a rounding correction,
+ * {@code (x + ((x >> 31) >>> (32 - k))) >> k}; it is only emitted when asked
+ * for, as it runs slower than {@code IDIV} in the interpreter and the JIT
+ * compilers already emit it.
+ * <p>
+ * Methods the analysis does not model (see {@link RangeAnalyzer}) only get
+ * the rewrites that need no ranges. Frames of rewritten methods are dropped,
+ * so the class must be written with {@code ClassWriter.COMPUTE_FRAMES}, as
+ * {@link PassManager} does.
+ */
+public class StrengthReducer extends ClassVisitor {
+    protected final boolean signedDivision;
+
+    public StrengthReducer(ClassVisitor cv) {
+        this(cv, false);
+    }
+
+    /**
+     * @param signedDivision whether to replace the division of operands that
+     *                       may be negative by a power of two with shifts
+     */
+    public StrengthReducer(ClassVisitor cv, boolean signedDivision) {
+        super(ASM9, cv);
+        this.signedDivision = signedDivision;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String desc,
+                                     String signature, String[] exceptions) {
+        MethodVisitor mv = cv.visitMethod(access, name, desc, signature, exceptions);
+        if (mv != null) {
+            mv = new MethodBuffer(mv, access, name, desc) {
+                @Override
+                protected void end() {
+                    optimize(this, signedDivision);
+                    accept(mv);
+                }
+            };
+        }
+        return mv;
+    }
+
+    /**
+     * Reduces the multiplications, divisions and remainders of the given
+     * method in place; returns whether it changed.
+     */
+    public static boolean optimize(MethodBuffer m, boolean signedDivision) {
+        if (!m.hasCode) {
+            return false;
+        }
+        boolean changed = false;
+        if (m.tryCatchBlocks.isEmpty()) {
+            changed = reduceInductionVariables(m);
+        }
+        RangeAnalyzer ra;
+        try {
+            ra = new RangeAnalyzer(m, new ControlFlowGraph(m.code));
+        } catch (ConstantAnalyzer.UnsupportedCodeException e) {
+            ra = null;
+        }
+        changed |= reduceArithmetic(m, ra, signedDivision);
+        if (changed) {
+            m.code.removeIf(insn -> insn.kind == Insn.FRAME);
+        }
+        return changed;
+    }
+
+    protected static boolean reduceArithmetic(MethodBuffer m, RangeAnalyzer ra, boolean signedDivision) {
+        List<Insn> out = new ArrayList<>(m.code.size());
+        boolean changed = false;
+        for (int i = 0; i < m.code.size(); i++) {
+            Insn insn = m.code.get(i);
+            int op = insn.opcode;
+            Insn last = out.isEmpty() ? null : out.get(out.size() - 1);
+            Integer c = last == null ? null : last.intConstant();
+            if ((op != IMUL && op != IDIV && op != IREM) || c == null) {
+                if (op == IMUL && out.size() >= 2 && isPowerOfTwo(out.get(out.size() - 2).intConstant())
+                        && last.opcode == ILOAD) {
+                    // c * x, with x a local, as x << log2(c)
+                    int k = log2(out.get(out.size() - 2).intConstant());
+                    out.set(out.size() - 2, last);
+                    out.set(out.size() - 1, Insn.pushInt(k));
+                    out.add(Insn.insn(ISHL));
+                    changed = true;
+                    continue;
+                }
+                out.add(insn);
+                continue;
+            }
+            RangeAnalyzer.Frame f = ra == null ? null : ra.frameAt(i);
+            RangeAnalyzer.Range x = f == null ? null : f.range(1);
+            boolean nonNegative = x != null && x.isNonNegative();
+            int abs = Math.abs(c);
+            List<Insn> reduced = new ArrayList<>();
+            if (abs == 1) {
+                if (op == IREM) {
+                    reduced.add(Insn.insn(POP));
+                    reduced.add(Insn.insn(ICONST_0));
+                } else if (c < 0) {
+                    reduced.add(Insn.insn(INEG));
+                }
+            } else if (!isPowerOfTwo(abs)) {
+                out.add(insn);
+                continue;
+            } else if (op == IMUL) {
+                reduced.add(Insn.pushInt(log2(abs)));
+                reduced.add(Insn.insn(ISHL));
+                if (c < 0) {
+                    reduced.add(Insn.insn(INEG));
+                }
+            } else if (op == IREM && nonNegative) {
+                // the sign of the remainder is the one of the dividend
+                reduced.add(Insn.pushInt(abs - 1));
+                reduced.add(Insn.insn(IAND));
+            } else if (op == IDIV && (nonNegative || signedDivision)) {
+                int k = log2(abs);
+                if (!nonNegative) {
+                    // round towards zero: add 2^k - 1 to negative dividends
+                    reduced.add(Insn.insn(DUP));
+                    reduced.add(Insn.intInsn(BIPUSH, 31));
+                    if (k > 1) {
+                        reduced.add(Insn.insn(ISHR));
+                        reduced.add(Insn.pushInt(32 - k));
+                    }
+                    reduced.add(Insn.insn(IUSHR));
+                    reduced.add(Insn.insn(IADD));
+                }
+                reduced.add(Insn.pushInt(k));
+                reduced.add(Insn.insn(ISHR));
+                if (c < 0) {
+                    reduced.add(Insn.insn(INEG));
+                }
+            } else {
+                out.add(insn);
+                continue;
+            }
+            out.remove(out.size() - 1);
+            out.addAll(reduced);
+            changed = true;
+        }
+        m.code = out;
+        return changed;
+    }
+
+    /**
+     * Replaces {@code i * c} in loops, where i is a basic induction
+     * variable, with a local kept equal to it; returns whether the code
+     * changed.
+     */
+    protected static boolean reduceInductionVariables(MethodBuffer m) {
+        NaturalLoops loops = new NaturalLoops(new ControlFlowGraph(m.code));
+        for (NaturalLoops.Loop loop : loops.loops) {
+            if (reduceInductionVariables(m, loops, loop)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static boolean reduceInductionVariables(MethodBuffer m, NaturalLoops loops, NaturalLoops.Loop loop) {
+        int at = loops.preheaderIndex(loop);
+        if (at < 0) {
+            return false;
+        }
+        List<Insn> code = m.code;
+        ControlFlowGraph cfg = loops.cfg;
+        BitSet incremented = new BitSet();
+        BitSet stored = new BitSet();
+        BitSet inLoop = new BitSet();
+        for (int b = loop.blocks.nextSetBit(0); b >= 0; b = loop.blocks.nextSetBit(b + 1)) {
+            ControlFlowGraph.Block block = cfg.blocks.get(b);
+            inLoop.set(block.start, block.end);
+            for (int i = block.start; i < block.end; i++) {
+                Insn insn = code.get(i);
+                if (insn.opcode == IINC) {
+                    incremented.set(insn.operand);
+                } else if (insn.kind == Insn.VAR_INSN && insn.opcode >= ISTORE) {
+                    stored.set(insn.operand);
+                }
+            }
+        }
+        incremented.andNot(stored);
+        if (incremented.isEmpty()) {
+            return false;
+        }
+
+        // the products found, by code index of their first instruction
+        Map<Integer, long[]> products = new HashMap<>();
+        Map<Long, Integer> locals = new HashMap<>();
+        for (int i = inLoop.nextSetBit(0); i >= 0 && i + 2 < code.size(); i = inLoop.nextSetBit(i + 1)) {
+            Insn a = code.get(i);
+            Insn b = code.get(i + 1);
+            if (code.get(i + 2).opcode != IMUL || !inLoop.get(i + 2)) {
+                continue;
+            }
+            Insn load = a.opcode == ILOAD ? a : b.opcode == ILOAD ? b : null;
+            Integer c = a.opcode == ILOAD ? b.intConstant() : a.intConstant();
+            if (load == null || c == null || c == 0 || c == 1 || c == -1 || !incremented.get(load.operand)) {
+                continue;
+            }
+            long key = ((long) load.operand << 32) | (c & 0xffffffffL);
+            locals.computeIfAbsent(key, k -> m.maxLocals++);
+            products.put(i, new long[]{load.operand, c});
+        }
+        if (products.isEmpty()) {
+            return false;
+        }
+
+        List<Insn> out = new ArrayList<>(code.size() + 4 * locals.size());
+        for (int i = 0; i < code.size(); i++) {
+            if (i == at) {
+                for (Map.Entry<Long, Integer> e : locals.entrySet()) {
+                    out.add(Insn.varInsn(ILOAD, (int) (e.getKey() >>> 32)));
+                    out.add(Insn.pushInt((int) (long) e.getKey()));
+                    out.add(Insn.insn(IMUL));
+                    out.add(Insn.varInsn(ISTORE, e.getValue()));
+                }
+            }
+            long[] p = products.get(i);
+            if (p != null) {
+                out.add(Insn.varInsn(ILOAD, locals.get((p[0] << 32) | (p[1] & 0xffffffffL))));
+                i += 2;
+                continue;
+            }
+            Insn insn = code.get(i);
+            out.add(insn);
+            if (insn.opcode == IINC && inLoop.get(i)) {
+                for (Map.Entry<Long, Integer> e : locals.entrySet()) {
+                    if ((int) (e.getKey() >>> 32) != insn.operand) {
+                        continue;
+                    }
+                    int step = insn.operand2 * (int) (long) e.getKey();
+                    if (step >= Short.MIN_VALUE && step <= Short.MAX_VALUE) {
+                        out.add(Insn.iincInsn(e.getValue(), step));
+                    } else {
+                        out.add(Insn.varInsn(ILOAD, e.getValue()));
+                        out.add(Insn.pushInt(step));
+                        out.add(Insn.insn(IADD));
+                        out.add(Insn.varInsn(ISTORE, e.getValue()));
+                    }
+                }
+            }
+        }
+        m.code = out;
+        return true;
+    }
+
+    protected static boolean isPowerOfTwo(Integer c) {
+        return c != null && c > 1 && (c & (c - 1)) == 0;
+    }
+
+    protected static int log2(int c) {
+        return Integer.numberOfTrailingZeros(c);
+    }
+}
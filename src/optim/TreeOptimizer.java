@@ -0,0 +1,320 @@
+package optim;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Optimizes whole methods instead of a few instructions at a time: each
+ * method is buffered in a {@link MethodBuffer}, and the following rewrites
+ * are repeated until none applies:
+ * <ul>
+ * <li>loads of locals holding a known constant, int operations on constant
+ * operands and conditional jumps on constant operands are folded
+ * ({@link ConstantAnalyzer});</li>
+ * <li>code that cannot be reached under those constants is removed;</li>
+ * <li>stores to locals that are never read again are dropped
+ * ({@link LocalLiveness});</li>
+ * <li>jumps to the next instruction are removed, jumps to a GOTO are
+ * threaded, and pushes of values that are popped right away are cancelled.
+ * </li>
+ * </ul>
+ * Methods the analysis does not model (see {@link ConstantAnalyzer}) are left
+ * untouched. Frames of rewritten methods are dropped, so the class must be
+ * written with {@code ClassWriter.COMPUTE_FRAMES}, as {@link PassManager}
+ * does.
+ */
+public class TreeOptimizer extends ClassVisitor {
+    public static final int MAX_ITERATIONS = 16;
+
+    public TreeOptimizer(ClassVisitor cv) {
+        super(ASM9, cv);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String desc,
+                                     String signature, String[] exceptions) {
+        MethodVisitor mv = cv.visitMethod(access, name, desc, signature, exceptions);
+        if (mv != null) {
+            mv = new MethodBuffer(mv, access, name, desc) {
+                @Override
+                protected void end() {
+                    optimize(this);
+                    accept(mv);
+                }
+            };
+        }
+        return mv;
+    }
+
+    /**
+     * Optimizes the code of the given method in place; returns whether it
+     * changed.
+     */
+    public static boolean optimize(MethodBuffer m) {
+        List<Insn> original = m.code;
+        try {
+            boolean changed = false;
+            for (int i = 0; i < MAX_ITERATIONS; i++) {
+                boolean c = propagateConstants(m);
+                c |= removeDeadStores(m);
+                c |= simplify(m);
+                if (!c) {
+                    break;
+                }
+                changed = true;
+            }
+            if (changed) {
+                m.code.removeIf(insn -> insn.kind == Insn.FRAME);
+            }
+            return changed;
+        } catch (ConstantAnalyzer.UnsupportedCodeException e) {
+            m.code = original;
+            return false;
+        }
+    }
+
+    protected static boolean propagateConstants(MethodBuffer m) {
+        ControlFlowGraph cfg = new ControlFlowGraph(m.code);
+        ConstantAnalyzer ca = new ConstantAnalyzer(m, cfg);
+        List<Insn> out = new ArrayList<>(m.code.size());
+        boolean changed = false;
+        for (int i = 0; i < m.code.size(); i++) {
+            Insn insn = m.code.get(i);
+            ConstantAnalyzer.Frame f = ca.frameAt(i);
+            if (f == null) {
+                if (insn.kind == Insn.LABEL || insn.kind == Insn.LINE) {
+                    out.add(insn);
+                } else {
+                    changed = true;
+                }
+                continue;
+            }
+            int op = insn.opcode;
+            if (op == ILOAD && f.locals[insn.operand] instanceof Integer) {
+                out.add(Insn.pushInt((Integer) f.locals[insn.operand]));
+                changed = true;
+            } else if (op == ALOAD && f.locals[insn.operand] == ConstantAnalyzer.NULL) {
+                out.add(Insn.insn(ACONST_NULL));
+                changed = true;
+            } else if (isFoldableBinary(op) && f.peek(0) instanceof Integer && f.peek(1) instanceof Integer
+                    && ConstantAnalyzer.fold(op, (Integer) f.peek(1), (Integer) f.peek(0)) != null) {
+                out.add(Insn.insn(POP));
+                out.add(Insn.insn(POP));
+                out.add(Insn.pushInt(ConstantAnalyzer.fold(op, (Integer) f.peek(1), (Integer) f.peek(0))));
+                changed = true;
+            } else if (isFoldableUnary(op) && f.peek(0) instanceof Integer) {
+                out.add(Insn.insn(POP));
+                out.add(Insn.pushInt(ConstantAnalyzer.fold(op, (Integer) f.peek(0))));
+                changed = true;
+            } else if (insn.kind == Insn.JUMP_INSN && ControlFlowGraph.isConditional(op)) {
+                int operands = operandCount(op);
+                int decision = ConstantAnalyzer.decide(op, operands == 2 ? f.peek(1) : null, f.peek(0));
+                if (decision < 0) {
+                    out.add(insn);
+                    continue;
+                }
+                for (int k = 0; k < operands; k++) {
+                    out.add(Insn.insn(POP));
+                }
+                if (decision == 1) {
+                    out.add(Insn.jumpInsn(GOTO, insn.label));
+                }
+                changed = true;
+            } else {
+                out.add(insn);
+            }
+        }
+        m.code = out;
+        return changed;
+    }
+
+    protected static boolean removeDeadStores(MethodBuffer m) {
+        LocalLiveness liveness = new LocalLiveness(new ControlFlowGraph(m.code));
+        boolean changed = false;
+        List<Insn> out = new ArrayList<>(m.code.size());
+        for (int i = 0; i < m.code.size(); i++) {
+            Insn insn = m.code.get(i);
+            switch (insn.opcode) {
+                case ISTORE:
+                case FSTORE:
+                case ASTORE:
+                    if (!liveness.isLiveAfter(i, insn.operand)) {
+                        out.add(Insn.insn(POP));
+                        changed = true;
+                        continue;
+                    }
+                    break;
+                case IINC:
+                    if (!liveness.isLiveAfter(i, insn.operand)) {
+                        changed = true;
+                        continue;
+                    }
+                    break;
+            }
+            out.add(insn);
+        }
+        m.code = out;
+        return changed;
+    }
+
+    protected static boolean simplify(MethodBuffer m) {
+        ControlFlowGraph cfg = new ControlFlowGraph(m.code);
+        List<Insn> code = m.code;
+        boolean changed = false;
+        List<Insn> out = new ArrayList<>(code.size());
+        for (int i = 0; i < code.size(); i++) {
+            Insn insn = code.get(i);
+            if (insn.kind == Insn.JUMP_INSN && insn.opcode != JSR) {
+                if (jumpsToNext(cfg, i)) {
+                    for (int k = 0; k < operandCount(insn.opcode); k++) {
+                        pop(out, cfg);
+                    }
+                    changed = true;
+                    continue;
+                }
+                Label target = thread(cfg, insn.label);
+                if (target != insn.label) {
+                    insn = Insn.jumpInsn(insn.opcode, target);
+                    changed = true;
+                }
+            }
+            if (insn.opcode == POP) {
+                changed |= pop(out, cfg);
+                continue;
+            }
+            out.add(insn);
+        }
+        m.code = out;
+        return changed;
+    }
+
+    /**
+     * Appends a POP to out, cancelling it against the value it would pop
+     * when that value is pushed by a pure instruction right before; returns
+     * whether something was cancelled.
+     */
+    protected static boolean pop(List<Insn> out, ControlFlowGraph cfg) {
+        int i = out.size() - 1;
+        while (i >= 0 && isTransparent(out.get(i), cfg)) {
+            i--;
+        }
+        if (i >= 0) {
+            Insn prev = out.get(i);
+            int op = prev.opcode;
+            if (prev.intConstant() != null || op == ACONST_NULL || op == ILOAD || op == FLOAD || op == ALOAD
+                    || op == DUP || (op == LDC && !(prev.value instanceof Long || prev.value instanceof Double))) {
+                out.remove(i);
+                return true;
+            }
+            if (isFoldableBinary(op) && op != IDIV && op != IREM) {
+                out.remove(i);
+                pop(out, cfg);
+                pop(out, cfg);
+                return true;
+            }
+            if (isFoldableUnary(op)) {
+                out.remove(i);
+                pop(out, cfg);
+                return true;
+            }
+        }
+        out.add(Insn.insn(POP));
+        return false;
+    }
+
+    /**
+     * Returns whether the given code element can be skipped over when
+     * looking for the instruction before it: line numbers, frames, and
+     * labels nothing jumps to.
+     */
+    protected static boolean isTransparent(Insn insn, ControlFlowGraph cfg) {
+        switch (insn.kind) {
+            case Insn.LINE:
+                return true;
+            case Insn.LABEL:
+                return !cfg.targets.get(cfg.indexOf(insn.label));
+            default:
+                return false;
+        }
+    }
+
+    protected static boolean jumpsToNext(ControlFlowGraph cfg, int index) {
+        int target = cfg.indexOf(cfg.code.get(index).label);
+        for (int i = index + 1; i < cfg.code.size(); i++) {
+            if (i == target) {
+                return true;
+            }
+            if (cfg.code.get(i).isInstruction()) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follows a chain of GOTOs starting at the given label and returns the
+     * final target.
+     */
+    protected static Label thread(ControlFlowGraph cfg, Label label) {
+        BitSet seen = new BitSet();
+        Label current = label;
+        while (true) {
+            int i = cfg.indexOf(current);
+            if (seen.get(i)) {
+                return label;
+            }
+            seen.set(i);
+            Insn next = firstInstruction(cfg, i);
+            if (next == null || next.opcode != GOTO) {
+                return current;
+            }
+            current = next.label;
+        }
+    }
+
+    protected static Insn firstInstruction(ControlFlowGraph cfg, int from) {
+        for (int i = from; i < cfg.code.size(); i++) {
+            if (cfg.code.get(i).isInstruction()) {
+                return cfg.code.get(i);
+            }
+        }
+        return null;
+    }
+
+    protected static boolean isFoldableBinary(int opcode) {
+        switch (opcode) {
+            case IADD:
+            case ISUB:
+            case IMUL:
+            case IDIV:
+            case IREM:
+            case ISHL:
+            case ISHR:
+            case IUSHR:
+            case IAND:
+            case IOR:
+            case IXOR:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    protected static boolean isFoldableUnary(int opcode) {
+        return opcode == INEG || opcode == I2B || opcode == I2C || opcode == I2S;
+    }
+
+    protected static int operandCount(int jumpOpcode) {
+        if ((jumpOpcode >= IF_ICMPEQ && jumpOpcode <= IF_ACMPNE)) {
+            return 2;
+        }
+        return jumpOpcode == GOTO ? 0 : 1;
+    }
+}